@@ -0,0 +1,145 @@
+/*
+ * Copyright 2026 Thomas Harning Jr. <harningt@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package us.eharning.atomun.mnemonic;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import us.eharning.atomun.mnemonic.spi.EntropySource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the mnemonic unit operations of every algorithm and bundled word list, on a single thread.
+ * <p>
+ * Mnemonics are built from deterministic entropy so runs are comparable. Run through the jmh task,
+ * which records the GC allocation rates and writes the results as JSON.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(1)
+public class MnemonicUnitBenchmark {
+    /**
+     * Algorithm name and word list, the word list left out for algorithms with a single one.
+     */
+    @Param({
+            "BIP0039:english",
+            "BIP0039:japanese",
+            "ElectrumV2:english",
+            "ElectrumV2:japanese",
+            "ElectrumV2:portuguese",
+            "ElectrumV2:spanish",
+            "LegacyElectrum"
+    })
+    public String configuration;
+
+    @Param({ "16", "20", "24", "28", "32" })
+    public int entropyLength;
+
+    private MnemonicAlgorithm algorithm;
+    private String wordListIdentifier;
+    private byte[] entropySeed;
+    private String mnemonic;
+    private MnemonicUnit unit;
+    private String password;
+
+    /**
+     * Prepare the mnemonic of the configuration.
+     */
+    @Setup
+    public void setup() {
+        String[] parts = configuration.split(":");
+        algorithm = findAlgorithm(parts[0]);
+        wordListIdentifier = parts.length > 1 ? parts[1] : null;
+        entropySeed = configuration.getBytes(StandardCharsets.UTF_8);
+        mnemonic = newBuilder().build();
+        unit = MnemonicUnit.decodeMnemonic(algorithm, mnemonic, wordListIdentifier);
+        /* Legacy Electrum seeds do not take a password */
+        password = algorithm == ElectrumMnemonicAlgorithm.LegacyElectrum ? null : "TREZOR";
+    }
+
+    @Benchmark
+    public MnemonicUnit decode() {
+        return MnemonicUnit.decodeMnemonic(algorithm, mnemonic, wordListIdentifier);
+    }
+
+    @Benchmark
+    public String build() {
+        return newBuilder().build();
+    }
+
+    @Benchmark
+    public byte[] getEntropy() {
+        return unit.getEntropy();
+    }
+
+    @Benchmark
+    public byte[] getSeed() {
+        return unit.getSeed();
+    }
+
+    @Benchmark
+    public byte[] getSeedWithPassword() {
+        return unit.getSeed(password);
+    }
+
+    /**
+     * Construct a builder for the configuration, drawing the same entropy every time.
+     * A deterministic source is used since electrum v2 derives its entropy while searching for a valid version.
+     *
+     * @return builder instance.
+     */
+    private MnemonicBuilder newBuilder() {
+        MnemonicBuilder builder = MnemonicBuilder.newBuilder(algorithm);
+        if (null != wordListIdentifier) {
+            builder.setWordList(wordListIdentifier);
+        }
+        return builder.setEntropyLength(entropyLength, EntropySource.getDeterministic(entropySeed));
+    }
+
+    /**
+     * Look up a registered algorithm by name.
+     *
+     * @param name
+     *         name of the algorithm.
+     *
+     * @return matching algorithm.
+     */
+    private static MnemonicAlgorithm findAlgorithm(String name) {
+        for (MnemonicAlgorithm candidate : MnemonicServices.getRegisteredAlgorithms()) {
+            if (candidate.toString().equals(name)) {
+                return candidate;
+            }
+        }
+        throw new IllegalArgumentException("Unknown algorithm " + name);
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * Copyright 2026 Thomas Harning Jr. <harningt@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package us.eharning.atomun.mnemonic;
+
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Benchmark of the mnemonic unit operations with a thread per available processor sharing the prepared units,
+ * exposing contention in shared caches and lazily derived values.
+ */
+@Threads(Threads.MAX)
+public class MnemonicUnitParallelBenchmark extends MnemonicUnitBenchmark {
+}
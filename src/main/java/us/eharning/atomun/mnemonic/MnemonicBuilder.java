@@ -16,17 +16,20 @@
 
 package us.eharning.atomun.mnemonic;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import com.google.common.collect.ImmutableMap;
 import us.eharning.atomun.mnemonic.spi.BuilderParameter;
 import us.eharning.atomun.mnemonic.spi.EntropyBuilderParameter;
+import us.eharning.atomun.mnemonic.spi.EntropySource;
 import us.eharning.atomun.mnemonic.spi.ExtensionBuilderParameter;
 import us.eharning.atomun.mnemonic.spi.MnemonicBuilderSpi;
-import us.eharning.atomun.mnemonic.spi.MnemonicServiceProvider;
 import us.eharning.atomun.mnemonic.spi.WordListBuilderParameter;
 
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 import javax.annotation.Nonnull;
 import javax.annotation.concurrent.NotThreadSafe;
 
@@ -76,13 +79,11 @@ public final class MnemonicBuilder {
         if (!MnemonicServices.getRegisteredAlgorithms().contains(algorithm)) {
             throw new UnsupportedOperationException("Unregistered algorithm: " + algorithm);
         }
-        for (MnemonicServiceProvider provider : MnemonicServices.getServiceProviders()) {
-            MnemonicBuilderSpi spi = provider.getMnemonicBuilder(algorithm);
-            if (null != spi) {
-                return new MnemonicBuilder(spi);
-            }
+        MnemonicBuilderSpi spi = MnemonicServices.getMnemonicBuilder(algorithm);
+        if (null == spi) {
+            throw new UnsupportedOperationException("Unsupported algorithm: " + algorithm);
         }
-        throw new UnsupportedOperationException("Unsupported algorithm: " + algorithm);
+        return new MnemonicBuilder(spi);
     }
 
     /**
@@ -119,6 +120,75 @@ public final class MnemonicBuilder {
         return newSpi.generateMnemonicUnit(MnemonicUnit.BUILDER, parameters);
     }
 
+    /**
+     * Encode multiple mnemonics with the current settings.
+     * Parameters are validated once and entropy for all mnemonics is drawn at once.
+     *
+     * @param count
+     *         number of mnemonics to generate.
+     *
+     * @return list of space-delimited sequences of mnemonic words.
+     *
+     * @since 0.8.0
+     */
+    @Nonnull
+    public List<String> buildMany(int count) {
+        checkArgument(count >= 0, "count must not be negative");
+        try {
+            newSpi.validate(parameters);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        return newSpi.generateMnemonics(count, parameters.clone());
+    }
+
+    /**
+     * Encode multiple mnemonics with the current settings to wrapped mnemonic units.
+     * Parameters are validated once and entropy for all units is drawn at once.
+     * <p>
+     * The stream may be made parallel to spread generation across cores,
+     * which pays off for Electrum V2 where every unit needs its own nonce search.
+     * Close the stream when not consuming every unit, such as with limit or findFirst,
+     * so that the entropy drawn for the remaining units is wiped.
+     * </p>
+     *
+     * @param count
+     *         number of units to generate.
+     *
+     * @return stream of MnemonicUnit instances wrapping build results.
+     *
+     * @since 0.8.0
+     */
+    @Nonnull
+    public Stream<MnemonicUnit> buildUnitStream(int count) {
+        checkArgument(count >= 0, "count must not be negative");
+        try {
+            newSpi.validate(parameters);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        return newSpi.generateMnemonicUnits(MnemonicUnit.BUILDER, count, parameters.clone());
+    }
+
+    /**
+     * Compile the current settings into an immutable generator.
+     * The generator resolves the parameters once and may be shared across threads,
+     * later changes to this builder do not affect it.
+     *
+     * @return generator bound to the current settings.
+     *
+     * @since 0.8.0
+     */
+    @Nonnull
+    public MnemonicGenerator compile() {
+        try {
+            newSpi.validate(parameters);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        return new MnemonicGenerator(newSpi.getAlgorithm(), newSpi.compile(parameters.clone()));
+    }
+
     /**
      * Set the entropy to generate the mnemonic with.
      *
@@ -153,6 +223,25 @@ public final class MnemonicBuilder {
         return this;
     }
 
+    /**
+     * Set the length of the desired entropy and the source to generate it from.
+     *
+     * @param entropyLength
+     *         number of bytes of entropy to use.
+     * @param entropySource
+     *         source to draw the random entropy from.
+     *
+     * @return this to allow chaining.
+     *
+     * @since 0.8.0
+     */
+    @Nonnull
+    public MnemonicBuilder setEntropyLength(int entropyLength, @Nonnull EntropySource entropySource) {
+        parameters[0] = EntropyBuilderParameter.getRandom(entropyLength, entropySource);
+        newSpi.validate(parameters);
+        return this;
+    }
+
     /**
      * Sets extensions for this builder, replacing any prior set extensions.
      *
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2026 Thomas Harning Jr. <harningt@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package us.eharning.atomun.mnemonic;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.MoreObjects;
+
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Outcome of an attempt to decode a mnemonic, reporting failures without throwing.
+ *
+ * @since 0.8.0
+ */
+@Immutable
+public final class MnemonicDecodeResult {
+    /**
+     * Word index reported when a failure is not tied to a specific word.
+     */
+    public static final int NO_WORD_INDEX = -1;
+
+    private final MnemonicUnit unit;
+    private final FailureReason failureReason;
+    private final int wordIndex;
+
+    /**
+     * Construct a result.
+     *
+     * @param unit
+     *         decoded unit on success, else null.
+     * @param failureReason
+     *         reason decoding failed, else null.
+     * @param wordIndex
+     *         index of the offending word or NO_WORD_INDEX.
+     */
+    private MnemonicDecodeResult(@Nullable MnemonicUnit unit, @Nullable FailureReason failureReason, int wordIndex) {
+        this.unit = unit;
+        this.failureReason = failureReason;
+        this.wordIndex = wordIndex;
+    }
+
+    /**
+     * Construct a successful result.
+     *
+     * @param unit
+     *         decoded unit.
+     *
+     * @return result wrapping the unit.
+     */
+    @Nonnull
+    public static MnemonicDecodeResult success(@Nonnull MnemonicUnit unit) {
+        return new MnemonicDecodeResult(checkNotNull(unit), null, NO_WORD_INDEX);
+    }
+
+    /**
+     * Construct a failed result that is not tied to a specific word.
+     *
+     * @param failureReason
+     *         reason decoding failed.
+     *
+     * @return result describing the failure.
+     */
+    @Nonnull
+    public static MnemonicDecodeResult failure(@Nonnull FailureReason failureReason) {
+        return failure(failureReason, NO_WORD_INDEX);
+    }
+
+    /**
+     * Construct a failed result.
+     *
+     * @param failureReason
+     *         reason decoding failed.
+     * @param wordIndex
+     *         index of the offending word or NO_WORD_INDEX.
+     *
+     * @return result describing the failure.
+     */
+    @Nonnull
+    public static MnemonicDecodeResult failure(@Nonnull FailureReason failureReason, int wordIndex) {
+        checkNotNull(failureReason);
+        checkArgument(wordIndex >= NO_WORD_INDEX, "wordIndex must be a word index or NO_WORD_INDEX");
+        return new MnemonicDecodeResult(null, failureReason, wordIndex);
+    }
+
+    /**
+     * Check whether decoding succeeded.
+     *
+     * @return true if a unit was decoded.
+     */
+    public boolean isSuccess() {
+        return null != unit;
+    }
+
+    /**
+     * Get the decoded unit.
+     *
+     * @return decoded unit or null if decoding failed.
+     */
+    @CheckForNull
+    public MnemonicUnit getUnit() {
+        return unit;
+    }
+
+    /**
+     * Get the decoded unit, turning a failure into an exception.
+     *
+     * @return decoded unit.
+     *
+     * @throws IllegalArgumentException
+     *         if decoding failed.
+     */
+    @Nonnull
+    public MnemonicUnit getUnitOrThrow() {
+        if (null == unit) {
+            throw new IllegalArgumentException("Mnemonic could not be decoded: " + this);
+        }
+        return unit;
+    }
+
+    /**
+     * Get the reason decoding failed.
+     *
+     * @return failure reason or null if decoding succeeded.
+     */
+    @CheckForNull
+    public FailureReason getFailureReason() {
+        return failureReason;
+    }
+
+    /**
+     * Get the index of the word that caused the failure.
+     *
+     * @return zero-based word index or NO_WORD_INDEX if not applicable.
+     */
+    public int getWordIndex() {
+        return wordIndex;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .omitNullValues()
+                .add("unit", unit)
+                .add("failureReason", failureReason)
+                .add("wordIndex", wordIndex == NO_WORD_INDEX ? null : wordIndex)
+                .toString();
+    }
+
+    /**
+     * Reasons a mnemonic can fail to decode.
+     *
+     * @since 0.8.0
+     */
+    public enum FailureReason {
+        /**
+         * The requested word list is unknown or not supported by the algorithm.
+         */
+        UNSUPPORTED_WORD_LIST,
+        /**
+         * The number of words is not valid for the algorithm.
+         */
+        INVALID_WORD_COUNT,
+        /**
+         * A word is not present in the word list, the word index identifies it.
+         * When the word list is detected, the index is the furthest any word list matched.
+         */
+        UNKNOWN_WORD,
+        /**
+         * The embedded checksum does not match the encoded entropy.
+         */
+        CHECKSUM_MISMATCH,
+        /**
+         * The sequence does not carry a known seed version.
+         */
+        VERSION_MISMATCH,
+        /**
+         * The sequence is also a valid legacy mnemonic and is rejected as ambiguous.
+         */
+        LEGACY_FORMAT,
+        /**
+         * The decoder rejected the sequence without giving a specific reason.
+         */
+        UNSPECIFIED
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2026 Thomas Harning Jr. <harningt@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package us.eharning.atomun.mnemonic;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import us.eharning.atomun.mnemonic.spi.MnemonicDecoderSpi;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Splittable decoding of a source of mnemonic sequences into decode results.
+ * <p>
+ * Sources that split into known sizes, such as lists, are split alongside. Other sources, such as the
+ * lines of a reader, are split by drawing batches of growing size into arrays, starting small since each
+ * decode is far more work than producing its input.
+ * </p>
+ */
+@NotThreadSafe
+final class MnemonicDecodeSpliterator implements Spliterator<MnemonicDecodeResult> {
+    private static final int BATCH_UNIT = 64;
+    private static final int MAX_BATCH = 1 << 12;
+
+    private final Spliterator<? extends CharSequence> source;
+    private final MnemonicDecoderSpi decoder;
+    private final String wordListIdentifier;
+    private final boolean ordered;
+    private int batchSize;
+
+    /**
+     * Construct the decoding of a source.
+     *
+     * @param source
+     *         source of mnemonic sequences.
+     * @param decoder
+     *         decoder of the algorithm to use.
+     * @param wordListIdentifier
+     *         identifier for the word list to use.
+     * @param ordered
+     *         whether the results keep the encounter order of the source.
+     */
+    MnemonicDecodeSpliterator(@Nonnull Spliterator<? extends CharSequence> source, @Nonnull MnemonicDecoderSpi decoder, @Nullable String wordListIdentifier, boolean ordered) {
+        this.source = source;
+        this.decoder = decoder;
+        this.wordListIdentifier = wordListIdentifier;
+        this.ordered = ordered;
+    }
+
+    @Override
+    public boolean tryAdvance(@Nonnull final Consumer<? super MnemonicDecodeResult> action) {
+        return source.tryAdvance(new Consumer<CharSequence>() {
+            @Override
+            public void accept(CharSequence mnemonicSequence) {
+                action.accept(decode(mnemonicSequence));
+            }
+        });
+    }
+
+    @Override
+    public void forEachRemaining(@Nonnull final Consumer<? super MnemonicDecodeResult> action) {
+        source.forEachRemaining(new Consumer<CharSequence>() {
+            @Override
+            public void accept(CharSequence mnemonicSequence) {
+                action.accept(decode(mnemonicSequence));
+            }
+        });
+    }
+
+    @Override
+    public Spliterator<MnemonicDecodeResult> trySplit() {
+        if (source.hasCharacteristics(SUBSIZED)) {
+            Spliterator<? extends CharSequence> prefix = source.trySplit();
+            return null == prefix ? null : new MnemonicDecodeSpliterator(prefix, decoder, wordListIdentifier, ordered);
+        }
+        batchSize = Math.min(batchSize + BATCH_UNIT, MAX_BATCH);
+        final CharSequence[] batch = new CharSequence[batchSize];
+        final int[] count = new int[1];
+        Consumer<CharSequence> collector = new Consumer<CharSequence>() {
+            @Override
+            public void accept(CharSequence mnemonicSequence) {
+                batch[count[0]++] = mnemonicSequence;
+            }
+        };
+        while (count[0] < batch.length && source.tryAdvance(collector)) {
+            /* Collected */
+        }
+        if (count[0] == 0) {
+            return null;
+        }
+        Spliterator<CharSequence> prefix = Spliterators.spliterator(batch, 0, count[0], ORDERED | IMMUTABLE);
+        return new MnemonicDecodeSpliterator(prefix, decoder, wordListIdentifier, ordered);
+    }
+
+    @Override
+    public long estimateSize() {
+        return source.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+        int characteristics = source.characteristics() & (SIZED | SUBSIZED) | NONNULL;
+        if (ordered) {
+            characteristics |= source.characteristics() & ORDERED;
+        }
+        return characteristics;
+    }
+
+    /**
+     * Decode a mnemonic sequence.
+     *
+     * @param mnemonicSequence
+     *         space-delimited sequence of mnemonic words.
+     *
+     * @return decoding result.
+     */
+    @Nonnull
+    private MnemonicDecodeResult decode(@Nonnull CharSequence mnemonicSequence) {
+        checkNotNull(mnemonicSequence);
+        return decoder.tryDecode(MnemonicUnit.BUILDER, mnemonicSequence, wordListIdentifier);
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2026 Thomas Harning Jr. <harningt@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package us.eharning.atomun.mnemonic;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.annotations.Beta;
+import com.google.common.base.MoreObjects;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Counters describing how often auto-detecting decodes ran or skipped each algorithm's decoder.
+ * A decoder is skipped (pruned) when its cheap precheck proves the input cannot decode.
+ * <p>
+ * Collection is off by default so that decoding does not pay for shared counters. Each call to #enable
+ * starts a fresh set of counters, which stays readable after it is replaced or collection is disabled.
+ * </p>
+ *
+ * @since 0.8.0
+ */
+@Beta
+@ThreadSafe
+public final class MnemonicDecodeStatistics {
+    @CheckForNull
+    private static volatile MnemonicDecodeStatistics active;
+
+    private final ConcurrentMap<MnemonicAlgorithm, LongAdder> attemptCounts = new ConcurrentHashMap<>();
+    private final ConcurrentMap<MnemonicAlgorithm, LongAdder> prunedCounts = new ConcurrentHashMap<>();
+
+    /**
+     * Prevent external construction, instances are obtained through #enable.
+     */
+    private MnemonicDecodeStatistics() {
+    }
+
+    /**
+     * Start collecting into a new set of counters, replacing any previously collecting set.
+     *
+     * @return counters receiving the statistics of subsequent auto-detecting decodes.
+     */
+    @Nonnull
+    public static MnemonicDecodeStatistics enable() {
+        MnemonicDecodeStatistics statistics = new MnemonicDecodeStatistics();
+        active = statistics;
+        return statistics;
+    }
+
+    /**
+     * Stop collecting statistics.
+     */
+    public static void disable() {
+        active = null;
+    }
+
+    /**
+     * Obtain the counters currently collecting statistics.
+     *
+     * @return collecting counters or null if collection is disabled.
+     */
+    @CheckForNull
+    public static MnemonicDecodeStatistics getActive() {
+        return active;
+    }
+
+    /**
+     * Obtain the number of full decode attempts that were run.
+     *
+     * @return count of decoder invocations across all algorithms.
+     */
+    public long getAttemptCount() {
+        return sum(attemptCounts);
+    }
+
+    /**
+     * Obtain the number of full decode attempts that were run for an algorithm.
+     *
+     * @param algorithm
+     *         algorithm to report on.
+     *
+     * @return count of decoder invocations.
+     */
+    public long getAttemptCount(@Nonnull MnemonicAlgorithm algorithm) {
+        return get(attemptCounts, algorithm);
+    }
+
+    /**
+     * Obtain the number of decode attempts skipped by the precheck.
+     *
+     * @return count of pruned decoder invocations across all algorithms.
+     */
+    public long getPrunedCount() {
+        return sum(prunedCounts);
+    }
+
+    /**
+     * Obtain the number of decode attempts skipped by the precheck for an algorithm.
+     *
+     * @param algorithm
+     *         algorithm to report on.
+     *
+     * @return count of pruned decoder invocations.
+     */
+    public long getPrunedCount(@Nonnull MnemonicAlgorithm algorithm) {
+        return get(prunedCounts, algorithm);
+    }
+
+    /**
+     * Record that a decoder was run for an algorithm, if statistics are being collected.
+     *
+     * @param algorithm
+     *         algorithm decoded.
+     */
+    static void recordAttempt(@Nonnull MnemonicAlgorithm algorithm) {
+        MnemonicDecodeStatistics statistics = active;
+        if (null != statistics) {
+            increment(statistics.attemptCounts, algorithm);
+        }
+    }
+
+    /**
+     * Record that a decoder was skipped for an algorithm, if statistics are being collected.
+     *
+     * @param algorithm
+     *         algorithm pruned.
+     */
+    static void recordPruned(@Nonnull MnemonicAlgorithm algorithm) {
+        MnemonicDecodeStatistics statistics = active;
+        if (null != statistics) {
+            increment(statistics.prunedCounts, algorithm);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("attempts", attemptCounts)
+                .add("pruned", prunedCounts)
+                .toString();
+    }
+
+    private static long get(@Nonnull ConcurrentMap<MnemonicAlgorithm, LongAdder> counts, @Nonnull MnemonicAlgorithm algorithm) {
+        LongAdder count = counts.get(checkNotNull(algorithm));
+        return null == count ? 0 : count.sum();
+    }
+
+    private static long sum(@Nonnull ConcurrentMap<MnemonicAlgorithm, LongAdder> counts) {
+        long total = 0;
+        for (LongAdder count : counts.values()) {
+            total += count.sum();
+        }
+        return total;
+    }
+
+    private static void increment(@Nonnull ConcurrentMap<MnemonicAlgorithm, LongAdder> counts, @Nonnull MnemonicAlgorithm algorithm) {
+        LongAdder count = counts.get(algorithm);
+        if (null == count) {
+            LongAdder newCount = new LongAdder();
+            count = counts.putIfAbsent(algorithm, newCount);
+            if (null == count) {
+                count = newCount;
+            }
+        }
+        count.increment();
+    }
+}
@@ -0,0 +1,445 @@
+/*
+ * Copyright 2026 Thomas Harning Jr. <harningt@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package us.eharning.atomun.mnemonic;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkElementIndex;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkPositionIndexes;
+
+import com.google.common.annotations.Beta;
+import com.google.common.base.Throwables;
+import us.eharning.atomun.mnemonic.spi.MnemonicDecoderSpi;
+import us.eharning.atomun.mnemonic.utility.dictionary.Dictionary;
+import us.eharning.atomun.mnemonic.utility.dictionary.DictionaryIdentifier;
+import us.eharning.atomun.mnemonic.utility.dictionary.DictionaryIndex;
+import us.eharning.atomun.mnemonic.utility.dictionary.DictionarySource;
+import us.eharning.atomun.mnemonic.utility.dictionary.DictionaryWord;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Stateful validation of a mnemonic as it is typed, such as in a wallet entry field.
+ * <p>
+ * The text is edited by appending, deleting and replacing characters. Only the words touching an edit are
+ * tokenized and looked up again, so typing or deleting at the end costs the same for any sentence length.
+ * Words are the runs of characters between spaces or ideographic spaces, repeated spaces being ignored.
+ * </p>
+ * <p>
+ * For BIP0039 the word indices are kept packed as the running entropy and checksum bits, each word edit
+ * updating its own 11 bits, so validity is known from a single SHA-256 as soon as the last word completes.
+ * Other algorithms are checked by decoding the indices once every word is known.
+ * </p>
+ *
+ * @since 0.8.0
+ */
+@Beta
+@NotThreadSafe
+public final class MnemonicEntrySession {
+    private static final int BITS_PER_WORD = 11;
+    private static final int INITIAL_WORD_CAPACITY = 24;
+
+    private final MnemonicAlgorithm mnemonicAlgorithm;
+    private final DictionaryIdentifier dictionaryIdentifier;
+    private final Dictionary dictionary;
+    private final DictionaryIndex dictionaryIndex;
+    private final MessageDigest checksumDigest;
+    private final StringBuilder text = new StringBuilder();
+    private int wordCount;
+    private int[] wordStarts = new int[INITIAL_WORD_CAPACITY];
+    private int[] wordEnds = new int[INITIAL_WORD_CAPACITY];
+    private int[] wordIndices = new int[INITIAL_WORD_CAPACITY];
+    private byte[] packedIndices;
+    private int unknownWordCount;
+    /* Validation result cached until the next edit */
+    private Boolean valid;
+    private MnemonicUnit unit;
+
+    /**
+     * Construct the session.
+     *
+     * @param mnemonicAlgorithm
+     *         identifier for which algorithm to use.
+     * @param dictionaryIdentifier
+     *         identifier for the dictionary words are looked up in.
+     */
+    private MnemonicEntrySession(@Nonnull MnemonicAlgorithm mnemonicAlgorithm, @Nonnull DictionaryIdentifier dictionaryIdentifier) {
+        this.mnemonicAlgorithm = mnemonicAlgorithm;
+        this.dictionaryIdentifier = dictionaryIdentifier;
+        this.dictionary = DictionarySource.getDictionary(dictionaryIdentifier);
+        this.dictionaryIndex = DictionarySource.getIndex(dictionaryIdentifier);
+        if (mnemonicAlgorithm == BIPMnemonicAlgorithm.BIP0039) {
+            this.packedIndices = new byte[(INITIAL_WORD_CAPACITY * BITS_PER_WORD + 7) / 8];
+            try {
+                this.checksumDigest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                /* Rethrow this (generally) impossible case */
+                throw Throwables.propagate(e);
+            }
+        } else {
+            this.checksumDigest = null;
+        }
+    }
+
+    /**
+     * Start an empty entry session.
+     *
+     * @param mnemonicAlgorithm
+     *         identifier for which algorithm to use.
+     * @param wordListIdentifier
+     *         identifier for the word list to use.
+     *
+     * @return empty session.
+     *
+     * @throws java.lang.IllegalArgumentException
+     *         if the word list cannot be found.
+     * @throws java.lang.UnsupportedOperationException
+     *         if the algorithm is not supported or does not use dictionaries.
+     */
+    @Nonnull
+    public static MnemonicEntrySession newSession(@Nonnull MnemonicAlgorithm mnemonicAlgorithm, @Nonnull String wordListIdentifier) {
+        checkNotNull(mnemonicAlgorithm);
+        checkNotNull(wordListIdentifier);
+        MnemonicDecoderSpi system = MnemonicServices.getMnemonicDecoder(mnemonicAlgorithm);
+        if (null == system) {
+            throw new UnsupportedOperationException("Unsupported algorithm " + mnemonicAlgorithm);
+        }
+        DictionaryIdentifier dictionaryIdentifier = system.getDictionaryIdentifier(wordListIdentifier);
+        if (null == dictionaryIdentifier) {
+            throw new UnsupportedOperationException("Algorithm does not use dictionaries: " + mnemonicAlgorithm);
+        }
+        return new MnemonicEntrySession(mnemonicAlgorithm, dictionaryIdentifier);
+    }
+
+    /**
+     * Append characters to the end of the text, as when typing.
+     *
+     * @param characters
+     *         characters to append.
+     */
+    public void append(@Nonnull CharSequence characters) {
+        replace(text.length(), text.length(), characters);
+    }
+
+    /**
+     * Delete characters from the end of the text, as with backspace.
+     *
+     * @param count
+     *         number of characters to delete.
+     *
+     * @throws java.lang.IndexOutOfBoundsException
+     *         if there are fewer characters.
+     */
+    public void delete(int count) {
+        checkArgument(count >= 0, "count must not be negative");
+        replace(text.length() - count, text.length(), "");
+    }
+
+    /**
+     * Replace a range of the text, as when pasting over a selection.
+     *
+     * @param start
+     *         index of the first character to replace.
+     * @param end
+     *         index after the last character to replace.
+     * @param characters
+     *         replacement characters.
+     *
+     * @throws java.lang.IndexOutOfBoundsException
+     *         if the range is not within the text.
+     */
+    public void replace(int start, int end, @Nonnull CharSequence characters) {
+        checkNotNull(characters);
+        checkPositionIndexes(start, end, text.length());
+        int delta = characters.length() - (end - start);
+        /* Words touching the edited range are merged with it and tokenized again */
+        int last = wordCount - 1;
+        while (last >= 0 && wordStarts[last] > end) {
+            last--;
+        }
+        int first = last + 1;
+        while (first > 0 && wordEnds[first - 1] >= start) {
+            first--;
+        }
+        int regionStart = first <= last ? Math.min(start, wordStarts[first]) : start;
+        int regionEnd = (first <= last ? Math.max(end, wordEnds[last]) : end) + delta;
+        text.replace(start, end, characters.toString());
+
+        int[] newStarts = new int[0];
+        int[] newEnds = new int[0];
+        int newCount = 0;
+        for (int i = regionStart; i < regionEnd; i++) {
+            if (isDelimiter(text.charAt(i))) {
+                continue;
+            }
+            int wordEnd = i;
+            while (wordEnd < regionEnd && !isDelimiter(text.charAt(wordEnd))) {
+                wordEnd++;
+            }
+            if (newCount == newStarts.length) {
+                newStarts = Arrays.copyOf(newStarts, newCount + 4);
+                newEnds = Arrays.copyOf(newEnds, newCount + 4);
+            }
+            newStarts[newCount] = i;
+            newEnds[newCount] = wordEnd;
+            newCount++;
+            i = wordEnd;
+        }
+
+        int oldCount = last - first + 1;
+        for (int i = first; i <= last; i++) {
+            if (wordIndices[i] < 0) {
+                unknownWordCount--;
+            }
+        }
+        int tailCount = wordCount - (last + 1);
+        ensureCapacity(wordCount - oldCount + newCount);
+        if (newCount != oldCount) {
+            System.arraycopy(wordStarts, last + 1, wordStarts, first + newCount, tailCount);
+            System.arraycopy(wordEnds, last + 1, wordEnds, first + newCount, tailCount);
+            System.arraycopy(wordIndices, last + 1, wordIndices, first + newCount, tailCount);
+        }
+        for (int i = first + newCount; i < first + newCount + tailCount; i++) {
+            wordStarts[i] += delta;
+            wordEnds[i] += delta;
+        }
+        for (int i = 0; i < newCount; i++) {
+            int word = first + i;
+            wordStarts[word] = newStarts[i];
+            wordEnds[word] = newEnds[i];
+            wordIndices[word] = lookup(newStarts[i], newEnds[i]);
+            if (wordIndices[word] < 0) {
+                unknownWordCount++;
+            }
+        }
+        wordCount = wordCount - oldCount + newCount;
+        if (null != packedIndices) {
+            /* Only the edited words change bits unless later words moved */
+            int packEnd = newCount == oldCount ? first + newCount : wordCount;
+            for (int word = first; word < packEnd; word++) {
+                setPackedIndex(word, Math.max(wordIndices[word], 0));
+            }
+        }
+        valid = null;
+        unit = null;
+    }
+
+    /**
+     * Check if the character delimits words.
+     *
+     * @param c
+     *         character to check.
+     *
+     * @return true if c is a space or ideographic space.
+     */
+    private static boolean isDelimiter(char c) {
+        return c == ' ' || c == '\u3000';
+    }
+
+    /**
+     * Look up the dictionary index of a word of the text.
+     *
+     * @param start
+     *         index of the first character of the word.
+     * @param end
+     *         index after the last character of the word.
+     *
+     * @return dictionary index or -1 if the word is not in the dictionary.
+     */
+    private int lookup(int start, int end) {
+        return dictionary.indexOf(Normalizer.normalize(text.subSequence(start, end), Normalizer.Form.NFKD));
+    }
+
+    /**
+     * Grow the word arrays to hold the given number of words.
+     *
+     * @param capacity
+     *         number of words to hold.
+     */
+    private void ensureCapacity(int capacity) {
+        if (capacity <= wordStarts.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, wordStarts.length * 2);
+        wordStarts = Arrays.copyOf(wordStarts, newCapacity);
+        wordEnds = Arrays.copyOf(wordEnds, newCapacity);
+        wordIndices = Arrays.copyOf(wordIndices, newCapacity);
+        if (null != packedIndices) {
+            packedIndices = Arrays.copyOf(packedIndices, (newCapacity * BITS_PER_WORD + 7) / 8);
+        }
+    }
+
+    /**
+     * Write the 11 bits of a word index into the packed indices.
+     *
+     * @param word
+     *         position of the word.
+     * @param index
+     *         dictionary index of the word.
+     */
+    private void setPackedIndex(int word, int index) {
+        int position = word * BITS_PER_WORD;
+        for (int bit = BITS_PER_WORD - 1; bit >= 0; bit--, position++) {
+            int mask = 0x80 >>> (position & 7);
+            if (((index >>> bit) & 1) != 0) {
+                packedIndices[position >>> 3] |= mask;
+            } else {
+                packedIndices[position >>> 3] &= ~mask;
+            }
+        }
+    }
+
+    /**
+     * Get the current text.
+     *
+     * @return text as entered.
+     */
+    @Nonnull
+    public String getText() {
+        return text.toString();
+    }
+
+    /**
+     * Get the number of words, including a partially typed last word.
+     *
+     * @return number of words.
+     */
+    public int getWordCount() {
+        return wordCount;
+    }
+
+    /**
+     * Get the dictionary index of a word.
+     *
+     * @param word
+     *         position of the word.
+     *
+     * @return dictionary index or -1 if the word is not in the dictionary.
+     */
+    public int getWordIndex(int word) {
+        checkElementIndex(word, wordCount);
+        return wordIndices[word];
+    }
+
+    /**
+     * Find the first word that is not in the dictionary.
+     *
+     * @return position of the first unknown word or -1 if all words are known.
+     */
+    public int indexOfFirstUnknown() {
+        if (0 == unknownWordCount) {
+            return -1;
+        }
+        for (int i = 0; i < wordCount; i++) {
+            if (wordIndices[i] < 0) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("Unknown word count out of sync");
+    }
+
+    /**
+     * Get the dictionary words the word being typed may complete to.
+     *
+     * @return words in normalized order, empty if no word is being typed.
+     */
+    @Nonnull
+    public List<String> getCompletions() {
+        int length = text.length();
+        if (0 == wordCount || wordEnds[wordCount - 1] != length) {
+            return Collections.emptyList();
+        }
+        List<DictionaryWord> matches = dictionaryIndex.findPrefix(text.subSequence(wordStarts[wordCount - 1], length));
+        List<String> completions = new ArrayList<>(matches.size());
+        for (DictionaryWord match : matches) {
+            completions.add(match.getWord());
+        }
+        return completions;
+    }
+
+    /**
+     * Check whether the words form a valid mnemonic, including the checksum.
+     *
+     * @return true if the words decode.
+     */
+    public boolean isValid() {
+        if (null == valid) {
+            valid = validate();
+        }
+        return valid;
+    }
+
+    /**
+     * Check the words against the algorithm.
+     *
+     * @return true if the words decode.
+     */
+    private boolean validate() {
+        if (0 == wordCount || 0 != unknownWordCount) {
+            return false;
+        }
+        if (null == packedIndices) {
+            try {
+                unit = MnemonicUnit.fromIndices(mnemonicAlgorithm, dictionaryIdentifier, Arrays.copyOf(wordIndices, wordCount));
+                return true;
+            } catch (IllegalArgumentException ignored) {
+                return false;
+            }
+        }
+        if (wordCount % 3 != 0) {
+            return false;
+        }
+        int checksumBitCount = wordCount / 3;
+        int entropyLength = checksumBitCount * 4;
+        checksumDigest.update(packedIndices, 0, entropyLength);
+        byte[] hash = checksumDigest.digest();
+        for (int i = 0; i < checksumBitCount; i++) {
+            int position = entropyLength * 8 + i;
+            int expected = (hash[i >>> 3] >>> (7 - (i & 7))) & 1;
+            int actual = (packedIndices[position >>> 3] >>> (7 - (position & 7))) & 1;
+            if (expected != actual) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Get the mnemonic unit for the words once they are valid.
+     *
+     * @return unit or null if the words are not valid.
+     */
+    @CheckForNull
+    public MnemonicUnit getUnit() {
+        if (!isValid()) {
+            return null;
+        }
+        if (null == unit) {
+            unit = MnemonicUnit.fromIndices(mnemonicAlgorithm, dictionaryIdentifier, Arrays.copyOf(wordIndices, wordCount));
+        }
+        return unit;
+    }
+}
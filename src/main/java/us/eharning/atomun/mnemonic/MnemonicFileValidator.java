@@ -0,0 +1,710 @@
+/*
+ * Copyright 2026 Thomas Harning Jr. <harningt@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package us.eharning.atomun.mnemonic;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkElementIndex;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.annotations.Beta;
+import com.google.common.base.Charsets;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Throwables;
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import us.eharning.atomun.mnemonic.spi.MnemonicDecoderSpi;
+import us.eharning.atomun.mnemonic.spi.MnemonicIndexValidator;
+import us.eharning.atomun.mnemonic.utility.dictionary.Dictionary;
+import us.eharning.atomun.mnemonic.utility.dictionary.DictionaryIdentifier;
+import us.eharning.atomun.mnemonic.utility.dictionary.DictionarySource;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Bulk validation of a file of mnemonics, one UTF-8 mnemonic per line, without constructing units.
+ * <p>
+ * The file is split into chunks ending at line breaks, which are memory-mapped and checked in parallel.
+ * Words are matched against the UTF-8 bytes of the dictionary words directly in the mapped buffer and
+ * only the dictionary indices are handed to the algorithm's checksum or seed version check. Lines with
+ * non-ASCII words that do not match byte for byte, such as differently normalized text, and algorithms
+ * without index-based validation fall back to regular decoding of the line.
+ * </p>
+ * <p>
+ * The result of each line agrees with MnemonicUnit#tryDecode of the line with any trailing carriage return removed.
+ * </p>
+ *
+ * @since 0.8.0
+ */
+@Beta
+@ThreadSafe
+public final class MnemonicFileValidator {
+    private static final int DEFAULT_CHUNK_SIZE = 8 << 20;
+    private static final int MAX_CHUNK_SIZE = 1 << 30;
+    private static final int BOUNDARY_SCAN_SIZE = 4096;
+    private static final byte SPACE = ' ';
+    /**
+     * UTF-8 encoding of the ideographic space U+3000, the other word delimiter.
+     */
+    private static final byte[] IDEOGRAPHIC_SPACE = { (byte) 0xE3, (byte) 0x80, (byte) 0x80 };
+
+    private final MnemonicDecoderSpi decoder;
+    private final String wordListIdentifier;
+    private final ImmutableList<DictionaryIdentifier> dictionaryIdentifiers;
+    private final ImmutableList<WordTable> wordTables;
+    private final int threadCount;
+    private final int chunkSize;
+
+    /**
+     * Construct the validator.
+     *
+     * @param decoder
+     *         decoder of the algorithm to validate.
+     * @param wordListIdentifier
+     *         optional word list identifier.
+     * @param dictionaryIdentifiers
+     *         dictionaries with index-based validation, in detection order.
+     * @param threadCount
+     *         number of worker threads.
+     * @param chunkSize
+     *         approximate number of bytes checked at a time by a worker.
+     */
+    private MnemonicFileValidator(@Nonnull MnemonicDecoderSpi decoder, @Nullable String wordListIdentifier, @Nonnull List<DictionaryIdentifier> dictionaryIdentifiers, int threadCount, int chunkSize) {
+        this.decoder = decoder;
+        this.wordListIdentifier = wordListIdentifier;
+        this.dictionaryIdentifiers = ImmutableList.copyOf(dictionaryIdentifiers);
+        ImmutableList.Builder<WordTable> tables = ImmutableList.builder();
+        for (DictionaryIdentifier identifier : dictionaryIdentifiers) {
+            tables.add(new WordTable(DictionarySource.getDictionary(identifier)));
+        }
+        this.wordTables = tables.build();
+        this.threadCount = threadCount;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Construct a validator using a worker per available processor.
+     *
+     * @param mnemonicAlgorithm
+     *         identifier for which algorithm to use.
+     * @param wordListIdentifier
+     *         identifier for the word list to use, detected per line if null.
+     *
+     * @return validator instance.
+     *
+     * @throws java.lang.IllegalArgumentException
+     *         if the word list cannot be found.
+     * @throws java.lang.UnsupportedOperationException
+     *         if the algorithm is not supported.
+     */
+    @Nonnull
+    public static MnemonicFileValidator newValidator(@Nonnull MnemonicAlgorithm mnemonicAlgorithm, @Nullable String wordListIdentifier) {
+        return newValidator(mnemonicAlgorithm, wordListIdentifier, Runtime.getRuntime().availableProcessors(), DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Construct a validator.
+     *
+     * @param mnemonicAlgorithm
+     *         identifier for which algorithm to use.
+     * @param wordListIdentifier
+     *         identifier for the word list to use, detected per line if null.
+     * @param threadCount
+     *         number of worker threads.
+     * @param chunkSize
+     *         approximate number of bytes checked at a time by a worker.
+     *
+     * @return validator instance.
+     *
+     * @throws java.lang.IllegalArgumentException
+     *         if the word list cannot be found or the sizes are not positive.
+     * @throws java.lang.UnsupportedOperationException
+     *         if the algorithm is not supported.
+     */
+    @Nonnull
+    public static MnemonicFileValidator newValidator(@Nonnull MnemonicAlgorithm mnemonicAlgorithm, @Nullable String wordListIdentifier, int threadCount, int chunkSize) {
+        checkNotNull(mnemonicAlgorithm);
+        checkArgument(threadCount > 0, "threadCount must be a positive value");
+        checkArgument(chunkSize > 0 && chunkSize <= MAX_CHUNK_SIZE, "chunkSize must be a positive value of at most 1GiB");
+        MnemonicDecoderSpi system = MnemonicServices.getMnemonicDecoder(mnemonicAlgorithm);
+        if (null == system) {
+            throw new UnsupportedOperationException("Unsupported algorithm " + mnemonicAlgorithm);
+        }
+        return new MnemonicFileValidator(system, wordListIdentifier, system.getDictionaryIdentifiers(wordListIdentifier), threadCount, chunkSize);
+    }
+
+    /**
+     * Validate every line of a file.
+     *
+     * @param path
+     *         path of the file, one UTF-8 mnemonic per line.
+     *
+     * @return report of the valid lines.
+     *
+     * @throws IOException
+     *         if the file cannot be read.
+     * @throws InterruptedException
+     *         if interrupted while waiting for the workers.
+     * @throws java.lang.IllegalArgumentException
+     *         if the file has more than Integer.MAX_VALUE lines or a line is too long to map.
+     */
+    @Nonnull
+    public Report validate(@Nonnull Path path) throws IOException, InterruptedException {
+        checkNotNull(path);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            List<Long> boundaries = findChunkBoundaries(channel);
+            ExecutorService workers = Executors.newFixedThreadPool(Math.min(threadCount, boundaries.size()), new ThreadFactoryBuilder().setDaemon(true).setNameFormat("mnemonic-validator-%d").build());
+            try {
+                List<Future<ChunkResult>> futures = new ArrayList<>(boundaries.size());
+                long start = 0;
+                for (long end : boundaries) {
+                    futures.add(workers.submit(new ChunkTask(channel, start, end)));
+                    start = end;
+                }
+                /* Merge the chunks in file order, offsetting each by the lines before it */
+                BitSet validLines = new BitSet();
+                long lineCount = 0;
+                for (Future<ChunkResult> future : futures) {
+                    ChunkResult chunk;
+                    try {
+                        chunk = future.get();
+                    } catch (ExecutionException e) {
+                        Throwables.propagateIfPossible(e.getCause(), IOException.class);
+                        throw Throwables.propagate(e.getCause());
+                    }
+                    checkArgument(lineCount + chunk.lineCount <= Integer.MAX_VALUE, "Too many lines to report");
+                    for (int i = chunk.validLines.nextSetBit(0); i >= 0; i = chunk.validLines.nextSetBit(i + 1)) {
+                        validLines.set((int) lineCount + i);
+                    }
+                    lineCount += chunk.lineCount;
+                }
+                return new Report((int) lineCount, validLines);
+            } finally {
+                workers.shutdownNow();
+            }
+        }
+    }
+
+    /**
+     * Find the end of each chunk, advancing each past the next line break so no line is split.
+     *
+     * @param channel
+     *         open channel of the file.
+     *
+     * @return exclusive end positions of the chunks, at least one.
+     *
+     * @throws IOException
+     *         if the file cannot be read.
+     */
+    @Nonnull
+    private List<Long> findChunkBoundaries(@Nonnull FileChannel channel) throws IOException {
+        long size = channel.size();
+        List<Long> boundaries = new ArrayList<>();
+        ByteBuffer scan = ByteBuffer.allocate(BOUNDARY_SCAN_SIZE);
+        long start = 0;
+        do {
+            long end = Math.min(size, start + chunkSize);
+            while (end < size) {
+                scan.clear();
+                int read = channel.read(scan, end);
+                int lineBreak = -1;
+                for (int i = 0; i < read && lineBreak < 0; i++) {
+                    if (scan.get(i) == '\n') {
+                        lineBreak = i;
+                    }
+                }
+                if (lineBreak >= 0) {
+                    end += lineBreak + 1;
+                    break;
+                }
+                end = read < 0 ? size : end + read;
+            }
+            checkArgument(end - start <= MAX_CHUNK_SIZE, "Line too long to map");
+            boundaries.add(end);
+            start = end;
+        } while (start < size);
+        return boundaries;
+    }
+
+    /**
+     * Open addressed table from the UTF-8 bytes of dictionary words to their indices.
+     * Besides the dictionary form, the NFC form of each word is included if it normalizes back to it.
+     */
+    @Immutable
+    private static final class WordTable {
+        private final byte[][] keys;
+        private final int[] values;
+        private final int mask;
+
+        /**
+         * Construct the table.
+         *
+         * @param dictionary
+         *         dictionary to index.
+         */
+        private WordTable(@Nonnull Dictionary dictionary) {
+            int size = dictionary.getSize();
+            int capacity = Integer.highestOneBit(size * 4 - 1) << 1;
+            this.keys = new byte[capacity][];
+            this.values = new int[capacity];
+            this.mask = capacity - 1;
+            for (int i = 0; i < size; i++) {
+                String word = dictionary.convert(i);
+                for (String form : new String[] { word, Normalizer.normalize(word, Normalizer.Form.NFC) }) {
+                    if (Normalizer.normalize(form, Normalizer.Form.NFKD).equals(word)) {
+                        put(form.getBytes(Charsets.UTF_8), i);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Add a word unless already present.
+         *
+         * @param key
+         *         UTF-8 bytes of the word.
+         * @param value
+         *         dictionary index of the word.
+         */
+        private void put(@Nonnull byte[] key, int value) {
+            int slot = hash(ByteBuffer.wrap(key), 0, key.length) & mask;
+            while (null != keys[slot]) {
+                if (Arrays.equals(keys[slot], key)) {
+                    return;
+                }
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = key;
+            values[slot] = value;
+        }
+
+        /**
+         * Look up a word in a buffer.
+         *
+         * @param buffer
+         *         buffer holding the word.
+         * @param start
+         *         buffer index of the word.
+         * @param length
+         *         number of bytes in the word.
+         *
+         * @return dictionary index of the word or -1 if absent.
+         */
+        private int get(@Nonnull ByteBuffer buffer, int start, int length) {
+            int slot = hash(buffer, start, length) & mask;
+            while (true) {
+                byte[] key = keys[slot];
+                if (null == key) {
+                    return -1;
+                }
+                if (key.length == length && regionMatches(key, buffer, start)) {
+                    return values[slot];
+                }
+                slot = (slot + 1) & mask;
+            }
+        }
+
+        /**
+         * Compare a key with the bytes of a buffer.
+         *
+         * @param key
+         *         bytes to compare.
+         * @param buffer
+         *         buffer to compare with.
+         * @param start
+         *         buffer index to begin comparing at.
+         *
+         * @return true if all key bytes match.
+         */
+        private static boolean regionMatches(@Nonnull byte[] key, @Nonnull ByteBuffer buffer, int start) {
+            for (int i = 0; i < key.length; i++) {
+                if (key[i] != buffer.get(start + i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Compute the FNV-1a hash of bytes in a buffer.
+         *
+         * @param buffer
+         *         buffer holding the bytes.
+         * @param start
+         *         buffer index of the bytes.
+         * @param length
+         *         number of bytes to hash.
+         *
+         * @return hash value.
+         */
+        private static int hash(@Nonnull ByteBuffer buffer, int start, int length) {
+            int hash = 0x811C9DC5;
+            for (int i = start; i < start + length; i++) {
+                hash = (hash ^ (buffer.get(i) & 0xFF)) * 0x01000193;
+            }
+            return hash ^ (hash >>> 16);
+        }
+    }
+
+    /**
+     * Validation results of a chunk, with line numbers relative to the chunk.
+     */
+    private static final class ChunkResult {
+        private final int lineCount;
+        private final BitSet validLines;
+
+        /**
+         * Construct the result.
+         *
+         * @param lineCount
+         *         number of lines in the chunk.
+         * @param validLines
+         *         chunk line numbers of the valid lines.
+         */
+        private ChunkResult(int lineCount, @Nonnull BitSet validLines) {
+            this.lineCount = lineCount;
+            this.validLines = validLines;
+        }
+    }
+
+    /**
+     * Task validating the lines of a chunk, keeping its own index validators and scratch buffers.
+     */
+    @NotThreadSafe
+    private final class ChunkTask implements Callable<ChunkResult> {
+        private final FileChannel channel;
+        private final long start;
+        private final long end;
+        private final MnemonicIndexValidator[] indexValidators = new MnemonicIndexValidator[wordTables.size()];
+        private int[] wordStarts = new int[32];
+        private int[] wordEnds = new int[32];
+        private int[] mnemonicIndices = new int[32];
+        private byte[] line = new byte[256];
+
+        /**
+         * Construct the task.
+         *
+         * @param channel
+         *         open channel of the file.
+         * @param start
+         *         file position of the first line.
+         * @param end
+         *         file position following the last line.
+         */
+        private ChunkTask(@Nonnull FileChannel channel, long start, long end) {
+            this.channel = channel;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public ChunkResult call() throws IOException {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+            int limit = buffer.limit();
+            BitSet validLines = new BitSet();
+            int lineCount = 0;
+            int lineStart = 0;
+            while (lineStart < limit) {
+                int lineEnd = lineStart;
+                while (lineEnd < limit && buffer.get(lineEnd) != '\n') {
+                    lineEnd++;
+                }
+                int next = lineEnd + 1;
+                if (lineEnd > lineStart && buffer.get(lineEnd - 1) == '\r') {
+                    lineEnd--;
+                }
+                if (isValidLine(buffer, lineStart, lineEnd)) {
+                    validLines.set(lineCount);
+                }
+                lineCount++;
+                lineStart = next;
+            }
+            return new ChunkResult(lineCount, validLines);
+        }
+
+        /**
+         * Validate a line.
+         *
+         * @param buffer
+         *         buffer holding the line.
+         * @param lineStart
+         *         buffer index of the line.
+         * @param lineEnd
+         *         buffer index following the line.
+         *
+         * @return true if the line decodes.
+         */
+        private boolean isValidLine(@Nonnull ByteBuffer buffer, int lineStart, int lineEnd) {
+            int wordCount = tokenize(buffer, lineStart, lineEnd);
+            for (int table = 0; table < wordTables.size(); table++) {
+                WordTable wordTable = wordTables.get(table);
+                int wordIndex = 0;
+                while (wordIndex < wordCount) {
+                    int index = wordTable.get(buffer, wordStarts[wordIndex], wordEnds[wordIndex] - wordStarts[wordIndex]);
+                    if (index < 0) {
+                        break;
+                    }
+                    mnemonicIndices[wordIndex++] = index;
+                }
+                if (wordIndex == wordCount) {
+                    return getIndexValidator(table).isValid(mnemonicIndices, wordCount);
+                }
+                if (!isAscii(buffer, wordStarts[wordIndex], wordEnds[wordIndex])) {
+                    /* Another form of the word may normalize into the dictionary */
+                    return decodeLine(buffer, lineStart, lineEnd);
+                }
+                /* ASCII words are unchanged by normalization, so the word is not in the dictionary */
+            }
+            if (wordTables.isEmpty()) {
+                return decodeLine(buffer, lineStart, lineEnd);
+            }
+            return false;
+        }
+
+        /**
+         * Split a line into words at each space or ideographic space, keeping empty words.
+         *
+         * @param buffer
+         *         buffer holding the line.
+         * @param lineStart
+         *         buffer index of the line.
+         * @param lineEnd
+         *         buffer index following the line.
+         *
+         * @return number of words.
+         */
+        private int tokenize(@Nonnull ByteBuffer buffer, int lineStart, int lineEnd) {
+            int wordCount = 0;
+            int wordStart = lineStart;
+            int i = lineStart;
+            while (true) {
+                int delimiterLength = 0;
+                if (i < lineEnd) {
+                    byte value = buffer.get(i);
+                    if (value == SPACE) {
+                        delimiterLength = 1;
+                    } else if (value == IDEOGRAPHIC_SPACE[0] && i + 2 < lineEnd
+                            && buffer.get(i + 1) == IDEOGRAPHIC_SPACE[1] && buffer.get(i + 2) == IDEOGRAPHIC_SPACE[2]) {
+                        delimiterLength = IDEOGRAPHIC_SPACE.length;
+                    }
+                }
+                if (i == lineEnd || delimiterLength > 0) {
+                    if (wordCount == wordStarts.length) {
+                        wordStarts = Arrays.copyOf(wordStarts, wordCount * 2);
+                        wordEnds = Arrays.copyOf(wordEnds, wordCount * 2);
+                        mnemonicIndices = Arrays.copyOf(mnemonicIndices, wordCount * 2);
+                    }
+                    wordStarts[wordCount] = wordStart;
+                    wordEnds[wordCount] = i;
+                    wordCount++;
+                    if (i == lineEnd) {
+                        return wordCount;
+                    }
+                    i += delimiterLength;
+                    wordStart = i;
+                } else {
+                    i++;
+                }
+            }
+        }
+
+        /**
+         * Obtain the index validator of a dictionary, constructing it on first use.
+         *
+         * @param table
+         *         position of the dictionary in detection order.
+         *
+         * @return validator instance.
+         */
+        @Nonnull
+        private MnemonicIndexValidator getIndexValidator(int table) {
+            MnemonicIndexValidator indexValidator = indexValidators[table];
+            if (null == indexValidator) {
+                indexValidator = decoder.newIndexValidator(dictionaryIdentifiers.get(table));
+                indexValidators[table] = indexValidator;
+            }
+            return indexValidator;
+        }
+
+        /**
+         * Validate a line by decoding it.
+         *
+         * @param buffer
+         *         buffer holding the line.
+         * @param lineStart
+         *         buffer index of the line.
+         * @param lineEnd
+         *         buffer index following the line.
+         *
+         * @return true if the line decodes.
+         */
+        private boolean decodeLine(@Nonnull ByteBuffer buffer, int lineStart, int lineEnd) {
+            int length = lineEnd - lineStart;
+            if (line.length < length) {
+                line = new byte[Math.max(length, line.length * 2)];
+            }
+            for (int i = 0; i < length; i++) {
+                line[i] = buffer.get(lineStart + i);
+            }
+            String mnemonicSequence = new String(line, 0, length, Charsets.UTF_8);
+            return decoder.tryDecode(MnemonicUnit.BUILDER, mnemonicSequence, wordListIdentifier).isSuccess();
+        }
+
+        /**
+         * Check whether bytes of a buffer are all ASCII.
+         *
+         * @param buffer
+         *         buffer holding the bytes.
+         * @param start
+         *         buffer index of the bytes.
+         * @param end
+         *         buffer index following the bytes.
+         *
+         * @return true if no byte has the high bit set.
+         */
+        private boolean isAscii(@Nonnull ByteBuffer buffer, int start, int end) {
+            for (int i = start; i < end; i++) {
+                if (buffer.get(i) < 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Report of the valid lines of a validated file.
+     *
+     * @since 0.8.0
+     */
+    @Beta
+    @Immutable
+    public static final class Report {
+        private final int lineCount;
+        private final BitSet validLines;
+
+        /**
+         * Construct the report.
+         *
+         * @param lineCount
+         *         number of lines in the file.
+         * @param validLines
+         *         line numbers of the valid lines, owned by the report.
+         */
+        private Report(int lineCount, @Nonnull BitSet validLines) {
+            this.lineCount = lineCount;
+            this.validLines = validLines;
+        }
+
+        /**
+         * Obtain the number of lines in the file.
+         * A line break ending the file does not begin another line.
+         *
+         * @return number of lines.
+         */
+        public int getLineCount() {
+            return lineCount;
+        }
+
+        /**
+         * Obtain the number of valid lines.
+         *
+         * @return number of lines that decode.
+         */
+        public int getValidCount() {
+            return validLines.cardinality();
+        }
+
+        /**
+         * Check whether a line is valid.
+         *
+         * @param lineNumber
+         *         zero-based number of the line.
+         *
+         * @return true if the line decodes.
+         *
+         * @throws java.lang.IndexOutOfBoundsException
+         *         if the line number is out of range.
+         */
+        public boolean isValid(int lineNumber) {
+            checkElementIndex(lineNumber, lineCount, "lineNumber");
+            return validLines.get(lineNumber);
+        }
+
+        /**
+         * Find the next invalid line.
+         *
+         * @param fromLineNumber
+         *         zero-based number of the line to begin searching at.
+         *
+         * @return number of the next invalid line or -1 if there is none.
+         */
+        public int nextInvalidLine(int fromLineNumber) {
+            checkArgument(fromLineNumber >= 0, "fromLineNumber must not be negative");
+            int lineNumber = validLines.nextClearBit(fromLineNumber);
+            return lineNumber < lineCount ? lineNumber : -1;
+        }
+
+        /**
+         * Obtain the valid lines.
+         *
+         * @return copy of the set of valid line numbers.
+         */
+        @Nonnull
+        public BitSet getValidLines() {
+            return (BitSet) validLines.clone();
+        }
+
+        /**
+         * Obtain the compact bitmap of the valid lines, bit (n % 8) of byte (n / 8) set for each valid line n.
+         * Trailing bytes without valid lines are omitted.
+         *
+         * @return bitmap bytes.
+         */
+        @Nonnull
+        public byte[] toBitmap() {
+            return validLines.toByteArray();
+        }
+
+        @Override
+        public String toString() {
+            return MoreObjects.toStringHelper(this)
+                    .add("lineCount", lineCount)
+                    .add("validCount", getValidCount())
+                    .toString();
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2026 Thomas Harning Jr. <harningt@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package us.eharning.atomun.mnemonic;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import us.eharning.atomun.mnemonic.spi.MnemonicGeneratorSpi;
+
+import java.util.List;
+import java.util.stream.Stream;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Immutable mnemonic generator compiled from a MnemonicBuilder.
+ * Parameters are validated and resolved once at compile time, so instances
+ * can be shared across threads and generate without further checks.
+ *
+ * @since 0.8.0
+ */
+@Immutable
+@ThreadSafe
+public final class MnemonicGenerator {
+    private final MnemonicAlgorithm algorithm;
+    private final MnemonicGeneratorSpi spi;
+
+    /**
+     * Construct a MnemonicGenerator around the given implementation.
+     *
+     * @param algorithm
+     *         algorithm implemented by the generator.
+     * @param spi
+     *         implementation provider.
+     */
+    MnemonicGenerator(@Nonnull MnemonicAlgorithm algorithm, @Nonnull MnemonicGeneratorSpi spi) {
+        this.algorithm = checkNotNull(algorithm);
+        this.spi = checkNotNull(spi);
+    }
+
+    /**
+     * Get the algorithm implemented by this generator.
+     *
+     * @return implemented mnemonic algorithm.
+     */
+    @Nonnull
+    public MnemonicAlgorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    /**
+     * Generate a space-delimited series of mnemonic words.
+     *
+     * @return space-delimited sequence of mnemonic words.
+     */
+    @Nonnull
+    public String generate() {
+        return spi.generateMnemonic();
+    }
+
+    /**
+     * Generate a wrapped mnemonic unit.
+     *
+     * @return MnemonicUnit instance wrapping build results.
+     */
+    @Nonnull
+    public MnemonicUnit generateUnit() {
+        return spi.generateMnemonicUnit(MnemonicUnit.BUILDER);
+    }
+
+    /**
+     * Generate multiple mnemonics, drawing entropy for all of them at once.
+     *
+     * @param count
+     *         number of mnemonics to generate.
+     *
+     * @return list of space-delimited sequences of mnemonic words.
+     */
+    @Nonnull
+    public List<String> generateMany(int count) {
+        checkArgument(count >= 0, "count must not be negative");
+        return spi.generateMnemonics(count);
+    }
+
+    /**
+     * Generate multiple wrapped mnemonic units, drawing entropy for all of them at once.
+     * Close the stream when not consuming every unit so that the remaining entropy is wiped.
+     *
+     * @param count
+     *         number of units to generate.
+     *
+     * @return stream of MnemonicUnit instances wrapping build results.
+     *
+     * @see MnemonicBuilder#buildUnitStream(int)
+     */
+    @Nonnull
+    public Stream<MnemonicUnit> generateUnitStream(int count) {
+        checkArgument(count >= 0, "count must not be negative");
+        return spi.generateMnemonicUnits(MnemonicUnit.BUILDER, count);
+    }
+}
@@ -0,0 +1,457 @@
+/*
+ * Copyright 2026 Thomas Harning Jr. <harningt@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package us.eharning.atomun.mnemonic;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.annotations.Beta;
+import com.google.common.base.Predicate;
+import us.eharning.atomun.mnemonic.spi.MnemonicDecoderSpi;
+import us.eharning.atomun.mnemonic.spi.TokenizedMnemonic;
+import us.eharning.atomun.mnemonic.utility.dictionary.Dictionary;
+import us.eharning.atomun.mnemonic.utility.dictionary.DictionaryIdentifier;
+import us.eharning.atomun.mnemonic.utility.dictionary.DictionarySource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Recovery of mnemonics from incomplete or damaged backups.
+ * <p>
+ * Candidates are enumerated as dictionary indices and filtered by the algorithm's own checks,
+ * so no sentences are built or parsed for rejected candidates.
+ * </p>
+ *
+ * @since 0.8.0
+ */
+@Beta
+public final class MnemonicRecovery {
+    /**
+     * Placeholder for an unknown word in a mnemonic pattern.
+     */
+    public static final String UNKNOWN_WORD = "?";
+
+    /**
+     * Prevent external construction since it is a utility class.
+     */
+    private MnemonicRecovery() {
+    }
+
+    /**
+     * Enumerate the valid mnemonics matching a sentence with unknown words.
+     * <p>
+     * The stream is lazily evaluated and parallel, so limiting or short-circuiting it bounds the work done.
+     * </p>
+     *
+     * @param mnemonicAlgorithm
+     *         identifier for which algorithm to use.
+     * @param mnemonicPattern
+     *         space-delimited sequence of mnemonic words with UNKNOWN_WORD for each unknown word.
+     * @param wordListIdentifier
+     *         identifier for the word list to use.
+     *
+     * @return stream of matching units in candidate order.
+     *
+     * @throws java.lang.IllegalArgumentException
+     *         if a known word is not in the word list or too many words are unknown.
+     * @throws java.lang.UnsupportedOperationException
+     *         if the algorithm does not support missing word recovery.
+     */
+    @Nonnull
+    public static Stream<MnemonicUnit> recoverMissingWords(@Nonnull MnemonicAlgorithm mnemonicAlgorithm, @Nonnull CharSequence mnemonicPattern, @Nonnull String wordListIdentifier) {
+        checkNotNull(mnemonicPattern);
+        checkNotNull(wordListIdentifier);
+        MnemonicDecoderSpi system = getDecoder(mnemonicAlgorithm);
+        DictionaryIdentifier dictionaryIdentifier = system.getDictionaryIdentifier(wordListIdentifier);
+        if (null == dictionaryIdentifier) {
+            throw new UnsupportedOperationException("Algorithm does not use dictionaries: " + mnemonicAlgorithm);
+        }
+        return system.recoverMissingWords(MnemonicUnit.BUILDER, dictionaryIdentifier, toIndices(mnemonicPattern, DictionarySource.getDictionary(dictionaryIdentifier)));
+    }
+
+    /**
+     * Enumerate the valid mnemonics matching dictionary indices with unknown words.
+     *
+     * @param mnemonicAlgorithm
+     *         identifier for which algorithm to use.
+     * @param dictionaryIdentifier
+     *         identifier for the dictionary the indices refer to.
+     * @param mnemonicIndices
+     *         dictionary indices of the mnemonic words with negative values for unknown words.
+     *
+     * @return stream of matching units in candidate order.
+     *
+     * @throws java.lang.IllegalArgumentException
+     *         if a known index is out of range or too many words are unknown.
+     * @throws java.lang.UnsupportedOperationException
+     *         if the algorithm does not support missing word recovery.
+     */
+    @Nonnull
+    public static Stream<MnemonicUnit> recoverMissingWords(@Nonnull MnemonicAlgorithm mnemonicAlgorithm, @Nonnull DictionaryIdentifier dictionaryIdentifier, @Nonnull int[] mnemonicIndices) {
+        checkNotNull(dictionaryIdentifier);
+        checkNotNull(mnemonicIndices);
+        return getDecoder(mnemonicAlgorithm).recoverMissingWords(MnemonicUnit.BUILDER, dictionaryIdentifier, Arrays.copyOf(mnemonicIndices, mnemonicIndices.length));
+    }
+
+    /**
+     * Enumerate the valid mnemonics reordering the words at uncertain positions of a sentence,
+     * such as words that may have been written down in the wrong order.
+     * <p>
+     * The stream is lazily evaluated and parallel, so limiting or short-circuiting it bounds the work done.
+     * Orderings that only exchange repeated words are produced once.
+     * </p>
+     *
+     * @param mnemonicAlgorithm
+     *         identifier for which algorithm to use.
+     * @param mnemonicSequence
+     *         space-delimited sequence of mnemonic words as recorded.
+     * @param wordListIdentifier
+     *         identifier for the word list to use.
+     * @param uncertainPositions
+     *         zero-based word positions whose words may be in the wrong order.
+     *
+     * @return stream of matching units in ordering order.
+     *
+     * @throws java.lang.IllegalArgumentException
+     *         if a word is not in the word list or the positions are invalid.
+     * @throws java.lang.UnsupportedOperationException
+     *         if the algorithm does not support word order recovery.
+     */
+    @Nonnull
+    public static Stream<MnemonicUnit> recoverWordOrder(@Nonnull MnemonicAlgorithm mnemonicAlgorithm, @Nonnull CharSequence mnemonicSequence, @Nonnull String wordListIdentifier, @Nonnull int... uncertainPositions) {
+        checkNotNull(mnemonicSequence);
+        checkNotNull(wordListIdentifier);
+        checkNotNull(uncertainPositions);
+        MnemonicDecoderSpi system = getDecoder(mnemonicAlgorithm);
+        DictionaryIdentifier dictionaryIdentifier = system.getDictionaryIdentifier(wordListIdentifier);
+        if (null == dictionaryIdentifier) {
+            throw new UnsupportedOperationException("Algorithm does not use dictionaries: " + mnemonicAlgorithm);
+        }
+        int[] mnemonicIndices = toIndices(mnemonicSequence, DictionarySource.getDictionary(dictionaryIdentifier));
+        return system.recoverWordOrder(MnemonicUnit.BUILDER, dictionaryIdentifier, mnemonicIndices, Arrays.copyOf(uncertainPositions, uncertainPositions.length));
+    }
+
+    /**
+     * Enumerate the valid mnemonics reordering the words at uncertain positions of dictionary indices.
+     *
+     * @param mnemonicAlgorithm
+     *         identifier for which algorithm to use.
+     * @param dictionaryIdentifier
+     *         identifier for the dictionary the indices refer to.
+     * @param mnemonicIndices
+     *         dictionary indices of the mnemonic words as recorded.
+     * @param uncertainPositions
+     *         zero-based word positions whose words may be in the wrong order.
+     *
+     * @return stream of matching units in ordering order.
+     *
+     * @throws java.lang.IllegalArgumentException
+     *         if an index is out of range or the positions are invalid.
+     * @throws java.lang.UnsupportedOperationException
+     *         if the algorithm does not support word order recovery.
+     */
+    @Nonnull
+    public static Stream<MnemonicUnit> recoverWordOrder(@Nonnull MnemonicAlgorithm mnemonicAlgorithm, @Nonnull DictionaryIdentifier dictionaryIdentifier, @Nonnull int[] mnemonicIndices, @Nonnull int[] uncertainPositions) {
+        checkNotNull(dictionaryIdentifier);
+        checkNotNull(mnemonicIndices);
+        checkNotNull(uncertainPositions);
+        return getDecoder(mnemonicAlgorithm).recoverWordOrder(MnemonicUnit.BUILDER, dictionaryIdentifier, Arrays.copyOf(mnemonicIndices, mnemonicIndices.length), Arrays.copyOf(uncertainPositions, uncertainPositions.length));
+    }
+
+    /**
+     * Compute every valid last word completing the given words, such as for a sentence whose other words
+     * were chosen by dice rolls.
+     *
+     * @param mnemonicAlgorithm
+     *         identifier for which algorithm to use.
+     * @param dictionaryIdentifier
+     *         identifier for the dictionary the indices refer to.
+     * @param prefixIndices
+     *         dictionary indices of all but the last word.
+     *
+     * @return valid last word indices in increasing order.
+     *
+     * @throws java.lang.IllegalArgumentException
+     *         if an index is out of range or the completed word count is invalid.
+     * @throws java.lang.UnsupportedOperationException
+     *         if the algorithm cannot compute the last word from the others.
+     */
+    @Nonnull
+    public static int[] validLastWords(@Nonnull MnemonicAlgorithm mnemonicAlgorithm, @Nonnull DictionaryIdentifier dictionaryIdentifier, @Nonnull int[] prefixIndices) {
+        checkNotNull(dictionaryIdentifier);
+        checkNotNull(prefixIndices);
+        return getDecoder(mnemonicAlgorithm).getValidLastWords(dictionaryIdentifier, Arrays.copyOf(prefixIndices, prefixIndices.length));
+    }
+
+    /**
+     * Compute every valid last word completing the given words.
+     *
+     * @param mnemonicAlgorithm
+     *         identifier for which algorithm to use.
+     * @param mnemonicPrefix
+     *         space-delimited sequence of all but the last mnemonic word.
+     * @param wordListIdentifier
+     *         identifier for the word list to use.
+     *
+     * @return valid last words in dictionary order.
+     *
+     * @throws java.lang.IllegalArgumentException
+     *         if a word is not in the word list or the completed word count is invalid.
+     * @throws java.lang.UnsupportedOperationException
+     *         if the algorithm cannot compute the last word from the others.
+     */
+    @Nonnull
+    public static List<String> validLastWords(@Nonnull MnemonicAlgorithm mnemonicAlgorithm, @Nonnull CharSequence mnemonicPrefix, @Nonnull String wordListIdentifier) {
+        checkNotNull(mnemonicPrefix);
+        checkNotNull(wordListIdentifier);
+        MnemonicDecoderSpi system = getDecoder(mnemonicAlgorithm);
+        DictionaryIdentifier dictionaryIdentifier = system.getDictionaryIdentifier(wordListIdentifier);
+        if (null == dictionaryIdentifier) {
+            throw new UnsupportedOperationException("Algorithm does not use dictionaries: " + mnemonicAlgorithm);
+        }
+        Dictionary dictionary = DictionarySource.getDictionary(dictionaryIdentifier);
+        int[] lastWords = system.getValidLastWords(dictionaryIdentifier, toIndices(mnemonicPrefix, dictionary));
+        List<String> words = new ArrayList<>(lastWords.length);
+        for (int index : lastWords) {
+            words.add(dictionary.convert(index));
+        }
+        return words;
+    }
+
+    /**
+     * Find the first candidate found whose seed satisfies the target, such as a known seed prefix.
+     * Uses a batch size of four candidates per available processor.
+     *
+     * @param candidates
+     *         units to check, such as from #recoverMissingWords.
+     * @param password
+     *         password to derive the seeds with.
+     * @param seedMatcher
+     *         target test applied to each seed as returned by MnemonicUnit#getSeed(CharSequence).
+     *
+     * @return matching unit or null if none match.
+     */
+    @CheckForNull
+    public static MnemonicUnit findBySeed(@Nonnull Stream<MnemonicUnit> candidates, @Nullable CharSequence password, @Nonnull Predicate<byte[]> seedMatcher) {
+        return findBySeed(candidates, password, seedMatcher, Runtime.getRuntime().availableProcessors() * 4);
+    }
+
+    /**
+     * Find the first candidate found whose seed satisfies the target, such as a known seed prefix.
+     * <p>
+     * Candidates are pulled from the stream in batches and their seeds derived in parallel on the common
+     * fork/join pool. Derivation stops at the first match and no further batches are pulled,
+     * so which of several matching candidates is returned is unspecified.
+     * </p>
+     *
+     * @param candidates
+     *         units to check, such as from #recoverMissingWords.
+     * @param password
+     *         password to derive the seeds with.
+     * @param seedMatcher
+     *         target test applied to each seed as returned by MnemonicUnit#getSeed(CharSequence).
+     * @param batchSize
+     *         number of candidates to derive seeds for at a time.
+     *
+     * @return matching unit or null if none match.
+     */
+    @CheckForNull
+    public static MnemonicUnit findBySeed(@Nonnull Stream<MnemonicUnit> candidates, @Nullable final CharSequence password, @Nonnull final Predicate<byte[]> seedMatcher, int batchSize) {
+        checkNotNull(candidates);
+        checkNotNull(seedMatcher);
+        checkArgument(batchSize > 0, "batchSize must be a positive value");
+        java.util.function.Predicate<MnemonicUnit> matcher = new java.util.function.Predicate<MnemonicUnit>() {
+            @Override
+            public boolean test(MnemonicUnit unit) {
+                byte[] seed = unit.getSeed(password);
+                try {
+                    return seedMatcher.apply(seed);
+                } finally {
+                    Arrays.fill(seed, (byte) 0);
+                }
+            }
+        };
+        return findFirst(candidates, matcher, batchSize);
+    }
+
+    /**
+     * Find the first candidate found whose BIP0032 master key satisfies the target, such as a known chain code.
+     * Uses a batch size of four candidates per available processor.
+     *
+     * @param candidates
+     *         units to check, such as from #recoverMissingWords.
+     * @param password
+     *         password to derive the master keys with.
+     * @param masterKeyMatcher
+     *         target test applied to each master key as returned by MnemonicUnit#getMasterKey(CharSequence).
+     *
+     * @return matching unit or null if none match.
+     */
+    @CheckForNull
+    public static MnemonicUnit findByMasterKey(@Nonnull Stream<MnemonicUnit> candidates, @Nullable CharSequence password, @Nonnull Predicate<byte[]> masterKeyMatcher) {
+        return findByMasterKey(candidates, password, masterKeyMatcher, Runtime.getRuntime().availableProcessors() * 4);
+    }
+
+    /**
+     * Find the first candidate found whose BIP0032 master key satisfies the target, such as a known chain code.
+     * <p>
+     * Batches are processed as with #findBySeed(Stream, CharSequence, Predicate, int), each master key
+     * being derived in a single buffer without the seed being returned first.
+     * </p>
+     *
+     * @param candidates
+     *         units to check, such as from #recoverMissingWords.
+     * @param password
+     *         password to derive the master keys with.
+     * @param masterKeyMatcher
+     *         target test applied to each master key as returned by MnemonicUnit#getMasterKey(CharSequence).
+     * @param batchSize
+     *         number of candidates to derive master keys for at a time.
+     *
+     * @return matching unit or null if none match.
+     */
+    @CheckForNull
+    public static MnemonicUnit findByMasterKey(@Nonnull Stream<MnemonicUnit> candidates, @Nullable final CharSequence password, @Nonnull final Predicate<byte[]> masterKeyMatcher, int batchSize) {
+        checkNotNull(candidates);
+        checkNotNull(masterKeyMatcher);
+        checkArgument(batchSize > 0, "batchSize must be a positive value");
+        java.util.function.Predicate<MnemonicUnit> matcher = new java.util.function.Predicate<MnemonicUnit>() {
+            @Override
+            public boolean test(MnemonicUnit unit) {
+                byte[] masterKey = unit.getMasterKey(password);
+                try {
+                    return masterKeyMatcher.apply(masterKey);
+                } finally {
+                    Arrays.fill(masterKey, (byte) 0);
+                }
+            }
+        };
+        return findFirst(candidates, matcher, batchSize);
+    }
+
+    /**
+     * Find the first candidate found satisfying the matcher, testing batches in parallel.
+     *
+     * @param candidates
+     *         units to check.
+     * @param matcher
+     *         test applied to each unit.
+     * @param batchSize
+     *         number of candidates to test at a time.
+     *
+     * @return matching unit or null if none match.
+     */
+    @CheckForNull
+    private static MnemonicUnit findFirst(@Nonnull Stream<MnemonicUnit> candidates, @Nonnull java.util.function.Predicate<MnemonicUnit> matcher, int batchSize) {
+        Iterator<MnemonicUnit> iterator = candidates.iterator();
+        List<MnemonicUnit> batch = new ArrayList<>(batchSize);
+        while (iterator.hasNext()) {
+            batch.clear();
+            while (batch.size() < batchSize && iterator.hasNext()) {
+                batch.add(iterator.next());
+            }
+            Optional<MnemonicUnit> match = batch.parallelStream().filter(matcher).findAny();
+            if (match.isPresent()) {
+                return match.get();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Obtain a seed target matching seeds that begin with the given bytes.
+     *
+     * @param seedPrefix
+     *         known leading bytes of the seed.
+     *
+     * @return target test for #findBySeed.
+     */
+    @Nonnull
+    public static Predicate<byte[]> seedPrefix(@Nonnull byte[] seedPrefix) {
+        checkNotNull(seedPrefix);
+        final byte[] prefix = Arrays.copyOf(seedPrefix, seedPrefix.length);
+        return new Predicate<byte[]>() {
+            @Override
+            public boolean apply(byte[] seed) {
+                if (null == seed || seed.length < prefix.length) {
+                    return false;
+                }
+                for (int i = 0; i < prefix.length; i++) {
+                    if (seed[i] != prefix[i]) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Obtain the decoder for a registered algorithm.
+     *
+     * @param mnemonicAlgorithm
+     *         identifier for which algorithm to use.
+     *
+     * @return decoder implementation.
+     *
+     * @throws java.lang.UnsupportedOperationException
+     *         if the algorithm is not supported.
+     */
+    @Nonnull
+    private static MnemonicDecoderSpi getDecoder(@Nonnull MnemonicAlgorithm mnemonicAlgorithm) {
+        checkNotNull(mnemonicAlgorithm);
+        MnemonicDecoderSpi system = MnemonicServices.getMnemonicDecoder(mnemonicAlgorithm);
+        if (null == system) {
+            throw new UnsupportedOperationException("Unsupported algorithm " + mnemonicAlgorithm);
+        }
+        return system;
+    }
+
+    /**
+     * Convert a mnemonic pattern to dictionary indices, marking unknown words with -1.
+     *
+     * @param mnemonicPattern
+     *         space-delimited sequence of mnemonic words with UNKNOWN_WORD for each unknown word.
+     * @param dictionary
+     *         dictionary to look words up in.
+     *
+     * @return dictionary indices.
+     */
+    @Nonnull
+    private static int[] toIndices(@Nonnull CharSequence mnemonicPattern, @Nonnull Dictionary dictionary) {
+        List<String> words = TokenizedMnemonic.tokenize(mnemonicPattern).getNormalizedWords();
+        int[] mnemonicIndices = new int[words.size()];
+        for (int i = 0; i < mnemonicIndices.length; i++) {
+            String word = words.get(i);
+            if (UNKNOWN_WORD.equals(word)) {
+                mnemonicIndices[i] = -1;
+            } else {
+                mnemonicIndices[i] = dictionary.indexOf(word);
+                checkArgument(mnemonicIndices[i] >= 0, "Unknown dictionary word: %s", word);
+            }
+        }
+        return mnemonicIndices;
+    }
+}
@@ -16,60 +16,85 @@
 
 package us.eharning.atomun.mnemonic;
 
+import static com.google.common.base.Preconditions.checkNotNull;
+
 import com.google.common.annotations.Beta;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import us.eharning.atomun.mnemonic.spi.MnemonicBuilderSpi;
+import us.eharning.atomun.mnemonic.spi.MnemonicDecoderSpi;
 import us.eharning.atomun.mnemonic.spi.MnemonicServiceProvider;
 import us.eharning.atomun.mnemonic.spi.bip0039.BIP0039MnemonicService;
 import us.eharning.atomun.mnemonic.spi.electrum.legacy.LegacyElectrumMnemonicService;
 import us.eharning.atomun.mnemonic.spi.electrum.v2.ElectrumV2MnemonicService;
 
 import java.util.Arrays;
-import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
 import java.util.Set;
-import java.util.concurrent.CopyOnWriteArraySet;
+import javax.annotation.CheckForNull;
 import javax.annotation.Nonnull;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.Immutable;
 
 /**
  * Utility class where mnemonic instances are registered.
+ * <p>
+ * Lookups are served from an immutable snapshot mapping each algorithm to its builder and decoder,
+ * which is rebuilt and swapped in whenever the registrations change.
+ * </p>
  *
  * @since 0.7.0
  */
 @Beta
 @Nonnull
 public final class MnemonicServices {
-    /*
-     * Uses a CopyOnWriteArraySet due to small element count and infrequent
-     * mutation. If larger sets to be used, then an atomic-reference +
-     * immutable set may be better (since it offers ln(n) search).
+    /**
+     * Algorithms that are always registered, in registration order.
      */
+    private static final ImmutableSet<MnemonicAlgorithm> BUNDLED_ALGORITHMS = ImmutableSet.<MnemonicAlgorithm>builder()
+            .add(BIPMnemonicAlgorithm.values())
+            .add(ElectrumMnemonicAlgorithm.values())
+            .build();
 
     /**
-     * List of current registered algorithms.
+     * Set of current service providers, in registration order.
      */
-    private static final Set<MnemonicAlgorithm> REGISTERED_ALGORITHMS;
-    private static final Set<MnemonicAlgorithm> REGISTERED_ALGORITHMS_MUTABLE;
-
-    static {
-        REGISTERED_ALGORITHMS_MUTABLE = new CopyOnWriteArraySet<>(ImmutableList.<MnemonicAlgorithm>builder()
-                .add(BIPMnemonicAlgorithm.values())
-                .add(ElectrumMnemonicAlgorithm.values())
-                .build());
-        REGISTERED_ALGORITHMS = Collections.unmodifiableSet(REGISTERED_ALGORITHMS_MUTABLE);
-    }
+    @GuardedBy("MnemonicServices.class")
+    private static final Set<MnemonicServiceProvider> SERVICE_PROVIDERS_MUTABLE = new LinkedHashSet<>();
 
     /**
-     * List of current service providers.
+     * Snapshot of the registrations used for lookups.
      */
-    private static final Set<MnemonicServiceProvider> SERVICE_PROVIDERS;
-    private static final Set<MnemonicServiceProvider> SERVICE_PROVIDERS_MUTABLE;
+    private static volatile Registry registry;
 
     static {
-        SERVICE_PROVIDERS_MUTABLE = new CopyOnWriteArraySet<>(Arrays.asList(
+        /* Publish the algorithms first, as constructing the SPIs validates them against the registry */
+        registry = new Registry(SERVICE_PROVIDERS_MUTABLE);
+        SERVICE_PROVIDERS_MUTABLE.addAll(Arrays.asList(
                 new LegacyElectrumMnemonicService(),
                 new BIP0039MnemonicService(),
                 new ElectrumV2MnemonicService()
         ));
-        SERVICE_PROVIDERS = Collections.unmodifiableSet(SERVICE_PROVIDERS_MUTABLE);
+        /* Discover third-party providers after the bundled ones so the bundled ones take precedence */
+        Iterator<MnemonicServiceProvider> discovered = ServiceLoader.load(MnemonicServiceProvider.class, MnemonicServices.class.getClassLoader()).iterator();
+        while (true) {
+            try {
+                if (!discovered.hasNext()) {
+                    break;
+                }
+                MnemonicServiceProvider provider = discovered.next();
+                SERVICE_PROVIDERS_MUTABLE.add(provider);
+            } catch (ServiceConfigurationError ignored) {
+                /* A broken third-party provider must not prevent the bundled ones from working */
+            }
+        }
+        registry = new Registry(SERVICE_PROVIDERS_MUTABLE);
     }
 
     /**
@@ -81,24 +106,147 @@ public final class MnemonicServices {
     /**
      * Obtain a set of registered algorithms.
      *
-     * @return set containing all registered algorithms.
+     * @return immutable snapshot of all registered algorithms.
      *
      * @since 0.7.0
      */
     @Nonnull
     public static Set<MnemonicAlgorithm> getRegisteredAlgorithms() {
-        return REGISTERED_ALGORITHMS;
+        return registry.algorithms;
     }
 
     /**
      * Obtain a list of current service providers.
      *
-     * @return sequence of service providers.
+     * @return immutable snapshot of the service providers.
      *
      * @since 0.7.0
      */
     @Nonnull
     public static Iterable<MnemonicServiceProvider> getServiceProviders() {
-        return SERVICE_PROVIDERS;
+        return registry.providers;
+    }
+
+    /**
+     * Register a service provider along with the algorithms it declares as supported.
+     * Providers registered earlier take precedence when several support the same algorithm.
+     *
+     * @param provider
+     *         service provider to add.
+     *
+     * @return true if the provider was not already registered.
+     *
+     * @since 0.8.0
+     */
+    public static synchronized boolean registerServiceProvider(@Nonnull MnemonicServiceProvider provider) {
+        checkNotNull(provider);
+        if (!SERVICE_PROVIDERS_MUTABLE.add(provider)) {
+            return false;
+        }
+        registry = new Registry(SERVICE_PROVIDERS_MUTABLE);
+        return true;
+    }
+
+    /**
+     * Unregister a service provider along with the algorithms only it declared as supported.
+     *
+     * @param provider
+     *         service provider to remove.
+     *
+     * @return true if the provider was registered.
+     *
+     * @since 0.8.0
+     */
+    public static synchronized boolean unregisterServiceProvider(@Nonnull MnemonicServiceProvider provider) {
+        checkNotNull(provider);
+        if (!SERVICE_PROVIDERS_MUTABLE.remove(provider)) {
+            return false;
+        }
+        registry = new Registry(SERVICE_PROVIDERS_MUTABLE);
+        return true;
+    }
+
+    /**
+     * Obtain the builder of the first service provider supporting the algorithm.
+     *
+     * @param algorithm
+     *         algorithm to look up.
+     *
+     * @return builder or null if the algorithm is unregistered or no provider supports it.
+     */
+    @CheckForNull
+    static MnemonicBuilderSpi getMnemonicBuilder(@Nonnull MnemonicAlgorithm algorithm) {
+        return registry.builders.get(algorithm);
+    }
+
+    /**
+     * Obtain the decoder of the first service provider supporting the algorithm.
+     *
+     * @param algorithm
+     *         algorithm to look up.
+     *
+     * @return decoder or null if the algorithm is unregistered or no provider supports it.
+     */
+    @CheckForNull
+    static MnemonicDecoderSpi getMnemonicDecoder(@Nonnull MnemonicAlgorithm algorithm) {
+        return registry.decoders.get(algorithm);
+    }
+
+    /**
+     * Obtain the decoders of all supported algorithms, ordered by the provider supplying them.
+     *
+     * @return map from algorithm to decoder.
+     */
+    @Nonnull
+    static Map<MnemonicAlgorithm, MnemonicDecoderSpi> getMnemonicDecoders() {
+        return registry.decoders;
+    }
+
+    /**
+     * Immutable snapshot of the registrations with precomputed lookup tables.
+     */
+    @Immutable
+    private static final class Registry {
+        private final ImmutableSet<MnemonicAlgorithm> algorithms;
+        private final ImmutableList<MnemonicServiceProvider> providers;
+        private final ImmutableMap<MnemonicAlgorithm, MnemonicBuilderSpi> builders;
+        private final ImmutableMap<MnemonicAlgorithm, MnemonicDecoderSpi> decoders;
+
+        /**
+         * Build the snapshot, querying each provider once per algorithm.
+         *
+         * @param providers
+         *         registered providers in order of precedence.
+         */
+        private Registry(@Nonnull Set<MnemonicServiceProvider> providers) {
+            this.providers = ImmutableList.copyOf(providers);
+            ImmutableSet.Builder<MnemonicAlgorithm> algorithmSetBuilder = ImmutableSet.<MnemonicAlgorithm>builder()
+                    .addAll(BUNDLED_ALGORITHMS);
+            for (MnemonicServiceProvider provider : this.providers) {
+                algorithmSetBuilder.addAll(provider.getSupportedAlgorithms());
+            }
+            this.algorithms = algorithmSetBuilder.build();
+            /* Filled provider by provider so that iteration follows provider order */
+            Map<MnemonicAlgorithm, MnemonicBuilderSpi> builderMap = new LinkedHashMap<>();
+            Map<MnemonicAlgorithm, MnemonicDecoderSpi> decoderMap = new LinkedHashMap<>();
+            for (MnemonicServiceProvider provider : this.providers) {
+                for (MnemonicAlgorithm algorithm : this.algorithms) {
+                    if (!builderMap.containsKey(algorithm)) {
+                        MnemonicBuilderSpi builder = provider.getMnemonicBuilder(algorithm);
+                        if (null != builder) {
+                            builderMap.put(algorithm, builder);
+                        }
+                    }
+                    if (!decoderMap.containsKey(algorithm)) {
+                        MnemonicDecoderSpi decoder = provider.getMnemonicDecoder(algorithm);
+                        if (null != decoder) {
+                            decoderMap.put(algorithm, decoder);
+                        }
+                    }
+                }
+            }
+            this.builders = ImmutableMap.copyOf(builderMap);
+            this.decoders = ImmutableMap.copyOf(decoderMap);
+        }
     }
 }
@@ -18,20 +18,30 @@ package us.eharning.atomun.mnemonic;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkPositionIndexes;
 
+import com.google.common.annotations.Beta;
 import com.google.common.base.Function;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import us.eharning.atomun.mnemonic.spi.MnemonicDecoderSpi;
-import us.eharning.atomun.mnemonic.spi.MnemonicServiceProvider;
 import us.eharning.atomun.mnemonic.spi.MnemonicUnitSpi;
+import us.eharning.atomun.mnemonic.spi.SeedDerivation;
+import us.eharning.atomun.mnemonic.spi.TokenizedMnemonic;
+import us.eharning.atomun.mnemonic.utility.dictionary.DictionaryIdentifier;
 
+import java.io.Closeable;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
+import java.util.Map;
 import java.util.Set;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import javax.annotation.CheckForNull;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
 
 /**
  * Service provider to back the MnemonicDecoder.
@@ -39,15 +49,21 @@ import javax.annotation.concurrent.Immutable;
  *
  * @since 0.0.1
  */
-@Immutable
+@ThreadSafe
 @Nonnull
-public final class MnemonicUnit {
+public final class MnemonicUnit implements Closeable {
     static final Builder BUILDER = new Builder();
 
     private final MnemonicUnitSpi spi;
-    private final CharSequence mnemonicSequence;
-    private final byte[] entropy;
+    /* Rendered on demand from the indices when not supplied, races only repeat the same work */
+    private volatile CharSequence mnemonicSequence;
+    /* Unsigned 16-bit dictionary indices, a fraction of the size of the rendered sentence */
+    private final short[] mnemonicIndices;
+    /* Derived on first use when not supplied, races only repeat the same work */
+    private volatile byte[] entropy;
     private final byte[] seed;
+    /* Holds the entropy and seed instead of the arrays when moved off-heap */
+    private final OffHeapSecrets offHeapSecrets;
     private final ImmutableSet<MnemonicExtensionIdentifier> supportedExtensions;
     private final Function<MnemonicExtensionIdentifier, Object> extensionLoader;
 
@@ -68,14 +84,116 @@ public final class MnemonicUnit {
      *         method to calculate a given extension's value.
      */
     private MnemonicUnit(@Nonnull MnemonicUnitSpi spi, @Nonnull CharSequence mnemonicSequence, @Nullable byte[] entropy, @Nullable byte[] seed, @Nonnull ImmutableSet<MnemonicExtensionIdentifier> supportedExtensions, @Nonnull Function<MnemonicExtensionIdentifier, Object> extensionLoader) {
+        this(spi, checkNotNull(mnemonicSequence), null, entropy, seed, supportedExtensions, extensionLoader);
+    }
+
+    /**
+     * Construct a new MnemonicUnit wrapping the given implementation and dictionary indices.
+     *
+     * @param spi
+     *         implementation details.
+     * @param mnemonicIndices
+     *         dictionary indices of the represented sequence, stored in packed form.
+     * @param entropy
+     *         derived entropy or null if on-demand.
+     * @param seed
+     *         derived seed or null if on-demand.
+     * @param supportedExtensions
+     *         set of supported extensions dependent on algorithm.
+     * @param extensionLoader
+     *         method to calculate a given extension's value.
+     */
+    private MnemonicUnit(@Nonnull MnemonicUnitSpi spi, @Nonnull int[] mnemonicIndices, @Nullable byte[] entropy, @Nullable byte[] seed, @Nonnull ImmutableSet<MnemonicExtensionIdentifier> supportedExtensions, @Nonnull Function<MnemonicExtensionIdentifier, Object> extensionLoader) {
+        this(spi, null, packIndices(checkNotNull(mnemonicIndices)), entropy, seed, supportedExtensions, extensionLoader);
+    }
+
+    /**
+     * Construct a new MnemonicUnit from either representation.
+     *
+     * @param spi
+     *         implementation details.
+     * @param mnemonicSequence
+     *         represented sequence or null to render it from the indices.
+     * @param mnemonicIndices
+     *         packed dictionary indices of the represented sequence or null if on-demand.
+     * @param entropy
+     *         derived entropy or null if on-demand.
+     * @param seed
+     *         derived seed or null if on-demand.
+     * @param supportedExtensions
+     *         set of supported extensions dependent on algorithm.
+     * @param extensionLoader
+     *         method to calculate a given extension's value.
+     */
+    private MnemonicUnit(@Nonnull MnemonicUnitSpi spi, @Nullable CharSequence mnemonicSequence, @Nullable short[] mnemonicIndices, @Nullable byte[] entropy, @Nullable byte[] seed, @Nonnull ImmutableSet<MnemonicExtensionIdentifier> supportedExtensions, @Nonnull Function<MnemonicExtensionIdentifier, Object> extensionLoader) {
         this.spi = checkNotNull(spi);
-        this.mnemonicSequence = checkNotNull(mnemonicSequence);
+        this.mnemonicSequence = mnemonicSequence;
+        this.mnemonicIndices = mnemonicIndices;
         this.entropy = entropy == null ? null : Arrays.copyOf(entropy, entropy.length);
         this.seed = seed == null ? null : Arrays.copyOf(seed, seed.length);
+        this.offHeapSecrets = null;
         this.supportedExtensions = checkNotNull(supportedExtensions);
         this.extensionLoader = checkNotNull(extensionLoader);
     }
 
+    /**
+     * Construct a copy of a MnemonicUnit with its secrets held off-heap.
+     *
+     * @param source
+     *         unit to copy.
+     * @param offHeapSecrets
+     *         entropy and seed of the source unit.
+     */
+    private MnemonicUnit(@Nonnull MnemonicUnit source, @Nonnull OffHeapSecrets offHeapSecrets) {
+        this.spi = source.spi;
+        this.mnemonicSequence = source.mnemonicSequence;
+        this.mnemonicIndices = source.mnemonicIndices;
+        this.entropy = null;
+        this.seed = null;
+        this.offHeapSecrets = offHeapSecrets;
+        this.supportedExtensions = source.supportedExtensions;
+        this.extensionLoader = source.extensionLoader;
+    }
+
+    /**
+     * Pack dictionary indices into unsigned 16-bit values.
+     *
+     * @param mnemonicIndices
+     *         dictionary indices of the represented sequence.
+     *
+     * @return packed indices.
+     *
+     * @throws java.lang.IllegalArgumentException
+     *         if an index does not fit in 16 bits.
+     */
+    @Nonnull
+    private static short[] packIndices(@Nonnull int[] mnemonicIndices) {
+        short[] packed = new short[mnemonicIndices.length];
+        for (int i = 0; i < mnemonicIndices.length; i++) {
+            int index = mnemonicIndices[i];
+            checkArgument(index >= 0 && index <= 0xFFFF, "Word index out of range: %s", index);
+            packed[i] = (short) index;
+        }
+        return packed;
+    }
+
+    /**
+     * Unpack unsigned 16-bit dictionary indices.
+     *
+     * @param mnemonicIndices
+     *         packed indices.
+     *
+     * @return dictionary indices.
+     */
+    @Nonnull
+    private static int[] unpackIndices(@Nonnull short[] mnemonicIndices) {
+        int[] indices = new int[mnemonicIndices.length];
+        for (int i = 0; i < mnemonicIndices.length; i++) {
+            indices[i] = mnemonicIndices[i] & 0xFFFF;
+        }
+        return indices;
+    }
+
     /**
      * Decodes a mnemonic, returning an iterable with all of the successful decoding results.
      *
@@ -106,18 +224,13 @@ public final class MnemonicUnit {
     @Nonnull
     public static Iterable<MnemonicUnit> decodeMnemonic(@Nonnull CharSequence mnemonicSequence, @Nullable String wordListIdentifier) {
         checkNotNull(mnemonicSequence);
+        /* Tokenize once and share the words and dictionary lookups between all decoders */
+        TokenizedMnemonic tokenizedMnemonic = TokenizedMnemonic.tokenize(mnemonicSequence);
         ImmutableList.Builder<MnemonicUnit> unitListBuilder = ImmutableList.builder();
-        for (MnemonicServiceProvider serviceProvider : MnemonicServices.getServiceProviders()) {
-            for (MnemonicAlgorithm algorithm : MnemonicServices.getRegisteredAlgorithms()) {
-                MnemonicDecoderSpi system = serviceProvider.getMnemonicDecoder(algorithm);
-                if (null == system) {
-                    continue;
-                }
-                try {
-                    MnemonicUnit unit = system.decode(BUILDER, mnemonicSequence, wordListIdentifier);
-                    unitListBuilder.add(unit);
-                } catch (UnsupportedOperationException | IllegalArgumentException ignored) {
-                }
+        for (Map.Entry<MnemonicAlgorithm, MnemonicDecoderSpi> entry : MnemonicServices.getMnemonicDecoders().entrySet()) {
+            MnemonicUnit unit = tryDecode(entry.getValue(), entry.getKey(), tokenizedMnemonic, wordListIdentifier).getUnit();
+            if (null != unit) {
+                unitListBuilder.add(unit);
             }
         }
         return unitListBuilder.build();
@@ -165,14 +278,257 @@ public final class MnemonicUnit {
         if (!MnemonicServices.getRegisteredAlgorithms().contains(mnemonicAlgorithm)) {
             throw new UnsupportedOperationException("Unregistered algorithm: " + mnemonicAlgorithm);
         }
-        for (MnemonicServiceProvider serviceProvider : MnemonicServices.getServiceProviders()) {
-            MnemonicDecoderSpi system = serviceProvider.getMnemonicDecoder(mnemonicAlgorithm);
+        MnemonicDecoderSpi system = MnemonicServices.getMnemonicDecoder(mnemonicAlgorithm);
+        if (null == system) {
+            throw new UnsupportedOperationException("Unsupported algorithm " + mnemonicAlgorithm);
+        }
+        return system.decode(BUILDER, mnemonicSequence, wordListIdentifier);
+    }
+
+    /**
+     * Attempts to decode a mnemonic with every registered algorithm without throwing on invalid input.
+     *
+     * @param mnemonicSequence
+     *         space-delimited sequence of mnemonic words.
+     *
+     * @return map from each supported algorithm to its decoding result, in registration order.
+     *
+     * @since 0.8.0
+     */
+    @Nonnull
+    public static Map<MnemonicAlgorithm, MnemonicDecodeResult> tryDecode(@Nonnull CharSequence mnemonicSequence) {
+        return tryDecode(mnemonicSequence, null);
+    }
+
+    /**
+     * Attempts to decode a mnemonic with every registered algorithm without throwing on invalid input.
+     *
+     * @param mnemonicSequence
+     *         space-delimited sequence of mnemonic words.
+     * @param wordListIdentifier
+     *         identifier for the word list to use.
+     *
+     * @return map from each supported algorithm to its decoding result, in registration order.
+     *
+     * @since 0.8.0
+     */
+    @Nonnull
+    public static Map<MnemonicAlgorithm, MnemonicDecodeResult> tryDecode(@Nonnull CharSequence mnemonicSequence, @Nullable String wordListIdentifier) {
+        checkNotNull(mnemonicSequence);
+        TokenizedMnemonic tokenizedMnemonic = TokenizedMnemonic.tokenize(mnemonicSequence);
+        ImmutableMap.Builder<MnemonicAlgorithm, MnemonicDecodeResult> resultMapBuilder = ImmutableMap.builder();
+        for (MnemonicAlgorithm algorithm : MnemonicServices.getRegisteredAlgorithms()) {
+            MnemonicDecoderSpi system = MnemonicServices.getMnemonicDecoder(algorithm);
             if (null == system) {
                 continue;
             }
-            return system.decode(BUILDER, mnemonicSequence, wordListIdentifier);
+            resultMapBuilder.put(algorithm, tryDecode(system, algorithm, tokenizedMnemonic, wordListIdentifier));
+        }
+        return resultMapBuilder.build();
+    }
+
+    /**
+     * Attempts to decode a mnemonic for a specific algorithm without throwing on invalid input.
+     *
+     * @param mnemonicAlgorithm
+     *         identifier for which algorithm to use.
+     * @param mnemonicSequence
+     *         space-delimited sequence of mnemonic words.
+     *
+     * @return decoding result.
+     *
+     * @throws java.lang.UnsupportedOperationException
+     *         if the algorithm is not supported.
+     * @since 0.8.0
+     */
+    @Nonnull
+    public static MnemonicDecodeResult tryDecode(@Nonnull MnemonicAlgorithm mnemonicAlgorithm, @Nonnull CharSequence mnemonicSequence) {
+        return tryDecode(mnemonicAlgorithm, mnemonicSequence, null);
+    }
+
+    /**
+     * Attempts to decode a mnemonic for a specific algorithm and word list without throwing on invalid input.
+     *
+     * @param mnemonicAlgorithm
+     *         identifier for which algorithm to use.
+     * @param mnemonicSequence
+     *         space-delimited sequence of mnemonic words.
+     * @param wordListIdentifier
+     *         identifier for the word list to use.
+     *
+     * @return decoding result.
+     *
+     * @throws java.lang.UnsupportedOperationException
+     *         if the algorithm is not supported.
+     * @since 0.8.0
+     */
+    @Nonnull
+    public static MnemonicDecodeResult tryDecode(@Nonnull MnemonicAlgorithm mnemonicAlgorithm, @Nonnull CharSequence mnemonicSequence, @Nullable String wordListIdentifier) {
+        checkNotNull(mnemonicAlgorithm);
+        checkNotNull(mnemonicSequence);
+        if (!MnemonicServices.getRegisteredAlgorithms().contains(mnemonicAlgorithm)) {
+            throw new UnsupportedOperationException("Unregistered algorithm: " + mnemonicAlgorithm);
+        }
+        MnemonicDecoderSpi system = MnemonicServices.getMnemonicDecoder(mnemonicAlgorithm);
+        if (null == system) {
+            throw new UnsupportedOperationException("Unsupported algorithm " + mnemonicAlgorithm);
+        }
+        return system.tryDecode(BUILDER, mnemonicSequence, wordListIdentifier);
+    }
+
+    /**
+     * Attempts to decode each of a stream of mnemonics, keeping the encounter order.
+     *
+     * @param mnemonicSequences
+     *         stream of space-delimited sequences of mnemonic words.
+     * @param mnemonicAlgorithm
+     *         identifier for which algorithm to use.
+     * @param wordListIdentifier
+     *         identifier for the word list to use.
+     *
+     * @return lazily evaluated stream of decoding results, parallel if the given stream is.
+     *
+     * @throws java.lang.UnsupportedOperationException
+     *         if the algorithm is not supported.
+     * @see #decodeAll(Stream, MnemonicAlgorithm, String, boolean)
+     * @since 0.8.0
+     */
+    @Beta
+    @Nonnull
+    public static Stream<MnemonicDecodeResult> decodeAll(@Nonnull Stream<? extends CharSequence> mnemonicSequences, @Nonnull MnemonicAlgorithm mnemonicAlgorithm, @Nullable String wordListIdentifier) {
+        return decodeAll(mnemonicSequences, mnemonicAlgorithm, wordListIdentifier, true);
+    }
+
+    /**
+     * Attempts to decode each of a stream of mnemonics.
+     * <p>
+     * Decoding is done by a spliterator that splits along with sized sources and draws batches of growing size
+     * from other sources, such as the lines of a reader, so parallel streams spread the decoding across cores.
+     * Unordered results let parallel pipelines skip buffering results to restore the encounter order.
+     * Closing the returned stream closes the given stream.
+     * </p>
+     *
+     * @param mnemonicSequences
+     *         stream of space-delimited sequences of mnemonic words.
+     * @param mnemonicAlgorithm
+     *         identifier for which algorithm to use.
+     * @param wordListIdentifier
+     *         identifier for the word list to use.
+     * @param ordered
+     *         whether the results keep the encounter order of the given stream.
+     *
+     * @return lazily evaluated stream of decoding results, parallel if the given stream is.
+     *
+     * @throws java.lang.UnsupportedOperationException
+     *         if the algorithm is not supported.
+     * @since 0.8.0
+     */
+    @Beta
+    @Nonnull
+    public static Stream<MnemonicDecodeResult> decodeAll(@Nonnull final Stream<? extends CharSequence> mnemonicSequences, @Nonnull MnemonicAlgorithm mnemonicAlgorithm, @Nullable String wordListIdentifier, boolean ordered) {
+        checkNotNull(mnemonicSequences);
+        checkNotNull(mnemonicAlgorithm);
+        if (!MnemonicServices.getRegisteredAlgorithms().contains(mnemonicAlgorithm)) {
+            throw new UnsupportedOperationException("Unregistered algorithm: " + mnemonicAlgorithm);
+        }
+        MnemonicDecoderSpi system = MnemonicServices.getMnemonicDecoder(mnemonicAlgorithm);
+        if (null == system) {
+            throw new UnsupportedOperationException("Unsupported algorithm " + mnemonicAlgorithm);
         }
-        throw new UnsupportedOperationException("Unsupported algorithm " + mnemonicAlgorithm);
+        MnemonicDecodeSpliterator spliterator = new MnemonicDecodeSpliterator(mnemonicSequences.spliterator(), system, wordListIdentifier, ordered);
+        return StreamSupport.stream(spliterator, mnemonicSequences.isParallel()).onClose(new Runnable() {
+            @Override
+            public void run() {
+                mnemonicSequences.close();
+            }
+        });
+    }
+
+    /**
+     * Construct a mnemonic from the dictionary indices of its words without going through the sentence.
+     * The sentence is only rendered if requested, though some algorithms need it to validate the words.
+     *
+     * @param mnemonicAlgorithm
+     *         identifier for which algorithm to use.
+     * @param dictionaryIdentifier
+     *         identifier for the dictionary the indices refer to.
+     * @param mnemonicIndices
+     *         dictionary indices of the mnemonic words.
+     *
+     * @return decoded mnemonic unit.
+     *
+     * @throws java.lang.IllegalArgumentException
+     *         if the indices do not form a valid mnemonic.
+     * @throws java.lang.UnsupportedOperationException
+     *         if the algorithm is not supported or cannot decode indices.
+     * @since 0.8.0
+     */
+    @Nonnull
+    public static MnemonicUnit fromIndices(@Nonnull MnemonicAlgorithm mnemonicAlgorithm, @Nonnull DictionaryIdentifier dictionaryIdentifier, @Nonnull int[] mnemonicIndices) {
+        checkNotNull(mnemonicAlgorithm);
+        checkNotNull(dictionaryIdentifier);
+        checkNotNull(mnemonicIndices);
+        if (!MnemonicServices.getRegisteredAlgorithms().contains(mnemonicAlgorithm)) {
+            throw new UnsupportedOperationException("Unregistered algorithm: " + mnemonicAlgorithm);
+        }
+        MnemonicDecoderSpi system = MnemonicServices.getMnemonicDecoder(mnemonicAlgorithm);
+        if (null == system) {
+            throw new UnsupportedOperationException("Unsupported algorithm " + mnemonicAlgorithm);
+        }
+        return system.decode(BUILDER, dictionaryIdentifier, Arrays.copyOf(mnemonicIndices, mnemonicIndices.length));
+    }
+
+    /**
+     * Construct a mnemonic from the dictionary indices of its words without going through the sentence.
+     *
+     * @param mnemonicAlgorithm
+     *         identifier for which algorithm to use.
+     * @param dictionaryIdentifier
+     *         identifier for the dictionary the indices refer to.
+     * @param mnemonicIndices
+     *         dictionary indices of the mnemonic words.
+     *
+     * @return decoded mnemonic unit.
+     *
+     * @throws java.lang.IllegalArgumentException
+     *         if the indices do not form a valid mnemonic.
+     * @throws java.lang.UnsupportedOperationException
+     *         if the algorithm is not supported or cannot decode indices.
+     * @since 0.8.0
+     */
+    @Nonnull
+    public static MnemonicUnit fromIndices(@Nonnull MnemonicAlgorithm mnemonicAlgorithm, @Nonnull DictionaryIdentifier dictionaryIdentifier, @Nonnull short[] mnemonicIndices) {
+        checkNotNull(mnemonicIndices);
+        int[] indices = new int[mnemonicIndices.length];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = mnemonicIndices[i];
+        }
+        return fromIndices(mnemonicAlgorithm, dictionaryIdentifier, indices);
+    }
+
+    /**
+     * Attempts to decode with one of several candidate decoders, skipping it if its cheap precheck fails.
+     *
+     * @param system
+     *         decoder to use.
+     * @param algorithm
+     *         algorithm of the decoder, for statistics.
+     * @param tokenizedMnemonic
+     *         tokenized sequence of mnemonic words shared between decoders.
+     * @param wordListIdentifier
+     *         identifier for the word list to use.
+     *
+     * @return decoding result.
+     */
+    @Nonnull
+    private static MnemonicDecodeResult tryDecode(@Nonnull MnemonicDecoderSpi system, @Nonnull MnemonicAlgorithm algorithm, @Nonnull TokenizedMnemonic tokenizedMnemonic, @Nullable String wordListIdentifier) {
+        MnemonicDecodeResult failure = system.precheck(tokenizedMnemonic, wordListIdentifier);
+        if (null != failure) {
+            MnemonicDecodeStatistics.recordPruned(algorithm);
+            return failure;
+        }
+        MnemonicDecodeStatistics.recordAttempt(algorithm);
+        return system.tryDecode(BUILDER, tokenizedMnemonic, wordListIdentifier);
     }
 
     /**
@@ -196,10 +552,58 @@ public final class MnemonicUnit {
      */
     @CheckForNull
     public byte[] getEntropy() {
-        if (null != entropy) {
-            return Arrays.copyOf(entropy, entropy.length);
+        if (null != offHeapSecrets) {
+            return offHeapSecrets.getEntropy();
+        }
+        byte[] result = loadEntropy();
+        if (null == result) {
+            return null;
+        }
+        return Arrays.copyOf(result, result.length);
+    }
+
+    /**
+     * Write the entropy into the output buffer if possible, without an intermediate copy when cached.
+     *
+     * @param output
+     *         buffer to write into, such as a direct ByteBuffer, advanced past the entropy.
+     *
+     * @return number of bytes written or -1 if inaccessible.
+     *
+     * @throws java.nio.BufferOverflowException
+     *         if the buffer lacks room for the entropy, in which case nothing is written.
+     * @since 0.8.0
+     */
+    public int getEntropy(@Nonnull ByteBuffer output) {
+        checkNotNull(output);
+        if (null != offHeapSecrets) {
+            return offHeapSecrets.getEntropy(output);
+        }
+        byte[] result = loadEntropy();
+        if (null == result) {
+            return -1;
         }
-        return spi.getEntropy(mnemonicSequence);
+        output.put(result);
+        return result.length;
+    }
+
+    /**
+     * Get the entropy, deriving it from the indices or sentence and caching it on first use.
+     *
+     * @return the cached entropy byte array, not to be modified, or null if inaccessible.
+     */
+    @CheckForNull
+    private byte[] loadEntropy() {
+        byte[] result = entropy;
+        if (null == result) {
+            if (null != mnemonicIndices) {
+                result = spi.getEntropy(unpackIndices(mnemonicIndices));
+            } else {
+                result = spi.getEntropy(getMnemonic());
+            }
+            entropy = result;
+        }
+        return result;
     }
 
     /**
@@ -239,7 +643,39 @@ public final class MnemonicUnit {
      */
     @Nonnull
     public CharSequence getMnemonic() {
-        return mnemonicSequence;
+        CharSequence result = mnemonicSequence;
+        if (null == result) {
+            result = spi.getMnemonic(unpackIndices(mnemonicIndices));
+            mnemonicSequence = result;
+        }
+        return result;
+    }
+
+    /**
+     * Get the dictionary indices of the mnemonic words.
+     *
+     * @return a copy of the word indices or null if the mnemonic is not dictionary based.
+     *
+     * @since 0.8.0
+     */
+    @CheckForNull
+    public int[] getIndices() {
+        if (null != mnemonicIndices) {
+            return unpackIndices(mnemonicIndices);
+        }
+        return spi.getIndices(getMnemonic());
+    }
+
+    /**
+     * Get the identifier of the dictionary the mnemonic words are drawn from.
+     *
+     * @return dictionary identifier or null if the mnemonic is not dictionary based.
+     *
+     * @since 0.8.0
+     */
+    @CheckForNull
+    public DictionaryIdentifier getDictionaryIdentifier() {
+        return spi.getDictionaryIdentifier();
     }
 
     /**
@@ -251,10 +687,13 @@ public final class MnemonicUnit {
      */
     @Nonnull
     public byte[] getSeed() {
+        if (null != offHeapSecrets) {
+            return offHeapSecrets.getSeed();
+        }
         if (null != seed) {
             return Arrays.copyOf(seed, seed.length);
         }
-        return spi.getSeed(mnemonicSequence, null);
+        return spi.getSeed(getMnemonic(), null);
     }
 
     /**
@@ -272,7 +711,189 @@ public final class MnemonicUnit {
         if (null == password || password.length() == 0) {
             return getSeed();
         }
-        return spi.getSeed(mnemonicSequence, password);
+        return spi.getSeed(getMnemonic(), password);
+    }
+
+    /**
+     * Write a seed from this mnemonic without supplying a password into the output array.
+     *
+     * @param output
+     *         array to write into.
+     * @param offset
+     *         index into output to begin writing.
+     *
+     * @return number of bytes written.
+     *
+     * @throws java.lang.IndexOutOfBoundsException
+     *         if the output cannot hold the seed at offset, in which case nothing is written.
+     * @since 0.8.0
+     */
+    public int getSeed(@Nonnull byte[] output, int offset) {
+        checkNotNull(output);
+        if (null != offHeapSecrets) {
+            return offHeapSecrets.getSeed(output, offset);
+        }
+        if (null != seed) {
+            checkPositionIndexes(offset, offset + seed.length, output.length);
+            System.arraycopy(seed, 0, output, offset, seed.length);
+            return seed.length;
+        }
+        return spi.getSeed(getMnemonic(), null, output, offset);
+    }
+
+    /**
+     * Write a seed from this mnemonic into the output array.
+     *
+     * @param password
+     *         password to supply for decoding.
+     * @param output
+     *         array to write into.
+     * @param offset
+     *         index into output to begin writing.
+     *
+     * @return number of bytes written.
+     *
+     * @throws java.lang.IndexOutOfBoundsException
+     *         if the output cannot hold the seed at offset, in which case nothing is written.
+     * @since 0.8.0
+     */
+    public int getSeed(@Nullable CharSequence password, @Nonnull byte[] output, int offset) {
+        if (null == password || password.length() == 0) {
+            return getSeed(output, offset);
+        }
+        checkNotNull(output);
+        return spi.getSeed(getMnemonic(), password, output, offset);
+    }
+
+    /**
+     * Derive the BIP0032 master private key and chain code for the seed of this mnemonic.
+     *
+     * @param password
+     *         password to supply for decoding.
+     *
+     * @return 32-byte private key followed by the 32-byte chain code.
+     *
+     * @see #getMasterKey(CharSequence, byte[], int)
+     * @since 0.8.0
+     */
+    @Beta
+    @Nonnull
+    public byte[] getMasterKey(@Nullable CharSequence password) {
+        byte[] masterKey = new byte[SeedDerivation.MASTER_KEY_LENGTH];
+        getMasterKey(password, masterKey, 0);
+        return masterKey;
+    }
+
+    /**
+     * Write the BIP0032 master private key and chain code for the seed of this mnemonic into the output array.
+     * <p>
+     * This is HMAC-SHA512 keyed by "Bitcoin seed" over the seed, fused with its derivation: for the PBKDF2 based
+     * algorithms the seed is derived in place in the output and replaced there by the master key, using a
+     * pre-keyed HMAC, so the seed is never held in an array of its own.
+     * The result is the same as applying that HMAC to #getSeed(CharSequence) for the same password.
+     * </p>
+     *
+     * @param password
+     *         password to supply for decoding.
+     * @param output
+     *         array to write into.
+     * @param offset
+     *         index into output to begin writing.
+     *
+     * @return number of bytes written.
+     *
+     * @throws java.lang.IndexOutOfBoundsException
+     *         if the output cannot hold the master key at offset, in which case nothing is written.
+     * @since 0.8.0
+     */
+    @Beta
+    public int getMasterKey(@Nullable CharSequence password, @Nonnull byte[] output, int offset) {
+        checkNotNull(output);
+        return spi.getMasterKey(getMnemonic(), password, output, offset);
+    }
+
+    /**
+     * Copy this unit into one holding its entropy and seed in direct memory from the given pool.
+     * <p>
+     * The entropy is written straight into the pooled block and the seed is derived on the way in,
+     * so both are served from off-heap memory afterwards. Only the entropy and seed are moved: the
+     * mnemonic sentence and word indices stay on the heap, shared with this unit.
+     * The copy should be closed once done with, otherwise its blocks are wiped and returned only
+     * after it has been garbage collected. This unit is left untouched.
+     * </p>
+     *
+     * @param pool
+     *         pool to lease the storage from.
+     *
+     * @return off-heap copy of this unit.
+     *
+     * @throws java.lang.UnsupportedOperationException
+     *         if the entropy or seed exceed OffHeapSecretPool.BLOCK_SIZE.
+     * @since 0.8.0
+     */
+    @Beta
+    @Nonnull
+    public MnemonicUnit toOffHeap(@Nonnull OffHeapSecretPool pool) {
+        checkNotNull(pool);
+        return new MnemonicUnit(this, OffHeapSecrets.copyOf(pool, this));
+    }
+
+    /**
+     * Check whether the entropy and seed are held off-heap.
+     *
+     * @return true if created by #toOffHeap.
+     *
+     * @since 0.8.0
+     */
+    @Beta
+    public boolean isOffHeap() {
+        return null != offHeapSecrets;
+    }
+
+    /**
+     * Obtain a seed derivation keyed by this mnemonic, for deriving the seeds of many passwords.
+     *
+     * @return derivation keyed by the mnemonic.
+     *
+     * @throws java.lang.UnsupportedOperationException
+     *         if the algorithm does not support keyed seed derivation.
+     */
+    @Nonnull
+    SeedDerivation.Keyed getKeyedSeedDerivation() {
+        return spi.getKeyedSeedDerivation(getMnemonic());
+    }
+
+    /**
+     * Obtain the salt for a password to derive a seed with #getKeyedSeedDerivation().
+     *
+     * @param password
+     *         password to supply for decoding.
+     *
+     * @return salt bytes, owned by the caller.
+     *
+     * @throws java.lang.UnsupportedOperationException
+     *         if the algorithm does not support keyed seed derivation.
+     */
+    @Nonnull
+    byte[] getSeedSalt(@Nullable CharSequence password) {
+        return spi.getSeedSalt(password);
+    }
+
+    /**
+     * Wipe the off-heap entropy and seed and return their storage to the pool.
+     * <p>
+     * Afterwards the entropy and seed accessors throw IllegalStateException. Closing again has no effect,
+     * as does closing a unit holding its secrets on-heap.
+     * </p>
+     *
+     * @since 0.8.0
+     */
+    @Beta
+    @Override
+    public void close() {
+        if (null != offHeapSecrets) {
+            offHeapSecrets.close();
+        }
     }
 
     public static class Builder {
@@ -286,5 +907,30 @@ public final class MnemonicUnit {
         public final MnemonicUnit build(@Nonnull MnemonicUnitSpi spi, @Nonnull CharSequence mnemonicSequence, @Nullable byte[] entropy, @Nullable byte[] seed, @Nonnull ImmutableSet<MnemonicExtensionIdentifier> supportedExtensions, @Nonnull Function<MnemonicExtensionIdentifier, Object> extensionLoader) {
             return new MnemonicUnit(spi, mnemonicSequence, entropy, seed, supportedExtensions, extensionLoader);
         }
+
+        /**
+         * Construct a new MnemonicUnit backed by dictionary indices, rendering the sentence on demand.
+         *
+         * @param spi
+         *         implementation details.
+         * @param mnemonicIndices
+         *         dictionary indices of the represented sequence, stored in packed form.
+         * @param entropy
+         *         derived entropy or null if on-demand.
+         * @param seed
+         *         derived seed or null if on-demand.
+         * @param supportedExtensions
+         *         set of supported extensions dependent on algorithm.
+         * @param extensionLoader
+         *         method to calculate a given extension's value.
+         *
+         * @return constructed instance.
+         *
+         * @since 0.8.0
+         */
+        @Nonnull
+        public final MnemonicUnit build(@Nonnull MnemonicUnitSpi spi, @Nonnull int[] mnemonicIndices, @Nullable byte[] entropy, @Nullable byte[] seed, @Nonnull ImmutableSet<MnemonicExtensionIdentifier> supportedExtensions, @Nonnull Function<MnemonicExtensionIdentifier, Object> extensionLoader) {
+            return new MnemonicUnit(spi, mnemonicIndices, entropy, seed, supportedExtensions, extensionLoader);
+        }
     }
 }
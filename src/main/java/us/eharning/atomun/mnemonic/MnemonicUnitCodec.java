@@ -0,0 +1,578 @@
+/*
+ * Copyright 2026 Thomas Harning Jr. <harningt@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package us.eharning.atomun.mnemonic;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import com.google.common.annotations.Beta;
+import com.google.common.base.Charsets;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import us.eharning.atomun.mnemonic.api.electrum.v2.ElectrumV2ExtensionIdentifier;
+import us.eharning.atomun.mnemonic.api.electrum.v2.VersionPrefix;
+import us.eharning.atomun.mnemonic.spi.MnemonicDecoderSpi;
+import us.eharning.atomun.mnemonic.utility.dictionary.DictionaryIdentifier;
+import us.eharning.atomun.mnemonic.utility.dictionary.DictionarySource;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Compact binary encoding of mnemonic units.
+ * <p>
+ * A record holds a format version, the algorithm, the dictionary name, the Electrum v2 version prefix
+ * and the word indices packed at the minimum bit width for the dictionary. A 12 word BIP0039 mnemonic takes
+ * 29 bytes instead of roughly 120 as text. Decoding works from the indices, so no text is normalized or hashed.
+ * </p>
+ * <p>
+ * Record layout, all counts unsigned bytes:
+ * </p>
+ * <pre>
+ * version | algorithm | name length | name (ASCII) | version prefix | word count | packed indices
+ * </pre>
+ * <p>
+ * Streams written by {@link Writer} prefix each record with its length as an unsigned 16-bit value.
+ * </p>
+ *
+ * @since 0.8.0
+ */
+@Beta
+public final class MnemonicUnitCodec {
+    private static final int FORMAT_VERSION = 1;
+    /**
+     * Algorithms with a stable code, the code is the position in the list plus one.
+     */
+    private static final ImmutableList<MnemonicAlgorithm> ALGORITHM_CODES = ImmutableList.<MnemonicAlgorithm>of(
+            ElectrumMnemonicAlgorithm.LegacyElectrum,
+            BIPMnemonicAlgorithm.BIP0039,
+            ElectrumMnemonicAlgorithm.ElectrumV2
+    );
+    private static final int NO_VERSION_PREFIX = 0;
+    private static final int MAX_SHORT_FIELD = 0xFF;
+    private static final int MAX_RECORD_LENGTH = 0xFFFF;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Prevent external construction since it is a utility class.
+     */
+    private MnemonicUnitCodec() {
+    }
+
+    /**
+     * Compute the number of bytes the unit encodes to.
+     *
+     * @param unit
+     *         instance to measure.
+     *
+     * @return encoded length in bytes.
+     *
+     * @throws java.lang.UnsupportedOperationException
+     *         if the unit's algorithm or representation cannot be encoded.
+     */
+    public static int getEncodedLength(@Nonnull MnemonicUnit unit) {
+        return new Record(unit).getLength();
+    }
+
+    /**
+     * Encode a unit into the buffer at its current position.
+     *
+     * @param unit
+     *         instance to encode.
+     * @param output
+     *         buffer to write into, advanced past the record.
+     *
+     * @throws java.lang.UnsupportedOperationException
+     *         if the unit's algorithm or representation cannot be encoded.
+     * @throws java.nio.BufferOverflowException
+     *         if the buffer lacks room for the record, in which case nothing is written.
+     */
+    public static void encode(@Nonnull MnemonicUnit unit, @Nonnull ByteBuffer output) {
+        checkNotNull(output);
+        new Record(unit).write(output);
+    }
+
+    /**
+     * Encode a unit into a new array.
+     *
+     * @param unit
+     *         instance to encode.
+     *
+     * @return encoded record.
+     *
+     * @throws java.lang.UnsupportedOperationException
+     *         if the unit's algorithm or representation cannot be encoded.
+     */
+    @Nonnull
+    public static byte[] encode(@Nonnull MnemonicUnit unit) {
+        Record record = new Record(unit);
+        ByteBuffer output = ByteBuffer.allocate(record.getLength());
+        record.write(output);
+        return output.array();
+    }
+
+    /**
+     * Decode a unit from the buffer at its current position.
+     *
+     * @param input
+     *         buffer to read from, advanced past the record.
+     *
+     * @return decoded unit.
+     *
+     * @throws java.lang.IllegalArgumentException
+     *         if the record is malformed or does not form a valid mnemonic.
+     * @throws java.lang.UnsupportedOperationException
+     *         if the record's algorithm is not supported.
+     */
+    @Nonnull
+    public static MnemonicUnit decode(@Nonnull ByteBuffer input) {
+        checkNotNull(input);
+        try {
+            int version = input.get() & 0xFF;
+            checkArgument(version == FORMAT_VERSION, "Unsupported format version: %s", version);
+            int algorithmCode = input.get() & 0xFF;
+            checkArgument(algorithmCode > 0 && algorithmCode <= ALGORITHM_CODES.size(), "Unknown algorithm code: %s", algorithmCode);
+            MnemonicAlgorithm algorithm = ALGORITHM_CODES.get(algorithmCode - 1);
+            byte[] nameBytes = new byte[input.get() & 0xFF];
+            input.get(nameBytes);
+            String wordListIdentifier = new String(nameBytes, Charsets.US_ASCII);
+            int versionPrefixCode = input.get() & 0xFF;
+            checkArgument(versionPrefixCode <= VersionPrefix.values().length, "Unknown version prefix code: %s", versionPrefixCode);
+            int wordCount = input.get() & 0xFF;
+
+            MnemonicDecoderSpi decoder = MnemonicServices.getMnemonicDecoder(algorithm);
+            if (null == decoder) {
+                throw new UnsupportedOperationException("Unsupported algorithm " + algorithm);
+            }
+            DictionaryIdentifier dictionaryIdentifier = decoder.getDictionaryIdentifier(wordListIdentifier);
+            if (null == dictionaryIdentifier) {
+                throw new UnsupportedOperationException("Algorithm does not use dictionaries: " + algorithm);
+            }
+            int bitsPerIndex = getBitsPerIndex(DictionarySource.getDictionary(dictionaryIdentifier).getSize());
+            int[] mnemonicIndices = unpackIndices(input, wordCount, bitsPerIndex);
+
+            Map<MnemonicExtensionIdentifier, Object> extensionValues = ImmutableMap.of();
+            if (versionPrefixCode != NO_VERSION_PREFIX) {
+                extensionValues = ImmutableMap.<MnemonicExtensionIdentifier, Object>of(ElectrumV2ExtensionIdentifier.VERSION_PREFIX, VersionPrefix.values()[versionPrefixCode - 1]);
+            }
+            return decoder.decode(MnemonicUnit.BUILDER, dictionaryIdentifier, mnemonicIndices, extensionValues);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Truncated mnemonic record", e);
+        }
+    }
+
+    /**
+     * Decode a unit from an encoded record.
+     *
+     * @param input
+     *         encoded record.
+     *
+     * @return decoded unit.
+     *
+     * @throws java.lang.IllegalArgumentException
+     *         if the record is malformed or does not form a valid mnemonic.
+     * @throws java.lang.UnsupportedOperationException
+     *         if the record's algorithm is not supported.
+     */
+    @Nonnull
+    public static MnemonicUnit decode(@Nonnull byte[] input) {
+        ByteBuffer buffer = ByteBuffer.wrap(input);
+        MnemonicUnit unit = decode(buffer);
+        checkArgument(!buffer.hasRemaining(), "Trailing data after mnemonic record");
+        return unit;
+    }
+
+    /**
+     * Obtain a writer streaming length-prefixed records to a channel, such as a FileChannel.
+     *
+     * @param channel
+     *         destination of the records.
+     *
+     * @return writer using a direct buffer, to be closed to flush the last records.
+     */
+    @Nonnull
+    public static Writer newWriter(@Nonnull WritableByteChannel channel) {
+        return new Writer(checkNotNull(channel));
+    }
+
+    /**
+     * Obtain a reader streaming length-prefixed records from a channel, such as a FileChannel.
+     *
+     * @param channel
+     *         source of the records.
+     *
+     * @return reader using a direct buffer.
+     */
+    @Nonnull
+    public static Reader newReader(@Nonnull ReadableByteChannel channel) {
+        return new Reader(checkNotNull(channel));
+    }
+
+    /**
+     * Compute the number of bits needed to store any index of a dictionary.
+     *
+     * @param dictionarySize
+     *         number of words in the dictionary.
+     *
+     * @return bits per index.
+     */
+    private static int getBitsPerIndex(int dictionarySize) {
+        return Math.max(1, 32 - Integer.numberOfLeadingZeros(dictionarySize - 1));
+    }
+
+    /**
+     * Pack indices most significant bit first, padding the final byte with zeros.
+     *
+     * @param output
+     *         buffer to write into.
+     * @param mnemonicIndices
+     *         indices to pack.
+     * @param bitsPerIndex
+     *         width of each index.
+     */
+    private static void packIndices(@Nonnull ByteBuffer output, @Nonnull int[] mnemonicIndices, int bitsPerIndex) {
+        long accumulator = 0;
+        int accumulatedBits = 0;
+        for (int index : mnemonicIndices) {
+            accumulator = (accumulator << bitsPerIndex) | index;
+            accumulatedBits += bitsPerIndex;
+            while (accumulatedBits >= 8) {
+                accumulatedBits -= 8;
+                output.put((byte) (accumulator >>> accumulatedBits));
+            }
+        }
+        if (accumulatedBits > 0) {
+            output.put((byte) (accumulator << (8 - accumulatedBits)));
+        }
+    }
+
+    /**
+     * Unpack indices written by #packIndices.
+     *
+     * @param input
+     *         buffer to read from.
+     * @param wordCount
+     *         number of indices to read.
+     * @param bitsPerIndex
+     *         width of each index.
+     *
+     * @return unpacked indices.
+     */
+    @Nonnull
+    private static int[] unpackIndices(@Nonnull ByteBuffer input, int wordCount, int bitsPerIndex) {
+        int[] mnemonicIndices = new int[wordCount];
+        int mask = (1 << bitsPerIndex) - 1;
+        long accumulator = 0;
+        int accumulatedBits = 0;
+        for (int i = 0; i < wordCount; i++) {
+            while (accumulatedBits < bitsPerIndex) {
+                accumulator = (accumulator << 8) | (input.get() & 0xFF);
+                accumulatedBits += 8;
+            }
+            accumulatedBits -= bitsPerIndex;
+            mnemonicIndices[i] = (int) (accumulator >>> accumulatedBits) & mask;
+        }
+        return mnemonicIndices;
+    }
+
+    /**
+     * Unit broken down into the encoded fields.
+     */
+    private static final class Record {
+        private final int algorithmCode;
+        private final byte[] nameBytes;
+        private final int versionPrefixCode;
+        private final int[] mnemonicIndices;
+        private final int bitsPerIndex;
+
+        /**
+         * Extract the fields to encode from a unit.
+         *
+         * @param unit
+         *         instance to encode.
+         */
+        private Record(@Nonnull MnemonicUnit unit) {
+            checkNotNull(unit);
+            int algorithmIndex = ALGORITHM_CODES.indexOf(unit.getAlgorithm());
+            if (algorithmIndex < 0) {
+                throw new UnsupportedOperationException("No binary encoding for algorithm " + unit.getAlgorithm());
+            }
+            algorithmCode = algorithmIndex + 1;
+            DictionaryIdentifier dictionaryIdentifier = unit.getDictionaryIdentifier();
+            int[] indices = unit.getIndices();
+            if (null == dictionaryIdentifier || null == indices) {
+                throw new UnsupportedOperationException("Mnemonic is not dictionary based");
+            }
+            mnemonicIndices = indices;
+            nameBytes = dictionaryIdentifier.getName().getBytes(Charsets.US_ASCII);
+            checkArgument(nameBytes.length <= MAX_SHORT_FIELD, "Dictionary name too long");
+            checkArgument(mnemonicIndices.length <= MAX_SHORT_FIELD, "Too many words");
+            if (unit.getSupportedExtensions().contains(ElectrumV2ExtensionIdentifier.VERSION_PREFIX)) {
+                VersionPrefix versionPrefix = (VersionPrefix) unit.getExtensionValue(ElectrumV2ExtensionIdentifier.VERSION_PREFIX);
+                versionPrefixCode = null == versionPrefix ? NO_VERSION_PREFIX : versionPrefix.ordinal() + 1;
+            } else {
+                versionPrefixCode = NO_VERSION_PREFIX;
+            }
+            bitsPerIndex = getBitsPerIndex(DictionarySource.getDictionary(dictionaryIdentifier).getSize());
+        }
+
+        /**
+         * Compute the encoded length.
+         *
+         * @return length in bytes.
+         */
+        private int getLength() {
+            return 5 + nameBytes.length + (mnemonicIndices.length * bitsPerIndex + 7) / 8;
+        }
+
+        /**
+         * Write the record into the buffer.
+         *
+         * @param output
+         *         buffer to write into.
+         */
+        private void write(@Nonnull ByteBuffer output) {
+            if (output.remaining() < getLength()) {
+                throw new BufferOverflowException();
+            }
+            output.put((byte) FORMAT_VERSION);
+            output.put((byte) algorithmCode);
+            output.put((byte) nameBytes.length);
+            output.put(nameBytes);
+            output.put((byte) versionPrefixCode);
+            output.put((byte) mnemonicIndices.length);
+            packIndices(output, mnemonicIndices, bitsPerIndex);
+        }
+    }
+
+    /**
+     * Streams length-prefixed records to a channel through a direct buffer.
+     */
+    @NotThreadSafe
+    public static final class Writer implements Closeable {
+        private final WritableByteChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        private boolean closed;
+
+        /**
+         * Construct the writer.
+         *
+         * @param channel
+         *         destination of the records.
+         */
+        private Writer(@Nonnull WritableByteChannel channel) {
+            this.channel = channel;
+        }
+
+        /**
+         * Append a unit to the stream.
+         *
+         * @param unit
+         *         instance to write.
+         *
+         * @throws IOException
+         *         on channel failure.
+         * @throws java.lang.UnsupportedOperationException
+         *         if the unit's algorithm or representation cannot be encoded.
+         */
+        public void write(@Nonnull MnemonicUnit unit) throws IOException {
+            checkState(!closed, "Writer is closed");
+            Record record = new Record(unit);
+            int length = record.getLength();
+            if (buffer.remaining() < 2 + length) {
+                flush();
+            }
+            buffer.putShort((short) length);
+            record.write(buffer);
+        }
+
+        /**
+         * Append several units to the stream.
+         *
+         * @param units
+         *         instances to write.
+         *
+         * @return number of units written.
+         *
+         * @throws IOException
+         *         on channel failure.
+         */
+        public int writeAll(@Nonnull Iterable<MnemonicUnit> units) throws IOException {
+            int count = 0;
+            for (MnemonicUnit unit : units) {
+                write(unit);
+                count++;
+            }
+            return count;
+        }
+
+        /**
+         * Write out any buffered records.
+         *
+         * @throws IOException
+         *         on channel failure.
+         */
+        public void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        /**
+         * Flush the buffered records, the channel is left open for the caller to close.
+         *
+         * @throws IOException
+         *         on channel failure.
+         */
+        @Override
+        public void close() throws IOException {
+            if (!closed) {
+                flush();
+                closed = true;
+            }
+        }
+    }
+
+    /**
+     * Streams length-prefixed records from a channel through a direct buffer.
+     */
+    @NotThreadSafe
+    public static final class Reader implements Closeable {
+        private final ReadableByteChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        private boolean endOfStream;
+
+        /**
+         * Construct the reader.
+         *
+         * @param channel
+         *         source of the records.
+         */
+        private Reader(@Nonnull ReadableByteChannel channel) {
+            this.channel = channel;
+            /* Start out empty and in read mode */
+            buffer.flip();
+        }
+
+        /**
+         * Read the next unit from the stream.
+         *
+         * @return decoded unit or null at the end of the stream.
+         *
+         * @throws IOException
+         *         on channel failure or if the stream ends inside a record.
+         * @throws java.lang.IllegalArgumentException
+         *         if a record is malformed or does not form a valid mnemonic.
+         */
+        @CheckForNull
+        public MnemonicUnit read() throws IOException {
+            if (!fill(2)) {
+                return null;
+            }
+            int length = buffer.getShort() & MAX_RECORD_LENGTH;
+            if (!fill(length)) {
+                throw new EOFException("Stream ended inside a mnemonic record");
+            }
+            ByteBuffer record = buffer.slice();
+            record.limit(length);
+            buffer.position(buffer.position() + length);
+            MnemonicUnit unit = decode(record);
+            checkArgument(!record.hasRemaining(), "Trailing data after mnemonic record");
+            return unit;
+        }
+
+        /**
+         * Read units from the stream into a list.
+         *
+         * @param output
+         *         list to append decoded units to.
+         * @param maximumCount
+         *         maximum number of units to read.
+         *
+         * @return number of units read, less than maximumCount only at the end of the stream.
+         *
+         * @throws IOException
+         *         on channel failure or if the stream ends inside a record.
+         */
+        public int read(@Nonnull List<? super MnemonicUnit> output, int maximumCount) throws IOException {
+            checkArgument(maximumCount >= 0, "maximumCount must not be negative");
+            int count = 0;
+            while (count < maximumCount) {
+                MnemonicUnit unit = read();
+                if (null == unit) {
+                    break;
+                }
+                output.add(unit);
+                count++;
+            }
+            return count;
+        }
+
+        /**
+         * Ensure the buffer holds at least the given number of bytes.
+         *
+         * @param required
+         *         number of bytes needed.
+         *
+         * @return true if available, false if the stream ended cleanly before any of them.
+         *
+         * @throws IOException
+         *         on channel failure or if the stream ends after a partial read.
+         */
+        private boolean fill(int required) throws IOException {
+            if (buffer.remaining() >= required) {
+                return true;
+            }
+            buffer.compact();
+            while (buffer.position() < required && !endOfStream) {
+                if (channel.read(buffer) < 0) {
+                    endOfStream = true;
+                }
+            }
+            buffer.flip();
+            if (buffer.remaining() >= required) {
+                return true;
+            }
+            if (buffer.hasRemaining()) {
+                throw new EOFException("Stream ended inside a mnemonic record");
+            }
+            return false;
+        }
+
+        /**
+         * Release the reader, the channel is left open for the caller to close.
+         */
+        @Override
+        public void close() {
+            buffer.clear().flip();
+        }
+    }
+}
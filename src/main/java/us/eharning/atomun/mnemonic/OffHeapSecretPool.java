@@ -0,0 +1,150 @@
+/*
+ * Copyright 2026 Thomas Harning Jr. <harningt@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package us.eharning.atomun.mnemonic;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.annotations.Beta;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Pool of direct memory holding secret material for off-heap mnemonic units.
+ * <p>
+ * Memory is allocated in slabs carved into fixed-size blocks. Blocks are wiped as they return to the pool,
+ * and slabs are kept for reuse rather than handed back to the allocator.
+ * </p>
+ *
+ * @see MnemonicUnit#toOffHeap(OffHeapSecretPool)
+ * @since 0.8.0
+ */
+@Beta
+@ThreadSafe
+public final class OffHeapSecretPool {
+    /**
+     * Size of each block, large enough for any bundled algorithm's entropy or seed.
+     */
+    public static final int BLOCK_SIZE = 64;
+    private static final int DEFAULT_SLAB_SIZE = 64 * 1024;
+    private static final OffHeapSecretPool DEFAULT = new OffHeapSecretPool(DEFAULT_SLAB_SIZE);
+
+    private final int slabSize;
+    @GuardedBy("this")
+    private final ArrayDeque<ByteBuffer> freeBlocks = new ArrayDeque<ByteBuffer>();
+    @GuardedBy("this")
+    private int slabCount;
+    @GuardedBy("this")
+    private int leasedBlockCount;
+
+    /**
+     * Construct a pool.
+     *
+     * @param slabSize
+     *         number of bytes in each slab.
+     */
+    private OffHeapSecretPool(int slabSize) {
+        this.slabSize = slabSize;
+    }
+
+    /**
+     * Obtain the shared library-managed pool.
+     *
+     * @return shared pool instance.
+     */
+    @Nonnull
+    public static OffHeapSecretPool getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Create a separate pool, such as to size slabs for a known number of units.
+     *
+     * @param slabSize
+     *         number of bytes in each slab, a positive multiple of BLOCK_SIZE.
+     *
+     * @return new pool instance.
+     */
+    @Nonnull
+    public static OffHeapSecretPool create(int slabSize) {
+        checkArgument(slabSize > 0 && slabSize % BLOCK_SIZE == 0, "slabSize must be a positive multiple of %s", BLOCK_SIZE);
+        return new OffHeapSecretPool(slabSize);
+    }
+
+    /**
+     * Get the number of slabs allocated so far.
+     *
+     * @return slab count.
+     */
+    public synchronized int getSlabCount() {
+        return slabCount;
+    }
+
+    /**
+     * Get the number of blocks currently held by units.
+     *
+     * @return leased block count.
+     */
+    public synchronized int getLeasedBlockCount() {
+        return leasedBlockCount;
+    }
+
+    /**
+     * Take a zeroed block from the pool, allocating a new slab if none are free.
+     *
+     * @return block of BLOCK_SIZE bytes with position 0 and limit BLOCK_SIZE.
+     */
+    @Nonnull
+    synchronized ByteBuffer acquire() {
+        if (freeBlocks.isEmpty()) {
+            ByteBuffer slab = ByteBuffer.allocateDirect(slabSize);
+            for (int offset = 0; offset < slabSize; offset += BLOCK_SIZE) {
+                slab.limit(offset + BLOCK_SIZE).position(offset);
+                freeBlocks.add(slab.slice());
+            }
+            slabCount++;
+        }
+        leasedBlockCount++;
+        return freeBlocks.pop();
+    }
+
+    /**
+     * Wipe a block and return it to the pool.
+     *
+     * @param block
+     *         block previously taken from this pool.
+     */
+    void release(@Nonnull ByteBuffer block) {
+        checkNotNull(block);
+        block.clear();
+        while (block.remaining() >= 8) {
+            block.putLong(0L);
+        }
+        while (block.hasRemaining()) {
+            block.put((byte) 0);
+        }
+        block.clear();
+        synchronized (this) {
+            leasedBlockCount--;
+            freeBlocks.push(block);
+        }
+    }
+}
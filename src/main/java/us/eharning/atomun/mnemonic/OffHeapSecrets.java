@@ -0,0 +1,290 @@
+/*
+ * Copyright 2026 Thomas Harning Jr. <harningt@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package us.eharning.atomun.mnemonic;
+
+import static com.google.common.base.Preconditions.checkPositionIndexes;
+import static com.google.common.base.Preconditions.checkState;
+
+import com.google.common.base.FinalizablePhantomReference;
+import com.google.common.base.FinalizableReferenceQueue;
+import com.google.common.collect.Sets;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Set;
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Entropy and seed of a mnemonic unit held in blocks of an off-heap pool.
+ * <p>
+ * The seed is the one derived without a password. The mnemonic itself is not covered.
+ * </p>
+ * <p>
+ * The blocks are returned to the pool by #close or, failing that, once this instance is phantom reachable.
+ * </p>
+ */
+@ThreadSafe
+final class OffHeapSecrets {
+    private static final FinalizableReferenceQueue REFERENCE_QUEUE = new FinalizableReferenceQueue();
+    /**
+     * Phantom references must stay strongly reachable until enqueued.
+     */
+    private static final Set<Cleanup> PENDING_CLEANUPS = Sets.newConcurrentHashSet();
+
+    private final Blocks blocks;
+    private final Cleanup cleanup;
+
+    /**
+     * Construct the secrets over blocks already filled in.
+     *
+     * @param blocks
+     *         leased blocks and their content lengths.
+     */
+    private OffHeapSecrets(@Nonnull Blocks blocks) {
+        this.blocks = blocks;
+        this.cleanup = new Cleanup(this, blocks);
+        PENDING_CLEANUPS.add(cleanup);
+    }
+
+    /**
+     * Copy the entropy and seed of a unit into blocks taken from the pool.
+     *
+     * @param pool
+     *         pool to lease blocks from.
+     * @param unit
+     *         unit to take the secrets from.
+     *
+     * @return secrets holding the unit's entropy and seed.
+     *
+     * @throws java.lang.UnsupportedOperationException
+     *         if the entropy or seed do not fit in a block.
+     */
+    @Nonnull
+    static OffHeapSecrets copyOf(@Nonnull OffHeapSecretPool pool, @Nonnull MnemonicUnit unit) {
+        Blocks blocks = new Blocks(pool);
+        boolean success = false;
+        try {
+            blocks.fill(unit);
+            success = true;
+        } finally {
+            if (!success) {
+                blocks.release();
+            }
+        }
+        return new OffHeapSecrets(blocks);
+    }
+
+    /**
+     * Get a copy of the entropy.
+     *
+     * @return a copy of the entropy byte array or null if inaccessible.
+     *
+     * @throws java.lang.IllegalStateException
+     *         if the secrets have been released.
+     */
+    @CheckForNull
+    byte[] getEntropy() {
+        synchronized (blocks) {
+            checkState(!blocks.released, "Mnemonic unit storage is closed");
+            if (blocks.entropyLength < 0) {
+                return null;
+            }
+            byte[] result = new byte[blocks.entropyLength];
+            blocks.view(blocks.entropyBlock, blocks.entropyLength).get(result);
+            return result;
+        }
+    }
+
+    /**
+     * Write the entropy into the output buffer.
+     *
+     * @param output
+     *         buffer to write into.
+     *
+     * @return number of bytes written or -1 if inaccessible.
+     */
+    int getEntropy(@Nonnull ByteBuffer output) {
+        synchronized (blocks) {
+            checkState(!blocks.released, "Mnemonic unit storage is closed");
+            if (blocks.entropyLength < 0) {
+                return -1;
+            }
+            output.put(blocks.view(blocks.entropyBlock, blocks.entropyLength));
+            return blocks.entropyLength;
+        }
+    }
+
+    /**
+     * Get a copy of the seed.
+     *
+     * @return a copy of the seed byte array.
+     */
+    @Nonnull
+    byte[] getSeed() {
+        synchronized (blocks) {
+            checkState(!blocks.released, "Mnemonic unit storage is closed");
+            byte[] result = new byte[blocks.seedLength];
+            blocks.view(blocks.seedBlock, blocks.seedLength).get(result);
+            return result;
+        }
+    }
+
+    /**
+     * Write the seed into the output array.
+     *
+     * @param output
+     *         array to write into.
+     * @param offset
+     *         index into output to begin writing.
+     *
+     * @return number of bytes written.
+     */
+    int getSeed(@Nonnull byte[] output, int offset) {
+        synchronized (blocks) {
+            checkState(!blocks.released, "Mnemonic unit storage is closed");
+            checkPositionIndexes(offset, offset + blocks.seedLength, output.length);
+            blocks.view(blocks.seedBlock, blocks.seedLength).get(output, offset, blocks.seedLength);
+            return blocks.seedLength;
+        }
+    }
+
+    /**
+     * Wipe the secrets and return the blocks to the pool.
+     */
+    void close() {
+        blocks.release();
+        PENDING_CLEANUPS.remove(cleanup);
+        cleanup.clear();
+    }
+
+    /**
+     * Leased blocks, kept apart from OffHeapSecrets so that cleanup does not keep it reachable.
+     */
+    private static final class Blocks {
+        private final OffHeapSecretPool pool;
+        @GuardedBy("this")
+        private ByteBuffer entropyBlock;
+        @GuardedBy("this")
+        private ByteBuffer seedBlock;
+        @GuardedBy("this")
+        private int entropyLength = -1;
+        @GuardedBy("this")
+        private int seedLength;
+        @GuardedBy("this")
+        private boolean released;
+
+        /**
+         * Construct an empty set of blocks.
+         *
+         * @param pool
+         *         pool to lease blocks from.
+         */
+        private Blocks(@Nonnull OffHeapSecretPool pool) {
+            this.pool = pool;
+        }
+
+        /**
+         * Lease the blocks and write the unit's secrets into them.
+         *
+         * @param unit
+         *         unit to take the secrets from.
+         */
+        private synchronized void fill(@Nonnull MnemonicUnit unit) {
+            entropyBlock = pool.acquire();
+            try {
+                entropyLength = unit.getEntropy(entropyBlock);
+            } catch (BufferOverflowException e) {
+                throw new UnsupportedOperationException("Entropy too large for off-heap storage", e);
+            }
+            seedBlock = pool.acquire();
+            byte[] seed = new byte[OffHeapSecretPool.BLOCK_SIZE];
+            try {
+                seedLength = unit.getSeed(seed, 0);
+                seedBlock.put(seed, 0, seedLength);
+            } catch (IndexOutOfBoundsException e) {
+                throw new UnsupportedOperationException("Seed too large for off-heap storage", e);
+            } finally {
+                Arrays.fill(seed, (byte) 0);
+            }
+        }
+
+        /**
+         * Obtain a read-only view of the content of a block.
+         *
+         * @param block
+         *         block to view.
+         * @param length
+         *         number of content bytes.
+         *
+         * @return view positioned at the start of the content.
+         */
+        @GuardedBy("this")
+        private ByteBuffer view(@Nonnull ByteBuffer block, int length) {
+            ByteBuffer view = block.asReadOnlyBuffer();
+            view.clear().limit(length);
+            return view;
+        }
+
+        /**
+         * Return any leased blocks to the pool, wiping them, if not already done.
+         */
+        private synchronized void release() {
+            if (released) {
+                return;
+            }
+            released = true;
+            if (null != entropyBlock) {
+                pool.release(entropyBlock);
+                entropyBlock = null;
+            }
+            if (null != seedBlock) {
+                pool.release(seedBlock);
+                seedBlock = null;
+            }
+        }
+    }
+
+    /**
+     * Fallback release once the owning secrets are no longer reachable.
+     */
+    private static final class Cleanup extends FinalizablePhantomReference<OffHeapSecrets> {
+        private final Blocks blocks;
+
+        /**
+         * Construct the cleanup for the given secrets.
+         *
+         * @param referent
+         *         secrets whose reachability is tracked.
+         * @param blocks
+         *         blocks to release.
+         */
+        private Cleanup(@Nonnull OffHeapSecrets referent, @Nonnull Blocks blocks) {
+            super(referent, REFERENCE_QUEUE);
+            this.blocks = blocks;
+        }
+
+        @Override
+        public void finalizeReferent() {
+            PENDING_CLEANUPS.remove(this);
+            blocks.release();
+        }
+    }
+}
@@ -0,0 +1,500 @@
+/*
+ * Copyright 2026 Thomas Harning Jr. <harningt@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package us.eharning.atomun.mnemonic;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.annotations.Beta;
+import com.google.common.base.Charsets;
+import com.google.common.base.Predicate;
+import com.google.common.base.Throwables;
+import com.google.common.collect.AbstractIterator;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import us.eharning.atomun.mnemonic.spi.SeedDerivation;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Search for a forgotten password among candidates by matching the seeds they derive with a mnemonic.
+ * <p>
+ * The mnemonic is the fixed key of the seed derivation, so its key pad state is prepared once per search.
+ * Candidates are fed through a bounded queue to a fixed set of worker threads, the feeder blocking while
+ * the queue is full, and the first matching candidate stops the search. Progress may be polled from other
+ * threads while a search runs.
+ * </p>
+ * <p>
+ * Seeds are derived with the algorithm's key derivation for every candidate, including the empty password.
+ * Searches created by #newMasterKeySearch match the BIP0032 master keys of the seeds instead.
+ * </p>
+ *
+ * @since 0.8.0
+ */
+@Beta
+@ThreadSafe
+public final class PassphraseSearch {
+    /**
+     * Marker telling a worker that no more candidates follow.
+     */
+    private static final CharSequence END_OF_CANDIDATES = new StringBuilder(0);
+    private static final long FEED_POLL_MILLIS = 10;
+    private static final int MAX_REGION_SIZE = 1 << 30;
+
+    private final MnemonicUnit mnemonicUnit;
+    private final Predicate<byte[]> matcher;
+    private final boolean matchMasterKey;
+    private final int threadCount;
+    private final int queueCapacity;
+    private final AtomicLong candidateCount = new AtomicLong();
+    private volatile long startNanos;
+    private volatile long endNanos;
+
+    /**
+     * Construct the search.
+     *
+     * @param mnemonicUnit
+     *         unit whose password is sought.
+     * @param matcher
+     *         target test applied to each derived seed or master key.
+     * @param matchMasterKey
+     *         whether the BIP0032 master key is matched rather than the seed.
+     * @param threadCount
+     *         number of worker threads.
+     * @param queueCapacity
+     *         maximum number of candidates waiting for a worker.
+     */
+    private PassphraseSearch(@Nonnull MnemonicUnit mnemonicUnit, @Nonnull Predicate<byte[]> matcher, boolean matchMasterKey, int threadCount, int queueCapacity) {
+        this.mnemonicUnit = mnemonicUnit;
+        this.matcher = matcher;
+        this.matchMasterKey = matchMasterKey;
+        this.threadCount = threadCount;
+        this.queueCapacity = queueCapacity;
+    }
+
+    /**
+     * Construct a search using a worker per available processor.
+     *
+     * @param mnemonicUnit
+     *         unit whose password is sought.
+     * @param seedMatcher
+     *         target test applied to each derived seed, such as from MnemonicRecovery#seedPrefix.
+     *
+     * @return search instance.
+     *
+     * @throws java.lang.UnsupportedOperationException
+     *         if the algorithm does not support keyed seed derivation.
+     */
+    @Nonnull
+    public static PassphraseSearch newSearch(@Nonnull MnemonicUnit mnemonicUnit, @Nonnull Predicate<byte[]> seedMatcher) {
+        int threadCount = Runtime.getRuntime().availableProcessors();
+        return newSearch(mnemonicUnit, seedMatcher, threadCount, threadCount * 16);
+    }
+
+    /**
+     * Construct a search.
+     *
+     * @param mnemonicUnit
+     *         unit whose password is sought.
+     * @param seedMatcher
+     *         target test applied to each derived seed, such as from MnemonicRecovery#seedPrefix.
+     * @param threadCount
+     *         number of worker threads.
+     * @param queueCapacity
+     *         maximum number of candidates waiting for a worker.
+     *
+     * @return search instance.
+     *
+     * @throws java.lang.UnsupportedOperationException
+     *         if the algorithm does not support keyed seed derivation.
+     */
+    @Nonnull
+    public static PassphraseSearch newSearch(@Nonnull MnemonicUnit mnemonicUnit, @Nonnull Predicate<byte[]> seedMatcher, int threadCount, int queueCapacity) {
+        checkNotNull(mnemonicUnit);
+        checkNotNull(seedMatcher);
+        checkArgument(threadCount > 0, "threadCount must be a positive value");
+        checkArgument(queueCapacity > 0, "queueCapacity must be a positive value");
+        /* Surface unsupported algorithms up front */
+        mnemonicUnit.getSeedSalt(null);
+        return new PassphraseSearch(mnemonicUnit, seedMatcher, false, threadCount, queueCapacity);
+    }
+
+    /**
+     * Construct a search matching BIP0032 master keys using a worker per available processor.
+     *
+     * @param mnemonicUnit
+     *         unit whose password is sought.
+     * @param masterKeyMatcher
+     *         target test applied to each derived master key, such as a known chain code.
+     *
+     * @return search instance.
+     *
+     * @throws java.lang.UnsupportedOperationException
+     *         if the algorithm does not support keyed seed derivation.
+     */
+    @Nonnull
+    public static PassphraseSearch newMasterKeySearch(@Nonnull MnemonicUnit mnemonicUnit, @Nonnull Predicate<byte[]> masterKeyMatcher) {
+        int threadCount = Runtime.getRuntime().availableProcessors();
+        return newMasterKeySearch(mnemonicUnit, masterKeyMatcher, threadCount, threadCount * 16);
+    }
+
+    /**
+     * Construct a search matching BIP0032 master keys.
+     * Each master key is derived in the buffer the seed is derived in, as with MnemonicUnit#getMasterKey.
+     *
+     * @param mnemonicUnit
+     *         unit whose password is sought.
+     * @param masterKeyMatcher
+     *         target test applied to each derived master key, such as a known chain code.
+     * @param threadCount
+     *         number of worker threads.
+     * @param queueCapacity
+     *         maximum number of candidates waiting for a worker.
+     *
+     * @return search instance.
+     *
+     * @throws java.lang.UnsupportedOperationException
+     *         if the algorithm does not support keyed seed derivation.
+     */
+    @Nonnull
+    public static PassphraseSearch newMasterKeySearch(@Nonnull MnemonicUnit mnemonicUnit, @Nonnull Predicate<byte[]> masterKeyMatcher, int threadCount, int queueCapacity) {
+        checkNotNull(mnemonicUnit);
+        checkNotNull(masterKeyMatcher);
+        checkArgument(threadCount > 0, "threadCount must be a positive value");
+        checkArgument(queueCapacity > 0, "queueCapacity must be a positive value");
+        /* Surface unsupported algorithms up front */
+        mnemonicUnit.getSeedSalt(null);
+        return new PassphraseSearch(mnemonicUnit, masterKeyMatcher, true, threadCount, queueCapacity);
+    }
+
+    /**
+     * Search the candidates of a word list file, one UTF-8 candidate per line.
+     * The file is memory-mapped rather than read through a buffer.
+     *
+     * @param wordList
+     *         path of the word list file.
+     *
+     * @return matching candidate or null if none match.
+     *
+     * @throws IOException
+     *         if the file cannot be read.
+     * @throws InterruptedException
+     *         if interrupted while waiting for the workers.
+     */
+    @CheckForNull
+    public String search(@Nonnull Path wordList) throws IOException, InterruptedException {
+        checkNotNull(wordList);
+        try (FileChannel channel = FileChannel.open(wordList, StandardOpenOption.READ)) {
+            return search(new MappedLineIterator(channel));
+        }
+    }
+
+    /**
+     * Search the given candidates, such as generated from a rule mask.
+     * Only one search runs at a time per instance.
+     *
+     * @param candidates
+     *         passwords to try.
+     *
+     * @return matching candidate or null if none match.
+     *
+     * @throws InterruptedException
+     *         if interrupted while waiting for the workers.
+     */
+    @CheckForNull
+    public synchronized String search(@Nonnull Iterator<? extends CharSequence> candidates) throws InterruptedException {
+        checkNotNull(candidates);
+        BlockingQueue<CharSequence> queue = new ArrayBlockingQueue<>(queueCapacity);
+        AtomicReference<String> found = new AtomicReference<>();
+        AtomicBoolean stopped = new AtomicBoolean();
+        SeedDerivation.Keyed seedDerivation = mnemonicUnit.getKeyedSeedDerivation();
+        ExecutorService workers = Executors.newFixedThreadPool(threadCount, new ThreadFactoryBuilder().setDaemon(true).setNameFormat("passphrase-search-%d").build());
+        candidateCount.set(0);
+        endNanos = 0;
+        startNanos = System.nanoTime();
+        try {
+            List<Future<Void>> futures = new ArrayList<>(threadCount);
+            for (int i = 0; i < threadCount; i++) {
+                futures.add(workers.submit(new Worker(seedDerivation, queue, found, stopped)));
+            }
+            while (candidates.hasNext() && feed(queue, candidates.next(), stopped)) {
+                /* Fed */
+            }
+            for (int i = 0; i < threadCount && feed(queue, END_OF_CANDIDATES, stopped); i++) {
+                /* Fed */
+            }
+            if (stopped.get()) {
+                /* Release workers still waiting for candidates */
+                workers.shutdownNow();
+            }
+            for (Future<Void> future : futures) {
+                try {
+                    future.get();
+                } catch (CancellationException ignored) {
+                    /* Not started before the search stopped */
+                } catch (ExecutionException e) {
+                    if (!(e.getCause() instanceof InterruptedException)) {
+                        throw Throwables.propagate(e.getCause());
+                    }
+                }
+            }
+            return found.get();
+        } finally {
+            workers.shutdownNow();
+            seedDerivation.wipe();
+            endNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * Hand a candidate to the workers, waiting while the queue is full.
+     *
+     * @param queue
+     *         queue to the workers.
+     * @param candidate
+     *         candidate to add.
+     * @param stopped
+     *         flag set once the workers stop taking candidates.
+     *
+     * @return true if added, false if the search stopped.
+     *
+     * @throws InterruptedException
+     *         if interrupted while waiting.
+     */
+    private static boolean feed(@Nonnull BlockingQueue<CharSequence> queue, @Nonnull CharSequence candidate, @Nonnull AtomicBoolean stopped) throws InterruptedException {
+        while (!stopped.get()) {
+            if (queue.offer(candidate, FEED_POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Obtain the number of candidates tried by the current or last search.
+     *
+     * @return number of candidates whose seed was derived.
+     */
+    public long getCandidateCount() {
+        return candidateCount.get();
+    }
+
+    /**
+     * Obtain the throughput of the current or last search.
+     *
+     * @return candidates tried per second, or zero if no search ran.
+     */
+    public double getCandidatesPerSecond() {
+        long start = startNanos;
+        if (0 == start) {
+            return 0;
+        }
+        long end = endNanos;
+        long elapsed = (0 == end ? System.nanoTime() : end) - start;
+        return elapsed <= 0 ? 0 : candidateCount.get() * 1e9 / elapsed;
+    }
+
+    /**
+     * Worker deriving and matching the seeds or master keys of queued candidates.
+     */
+    private final class Worker implements Callable<Void> {
+        private final SeedDerivation.Keyed seedDerivation;
+        private final BlockingQueue<CharSequence> queue;
+        private final AtomicReference<String> found;
+        private final AtomicBoolean stopped;
+
+        /**
+         * Construct the worker.
+         *
+         * @param seedDerivation
+         *         derivation keyed by the mnemonic.
+         * @param queue
+         *         queue of candidates.
+         * @param found
+         *         holder for the matching candidate.
+         * @param stopped
+         *         flag to set when stopping the search.
+         */
+        private Worker(@Nonnull SeedDerivation.Keyed seedDerivation, @Nonnull BlockingQueue<CharSequence> queue, @Nonnull AtomicReference<String> found, @Nonnull AtomicBoolean stopped) {
+            this.seedDerivation = seedDerivation;
+            this.queue = queue;
+            this.found = found;
+            this.stopped = stopped;
+        }
+
+        @Override
+        public Void call() throws InterruptedException {
+            /* Seeds and master keys share a length, the master key replacing the seed in place */
+            byte[] seed = new byte[SeedDerivation.SEED_LENGTH];
+            boolean completed = false;
+            try {
+                while (!stopped.get()) {
+                    CharSequence candidate = queue.take();
+                    if (END_OF_CANDIDATES == candidate) {
+                        break;
+                    }
+                    byte[] salt = mnemonicUnit.getSeedSalt(candidate);
+                    try {
+                        if (matchMasterKey) {
+                            seedDerivation.deriveMasterKey(salt, 0, salt.length, seed, 0);
+                        } else {
+                            seedDerivation.deriveSeed(salt, 0, salt.length, seed, 0);
+                        }
+                    } finally {
+                        Arrays.fill(salt, (byte) 0);
+                    }
+                    candidateCount.incrementAndGet();
+                    if (matcher.apply(seed)) {
+                        found.compareAndSet(null, candidate.toString());
+                        stopped.set(true);
+                    }
+                }
+                completed = true;
+                return null;
+            } finally {
+                if (!completed) {
+                    /* Do not leave the feeder waiting on a failed worker */
+                    stopped.set(true);
+                }
+                Arrays.fill(seed, (byte) 0);
+            }
+        }
+    }
+
+    /**
+     * Iterator over the lines of a memory-mapped file, mapping regions of at most MAX_REGION_SIZE bytes.
+     */
+    private static final class MappedLineIterator extends AbstractIterator<String> {
+        private final FileChannel channel;
+        private final long size;
+        private long regionStart;
+        private MappedByteBuffer region;
+        private byte[] line = new byte[256];
+
+        /**
+         * Construct the iterator.
+         *
+         * @param channel
+         *         open channel of the file.
+         *
+         * @throws IOException
+         *         if the file size cannot be read.
+         */
+        private MappedLineIterator(@Nonnull FileChannel channel) throws IOException {
+            this.channel = channel;
+            this.size = channel.size();
+        }
+
+        @Override
+        protected String computeNext() {
+            try {
+                if (null == region) {
+                    map(0);
+                }
+                while (true) {
+                    if (!region.hasRemaining()) {
+                        if (regionStart + region.limit() >= size) {
+                            return endOfData();
+                        }
+                        map(regionStart + region.limit());
+                    }
+                    int start = region.position();
+                    int limit = region.limit();
+                    int end = start;
+                    while (end < limit && region.get(end) != '\n') {
+                        end++;
+                    }
+                    if (end == limit && regionStart + limit < size) {
+                        /* Line continues past the region, remap beginning with it */
+                        checkArgument(start > 0, "Candidate line too long");
+                        map(regionStart + start);
+                        continue;
+                    }
+                    region.position(end == limit ? limit : end + 1);
+                    int length = end - start;
+                    if (length > 0 && region.get(end - 1) == '\r') {
+                        length--;
+                    }
+                    return decode(start, length);
+                }
+            } catch (IOException e) {
+                throw Throwables.propagate(e);
+            }
+        }
+
+        /**
+         * Map the region beginning at the given file position.
+         *
+         * @param position
+         *         file position of the region.
+         *
+         * @throws IOException
+         *         if the file cannot be mapped.
+         */
+        private void map(long position) throws IOException {
+            regionStart = position;
+            region = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(MAX_REGION_SIZE, size - position));
+        }
+
+        /**
+         * Decode a line of the current region as UTF-8.
+         *
+         * @param start
+         *         region index of the line.
+         * @param length
+         *         number of bytes in the line.
+         *
+         * @return decoded line.
+         */
+        @Nonnull
+        private String decode(int start, int length) {
+            if (line.length < length) {
+                line = new byte[Math.max(length, line.length * 2)];
+            }
+            for (int i = 0; i < length; i++) {
+                line[i] = region.get(start + i);
+            }
+            try {
+                return new String(line, 0, length, Charsets.UTF_8);
+            } finally {
+                Arrays.fill(line, 0, length, (byte) 0);
+            }
+        }
+    }
+}
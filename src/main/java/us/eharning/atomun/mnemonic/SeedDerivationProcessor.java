@@ -0,0 +1,652 @@
+/*
+ * Copyright 2026 Thomas Harning Jr. <harningt@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package us.eharning.atomun.mnemonic;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import com.google.common.annotations.Beta;
+import com.google.common.base.MoreObjects;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.reactivestreams.Processor;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Processor deriving the seeds of a demand-driven stream of requests on a bounded executor.
+ * <p>
+ * Seed derivation is deliberately slow, so running it inside the operators of a reactive pipeline either
+ * blocks the event loop or floods the shared pool. Requests are instead taken from upstream only while
+ * fewer than maxInFlight are being derived or waiting for downstream demand, and each delivered result
+ * requests another. Results are emitted in arrival order or as soon as they complete, as configured.
+ * </p>
+ * <p>
+ * Failures of individual requests, such as undecodable mnemonics, are delivered as failed results rather
+ * than ending the stream. Upstream completion and errors are passed on once every accepted request was
+ * delivered. Cancelling downstream cancels upstream and wipes the undelivered seeds.
+ * </p>
+ * <p>
+ * The processor implements the Reactive Streams interfaces, so it plugs into any compliant library directly
+ * and into java.util.concurrent.Flow pipelines through org.reactivestreams.FlowAdapters.
+ * </p>
+ *
+ * @since 0.8.0
+ */
+@Beta
+@ThreadSafe
+public final class SeedDerivationProcessor implements Processor<SeedDerivationProcessor.Request, SeedDerivationProcessor.Result> {
+    private final Executor executor;
+    @Nullable
+    private final ExecutorService ownedExecutor;
+    private final int maxInFlight;
+    private final Order order;
+    /**
+     * Work-in-progress count serializing the signals to downstream.
+     */
+    private final AtomicInteger drainCount = new AtomicInteger();
+
+    @GuardedBy("this")
+    private Subscription upstream;
+    @GuardedBy("this")
+    private Subscriber<? super Result> downstream;
+    /**
+     * Accepted requests not yet delivered, in arrival order.
+     */
+    @GuardedBy("this")
+    private final Deque<Slot> slots = new ArrayDeque<>();
+    /**
+     * Derived requests not yet delivered, in completion order.
+     */
+    @GuardedBy("this")
+    private final Deque<Slot> completedSlots = new ArrayDeque<>();
+    @GuardedBy("this")
+    private long demand;
+    @GuardedBy("this")
+    private boolean upstreamDone;
+    @GuardedBy("this")
+    private Throwable terminalError;
+    @GuardedBy("this")
+    private boolean finished;
+
+    /**
+     * Construct the processor.
+     *
+     * @param executor
+     *         executor to derive seeds on.
+     * @param ownedExecutor
+     *         executor to shut down once finished, if created for the processor.
+     * @param maxInFlight
+     *         maximum number of requests being derived or waiting for demand.
+     * @param order
+     *         order to emit results in.
+     */
+    private SeedDerivationProcessor(@Nonnull Executor executor, @Nullable ExecutorService ownedExecutor, int maxInFlight, @Nonnull Order order) {
+        this.executor = executor;
+        this.ownedExecutor = ownedExecutor;
+        this.maxInFlight = maxInFlight;
+        this.order = order;
+    }
+
+    /**
+     * Construct a processor deriving seeds on its own fixed set of daemon threads, shut down once finished.
+     *
+     * @param threadCount
+     *         number of derivation threads.
+     * @param maxInFlight
+     *         maximum number of requests being derived or waiting for demand.
+     * @param order
+     *         order to emit results in.
+     *
+     * @return processor instance for a single upstream and downstream.
+     */
+    @Nonnull
+    public static SeedDerivationProcessor newProcessor(int threadCount, int maxInFlight, @Nonnull Order order) {
+        checkArgument(threadCount > 0, "threadCount must be a positive value");
+        checkArgument(maxInFlight > 0, "maxInFlight must be a positive value");
+        checkNotNull(order);
+        ExecutorService workers = Executors.newFixedThreadPool(threadCount, new ThreadFactoryBuilder().setDaemon(true).setNameFormat("seed-derivation-%d").build());
+        return new SeedDerivationProcessor(workers, workers, maxInFlight, order);
+    }
+
+    /**
+     * Construct a processor deriving seeds on the given executor, such as a bounded scheduler of the pipeline.
+     * The executor is not shut down by the processor.
+     *
+     * @param executor
+     *         executor to derive seeds on.
+     * @param maxInFlight
+     *         maximum number of requests being derived or waiting for demand.
+     * @param order
+     *         order to emit results in.
+     *
+     * @return processor instance for a single upstream and downstream.
+     */
+    @Nonnull
+    public static SeedDerivationProcessor newProcessor(@Nonnull Executor executor, int maxInFlight, @Nonnull Order order) {
+        checkNotNull(executor);
+        checkArgument(maxInFlight > 0, "maxInFlight must be a positive value");
+        checkNotNull(order);
+        return new SeedDerivationProcessor(executor, null, maxInFlight, order);
+    }
+
+    @Override
+    public void onSubscribe(@Nonnull Subscription subscription) {
+        checkNotNull(subscription);
+        boolean accepted;
+        synchronized (this) {
+            accepted = null == upstream && !finished;
+            if (accepted) {
+                upstream = subscription;
+            }
+        }
+        if (!accepted) {
+            /* Only one upstream is supported */
+            subscription.cancel();
+            return;
+        }
+        subscription.request(maxInFlight);
+    }
+
+    @Override
+    public void onNext(@Nonnull Request item) {
+        checkNotNull(item);
+        final Slot slot = new Slot(item);
+        synchronized (this) {
+            if (finished) {
+                return;
+            }
+            slots.add(slot);
+        }
+        try {
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    complete(slot, slot.request.derive());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            complete(slot, new Result(item, null, e));
+        }
+    }
+
+    @Override
+    public void onError(@Nonnull Throwable throwable) {
+        checkNotNull(throwable);
+        synchronized (this) {
+            if (upstreamDone) {
+                return;
+            }
+            upstreamDone = true;
+            terminalError = throwable;
+        }
+        drain();
+    }
+
+    @Override
+    public void onComplete() {
+        synchronized (this) {
+            upstreamDone = true;
+        }
+        drain();
+    }
+
+    @Override
+    public void subscribe(@Nonnull Subscriber<? super Result> subscriber) {
+        checkNotNull(subscriber);
+        boolean accepted;
+        synchronized (this) {
+            accepted = null == downstream;
+            if (accepted) {
+                downstream = subscriber;
+            }
+        }
+        if (!accepted) {
+            subscriber.onSubscribe(new Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onError(new IllegalStateException("Only one subscriber is supported"));
+            return;
+        }
+        subscriber.onSubscribe(new DownstreamSubscription());
+        drain();
+    }
+
+    /**
+     * Record the result of a derived request and emit whatever became deliverable.
+     *
+     * @param slot
+     *         slot of the request.
+     * @param result
+     *         derivation result.
+     */
+    private void complete(@Nonnull Slot slot, @Nonnull Result result) {
+        synchronized (this) {
+            if (finished || !slots.contains(slot)) {
+                /* Discarded while being derived */
+                result.wipe();
+                return;
+            }
+            slot.result = result;
+            completedSlots.add(slot);
+        }
+        drain();
+    }
+
+    /**
+     * Emit deliverable results and the terminal signal, serializing the signals of concurrent callers.
+     */
+    private void drain() {
+        if (drainCount.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        do {
+            while (true) {
+                Subscriber<? super Result> subscriber;
+                Result next = null;
+                Subscription subscription;
+                Throwable error = null;
+                synchronized (this) {
+                    subscriber = downstream;
+                    subscription = upstream;
+                    if (null == subscriber || finished) {
+                        break;
+                    }
+                    Slot ready = order == Order.ARRIVAL ? slots.peekFirst() : completedSlots.peekFirst();
+                    if (null != ready && null != ready.result && demand > 0) {
+                        slots.remove(ready);
+                        completedSlots.remove(ready);
+                        demand--;
+                        next = ready.result;
+                    } else if (slots.isEmpty() && upstreamDone) {
+                        finished = true;
+                        error = terminalError;
+                    } else {
+                        break;
+                    }
+                }
+                if (null == next) {
+                    shutdownOwnedExecutor();
+                    if (null != error) {
+                        subscriber.onError(error);
+                    } else {
+                        subscriber.onComplete();
+                    }
+                    break;
+                }
+                subscriber.onNext(next);
+                if (null != subscription) {
+                    /* Replace the delivered request */
+                    subscription.request(1);
+                }
+            }
+            missed = drainCount.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    /**
+     * Stop processing, wiping the undelivered results.
+     *
+     * @param error
+     *         error to signal downstream, or null if downstream cancelled.
+     */
+    private void stop(@Nullable Throwable error) {
+        Subscription subscription;
+        synchronized (this) {
+            if (finished) {
+                return;
+            }
+            subscription = upstream;
+            upstreamDone = true;
+            for (Slot slot : slots) {
+                if (null != slot.result) {
+                    slot.result.wipe();
+                }
+            }
+            slots.clear();
+            completedSlots.clear();
+            if (null == error) {
+                finished = true;
+            } else {
+                terminalError = error;
+            }
+        }
+        if (null != subscription) {
+            subscription.cancel();
+        }
+        if (null == error) {
+            shutdownOwnedExecutor();
+        } else {
+            drain();
+        }
+    }
+
+    /**
+     * Shut down the executor if created for this processor, letting running derivations finish.
+     */
+    private void shutdownOwnedExecutor() {
+        if (null != ownedExecutor) {
+            ownedExecutor.shutdown();
+        }
+    }
+
+    @Override
+    public String toString() {
+        synchronized (this) {
+            return MoreObjects.toStringHelper(this)
+                    .add("order", order)
+                    .add("maxInFlight", maxInFlight)
+                    .add("pending", slots.size())
+                    .add("demand", demand)
+                    .toString();
+        }
+    }
+
+    /**
+     * Order to emit the results in.
+     */
+    public enum Order {
+        /**
+         * Results follow the order their requests arrived in, waiting for earlier slower derivations.
+         */
+        ARRIVAL,
+        /**
+         * Results are emitted as soon as their derivation completes.
+         */
+        COMPLETION
+    }
+
+    /**
+     * Accepted request with its result once derived.
+     */
+    private static final class Slot {
+        private final Request request;
+        /**
+         * Derivation result, guarded by the lock of the processor owning the slot.
+         */
+        private Result result;
+
+        /**
+         * Construct the slot.
+         *
+         * @param request
+         *         accepted request.
+         */
+        private Slot(@Nonnull Request request) {
+            this.request = request;
+        }
+    }
+
+    /**
+     * Subscription handed to downstream.
+     */
+    private final class DownstreamSubscription implements Subscription {
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                stop(new IllegalArgumentException("Requested count must be a positive value"));
+                return;
+            }
+            synchronized (SeedDerivationProcessor.this) {
+                demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            stop(null);
+        }
+    }
+
+    /**
+     * Request to derive a seed, either of a decoded unit or of a mnemonic decoded along with it.
+     *
+     * @since 0.8.0
+     */
+    @Beta
+    @Immutable
+    public static final class Request {
+        private final MnemonicUnit mnemonicUnit;
+        private final MnemonicAlgorithm mnemonicAlgorithm;
+        private final CharSequence mnemonicSequence;
+        private final String wordListIdentifier;
+        private final CharSequence password;
+
+        /**
+         * Construct the request.
+         *
+         * @param mnemonicUnit
+         *         unit to derive the seed of, or null to decode it first.
+         * @param mnemonicAlgorithm
+         *         identifier for which algorithm to decode with.
+         * @param mnemonicSequence
+         *         space-delimited sequence of mnemonic words to decode.
+         * @param wordListIdentifier
+         *         identifier for the word list to decode with.
+         * @param password
+         *         password to supply for the derivation.
+         */
+        private Request(@Nullable MnemonicUnit mnemonicUnit, @Nullable MnemonicAlgorithm mnemonicAlgorithm, @Nullable CharSequence mnemonicSequence, @Nullable String wordListIdentifier, @Nullable CharSequence password) {
+            this.mnemonicUnit = mnemonicUnit;
+            this.mnemonicAlgorithm = mnemonicAlgorithm;
+            this.mnemonicSequence = mnemonicSequence;
+            this.wordListIdentifier = wordListIdentifier;
+            this.password = password;
+        }
+
+        /**
+         * Request the seed of a decoded unit.
+         *
+         * @param mnemonicUnit
+         *         unit to derive the seed of.
+         * @param password
+         *         password to supply for the derivation.
+         *
+         * @return request instance.
+         */
+        @Nonnull
+        public static Request derive(@Nonnull MnemonicUnit mnemonicUnit, @Nullable CharSequence password) {
+            checkNotNull(mnemonicUnit);
+            return new Request(mnemonicUnit, null, null, null, password);
+        }
+
+        /**
+         * Request the seed of a mnemonic decoded on the derivation executor.
+         *
+         * @param mnemonicAlgorithm
+         *         identifier for which algorithm to use.
+         * @param mnemonicSequence
+         *         space-delimited sequence of mnemonic words.
+         * @param wordListIdentifier
+         *         identifier for the word list to use.
+         * @param password
+         *         password to supply for the derivation.
+         *
+         * @return request instance.
+         */
+        @Nonnull
+        public static Request decode(@Nonnull MnemonicAlgorithm mnemonicAlgorithm, @Nonnull CharSequence mnemonicSequence, @Nullable String wordListIdentifier, @Nullable CharSequence password) {
+            checkNotNull(mnemonicAlgorithm);
+            checkNotNull(mnemonicSequence);
+            return new Request(null, mnemonicAlgorithm, mnemonicSequence, wordListIdentifier, password);
+        }
+
+        /**
+         * Obtain the unit of a derive request.
+         *
+         * @return unit or null for a decode request.
+         */
+        @CheckForNull
+        public MnemonicUnit getMnemonicUnit() {
+            return mnemonicUnit;
+        }
+
+        /**
+         * Obtain the mnemonic sequence of a decode request.
+         *
+         * @return mnemonic sequence or null for a derive request.
+         */
+        @CheckForNull
+        public CharSequence getMnemonicSequence() {
+            return mnemonicSequence;
+        }
+
+        /**
+         * Decode the mnemonic if needed and derive the seed.
+         *
+         * @return derivation result.
+         */
+        @Nonnull
+        private Result derive() {
+            try {
+                MnemonicUnit unit = mnemonicUnit;
+                if (null == unit) {
+                    unit = MnemonicUnit.decodeMnemonic(mnemonicAlgorithm, mnemonicSequence, wordListIdentifier);
+                }
+                return new Result(this, unit.getSeed(password), null);
+            } catch (RuntimeException e) {
+                return new Result(this, null, e);
+            }
+        }
+
+        @Override
+        public String toString() {
+            /* Mnemonics and passwords are secrets, leave them out */
+            return MoreObjects.toStringHelper(this)
+                    .add("algorithm", null != mnemonicUnit ? mnemonicUnit.getAlgorithm() : mnemonicAlgorithm)
+                    .add("decode", null == mnemonicUnit)
+                    .toString();
+        }
+    }
+
+    /**
+     * Result of a request, holding the seed or the failure.
+     *
+     * @since 0.8.0
+     */
+    @Beta
+    @ThreadSafe
+    public static final class Result {
+        private final Request request;
+        private final byte[] seed;
+        private final RuntimeException failure;
+
+        /**
+         * Construct the result.
+         *
+         * @param request
+         *         request the result is for.
+         * @param seed
+         *         derived seed, owned by the result, or null on failure.
+         * @param failure
+         *         cause of the failure, or null on success.
+         */
+        private Result(@Nonnull Request request, @Nullable byte[] seed, @Nullable RuntimeException failure) {
+            this.request = request;
+            this.seed = seed;
+            this.failure = failure;
+        }
+
+        /**
+         * Obtain the request the result is for.
+         *
+         * @return request instance.
+         */
+        @Nonnull
+        public Request getRequest() {
+            return request;
+        }
+
+        /**
+         * Check whether the seed was derived.
+         *
+         * @return true if the seed is available.
+         */
+        public boolean isSuccess() {
+            return null != seed;
+        }
+
+        /**
+         * Obtain a copy of the derived seed.
+         *
+         * @return seed bytes.
+         *
+         * @throws java.lang.IllegalStateException
+         *         if the request failed.
+         */
+        @Nonnull
+        public byte[] getSeed() {
+            checkState(null != seed, "Seed derivation failed");
+            synchronized (this) {
+                return Arrays.copyOf(seed, seed.length);
+            }
+        }
+
+        /**
+         * Obtain the failure of the request.
+         *
+         * @return cause of the failure, or null on success.
+         */
+        @CheckForNull
+        public RuntimeException getFailure() {
+            return failure;
+        }
+
+        /**
+         * Overwrite the held seed once it is no longer needed.
+         */
+        public void wipe() {
+            if (null != seed) {
+                synchronized (this) {
+                    Arrays.fill(seed, (byte) 0);
+                }
+            }
+        }
+
+        @Override
+        public String toString() {
+            return MoreObjects.toStringHelper(this)
+                    .add("request", request)
+                    .add("success", isSuccess())
+                    .add("failure", failure)
+                    .toString();
+        }
+    }
+}
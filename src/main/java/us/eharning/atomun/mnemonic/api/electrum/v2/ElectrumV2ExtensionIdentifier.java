@@ -38,7 +38,29 @@ public enum ElectrumV2ExtensionIdentifier implements MnemonicExtensionIdentifier
      * </p>
      *
      */
-    CUSTOM_ENTROPY(false, true)
+    CUSTOM_ENTROPY(false, true),
+    /**
+     * Integer indicating the number of threads to use for the nonce search when generating.
+     * <p>
+     *     Each thread walks a disjoint, strided sequence of nonces. The first
+     *     valid candidate found wins and the remaining threads are cancelled.
+     *     A value of 1 (the default) performs the search on the calling thread.
+     * </p>
+     *
+     * @since 0.8.0
+     */
+    SEARCH_PARALLELISM(false, true),
+    /**
+     * Boolean indicating whether a parallel nonce search must return the lowest valid nonce.
+     * <p>
+     *     When set, the parallel search returns the same mnemonic that the
+     *     sequential search would for the same generated entropy, at the cost
+     *     of letting threads finish the nonces below the first match.
+     * </p>
+     *
+     * @since 0.8.0
+     */
+    DETERMINISTIC_SEARCH(false, true)
     ;
 
     private final boolean canGet;
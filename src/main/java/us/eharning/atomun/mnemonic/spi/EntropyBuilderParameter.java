@@ -16,10 +16,13 @@
 
 package us.eharning.atomun.mnemonic.spi;
 
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
 import com.google.common.annotations.Beta;
 
-import java.security.SecureRandom;
 import java.util.Arrays;
+import javax.annotation.CheckForNull;
 import javax.annotation.Nonnull;
 import javax.annotation.concurrent.Immutable;
 
@@ -41,7 +44,24 @@ public abstract class EntropyBuilderParameter implements BuilderParameter {
      */
     @Nonnull
     public static EntropyBuilderParameter getRandom(int size) {
-        return new RandomEntropyBuilderParameter(size);
+        return new RandomEntropyBuilderParameter(size, EntropySource.getDefault());
+    }
+
+    /**
+     * Obtain an entropy builder that will generate random entropy bytes of the given size from the given source.
+     *
+     * @param size
+     *         number of bytes of entropy to generate for each call to #getEntropy().
+     * @param entropySource
+     *         source to draw the random bytes from.
+     *
+     * @return entropy builder instance.
+     *
+     * @since 0.8.0
+     */
+    @Nonnull
+    public static EntropyBuilderParameter getRandom(int size, @Nonnull EntropySource entropySource) {
+        return new RandomEntropyBuilderParameter(size, checkNotNull(entropySource));
     }
 
     /**
@@ -66,6 +86,21 @@ public abstract class EntropyBuilderParameter implements BuilderParameter {
     @Nonnull
     public abstract byte[] getEntropy();
 
+    /**
+     * Get a block of entropy for multiple builds, drawn at once.
+     * The block holds count consecutive sequences of #getEntropyLength() bytes,
+     * each equivalent to one call to #getEntropy().
+     *
+     * @param count
+     *         number of entropy sequences to generate.
+     *
+     * @return concatenated entropy data for building count mnemonic sequences.
+     *
+     * @since 0.8.0
+     */
+    @Nonnull
+    public abstract byte[] getEntropyBlock(int count);
+
     /**
      * Obtain the number of bytes of entropy configured.
      *
@@ -81,21 +116,34 @@ public abstract class EntropyBuilderParameter implements BuilderParameter {
      */
     public abstract boolean isStatic();
 
+    /**
+     * Obtain the source that generative parameters draw their entropy from.
+     *
+     * @return entropy source or null if this parameter is static.
+     *
+     * @since 0.8.0
+     */
+    @CheckForNull
+    public abstract EntropySource getEntropySource();
+
     /**
      * Internal entropy builder that will return random entropy of a given size.
      */
     private static class RandomEntropyBuilderParameter extends EntropyBuilderParameter {
-        private static final SecureRandom RNG = new SecureRandom();
         private final int size;
+        private final EntropySource entropySource;
 
         /**
          * Construct the internal entropy builder that will return random entropy of the given size.
          *
          * @param size
          *         number of bytes to return in #getEntropy().
+         * @param entropySource
+         *         source to draw the random bytes from.
          */
-        private RandomEntropyBuilderParameter(int size) {
+        private RandomEntropyBuilderParameter(int size, @Nonnull EntropySource entropySource) {
             this.size = size;
+            this.entropySource = entropySource;
         }
 
         /**
@@ -109,7 +157,24 @@ public abstract class EntropyBuilderParameter implements BuilderParameter {
         @Nonnull
         public byte[] getEntropy() {
             byte[] entropy = new byte[size];
-            RNG.nextBytes(entropy);
+            entropySource.nextBytes(entropy);
+            return entropy;
+        }
+
+        /**
+         * Get a block of entropy for multiple builds, drawn at once.
+         *
+         * @param count
+         *         number of entropy sequences to generate.
+         *
+         * @return concatenated entropy data for building count mnemonic sequences.
+         */
+        @Nonnull
+        @Override
+        public byte[] getEntropyBlock(int count) {
+            checkArgument(count >= 0, "count must not be negative");
+            byte[] entropy = new byte[size * count];
+            entropySource.nextBytes(entropy);
             return entropy;
         }
 
@@ -133,6 +198,17 @@ public abstract class EntropyBuilderParameter implements BuilderParameter {
         public boolean isStatic() {
             return false;
         }
+
+        /**
+         * Obtain the source that generative parameters draw their entropy from.
+         *
+         * @return entropy source used by #getEntropy().
+         */
+        @Nonnull
+        @Override
+        public EntropySource getEntropySource() {
+            return entropySource;
+        }
     }
 
     /**
@@ -164,6 +240,27 @@ public abstract class EntropyBuilderParameter implements BuilderParameter {
             return Arrays.copyOf(entropy, entropy.length);
         }
 
+        /**
+         * Get a block of entropy for multiple builds.
+         * <p/>
+         * NOTE: In this instance, the block repeats the same value.
+         *
+         * @param count
+         *         number of entropy sequences to generate.
+         *
+         * @return concatenated entropy data for building count mnemonic sequences.
+         */
+        @Nonnull
+        @Override
+        public byte[] getEntropyBlock(int count) {
+            checkArgument(count >= 0, "count must not be negative");
+            byte[] block = new byte[entropy.length * count];
+            for (int i = 0; i < count; i++) {
+                System.arraycopy(entropy, 0, block, i * entropy.length, entropy.length);
+            }
+            return block;
+        }
+
         /**
          * Obtain the number of bytes of entropy configured.
          *
@@ -184,6 +281,17 @@ public abstract class EntropyBuilderParameter implements BuilderParameter {
         public boolean isStatic() {
             return true;
         }
+
+        /**
+         * Obtain the source that generative parameters draw their entropy from.
+         *
+         * @return null since static entropy has no source.
+         */
+        @CheckForNull
+        @Override
+        public EntropySource getEntropySource() {
+            return null;
+        }
     }
 
 }
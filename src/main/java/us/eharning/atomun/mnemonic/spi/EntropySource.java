@@ -0,0 +1,289 @@
+/*
+ * Copyright 2026 Thomas Harning Jr. <harningt@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package us.eharning.atomun.mnemonic.spi;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkPositionIndexes;
+
+import com.google.common.annotations.Beta;
+import com.google.common.base.Throwables;
+
+import java.math.BigInteger;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Source of random bytes used by the builders to generate entropy.
+ *
+ * @since 0.8.0
+ */
+@Beta
+@ThreadSafe
+public abstract class EntropySource {
+    /**
+     * Shared per-thread source used when none is configured.
+     */
+    private static final EntropySource DEFAULT = new ThreadLocalEntropySource();
+
+    /**
+     * Obtain the default entropy source, backed by a SecureRandom per thread.
+     *
+     * @return shared entropy source instance.
+     */
+    @Nonnull
+    public static EntropySource getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Obtain an entropy source that hands out slices of a large block prefetched from the given generator.
+     * Handed-out bytes are wiped from the block as they are consumed.
+     *
+     * @param random
+     *         generator to fill the block from, such as a DRBG instance.
+     * @param blockSize
+     *         number of bytes to prefetch at a time.
+     *
+     * @return buffered entropy source instance.
+     */
+    @Nonnull
+    public static EntropySource getBuffered(@Nonnull SecureRandom random, int blockSize) {
+        checkNotNull(random);
+        checkArgument(blockSize > 0, "blockSize must be a positive value");
+        return new BufferedEntropySource(random, blockSize);
+    }
+
+    /**
+     * Obtain an entropy source that generates a reproducible sequence from the given seed.
+     * <p>
+     * NOTE: This is intended for benchmarks and tests - the output is only as secret as the seed.
+     * </p>
+     *
+     * @param seed
+     *         bytes determining the generated sequence.
+     *
+     * @return deterministic entropy source instance.
+     */
+    @Nonnull
+    public static EntropySource getDeterministic(@Nonnull byte[] seed) {
+        checkNotNull(seed);
+        return new DeterministicEntropySource(seed);
+    }
+
+    /**
+     * Fill a portion of the output array with random bytes.
+     *
+     * @param output
+     *         array to write into.
+     * @param offset
+     *         index into output to begin writing.
+     * @param length
+     *         number of bytes to write.
+     */
+    public abstract void nextBytes(@Nonnull byte[] output, int offset, int length);
+
+    /**
+     * Fill the output array with random bytes.
+     *
+     * @param output
+     *         array to write into.
+     */
+    public final void nextBytes(@Nonnull byte[] output) {
+        nextBytes(output, 0, output.length);
+    }
+
+    /**
+     * Generate a random non-negative integer uniformly distributed over [0, 2^bitLength).
+     *
+     * @param bitLength
+     *         maximum bit length of the generated value.
+     *
+     * @return random integer.
+     */
+    @Nonnull
+    public BigInteger nextBigInteger(int bitLength) {
+        return nextBigIntegers(1, bitLength)[0];
+    }
+
+    /**
+     * Generate random non-negative integers uniformly distributed over [0, 2^bitLength).
+     * The random bytes for all values are drawn in one request.
+     *
+     * @param count
+     *         number of values to generate.
+     * @param bitLength
+     *         maximum bit length of each generated value.
+     *
+     * @return array of random integers.
+     */
+    @Nonnull
+    public BigInteger[] nextBigIntegers(int count, int bitLength) {
+        checkArgument(count >= 0, "count must not be negative");
+        checkArgument(bitLength >= 0, "bitLength must not be negative");
+        int byteLength = (bitLength + 7) / 8;
+        int topMask = (1 << (8 - (byteLength * 8 - bitLength))) - 1;
+        byte[] data = new byte[count * byteLength];
+        nextBytes(data);
+        BigInteger[] result = new BigInteger[count];
+        byte[] value = new byte[byteLength];
+        for (int i = 0; i < count; i++) {
+            System.arraycopy(data, i * byteLength, value, 0, byteLength);
+            if (byteLength > 0) {
+                value[0] &= topMask;
+            }
+            result[i] = new BigInteger(1, value);
+        }
+        Arrays.fill(data, (byte) 0);
+        Arrays.fill(value, (byte) 0);
+        return result;
+    }
+
+    /**
+     * Entropy source keeping a SecureRandom per thread to avoid lock contention.
+     */
+    private static class ThreadLocalEntropySource extends EntropySource {
+        private final ThreadLocal<SecureRandom> random = new ThreadLocal<SecureRandom>() {
+            @Override
+            protected SecureRandom initialValue() {
+                return new SecureRandom();
+            }
+        };
+
+        @Override
+        public void nextBytes(@Nonnull byte[] output, int offset, int length) {
+            checkPositionIndexes(offset, offset + length, output.length);
+            if (offset == 0 && length == output.length) {
+                random.get().nextBytes(output);
+                return;
+            }
+            byte[] data = new byte[length];
+            random.get().nextBytes(data);
+            System.arraycopy(data, 0, output, offset, length);
+            Arrays.fill(data, (byte) 0);
+        }
+    }
+
+    /**
+     * Entropy source handing out slices from a block prefetched from a backing generator.
+     */
+    private static class BufferedEntropySource extends EntropySource {
+        private final SecureRandom random;
+        @GuardedBy("this")
+        private final byte[] block;
+        @GuardedBy("this")
+        private int blockOffset;
+
+        /**
+         * Construct the buffered entropy source.
+         *
+         * @param random
+         *         generator to fill the block from.
+         * @param blockSize
+         *         number of bytes to prefetch at a time.
+         */
+        private BufferedEntropySource(@Nonnull SecureRandom random, int blockSize) {
+            this.random = random;
+            this.block = new byte[blockSize];
+            /* Mark as fully consumed to fetch on first use */
+            this.blockOffset = blockSize;
+        }
+
+        @Override
+        public synchronized void nextBytes(@Nonnull byte[] output, int offset, int length) {
+            checkPositionIndexes(offset, offset + length, output.length);
+            while (length > 0) {
+                if (blockOffset == block.length) {
+                    random.nextBytes(block);
+                    blockOffset = 0;
+                }
+                int count = Math.min(length, block.length - blockOffset);
+                System.arraycopy(block, blockOffset, output, offset, count);
+                /* Do not leave handed-out bytes behind */
+                Arrays.fill(block, blockOffset, blockOffset + count, (byte) 0);
+                blockOffset += count;
+                offset += count;
+                length -= count;
+            }
+        }
+    }
+
+    /**
+     * Entropy source generating SHA-256(seed || counter) blocks for reproducible output.
+     */
+    private static class DeterministicEntropySource extends EntropySource {
+        private static final int BLOCK_SIZE = 256 / 8;
+        private final byte[] seed;
+        @GuardedBy("this")
+        private final byte[] block = new byte[BLOCK_SIZE];
+        @GuardedBy("this")
+        private int blockOffset = BLOCK_SIZE;
+        @GuardedBy("this")
+        private long counter;
+
+        /**
+         * Construct the deterministic entropy source.
+         *
+         * @param seed
+         *         bytes determining the generated sequence.
+         */
+        private DeterministicEntropySource(@Nonnull byte[] seed) {
+            this.seed = Arrays.copyOf(seed, seed.length);
+        }
+
+        @Override
+        public synchronized void nextBytes(@Nonnull byte[] output, int offset, int length) {
+            checkPositionIndexes(offset, offset + length, output.length);
+            while (length > 0) {
+                if (blockOffset == BLOCK_SIZE) {
+                    fillBlock();
+                }
+                int count = Math.min(length, BLOCK_SIZE - blockOffset);
+                System.arraycopy(block, blockOffset, output, offset, count);
+                blockOffset += count;
+                offset += count;
+                length -= count;
+            }
+        }
+
+        /**
+         * Generate the next block from the seed and counter.
+         */
+        @GuardedBy("this")
+        private void fillBlock() {
+            MessageDigest digest;
+            try {
+                digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                /* Rethrow this (generally) impossible case */
+                throw Throwables.propagate(e);
+            }
+            digest.update(seed);
+            for (int i = 56; i >= 0; i -= 8) {
+                digest.update((byte) (counter >>> i));
+            }
+            counter++;
+            System.arraycopy(digest.digest(), 0, block, 0, BLOCK_SIZE);
+            blockOffset = 0;
+        }
+    }
+}
@@ -16,6 +16,7 @@
 
 package us.eharning.atomun.mnemonic.spi;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import com.google.common.annotations.Beta;
@@ -23,6 +24,8 @@ import us.eharning.atomun.mnemonic.MnemonicAlgorithm;
 import us.eharning.atomun.mnemonic.MnemonicServices;
 import us.eharning.atomun.mnemonic.MnemonicUnit;
 
+import java.util.List;
+import java.util.stream.Stream;
 import javax.annotation.Nonnull;
 import javax.annotation.concurrent.Immutable;
 
@@ -89,6 +92,77 @@ public abstract class MnemonicBuilderSpi {
     @Nonnull
     public abstract MnemonicUnit generateMnemonicUnit(@Nonnull MnemonicUnit.Builder builder, BuilderParameter... parameters);
 
+    /**
+     * Generate multiple mnemonic sequences given the input parameters.
+     * The default implementation delegates to the generator from #compile(BuilderParameter...).
+     *
+     * @param count
+     *         number of sequences to generate.
+     * @param parameters
+     *         builder parameters to drive the process.
+     *
+     * @return list of generated mnemonic sequences.
+     *
+     * @since 0.8.0
+     */
+    @Nonnull
+    public List<String> generateMnemonics(int count, BuilderParameter... parameters) {
+        checkArgument(count >= 0, "count must not be negative");
+        return compile(parameters).generateMnemonics(count);
+    }
+
+    /**
+     * Generate a stream of wrapped mnemonic units given the input parameters.
+     * The default implementation delegates to the generator from #compile(BuilderParameter...).
+     *
+     * @param builder
+     *         instance to construct MnemonicUnit with.
+     * @param count
+     *         number of units to generate.
+     * @param parameters
+     *         builder parameters to drive the process.
+     *
+     * @return stream of MnemonicUnit instances wrapping build results.
+     *
+     * @since 0.8.0
+     */
+    @Nonnull
+    public Stream<MnemonicUnit> generateMnemonicUnits(@Nonnull MnemonicUnit.Builder builder, int count, BuilderParameter... parameters) {
+        checkArgument(count >= 0, "count must not be negative");
+        return compile(parameters).generateMnemonicUnits(builder, count);
+    }
+
+    /**
+     * Bind the builder parameters to a reusable, thread-safe generator.
+     * The parameters are expected to have passed #validate(BuilderParameter...).
+     * The default implementation keeps a copy of the parameters and re-reads them on every call,
+     * implementations should override this to resolve their configuration once.
+     *
+     * @param parameters
+     *         builder parameters to drive the process.
+     *
+     * @return generator bound to the parameters.
+     *
+     * @since 0.8.0
+     */
+    @Nonnull
+    public MnemonicGeneratorSpi compile(BuilderParameter... parameters) {
+        final BuilderParameter[] boundParameters = parameters.clone();
+        return new MnemonicGeneratorSpi() {
+            @Nonnull
+            @Override
+            public String generateMnemonic() {
+                return MnemonicBuilderSpi.this.generateMnemonic(boundParameters);
+            }
+
+            @Nonnull
+            @Override
+            public MnemonicUnit generateMnemonicUnit(@Nonnull MnemonicUnit.Builder builder) {
+                return MnemonicBuilderSpi.this.generateMnemonicUnit(builder, boundParameters);
+            }
+        };
+    }
+
     /**
      * Validate the builder parameters.
      *
@@ -16,8 +16,16 @@
 
 package us.eharning.atomun.mnemonic.spi;
 
+import com.google.common.collect.ImmutableList;
+import us.eharning.atomun.mnemonic.MnemonicDecodeResult;
+import us.eharning.atomun.mnemonic.MnemonicExtensionIdentifier;
 import us.eharning.atomun.mnemonic.MnemonicUnit;
+import us.eharning.atomun.mnemonic.utility.dictionary.DictionaryIdentifier;
 
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import javax.annotation.CheckForNull;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
@@ -46,4 +54,244 @@ public abstract class MnemonicDecoderSpi {
      */
     @Nonnull
     public abstract MnemonicUnit decode(@Nonnull MnemonicUnit.Builder builder, @Nonnull CharSequence mnemonicSequence, @Nullable String wordListIdentifier);
+
+    /**
+     * Attempts to decode a given mnemonic into a unit, reporting failure through the result.
+     * The default implementation wraps #decode(MnemonicUnit.Builder, CharSequence, String),
+     * implementations should override this to avoid constructing exceptions for invalid input.
+     *
+     * @param builder
+     *         instance maker.
+     * @param mnemonicSequence
+     *         space-delimited sequence of mnemonic words.
+     * @param wordListIdentifier
+     *         optional word list identifier.
+     *
+     * @return result holding the mnemonic unit or the failure details.
+     *
+     * @since 0.8.0
+     */
+    @Nonnull
+    public MnemonicDecodeResult tryDecode(@Nonnull MnemonicUnit.Builder builder, @Nonnull CharSequence mnemonicSequence, @Nullable String wordListIdentifier) {
+        try {
+            return MnemonicDecodeResult.success(decode(builder, mnemonicSequence, wordListIdentifier));
+        } catch (UnsupportedOperationException | IllegalArgumentException ignored) {
+            return MnemonicDecodeResult.failure(MnemonicDecodeResult.FailureReason.UNSPECIFIED);
+        }
+    }
+
+    /**
+     * Attempts to decode an already tokenized mnemonic into a unit, reporting failure through the result.
+     * Callers trying several decoders on the same input tokenize it once and share it between them.
+     * The default implementation decodes the original sequence with #tryDecode(MnemonicUnit.Builder, CharSequence, String).
+     *
+     * @param builder
+     *         instance maker.
+     * @param tokenizedMnemonic
+     *         tokenized sequence of mnemonic words.
+     * @param wordListIdentifier
+     *         optional word list identifier.
+     *
+     * @return result holding the mnemonic unit or the failure details.
+     *
+     * @since 0.8.0
+     */
+    @Nonnull
+    public MnemonicDecodeResult tryDecode(@Nonnull MnemonicUnit.Builder builder, @Nonnull TokenizedMnemonic tokenizedMnemonic, @Nullable String wordListIdentifier) {
+        return tryDecode(builder, tokenizedMnemonic.getMnemonicSequence(), wordListIdentifier);
+    }
+
+    /**
+     * Cheaply checks whether a tokenized mnemonic could possibly decode with this decoder.
+     * Only inexpensive properties such as the word count and dictionary membership are to be examined so that
+     * callers trying several decoders can skip the implausible ones before any hashing, which decoding would
+     * otherwise repeat. The default implementation considers every input plausible.
+     *
+     * @param tokenizedMnemonic
+     *         tokenized sequence of mnemonic words.
+     * @param wordListIdentifier
+     *         optional word list identifier.
+     *
+     * @return failed result describing why the input cannot decode, or null if it may decode.
+     *
+     * @since 0.8.0
+     */
+    @CheckForNull
+    public MnemonicDecodeResult precheck(@Nonnull TokenizedMnemonic tokenizedMnemonic, @Nullable String wordListIdentifier) {
+        return null;
+    }
+
+    /**
+     * Decodes a mnemonic given as the dictionary indices of its words.
+     * The default implementation does not support index-based decoding.
+     *
+     * @param builder
+     *         instance maker.
+     * @param dictionaryIdentifier
+     *         identifier for the dictionary the indices refer to.
+     * @param mnemonicIndices
+     *         dictionary indices of the mnemonic words, owned by the decoder.
+     *
+     * @return mnemonic unit.
+     *
+     * @throws java.lang.IllegalArgumentException
+     *         the indices cannot match.
+     * @throws java.lang.UnsupportedOperationException
+     *         if index-based decoding is not supported.
+     * @since 0.8.0
+     */
+    @Nonnull
+    public MnemonicUnit decode(@Nonnull MnemonicUnit.Builder builder, @Nonnull DictionaryIdentifier dictionaryIdentifier, @Nonnull int[] mnemonicIndices) {
+        throw new UnsupportedOperationException("Index-based decoding is not supported");
+    }
+
+    /**
+     * Decodes dictionary indices that were recorded from a previously decoded unit, such as from storage.
+     * Extension values recorded along with the indices may be used to avoid recomputing them from the sentence,
+     * but the record may be corrupt or untrusted, so they must still be checked against the indices.
+     * The default implementation ignores them and delegates to #decode(MnemonicUnit.Builder, DictionaryIdentifier, int[]).
+     *
+     * @param builder
+     *         instance maker.
+     * @param dictionaryIdentifier
+     *         identifier for the dictionary the indices refer to.
+     * @param mnemonicIndices
+     *         dictionary indices of the mnemonic words, owned by the decoder.
+     * @param extensionValues
+     *         readable extension values recorded from the original unit.
+     *
+     * @return mnemonic unit.
+     *
+     * @throws java.lang.IllegalArgumentException
+     *         the indices cannot match.
+     * @throws java.lang.UnsupportedOperationException
+     *         if index-based decoding is not supported.
+     * @since 0.8.0
+     */
+    @Nonnull
+    public MnemonicUnit decode(@Nonnull MnemonicUnit.Builder builder, @Nonnull DictionaryIdentifier dictionaryIdentifier, @Nonnull int[] mnemonicIndices, @Nonnull Map<MnemonicExtensionIdentifier, Object> extensionValues) {
+        return decode(builder, dictionaryIdentifier, mnemonicIndices);
+    }
+
+    /**
+     * Look up the identifier of one of this decoder's dictionaries by its word list name.
+     *
+     * @param wordListIdentifier
+     *         name of the word list.
+     *
+     * @return dictionary identifier or null if the decoder does not use dictionaries.
+     *
+     * @throws java.lang.IllegalArgumentException
+     *         if the word list cannot be found.
+     * @since 0.8.0
+     */
+    @CheckForNull
+    public DictionaryIdentifier getDictionaryIdentifier(@Nonnull String wordListIdentifier) {
+        return null;
+    }
+
+    /**
+     * Obtain the dictionaries a sentence is matched against, in the order the word list is detected.
+     * Index-based validation is only available for decoders returning dictionaries.
+     *
+     * @param wordListIdentifier
+     *         optional word list identifier, detecting among all word lists if null.
+     *
+     * @return dictionary identifiers in detection order, empty if the decoder does not use dictionaries.
+     *
+     * @throws java.lang.IllegalArgumentException
+     *         if the word list cannot be found.
+     * @since 0.8.0
+     */
+    @Nonnull
+    public List<DictionaryIdentifier> getDictionaryIdentifiers(@Nullable String wordListIdentifier) {
+        return ImmutableList.of();
+    }
+
+    /**
+     * Construct a reusable validator checking the dictionary indices of mnemonics without constructing units.
+     * The result agrees with whether the sentence made up of the indexed words decodes.
+     *
+     * @param dictionaryIdentifier
+     *         identifier for the dictionary the indices refer to.
+     *
+     * @return validator instance for use by a single thread.
+     *
+     * @throws java.lang.UnsupportedOperationException
+     *         if index-based validation is not supported.
+     * @since 0.8.0
+     */
+    @Nonnull
+    public MnemonicIndexValidator newIndexValidator(@Nonnull DictionaryIdentifier dictionaryIdentifier) {
+        throw new UnsupportedOperationException("Index-based validation is not supported");
+    }
+
+    /**
+     * Enumerate the valid mnemonics matching a sentence with unknown words.
+     *
+     * @param builder
+     *         instance maker.
+     * @param dictionaryIdentifier
+     *         identifier for the dictionary the indices refer to.
+     * @param mnemonicIndices
+     *         dictionary indices of the mnemonic words with negative values for unknown words.
+     *
+     * @return lazily evaluated stream of matching units in candidate order.
+     *
+     * @throws java.lang.IllegalArgumentException
+     *         if the known indices cannot match or too many words are unknown.
+     * @throws java.lang.UnsupportedOperationException
+     *         if missing word recovery is not supported.
+     * @since 0.8.0
+     */
+    @Nonnull
+    public Stream<MnemonicUnit> recoverMissingWords(@Nonnull MnemonicUnit.Builder builder, @Nonnull DictionaryIdentifier dictionaryIdentifier, @Nonnull int[] mnemonicIndices) {
+        throw new UnsupportedOperationException("Missing word recovery is not supported");
+    }
+
+    /**
+     * Enumerate the valid mnemonics reordering the words at uncertain positions of a sentence.
+     *
+     * @param builder
+     *         instance maker.
+     * @param dictionaryIdentifier
+     *         identifier for the dictionary the indices refer to.
+     * @param mnemonicIndices
+     *         dictionary indices of the mnemonic words as recorded.
+     * @param uncertainPositions
+     *         word positions whose words may be in the wrong order.
+     *
+     * @return lazily evaluated stream of matching units in ordering order.
+     *
+     * @throws java.lang.IllegalArgumentException
+     *         if the indices cannot match or the positions are invalid.
+     * @throws java.lang.UnsupportedOperationException
+     *         if word order recovery is not supported.
+     * @since 0.8.0
+     */
+    @Nonnull
+    public Stream<MnemonicUnit> recoverWordOrder(@Nonnull MnemonicUnit.Builder builder, @Nonnull DictionaryIdentifier dictionaryIdentifier, @Nonnull int[] mnemonicIndices, @Nonnull int[] uncertainPositions) {
+        throw new UnsupportedOperationException("Word order recovery is not supported");
+    }
+
+    /**
+     * Compute every valid last word completing the given words.
+     *
+     * @param dictionaryIdentifier
+     *         identifier for the dictionary the indices refer to.
+     * @param prefixIndices
+     *         dictionary indices of all but the last word.
+     *
+     * @return valid last word indices in increasing order.
+     *
+     * @throws java.lang.IllegalArgumentException
+     *         if an index is out of range or the completed word count is invalid.
+     * @throws java.lang.UnsupportedOperationException
+     *         if the last word cannot be computed from the others.
+     * @since 0.8.0
+     */
+    @Nonnull
+    public int[] getValidLastWords(@Nonnull DictionaryIdentifier dictionaryIdentifier, @Nonnull int[] prefixIndices) {
+        throw new UnsupportedOperationException("Last word computation is not supported");
+    }
 }
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026 Thomas Harning Jr. <harningt@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package us.eharning.atomun.mnemonic.spi;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.annotations.Beta;
+import us.eharning.atomun.mnemonic.MnemonicUnit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Mnemonic generation SPI bound to a fixed, validated set of builder parameters.
+ * Instances resolve their configuration (dictionary, entropy source, ...) up front
+ * and must be safe to share across threads.
+ *
+ * @since 0.8.0
+ */
+@Beta
+@Immutable
+@ThreadSafe
+public abstract class MnemonicGeneratorSpi {
+    /**
+     * Generate a mnemonic sequence.
+     *
+     * @return the generated mnemonic sequence.
+     */
+    @Nonnull
+    public abstract String generateMnemonic();
+
+    /**
+     * Generate a wrapped mnemonic unit.
+     *
+     * @param builder
+     *         instance to construct MnemonicUnit with.
+     *
+     * @return MnemonicUnit instance wrapping build results.
+     */
+    @Nonnull
+    public abstract MnemonicUnit generateMnemonicUnit(@Nonnull MnemonicUnit.Builder builder);
+
+    /**
+     * Generate multiple mnemonic sequences.
+     * The default implementation calls #generateMnemonic() for each sequence.
+     *
+     * @param count
+     *         number of sequences to generate.
+     *
+     * @return list of generated mnemonic sequences.
+     */
+    @Nonnull
+    public List<String> generateMnemonics(int count) {
+        checkArgument(count >= 0, "count must not be negative");
+        List<String> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(generateMnemonic());
+        }
+        return result;
+    }
+
+    /**
+     * Generate a stream of wrapped mnemonic units.
+     * The default implementation calls #generateMnemonicUnit(MnemonicUnit.Builder) for each unit.
+     *
+     * @param builder
+     *         instance to construct MnemonicUnit with.
+     * @param count
+     *         number of units to generate.
+     *
+     * @return stream of MnemonicUnit instances wrapping build results.
+     */
+    @Nonnull
+    public Stream<MnemonicUnit> generateMnemonicUnits(@Nonnull final MnemonicUnit.Builder builder, int count) {
+        checkArgument(count >= 0, "count must not be negative");
+        return IntStream.range(0, count).mapToObj(new IntFunction<MnemonicUnit>() {
+            @Override
+            public MnemonicUnit apply(int value) {
+                return generateMnemonicUnit(builder);
+            }
+        });
+    }
+}
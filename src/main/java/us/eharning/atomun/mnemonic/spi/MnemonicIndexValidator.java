@@ -0,0 +1,47 @@
+/*
+ * Copyright 2026 Thomas Harning Jr. <harningt@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package us.eharning.atomun.mnemonic.spi;
+
+import com.google.common.annotations.Beta;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Reusable check of whether dictionary indices form a valid mnemonic, without constructing a unit.
+ * <p>
+ * Validators are bound to a dictionary and keep scratch buffers and digest state between checks,
+ * so bulk validation creates one per thread.
+ * </p>
+ *
+ * @since 0.8.0
+ */
+@Beta
+@NotThreadSafe
+public abstract class MnemonicIndexValidator {
+    /**
+     * Check whether the leading indices form a mnemonic that decodes.
+     *
+     * @param mnemonicIndices
+     *         dictionary indices of the mnemonic words, each within the dictionary range.
+     * @param wordCount
+     *         number of leading indices making up the mnemonic.
+     *
+     * @return true if the mnemonic decodes, else false.
+     */
+    public abstract boolean isValid(@Nonnull int[] mnemonicIndices, int wordCount);
+}
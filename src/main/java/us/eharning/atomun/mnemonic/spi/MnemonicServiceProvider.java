@@ -16,13 +16,19 @@
 
 package us.eharning.atomun.mnemonic.spi;
 
+import com.google.common.collect.ImmutableSet;
 import us.eharning.atomun.mnemonic.MnemonicAlgorithm;
 
+import java.util.Set;
 import javax.annotation.CheckForNull;
 import javax.annotation.Nonnull;
 
 /**
  * Common service implementation for mnemonic encoders/decoders.
+ * <p>
+ * Third-party providers may be discovered via java.util.ServiceLoader by listing them in
+ * META-INF/services/us.eharning.atomun.mnemonic.spi.MnemonicServiceProvider.
+ * </p>
  *
  * @since 0.1.0
  */
@@ -52,4 +58,17 @@ public abstract class MnemonicServiceProvider {
      */
     @CheckForNull
     public abstract MnemonicDecoderSpi getMnemonicDecoder(@Nonnull MnemonicAlgorithm algorithm);
+
+    /**
+     * Obtain the algorithms to register along with this provider.
+     * Providers adding new algorithms should list them here, the bundled algorithms are always registered.
+     *
+     * @return set of algorithms this provider introduces.
+     *
+     * @since 0.8.0
+     */
+    @Nonnull
+    public Set<MnemonicAlgorithm> getSupportedAlgorithms() {
+        return ImmutableSet.of();
+    }
 }
@@ -17,6 +17,7 @@
 package us.eharning.atomun.mnemonic.spi;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkPositionIndexes;
 
 import com.google.common.base.Function;
 import com.google.common.base.Functions;
@@ -26,7 +27,12 @@ import us.eharning.atomun.mnemonic.MnemonicAlgorithm;
 import us.eharning.atomun.mnemonic.MnemonicExtensionIdentifier;
 import us.eharning.atomun.mnemonic.MnemonicServices;
 import us.eharning.atomun.mnemonic.MnemonicUnit;
+import us.eharning.atomun.mnemonic.utility.dictionary.Dictionary;
+import us.eharning.atomun.mnemonic.utility.dictionary.DictionaryIdentifier;
+import us.eharning.atomun.mnemonic.utility.dictionary.DictionarySource;
 
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import javax.annotation.CheckForNull;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -111,6 +117,130 @@ public abstract class MnemonicUnitSpi {
         return builder.build(this, mnemonicSequence, entropy, seed, supportedExtensions, extensionLoader);
     }
 
+    /**
+     * Utility method to return a wrapped instance of this SPI backed by dictionary indices.
+     * The mnemonic sentence is only rendered from the indices when requested.
+     *
+     * @param builder
+     *         instance maker.
+     * @param mnemonicIndices
+     *         dictionary indices of the mnemonic words, owned by the new instance.
+     * @param entropy
+     *         derived entropy or null if on-demand.
+     * @param seed
+     *         derived seed or null if on-demand.
+     * @param extensions
+     *         map of property-to-value dependent on algorithm.
+     *
+     * @return wrapped instance.
+     *
+     * @since 0.8.0
+     */
+    @Nonnull
+    protected MnemonicUnit build(@Nonnull MnemonicUnit.Builder builder, @Nonnull int[] mnemonicIndices, @Nullable byte[] entropy, @Nullable byte[] seed, @Nonnull ImmutableMap<MnemonicExtensionIdentifier, Object> extensions) {
+        checkNotNull(mnemonicIndices);
+        checkNotNull(extensions);
+        return builder.build(this, mnemonicIndices, entropy, seed, extensions.keySet(), Functions.forMap(extensions));
+    }
+
+    /**
+     * Utility method to return a wrapped instance of this SPI backed by dictionary indices.
+     * The mnemonic sentence is only rendered from the indices when requested.
+     *
+     * @param builder
+     *         instance maker.
+     * @param mnemonicIndices
+     *         dictionary indices of the mnemonic words, owned by the new instance.
+     * @param entropy
+     *         derived entropy or null if on-demand.
+     * @param seed
+     *         derived seed or null if on-demand.
+     * @param supportedExtensions
+     *         set of supported extensions dependent on algorithm.
+     * @param extensionLoader
+     *         method to calculate a given extension's value.
+     *
+     * @return wrapped instance.
+     *
+     * @since 0.8.0
+     */
+    @Nonnull
+    protected MnemonicUnit build(@Nonnull MnemonicUnit.Builder builder, @Nonnull int[] mnemonicIndices, @Nullable byte[] entropy, @Nullable byte[] seed, @Nonnull ImmutableSet<MnemonicExtensionIdentifier> supportedExtensions, @Nonnull Function<MnemonicExtensionIdentifier, Object> extensionLoader) {
+        checkNotNull(mnemonicIndices);
+        checkNotNull(supportedExtensions);
+        checkNotNull(extensionLoader);
+        return builder.build(this, mnemonicIndices, entropy, seed, supportedExtensions, extensionLoader);
+    }
+
+    /**
+     * Get the identifier of the dictionary the mnemonic words are drawn from.
+     *
+     * @return dictionary identifier or null if the words are not dictionary based.
+     *
+     * @since 0.8.0
+     */
+    @CheckForNull
+    public DictionaryIdentifier getDictionaryIdentifier() {
+        return null;
+    }
+
+    /**
+     * Get the dictionary indices of the mnemonic words.
+     * The default implementation looks up the normalized words in the dictionary.
+     *
+     * @param mnemonicSequence
+     *         sequence to look up the words of.
+     *
+     * @return array of dictionary indices or null if the words are not dictionary based.
+     *
+     * @throws java.lang.IllegalArgumentException
+     *         if a word is not in the dictionary.
+     * @since 0.8.0
+     */
+    @CheckForNull
+    public int[] getIndices(@Nonnull CharSequence mnemonicSequence) {
+        DictionaryIdentifier dictionaryIdentifier = getDictionaryIdentifier();
+        if (null == dictionaryIdentifier) {
+            return null;
+        }
+        Dictionary dictionary = DictionarySource.getDictionary(dictionaryIdentifier);
+        TokenizedMnemonic tokenizedMnemonic = TokenizedMnemonic.tokenize(mnemonicSequence);
+        if (tokenizedMnemonic.indexOfFirstUnknown(dictionary) >= 0) {
+            throw new IllegalArgumentException("Unknown dictionary word");
+        }
+        return tokenizedMnemonic.getIndices(dictionary);
+    }
+
+    /**
+     * Render the mnemonic sentence for the given dictionary indices.
+     * The default implementation joins the dictionary words with spaces.
+     *
+     * @param mnemonicIndices
+     *         dictionary indices of the mnemonic words.
+     *
+     * @return space-delimited sequence of mnemonic words.
+     *
+     * @throws java.lang.UnsupportedOperationException
+     *         if the words are not dictionary based.
+     * @since 0.8.0
+     */
+    @Nonnull
+    public CharSequence getMnemonic(@Nonnull int[] mnemonicIndices) {
+        DictionaryIdentifier dictionaryIdentifier = getDictionaryIdentifier();
+        if (null == dictionaryIdentifier) {
+            throw new UnsupportedOperationException("Mnemonic is not dictionary based");
+        }
+        Dictionary dictionary = DictionarySource.getDictionary(dictionaryIdentifier);
+        StringBuilder mnemonicSentence = new StringBuilder();
+        for (int i = 0; i < mnemonicIndices.length; i++) {
+            if (i != 0) {
+                mnemonicSentence.append(' ');
+            }
+            mnemonicSentence.append(dictionary.convert(mnemonicIndices[i]));
+        }
+        return mnemonicSentence.toString();
+    }
+
     /**
      * Get the mnemonic algorithm implemented.
      *
@@ -150,4 +280,154 @@ public abstract class MnemonicUnitSpi {
      */
     @Nonnull
     public abstract byte[] getSeed(@Nonnull CharSequence mnemonicSequence, @Nullable CharSequence password);
+
+    /**
+     * Get the entropy from the dictionary indices of the mnemonic words if possible.
+     * <p>
+     * The default implementation renders the sentence and calls #getEntropy(CharSequence).
+     * </p>
+     *
+     * @param mnemonicIndices
+     *         dictionary indices of the mnemonic words.
+     *
+     * @return a derived copy of the entropy byte array or null if inaccessible.
+     *
+     * @since 0.8.0
+     */
+    @CheckForNull
+    public byte[] getEntropy(@Nonnull int[] mnemonicIndices) {
+        return getEntropy(getMnemonic(mnemonicIndices));
+    }
+
+    /**
+     * Write the entropy into the output buffer if possible.
+     * <p>
+     * The default implementation copies the result of #getEntropy(CharSequence) and wipes the copy.
+     * </p>
+     *
+     * @param mnemonicSequence
+     *         sequence to derive the entropy for.
+     * @param output
+     *         buffer to write into, advanced past the entropy.
+     *
+     * @return number of bytes written or -1 if inaccessible.
+     *
+     * @throws java.nio.BufferOverflowException
+     *         if the buffer lacks room for the entropy, in which case nothing is written.
+     * @since 0.8.0
+     */
+    public int getEntropy(@Nonnull CharSequence mnemonicSequence, @Nonnull ByteBuffer output) {
+        checkNotNull(output);
+        byte[] entropy = getEntropy(mnemonicSequence);
+        if (null == entropy) {
+            return -1;
+        }
+        try {
+            output.put(entropy);
+        } finally {
+            Arrays.fill(entropy, (byte) 0);
+        }
+        return entropy.length;
+    }
+
+    /**
+     * Write a seed from this mnemonic into the output array.
+     * <p>
+     * The default implementation copies the result of #getSeed(CharSequence, CharSequence) and wipes the copy.
+     * </p>
+     *
+     * @param mnemonicSequence
+     *         sequence to derive the seed from.
+     * @param password
+     *         password to supply for decoding.
+     * @param output
+     *         array to write into.
+     * @param offset
+     *         index into output to begin writing.
+     *
+     * @return number of bytes written.
+     *
+     * @throws java.lang.IndexOutOfBoundsException
+     *         if the output cannot hold the seed at offset, in which case nothing is written.
+     * @since 0.8.0
+     */
+    public int getSeed(@Nonnull CharSequence mnemonicSequence, @Nullable CharSequence password, @Nonnull byte[] output, int offset) {
+        checkNotNull(output);
+        byte[] seed = getSeed(mnemonicSequence, password);
+        try {
+            checkPositionIndexes(offset, offset + seed.length, output.length);
+            System.arraycopy(seed, 0, output, offset, seed.length);
+        } finally {
+            Arrays.fill(seed, (byte) 0);
+        }
+        return seed.length;
+    }
+
+    /**
+     * Write the BIP0032 master private key and chain code for the seed of this mnemonic into the output array.
+     * <p>
+     * The default implementation derives the seed with #getSeed(CharSequence, CharSequence) into a scratch array,
+     * keys it with SeedDerivation#deriveMasterKey(byte[], int, int, byte[], int) and wipes the scratch array.
+     * </p>
+     *
+     * @param mnemonicSequence
+     *         sequence to derive the master key from.
+     * @param password
+     *         password to supply for decoding.
+     * @param output
+     *         array to write into.
+     * @param offset
+     *         index into output to begin writing.
+     *
+     * @return number of bytes written.
+     *
+     * @throws java.lang.IndexOutOfBoundsException
+     *         if the output cannot hold the master key at offset, in which case nothing is written.
+     * @since 0.8.0
+     */
+    public int getMasterKey(@Nonnull CharSequence mnemonicSequence, @Nullable CharSequence password, @Nonnull byte[] output, int offset) {
+        checkPositionIndexes(offset, offset + SeedDerivation.MASTER_KEY_LENGTH, output.length);
+        byte[] seed = getSeed(mnemonicSequence, password);
+        try {
+            SeedDerivation.deriveMasterKey(seed, 0, seed.length, output, offset);
+        } finally {
+            Arrays.fill(seed, (byte) 0);
+        }
+        return SeedDerivation.MASTER_KEY_LENGTH;
+    }
+
+    /**
+     * Obtain a seed derivation keyed by this mnemonic, for deriving the seeds of many passwords.
+     * The derivation takes the salts returned by #getSeedSalt(CharSequence).
+     *
+     * @param mnemonicSequence
+     *         sequence to derive seeds from.
+     *
+     * @return derivation keyed by the mnemonic.
+     *
+     * @throws java.lang.UnsupportedOperationException
+     *         if seeds are not derived with PBKDF2-HMAC-SHA512 keyed by the mnemonic.
+     * @since 0.8.0
+     */
+    @Nonnull
+    public SeedDerivation.Keyed getKeyedSeedDerivation(@Nonnull CharSequence mnemonicSequence) {
+        throw new UnsupportedOperationException("Keyed seed derivation is not supported");
+    }
+
+    /**
+     * Obtain the seed derivation salt for a password, for use with #getKeyedSeedDerivation(CharSequence).
+     *
+     * @param password
+     *         password to supply for decoding.
+     *
+     * @return salt bytes, owned by the caller.
+     *
+     * @throws java.lang.UnsupportedOperationException
+     *         if seeds are not derived with PBKDF2-HMAC-SHA512 keyed by the mnemonic.
+     * @since 0.8.0
+     */
+    @Nonnull
+    public byte[] getSeedSalt(@Nullable CharSequence password) {
+        throw new UnsupportedOperationException("Keyed seed derivation is not supported");
+    }
 }
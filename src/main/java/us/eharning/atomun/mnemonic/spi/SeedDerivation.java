@@ -0,0 +1,365 @@
+/*
+ * Copyright 2026 Thomas Harning Jr. <harningt@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package us.eharning.atomun.mnemonic.spi;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkPositionIndexes;
+
+import com.google.common.annotations.Beta;
+import com.google.common.base.Charsets;
+import com.google.common.base.Throwables;
+
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Seed derivation shared by the PBKDF2-HMAC-SHA512 based algorithms, writing into caller-supplied buffers.
+ *
+ * @since 0.8.0
+ */
+@Beta
+public final class SeedDerivation {
+    /**
+     * Length of the seeds derived, a single HMAC-SHA512 output block.
+     */
+    public static final int SEED_LENGTH = 64;
+    /**
+     * Length of the BIP0032 master keys derived, the 32-byte private key followed by the 32-byte chain code.
+     */
+    public static final int MASTER_KEY_LENGTH = 64;
+    private static final byte[] FIRST_BLOCK_INDEX = {0, 0, 0, 1};
+    /**
+     * HMAC-SHA512 keyed by the BIP0032 master key derivation key, prepared once for all master keys.
+     */
+    private static final Keyed BITCOIN_SEED_KEY = new Keyed("Bitcoin seed".getBytes(Charsets.US_ASCII), 1);
+
+    /**
+     * Prevent external construction since it is a utility class.
+     */
+    private SeedDerivation() {
+    }
+
+    /**
+     * Derive a seed with PBKDF2-HMAC-SHA512 directly into the output.
+     * <p>
+     * The seed is exactly one PBKDF2 block, so the block is accumulated in place in the output.
+     * </p>
+     *
+     * @param passwordBytes
+     *         PBKDF2 password, being the normalized mnemonic sequence.
+     * @param saltBytes
+     *         PBKDF2 salt, being the prefixed normalized password.
+     * @param rounds
+     *         number of PBKDF2 iterations.
+     * @param output
+     *         array to write the seed into.
+     * @param offset
+     *         index into output to begin writing.
+     *
+     * @throws java.lang.IndexOutOfBoundsException
+     *         if the output cannot hold SEED_LENGTH bytes at offset, in which case nothing is written.
+     */
+    public static void deriveSeed(@Nonnull byte[] passwordBytes, @Nonnull byte[] saltBytes, int rounds, @Nonnull byte[] output, int offset) {
+        checkNotNull(saltBytes);
+        checkPositionIndexes(offset, offset + SEED_LENGTH, output.length);
+        Keyed keyed = keyed(passwordBytes, rounds);
+        try {
+            keyed.deriveSeed(saltBytes, 0, saltBytes.length, output, offset);
+        } finally {
+            keyed.wipe();
+        }
+    }
+
+    /**
+     * Derive a seed with PBKDF2-HMAC-SHA512 and its BIP0032 master key directly into the output.
+     * <p>
+     * The seed is accumulated in the output and replaced there by the master key, so it is never held
+     * in a separate array.
+     * </p>
+     *
+     * @param passwordBytes
+     *         PBKDF2 password, being the normalized mnemonic sequence.
+     * @param saltBytes
+     *         PBKDF2 salt, being the prefixed normalized password.
+     * @param rounds
+     *         number of PBKDF2 iterations.
+     * @param output
+     *         array to write the master key into.
+     * @param offset
+     *         index into output to begin writing.
+     *
+     * @throws java.lang.IndexOutOfBoundsException
+     *         if the output cannot hold MASTER_KEY_LENGTH bytes at offset, in which case nothing is written.
+     */
+    public static void deriveMasterKey(@Nonnull byte[] passwordBytes, @Nonnull byte[] saltBytes, int rounds, @Nonnull byte[] output, int offset) {
+        checkNotNull(saltBytes);
+        checkPositionIndexes(offset, offset + MASTER_KEY_LENGTH, output.length);
+        Keyed keyed = keyed(passwordBytes, rounds);
+        try {
+            keyed.deriveMasterKey(saltBytes, 0, saltBytes.length, output, offset);
+        } finally {
+            keyed.wipe();
+        }
+    }
+
+    /**
+     * Derive the BIP0032 master key of a seed, being HMAC-SHA512 keyed by "Bitcoin seed".
+     * The seed and output may be the same region of the same array.
+     *
+     * @param seed
+     *         array holding the seed.
+     * @param seedOffset
+     *         index into seed of the seed.
+     * @param seedLength
+     *         number of seed bytes.
+     * @param output
+     *         array to write the master key into.
+     * @param offset
+     *         index into output to begin writing.
+     *
+     * @throws java.lang.IndexOutOfBoundsException
+     *         if the output cannot hold MASTER_KEY_LENGTH bytes at offset, in which case nothing is written.
+     */
+    public static void deriveMasterKey(@Nonnull byte[] seed, int seedOffset, int seedLength, @Nonnull byte[] output, int offset) {
+        checkPositionIndexes(seedOffset, seedOffset + seedLength, seed.length);
+        checkPositionIndexes(offset, offset + MASTER_KEY_LENGTH, output.length);
+        byte[] block = new byte[SEED_LENGTH];
+        try {
+            BITCOIN_SEED_KEY.hmac(seed, seedOffset, seedLength, block, output, offset);
+        } finally {
+            Arrays.fill(block, (byte) 0);
+        }
+    }
+
+    /**
+     * Prepare a PBKDF2-HMAC-SHA512 derivation for a fixed password, such as to try many salts for one mnemonic.
+     *
+     * @param passwordBytes
+     *         PBKDF2 password, being the normalized mnemonic sequence.
+     * @param rounds
+     *         number of PBKDF2 iterations.
+     *
+     * @return derivation keyed by the password.
+     */
+    @Nonnull
+    public static Keyed keyed(@Nonnull byte[] passwordBytes, int rounds) {
+        checkNotNull(passwordBytes);
+        checkArgument(rounds > 0, "rounds must be a positive value");
+        return new Keyed(passwordBytes, rounds);
+    }
+
+    /**
+     * PBKDF2-HMAC-SHA512 derivation keyed by a fixed password.
+     * <p>
+     * The password is the HMAC key, so the digest states after the inner and outer key pads are computed once
+     * and copied for each HMAC instead of being recomputed, halving the SHA-512 blocks per iteration.
+     * Instances are safe to share between threads as the prepared states are only ever copied.
+     * </p>
+     *
+     * @since 0.8.0
+     */
+    @Beta
+    @ThreadSafe
+    public static final class Keyed {
+        private static final int PAD_LENGTH = 128;
+        private final MessageDigest innerState;
+        private final MessageDigest outerState;
+        private final int rounds;
+
+        /**
+         * Construct the derivation, preparing the pad states.
+         *
+         * @param passwordBytes
+         *         PBKDF2 password.
+         * @param rounds
+         *         number of PBKDF2 iterations.
+         */
+        private Keyed(@Nonnull byte[] passwordBytes, int rounds) {
+            this.rounds = rounds;
+            this.innerState = newDigest();
+            this.outerState = newDigest();
+            byte[] pad = new byte[PAD_LENGTH];
+            if (passwordBytes.length > PAD_LENGTH) {
+                /* Long keys are replaced by their digest as per HMAC */
+                byte[] key = innerState.digest(passwordBytes);
+                System.arraycopy(key, 0, pad, 0, key.length);
+                Arrays.fill(key, (byte) 0);
+            } else {
+                System.arraycopy(passwordBytes, 0, pad, 0, passwordBytes.length);
+            }
+            for (int i = 0; i < PAD_LENGTH; i++) {
+                pad[i] ^= 0x36;
+            }
+            innerState.update(pad);
+            for (int i = 0; i < PAD_LENGTH; i++) {
+                pad[i] ^= 0x36 ^ 0x5c;
+            }
+            outerState.update(pad);
+            Arrays.fill(pad, (byte) 0);
+        }
+
+        /**
+         * Obtain a SHA-512 digest instance.
+         *
+         * @return new digest instance.
+         */
+        @Nonnull
+        private static MessageDigest newDigest() {
+            try {
+                return MessageDigest.getInstance("SHA-512");
+            } catch (NoSuchAlgorithmException e) {
+                /* Rethrow this (generally) impossible case */
+                throw Throwables.propagate(e);
+            }
+        }
+
+        /**
+         * Copy a prepared digest state.
+         *
+         * @param state
+         *         digest to copy.
+         *
+         * @return independent copy.
+         */
+        @Nonnull
+        private static MessageDigest copyOf(@Nonnull MessageDigest state) {
+            try {
+                return (MessageDigest) state.clone();
+            } catch (CloneNotSupportedException e) {
+                /* Rethrow this (generally) impossible case */
+                throw Throwables.propagate(e);
+            }
+        }
+
+        /**
+         * Derive a seed for the given salt directly into the output.
+         *
+         * @param saltBytes
+         *         array holding the PBKDF2 salt, being the prefixed normalized password.
+         * @param saltOffset
+         *         index into saltBytes of the salt.
+         * @param saltLength
+         *         number of salt bytes.
+         * @param output
+         *         array to write the seed into.
+         * @param offset
+         *         index into output to begin writing.
+         *
+         * @throws java.lang.IndexOutOfBoundsException
+         *         if the output cannot hold SEED_LENGTH bytes at offset, in which case nothing is written.
+         */
+        public void deriveSeed(@Nonnull byte[] saltBytes, int saltOffset, int saltLength, @Nonnull byte[] output, int offset) {
+            checkPositionIndexes(saltOffset, saltOffset + saltLength, saltBytes.length);
+            checkPositionIndexes(offset, offset + SEED_LENGTH, output.length);
+            byte[] block = new byte[SEED_LENGTH];
+            try {
+                MessageDigest inner = copyOf(innerState);
+                inner.update(saltBytes, saltOffset, saltLength);
+                inner.update(FIRST_BLOCK_INDEX);
+                inner.digest(block, 0, SEED_LENGTH);
+                MessageDigest outer = copyOf(outerState);
+                outer.update(block);
+                outer.digest(output, offset, SEED_LENGTH);
+                System.arraycopy(output, offset, block, 0, SEED_LENGTH);
+                for (int i = 1; i < rounds; i++) {
+                    inner = copyOf(innerState);
+                    inner.update(block);
+                    inner.digest(block, 0, SEED_LENGTH);
+                    outer = copyOf(outerState);
+                    outer.update(block);
+                    outer.digest(block, 0, SEED_LENGTH);
+                    for (int j = 0; j < SEED_LENGTH; j++) {
+                        output[offset + j] ^= block[j];
+                    }
+                }
+            } catch (DigestException e) {
+                /* Rethrow this (generally) impossible case */
+                throw Throwables.propagate(e);
+            } finally {
+                Arrays.fill(block, (byte) 0);
+            }
+        }
+
+        /**
+         * Derive a seed for the given salt and its BIP0032 master key directly into the output.
+         * The seed is accumulated in the output and replaced there by the master key.
+         *
+         * @param saltBytes
+         *         array holding the PBKDF2 salt, being the prefixed normalized password.
+         * @param saltOffset
+         *         index into saltBytes of the salt.
+         * @param saltLength
+         *         number of salt bytes.
+         * @param output
+         *         array to write the master key into.
+         * @param offset
+         *         index into output to begin writing.
+         *
+         * @throws java.lang.IndexOutOfBoundsException
+         *         if the output cannot hold MASTER_KEY_LENGTH bytes at offset, in which case nothing is written.
+         */
+        public void deriveMasterKey(@Nonnull byte[] saltBytes, int saltOffset, int saltLength, @Nonnull byte[] output, int offset) {
+            checkPositionIndexes(offset, offset + MASTER_KEY_LENGTH, output.length);
+            deriveSeed(saltBytes, saltOffset, saltLength, output, offset);
+            SeedDerivation.deriveMasterKey(output, offset, SEED_LENGTH, output, offset);
+        }
+
+        /**
+         * Compute a single HMAC-SHA512 with this key.
+         * The data and output may be the same region of the same array.
+         *
+         * @param data
+         *         array holding the message.
+         * @param dataOffset
+         *         index into data of the message.
+         * @param dataLength
+         *         number of message bytes.
+         * @param block
+         *         scratch array of SEED_LENGTH bytes for the inner digest.
+         * @param output
+         *         array to write the MAC into.
+         * @param offset
+         *         index into output to begin writing.
+         */
+        private void hmac(@Nonnull byte[] data, int dataOffset, int dataLength, @Nonnull byte[] block, @Nonnull byte[] output, int offset) {
+            try {
+                MessageDigest inner = copyOf(innerState);
+                inner.update(data, dataOffset, dataLength);
+                inner.digest(block, 0, SEED_LENGTH);
+                MessageDigest outer = copyOf(outerState);
+                outer.update(block);
+                outer.digest(output, offset, SEED_LENGTH);
+            } catch (DigestException e) {
+                /* Rethrow this (generally) impossible case */
+                throw Throwables.propagate(e);
+            }
+        }
+
+        /**
+         * Clear the pad states, after which the derivation must not be used.
+         */
+        public void wipe() {
+            innerState.reset();
+            outerState.reset();
+        }
+    }
+}
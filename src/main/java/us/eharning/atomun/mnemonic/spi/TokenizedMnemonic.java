@@ -0,0 +1,284 @@
+/*
+ * Copyright 2026 Thomas Harning Jr. <harningt@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package us.eharning.atomun.mnemonic.spi;
+
+import static com.google.common.base.Preconditions.checkElementIndex;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.annotations.Beta;
+import com.google.common.base.CharMatcher;
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableList;
+import us.eharning.atomun.mnemonic.utility.dictionary.Dictionary;
+import us.eharning.atomun.mnemonic.utility.dictionary.DictionaryIdentifier;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Mnemonic sequence split into words once and shared between decoders.
+ * <p>
+ * Words are delimited by single spaces or ideographic spaces, empty words are kept.
+ * Normalized words, loosely split words and dictionary indices are
+ * computed on first use and cached for the lifetime of the instance.
+ * </p>
+ *
+ * @since 0.8.0
+ */
+@Beta
+@NotThreadSafe
+public final class TokenizedMnemonic {
+    private static final Splitter LOOSE_WORD_SPLITTER = Splitter.on(CharMatcher.whitespace()).omitEmptyStrings();
+
+    private final CharSequence mnemonicSequence;
+    /* Pairs of [start, end) offsets for each word */
+    private final int[] wordOffsets;
+    private List<String> normalizedWords;
+    private List<String> looseWords;
+    private final Map<DictionaryIdentifier, int[]> dictionaryIndices = new HashMap<>();
+
+    /**
+     * Construct the tokenized form of the sequence.
+     *
+     * @param mnemonicSequence
+     *         represented sequence.
+     * @param wordOffsets
+     *         pairs of [start, end) offsets for each word.
+     */
+    private TokenizedMnemonic(@Nonnull CharSequence mnemonicSequence, @Nonnull int[] wordOffsets) {
+        this.mnemonicSequence = mnemonicSequence;
+        this.wordOffsets = wordOffsets;
+    }
+
+    /**
+     * Split a mnemonic sequence into words.
+     *
+     * @param mnemonicSequence
+     *         space-delimited sequence of mnemonic words.
+     *
+     * @return tokenized form of the sequence.
+     */
+    @Nonnull
+    public static TokenizedMnemonic tokenize(@Nonnull CharSequence mnemonicSequence) {
+        checkNotNull(mnemonicSequence);
+        int length = mnemonicSequence.length();
+        int wordCount = 1;
+        for (int i = 0; i < length; i++) {
+            if (isDelimiter(mnemonicSequence.charAt(i))) {
+                wordCount++;
+            }
+        }
+        int[] wordOffsets = new int[wordCount * 2];
+        int word = 0;
+        int start = 0;
+        for (int i = 0; i < length; i++) {
+            if (isDelimiter(mnemonicSequence.charAt(i))) {
+                wordOffsets[word * 2] = start;
+                wordOffsets[word * 2 + 1] = i;
+                word++;
+                start = i + 1;
+            }
+        }
+        wordOffsets[word * 2] = start;
+        wordOffsets[word * 2 + 1] = length;
+        return new TokenizedMnemonic(mnemonicSequence, wordOffsets);
+    }
+
+    /**
+     * Check if the character delimits words.
+     *
+     * @param c
+     *         character to check.
+     *
+     * @return true if c is a space or ideographic space.
+     */
+    private static boolean isDelimiter(char c) {
+        return c == ' ' || c == '\u3000';
+    }
+
+    /**
+     * Get the tokenized sequence.
+     *
+     * @return space-delimited sequence of mnemonic words.
+     */
+    @Nonnull
+    public CharSequence getMnemonicSequence() {
+        return mnemonicSequence;
+    }
+
+    /**
+     * Get the number of words.
+     *
+     * @return number of words, including empty words.
+     */
+    public int getWordCount() {
+        return wordOffsets.length / 2;
+    }
+
+    /**
+     * Get the offset in the sequence where a word starts.
+     *
+     * @param wordIndex
+     *         index of the word.
+     *
+     * @return inclusive start offset.
+     */
+    public int getWordStart(int wordIndex) {
+        checkElementIndex(wordIndex, getWordCount());
+        return wordOffsets[wordIndex * 2];
+    }
+
+    /**
+     * Get the offset in the sequence where a word ends.
+     *
+     * @param wordIndex
+     *         index of the word.
+     *
+     * @return exclusive end offset.
+     */
+    public int getWordEnd(int wordIndex) {
+        checkElementIndex(wordIndex, getWordCount());
+        return wordOffsets[wordIndex * 2 + 1];
+    }
+
+    /**
+     * Get the NFKD-normalized words.
+     *
+     * @return list of normalized words.
+     */
+    @Nonnull
+    public List<String> getNormalizedWords() {
+        if (null == normalizedWords) {
+            ImmutableList.Builder<String> builder = ImmutableList.builder();
+            for (int i = 0; i < wordOffsets.length; i += 2) {
+                CharSequence word = mnemonicSequence.subSequence(wordOffsets[i], wordOffsets[i + 1]);
+                builder.add(Normalizer.normalize(word, Normalizer.Form.NFKD));
+            }
+            normalizedWords = builder.build();
+        }
+        return normalizedWords;
+    }
+
+    /**
+     * Get the words as split by any whitespace, dropping empty words and lower-casing,
+     * for formats that accept loosely formatted input.
+     *
+     * @return list of loosely split words.
+     */
+    @Nonnull
+    public List<String> getLooseWords() {
+        if (null == looseWords) {
+            ImmutableList.Builder<String> builder = ImmutableList.builder();
+            for (String word : LOOSE_WORD_SPLITTER.split(mnemonicSequence)) {
+                builder.add(word.toLowerCase());
+            }
+            looseWords = builder.build();
+        }
+        return looseWords;
+    }
+
+    /**
+     * Get the dictionary index of each normalized word.
+     *
+     * @param dictionary
+     *         dictionary to look words up in.
+     *
+     * @return array of indices with -1 for words not in the dictionary.
+     */
+    @Nonnull
+    public int[] getIndices(@Nonnull Dictionary dictionary) {
+        return Arrays.copyOf(lookupIndices(dictionary), getWordCount());
+    }
+
+    /**
+     * Check whether the sequence is exactly the dictionary words joined by single spaces.
+     * Such a sequence can be rendered again from its indices, so it need not be kept.
+     *
+     * @param dictionary
+     *         dictionary to look words up in.
+     *
+     * @return true if the sequence is in canonical form.
+     */
+    public boolean isCanonical(@Nonnull Dictionary dictionary) {
+        int[] indices = lookupIndices(dictionary);
+        for (int i = 0; i < indices.length; i++) {
+            if (indices[i] < 0) {
+                return false;
+            }
+            int start = wordOffsets[i * 2];
+            int end = wordOffsets[i * 2 + 1];
+            if (end < mnemonicSequence.length() && mnemonicSequence.charAt(end) != ' ') {
+                return false;
+            }
+            String word = dictionary.convert(indices[i]);
+            if (word.length() != end - start) {
+                return false;
+            }
+            for (int j = 0; j < word.length(); j++) {
+                if (word.charAt(j) != mnemonicSequence.charAt(start + j)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Find the first normalized word that is not in the dictionary.
+     *
+     * @param dictionary
+     *         dictionary to look words up in.
+     *
+     * @return index of the first unknown word or -1 if all words are present.
+     */
+    public int indexOfFirstUnknown(@Nonnull Dictionary dictionary) {
+        int[] indices = lookupIndices(dictionary);
+        for (int i = 0; i < indices.length; i++) {
+            if (indices[i] < 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Get the cached dictionary indices of each normalized word.
+     *
+     * @param dictionary
+     *         dictionary to look words up in.
+     *
+     * @return shared array of indices with -1 for words not in the dictionary.
+     */
+    @Nonnull
+    private int[] lookupIndices(@Nonnull Dictionary dictionary) {
+        int[] indices = dictionaryIndices.get(dictionary.getIdentifier());
+        if (null == indices) {
+            List<String> words = getNormalizedWords();
+            indices = new int[words.size()];
+            for (int i = 0; i < indices.length; i++) {
+                indices[i] = dictionary.indexOf(words.get(i));
+            }
+            dictionaryIndices.put(dictionary.getIdentifier(), indices);
+        }
+        return indices;
+    }
+}
@@ -0,0 +1,291 @@
+/*
+ * Copyright 2026 Thomas Harning Jr. <harningt@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package us.eharning.atomun.mnemonic.spi;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.annotations.Beta;
+import us.eharning.atomun.mnemonic.MnemonicUnit;
+
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+
+/**
+ * Splittable enumeration of the reorderings of the words at uncertain positions of a mnemonic.
+ * <p>
+ * Orderings are numbered lexicographically by their Lehmer code and ranges of ordering numbers are
+ * split off for fork/join processing. Orderings that only exchange repeated words are skipped.
+ * Each ordering is checked along with the first uncertain slot that changed since the previous check,
+ * so implementations may keep the work done on the unchanged leading words.
+ * </p>
+ *
+ * @since 0.8.0
+ */
+@Beta
+public abstract class WordOrderSpliterator implements Spliterator<MnemonicUnit> {
+    /**
+     * Maximum number of uncertain positions, keeping the ordering count within a long.
+     */
+    public static final int MAX_UNCERTAIN_POSITIONS = 20;
+    /**
+     * Ranges smaller than this are not worth handing to another worker.
+     */
+    private static final long MIN_SPLIT_SIZE = 512;
+    private static final long[] FACTORIALS = new long[MAX_UNCERTAIN_POSITIONS + 1];
+
+    static {
+        FACTORIALS[0] = 1;
+        for (int i = 1; i < FACTORIALS.length; i++) {
+            FACTORIALS[i] = FACTORIALS[i - 1] * i;
+        }
+    }
+
+    private final int[] uncertainPositions;
+    private final int[] slotIndices;
+    private final int[] previousEqualSlots;
+    private final int[] mnemonicIndices;
+    private final int[] sourcePositions;
+    private final int[] order;
+    private final int[] appliedOrder;
+    private final int[] available;
+    private final int[] placement;
+    private boolean applied;
+    private long origin;
+    private final long fence;
+
+    /**
+     * Construct the enumeration over all reorderings of the uncertain positions.
+     *
+     * @param mnemonicIndices
+     *         dictionary indices of the mnemonic words as recorded.
+     * @param uncertainPositions
+     *         word positions whose words may be in the wrong order.
+     *
+     * @throws java.lang.IllegalArgumentException
+     *         if the positions are out of range, repeated, fewer than two or too many.
+     */
+    protected WordOrderSpliterator(@Nonnull int[] mnemonicIndices, @Nonnull int[] uncertainPositions) {
+        int count = uncertainPositions.length;
+        checkArgument(count >= 2, "At least two uncertain positions are needed to reorder");
+        checkArgument(count <= MAX_UNCERTAIN_POSITIONS, "Too many uncertain positions");
+        this.uncertainPositions = Arrays.copyOf(uncertainPositions, count);
+        Arrays.sort(this.uncertainPositions);
+        for (int i = 0; i < count; i++) {
+            int position = this.uncertainPositions[i];
+            checkArgument(position >= 0 && position < mnemonicIndices.length, "Uncertain position out of range");
+            checkArgument(i == 0 || this.uncertainPositions[i - 1] != position, "Repeated uncertain position");
+        }
+        this.mnemonicIndices = Arrays.copyOf(mnemonicIndices, mnemonicIndices.length);
+        this.slotIndices = new int[count];
+        this.previousEqualSlots = new int[count];
+        for (int i = 0; i < count; i++) {
+            slotIndices[i] = mnemonicIndices[this.uncertainPositions[i]];
+            previousEqualSlots[i] = -1;
+            for (int j = i - 1; j >= 0; j--) {
+                if (slotIndices[j] == slotIndices[i]) {
+                    previousEqualSlots[i] = j;
+                    break;
+                }
+            }
+        }
+        this.sourcePositions = new int[mnemonicIndices.length];
+        for (int i = 0; i < sourcePositions.length; i++) {
+            sourcePositions[i] = i;
+        }
+        this.order = new int[count];
+        this.appliedOrder = new int[count];
+        this.available = new int[count];
+        this.placement = new int[count];
+        this.origin = 0;
+        this.fence = FACTORIALS[count];
+    }
+
+    /**
+     * Construct a split-off portion of another enumeration.
+     *
+     * @param parent
+     *         enumeration being split.
+     * @param origin
+     *         first ordering number, inclusive.
+     * @param fence
+     *         last ordering number, exclusive.
+     */
+    protected WordOrderSpliterator(@Nonnull WordOrderSpliterator parent, long origin, long fence) {
+        int count = parent.uncertainPositions.length;
+        this.uncertainPositions = parent.uncertainPositions;
+        this.slotIndices = parent.slotIndices;
+        this.previousEqualSlots = parent.previousEqualSlots;
+        this.mnemonicIndices = Arrays.copyOf(parent.mnemonicIndices, parent.mnemonicIndices.length);
+        this.sourcePositions = Arrays.copyOf(parent.sourcePositions, parent.sourcePositions.length);
+        this.order = new int[count];
+        this.appliedOrder = new int[count];
+        this.available = new int[count];
+        this.placement = new int[count];
+        this.origin = origin;
+        this.fence = fence;
+    }
+
+    /**
+     * Obtain the number of uncertain positions being reordered.
+     *
+     * @return number of uncertain slots.
+     */
+    protected final int getUncertainSlotCount() {
+        return uncertainPositions.length;
+    }
+
+    /**
+     * Obtain the word position of an uncertain slot, slots being in increasing position order.
+     *
+     * @param slot
+     *         index of the uncertain slot.
+     *
+     * @return word position of the slot.
+     */
+    protected final int getUncertainPosition(int slot) {
+        return uncertainPositions[slot];
+    }
+
+    /**
+     * Check whether the current ordering is a valid mnemonic.
+     * Words before the position of the first changed slot are the same as in the previous check
+     * made by this instance, for the first check it is zero.
+     *
+     * @param mnemonicIndices
+     *         dictionary indices of the reordered words, owned by the enumeration.
+     * @param sourcePositions
+     *         recorded word position of each reordered word, owned by the enumeration.
+     * @param firstChangedSlot
+     *         first uncertain slot that changed since the previous check.
+     *
+     * @return unit for a valid mnemonic, else null.
+     */
+    @CheckForNull
+    protected abstract MnemonicUnit checkCandidate(@Nonnull int[] mnemonicIndices, @Nonnull int[] sourcePositions, int firstChangedSlot);
+
+    /**
+     * Construct a split-off portion of this enumeration, generally with #WordOrderSpliterator(WordOrderSpliterator, long, long).
+     *
+     * @param origin
+     *         first ordering number, inclusive.
+     * @param fence
+     *         last ordering number, exclusive.
+     *
+     * @return enumeration of the given range.
+     */
+    @Nonnull
+    protected abstract WordOrderSpliterator split(long origin, long fence);
+
+    @Override
+    public final boolean tryAdvance(Consumer<? super MnemonicUnit> action) {
+        while (origin < fence) {
+            unrank(origin++);
+            if (!isCanonical()) {
+                continue;
+            }
+            MnemonicUnit unit = checkCandidate(mnemonicIndices, sourcePositions, applyOrder());
+            if (null != unit) {
+                action.accept(unit);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Decode an ordering number into the slot order.
+     *
+     * @param rank
+     *         ordering number.
+     */
+    private void unrank(long rank) {
+        int count = order.length;
+        for (int i = 0; i < count; i++) {
+            available[i] = i;
+        }
+        for (int i = 0; i < count; i++) {
+            long factorial = FACTORIALS[count - 1 - i];
+            int digit = (int) (rank / factorial);
+            rank %= factorial;
+            order[i] = available[digit];
+            System.arraycopy(available, digit + 1, available, digit, count - 1 - i - digit);
+            placement[order[i]] = i;
+        }
+    }
+
+    /**
+     * Check that repeated words keep their recorded relative order, so each distinct sentence is produced once.
+     *
+     * @return true if the current slot order is the representative one.
+     */
+    private boolean isCanonical() {
+        for (int i = 0; i < previousEqualSlots.length; i++) {
+            int previous = previousEqualSlots[i];
+            if (previous >= 0 && placement[previous] > placement[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Move the words into the current slot order.
+     *
+     * @return first slot that changed since the previously applied order.
+     */
+    private int applyOrder() {
+        int firstChangedSlot = 0;
+        if (applied) {
+            while (order[firstChangedSlot] == appliedOrder[firstChangedSlot]) {
+                firstChangedSlot++;
+            }
+        }
+        for (int i = firstChangedSlot; i < order.length; i++) {
+            int position = uncertainPositions[i];
+            mnemonicIndices[position] = slotIndices[order[i]];
+            sourcePositions[position] = uncertainPositions[order[i]];
+            appliedOrder[i] = order[i];
+        }
+        applied = true;
+        return firstChangedSlot;
+    }
+
+    @Override
+    public final Spliterator<MnemonicUnit> trySplit() {
+        long size = fence - origin;
+        if (size < MIN_SPLIT_SIZE) {
+            return null;
+        }
+        long middle = origin + size / 2;
+        WordOrderSpliterator prefix = split(origin, middle);
+        origin = middle;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - origin;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | DISTINCT | NONNULL | IMMUTABLE;
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright 2026 Thomas Harning Jr. <harningt@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package us.eharning.atomun.mnemonic.spi.bip0039;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.base.Throwables;
+import us.eharning.atomun.mnemonic.MnemonicUnit;
+
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import javax.annotation.Nonnull;
+
+/**
+ * Splittable enumeration of the BIP0039 sentences filling in unknown word positions.
+ * <p>
+ * Candidates are numbered by the bits of the missing words, first missing word most significant,
+ * and ranges of candidate numbers are split off for fork/join processing.
+ * Each candidate costs one SHA-256 of the entropy: when the last word is known the checksum rejects
+ * all but 1 in 2^CS candidates, when it is missing its checksum bits are computed rather than enumerated.
+ * </p>
+ */
+final class BIP0039MissingWordSpliterator implements Spliterator<MnemonicUnit> {
+    private static final int BITS_PER_WORD = 11;
+    private static final int MAX_CANDIDATE_BITS = 62;
+    /**
+     * Ranges smaller than this are not worth handing to another worker.
+     */
+    private static final long MIN_SPLIT_SIZE = 512;
+
+    private final MnemonicUnit.Builder builder;
+    private final BIP0039MnemonicUnitSpi unitSpi;
+    private final int[] missingPositions;
+    private final int[] missingWidths;
+    private final int checksumBitCount;
+    private final boolean lastWordMissing;
+    private final int[] mnemonicIndices;
+    private final byte[] entropy;
+    private final byte[] hash = new byte[32];
+    private final MessageDigest digest;
+    private long origin;
+    private final long fence;
+
+    /**
+     * Construct the enumeration over all candidates of a partially known sentence.
+     *
+     * @param builder
+     *         instance maker.
+     * @param unitSpi
+     *         unit implementation for the dictionary.
+     * @param mnemonicIndices
+     *         dictionary indices of the words with negative values for unknown words.
+     */
+    BIP0039MissingWordSpliterator(@Nonnull MnemonicUnit.Builder builder, @Nonnull BIP0039MnemonicUnitSpi unitSpi, @Nonnull int[] mnemonicIndices) {
+        int wordCount = mnemonicIndices.length;
+        checkArgument(wordCount != 0 && wordCount % 3 == 0, "Mnemonic word count must be a non-zero multiple of 3");
+        this.checksumBitCount = wordCount / 3;
+        checkArgument(checksumBitCount <= BITS_PER_WORD, "Mnemonic word count too large");
+        int missingCount = 0;
+        for (int index : mnemonicIndices) {
+            if (index < 0) {
+                missingCount++;
+            }
+        }
+        this.missingPositions = new int[missingCount];
+        this.missingWidths = new int[missingCount];
+        int candidateBits = 0;
+        for (int i = 0, j = 0; i < wordCount; i++) {
+            if (mnemonicIndices[i] < 0) {
+                missingPositions[j] = i;
+                /* The checksum bits of the last word are computed, not enumerated */
+                missingWidths[j] = i == wordCount - 1 ? BITS_PER_WORD - checksumBitCount : BITS_PER_WORD;
+                candidateBits += missingWidths[j];
+                j++;
+            }
+        }
+        checkArgument(candidateBits <= MAX_CANDIDATE_BITS, "Too many missing words");
+        this.lastWordMissing = mnemonicIndices[wordCount - 1] < 0;
+        this.builder = builder;
+        this.unitSpi = unitSpi;
+        this.mnemonicIndices = Arrays.copyOf(mnemonicIndices, wordCount);
+        this.entropy = new byte[wordCount * 4 / 3];
+        this.digest = newDigest();
+        this.origin = 0;
+        this.fence = 1L << candidateBits;
+    }
+
+    /**
+     * Construct a split-off portion of another enumeration.
+     *
+     * @param parent
+     *         enumeration being split.
+     * @param origin
+     *         first candidate number, inclusive.
+     * @param fence
+     *         last candidate number, exclusive.
+     */
+    private BIP0039MissingWordSpliterator(@Nonnull BIP0039MissingWordSpliterator parent, long origin, long fence) {
+        this.builder = parent.builder;
+        this.unitSpi = parent.unitSpi;
+        this.missingPositions = parent.missingPositions;
+        this.missingWidths = parent.missingWidths;
+        this.checksumBitCount = parent.checksumBitCount;
+        this.lastWordMissing = parent.lastWordMissing;
+        this.mnemonicIndices = Arrays.copyOf(parent.mnemonicIndices, parent.mnemonicIndices.length);
+        this.entropy = new byte[parent.entropy.length];
+        this.digest = newDigest();
+        this.origin = origin;
+        this.fence = fence;
+    }
+
+    /**
+     * Obtain a SHA-256 digest instance.
+     *
+     * @return new digest instance.
+     */
+    @Nonnull
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            /* Rethrow this (generally) impossible case */
+            throw Throwables.propagate(e);
+        }
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super MnemonicUnit> action) {
+        while (origin < fence) {
+            long candidate = origin++;
+            if (checkCandidate(candidate)) {
+                action.accept(unitSpi.build(builder, Arrays.copyOf(mnemonicIndices, mnemonicIndices.length), Arrays.copyOf(entropy, entropy.length)));
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Fill in the missing words for a candidate number and check the checksum.
+     *
+     * @param candidate
+     *         candidate number.
+     *
+     * @return true if the filled in sentence is valid.
+     */
+    private boolean checkCandidate(long candidate) {
+        for (int i = missingPositions.length - 1; i >= 0; i--) {
+            int width = missingWidths[i];
+            int value = (int) (candidate & ((1L << width) - 1));
+            candidate >>>= width;
+            mnemonicIndices[missingPositions[i]] = width == BITS_PER_WORD ? value : value << checksumBitCount;
+        }
+        packEntropy();
+        digest.update(entropy);
+        try {
+            digest.digest(hash, 0, hash.length);
+        } catch (DigestException e) {
+            /* Rethrow this (generally) impossible case */
+            throw Throwables.propagate(e);
+        }
+        int checksum = (((hash[0] & 0xFF) << 8) | (hash[1] & 0xFF)) >>> (16 - checksumBitCount);
+        int lastIndex = mnemonicIndices.length - 1;
+        if (lastWordMissing) {
+            mnemonicIndices[lastIndex] |= checksum;
+            return true;
+        }
+        return (mnemonicIndices[lastIndex] & ((1 << checksumBitCount) - 1)) == checksum;
+    }
+
+    /**
+     * Pack the entropy bits of the current word indices.
+     */
+    private void packEntropy() {
+        long accumulator = 0;
+        int accumulatedBits = 0;
+        int offset = 0;
+        for (int i = 0; offset < entropy.length; i++) {
+            accumulator = (accumulator << BITS_PER_WORD) | mnemonicIndices[i];
+            accumulatedBits += BITS_PER_WORD;
+            while (accumulatedBits >= 8 && offset < entropy.length) {
+                accumulatedBits -= 8;
+                entropy[offset++] = (byte) (accumulator >>> accumulatedBits);
+            }
+        }
+    }
+
+    @Override
+    public Spliterator<MnemonicUnit> trySplit() {
+        long size = fence - origin;
+        if (size < MIN_SPLIT_SIZE) {
+            return null;
+        }
+        long middle = origin + size / 2;
+        BIP0039MissingWordSpliterator prefix = new BIP0039MissingWordSpliterator(this, origin, middle);
+        origin = middle;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - origin;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | DISTINCT | NONNULL | IMMUTABLE;
+    }
+}
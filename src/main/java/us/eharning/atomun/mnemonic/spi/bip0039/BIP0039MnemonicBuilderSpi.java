@@ -16,14 +16,23 @@
 
 package us.eharning.atomun.mnemonic.spi.bip0039;
 
+import static com.google.common.base.Preconditions.checkArgument;
+
 import us.eharning.atomun.mnemonic.BIPMnemonicAlgorithm;
 import us.eharning.atomun.mnemonic.MnemonicUnit;
 import us.eharning.atomun.mnemonic.spi.BuilderParameter;
 import us.eharning.atomun.mnemonic.spi.EntropyBuilderParameter;
 import us.eharning.atomun.mnemonic.spi.MnemonicBuilderSpi;
+import us.eharning.atomun.mnemonic.spi.MnemonicGeneratorSpi;
 import us.eharning.atomun.mnemonic.spi.WordListBuilderParameter;
 import us.eharning.atomun.mnemonic.utility.dictionary.Dictionary;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import javax.annotation.Nonnull;
 import javax.annotation.concurrent.Immutable;
 
@@ -65,28 +74,41 @@ class BIP0039MnemonicBuilderSpi extends MnemonicBuilderSpi {
      * @param parameters
      *         builder parameters to drive the process.
      *
-     * @return entropy
+     * @return entropy parameter.
      */
     @Nonnull
-    private static byte[] getParameterEntropy(BuilderParameter... parameters) {
-        byte[] entropy = null;
+    private static EntropyBuilderParameter getEntropyParameter(BuilderParameter... parameters) {
+        EntropyBuilderParameter entropyParameter = null;
         for (BuilderParameter parameter : parameters) {
             if (null == parameter) {
                 continue;
             }
             if (parameter instanceof EntropyBuilderParameter) {
-                entropy = ((EntropyBuilderParameter) parameter).getEntropy();
+                entropyParameter = (EntropyBuilderParameter) parameter;
             } else if (parameter instanceof WordListBuilderParameter) {
                 /* Not used */
             } else {
                 throw new IllegalArgumentException("Unsupported parameter type: " + parameter);
             }
         }
-        if (null == entropy) {
+        if (null == entropyParameter) {
             /* Use default */
-            entropy = DEFAULT_ENTROPY_PARAMETER.getEntropy();
+            entropyParameter = DEFAULT_ENTROPY_PARAMETER;
         }
-        return entropy;
+        return entropyParameter;
+    }
+
+    /**
+     * Extracts the entropy parameter from parameters, else a default.
+     *
+     * @param parameters
+     *         builder parameters to drive the process.
+     *
+     * @return entropy
+     */
+    @Nonnull
+    private static byte[] getParameterEntropy(BuilderParameter... parameters) {
+        return getEntropyParameter(parameters).getEntropy();
     }
 
     /**
@@ -130,8 +152,23 @@ class BIP0039MnemonicBuilderSpi extends MnemonicBuilderSpi {
      */
     @Nonnull
     private static String generateMnemonicSequence(@Nonnull byte[] entropy, @Nonnull Dictionary dictionary) {
-        int[] indexArray = BIP0039MnemonicIndexGenerator.generateIndices(entropy);
         StringBuilder mnemonicSentence = new StringBuilder();
+        appendMnemonicSequence(mnemonicSentence, entropy, dictionary);
+        return mnemonicSentence.toString();
+    }
+
+    /**
+     * Appends a mnemonic sequence generated from the provided entropy using the dictionary.
+     *
+     * @param mnemonicSentence
+     *         buffer to append the space-delimited sequence of mnemonic words to.
+     * @param entropy
+     *         value to encode.
+     * @param dictionary
+     *         dictionary to encode entropy with.
+     */
+    private static void appendMnemonicSequence(@Nonnull StringBuilder mnemonicSentence, @Nonnull byte[] entropy, @Nonnull Dictionary dictionary) {
+        int[] indexArray = BIP0039MnemonicIndexGenerator.generateIndices(entropy);
         for (int i = 0; i < indexArray.length; i++) {
             String word = dictionary.convert(indexArray[i]);
             if (i != 0) {
@@ -139,7 +176,6 @@ class BIP0039MnemonicBuilderSpi extends MnemonicBuilderSpi {
             }
             mnemonicSentence.append(word);
         }
-        return mnemonicSentence.toString();
     }
 
     /**
@@ -155,10 +191,7 @@ class BIP0039MnemonicBuilderSpi extends MnemonicBuilderSpi {
     @Nonnull
     @Override
     public String generateMnemonic(BuilderParameter... parameters) {
-        byte[] entropy = getParameterEntropy(parameters);
-        String wordListIdentifier = getParameterWordListIdentifier(parameters);
-        Dictionary dictionary = BIP0039MnemonicUtility.getDictionary(wordListIdentifier);
-        return generateMnemonicSequence(entropy, dictionary);
+        return compile(parameters).generateMnemonic();
     }
 
     /**
@@ -176,13 +209,26 @@ class BIP0039MnemonicBuilderSpi extends MnemonicBuilderSpi {
     @Nonnull
     @Override
     public MnemonicUnit generateMnemonicUnit(@Nonnull MnemonicUnit.Builder builder, BuilderParameter... parameters) {
-        byte[] entropy = getParameterEntropy(parameters);
+        return compile(parameters).generateMnemonicUnit(builder);
+    }
+
+    /**
+     * Bind the builder parameters to a reusable, thread-safe generator.
+     *
+     * @param parameters
+     *         builder parameters to drive the process.
+     *
+     * @return generator with the entropy parameter and dictionary resolved.
+     *
+     * @since 0.8.0
+     */
+    @Nonnull
+    @Override
+    public MnemonicGeneratorSpi compile(BuilderParameter... parameters) {
+        EntropyBuilderParameter entropyParameter = getEntropyParameter(parameters);
         String wordListIdentifier = getParameterWordListIdentifier(parameters);
         Dictionary dictionary = BIP0039MnemonicUtility.getDictionary(wordListIdentifier);
-        String mnemonicSequence = generateMnemonicSequence(entropy, dictionary);
-
-        BIP0039MnemonicUnitSpi spi = BIP0039MnemonicDecoderSpi.getMnemonicUnitSpi(dictionary.getIdentifier());
-        return spi.build(builder, mnemonicSequence, entropy);
+        return new GeneratorSpi(entropyParameter, dictionary);
     }
 
     /**
@@ -210,4 +256,105 @@ class BIP0039MnemonicBuilderSpi extends MnemonicBuilderSpi {
             }
         }
     }
+
+    /**
+     * Generator bound to a resolved entropy parameter and dictionary.
+     */
+    @Immutable
+    private static final class GeneratorSpi extends MnemonicGeneratorSpi {
+        private final EntropyBuilderParameter entropyParameter;
+        private final Dictionary dictionary;
+        private final BIP0039MnemonicUnitSpi unitSpi;
+
+        /**
+         * Construct the generator.
+         *
+         * @param entropyParameter
+         *         source of the entropy to encode.
+         * @param dictionary
+         *         dictionary to encode entropy with.
+         */
+        GeneratorSpi(@Nonnull EntropyBuilderParameter entropyParameter, @Nonnull Dictionary dictionary) {
+            this.entropyParameter = entropyParameter;
+            this.dictionary = dictionary;
+            this.unitSpi = BIP0039MnemonicDecoderSpi.getMnemonicUnitSpi(dictionary.getIdentifier());
+        }
+
+        @Nonnull
+        @Override
+        public String generateMnemonic() {
+            return generateMnemonicSequence(entropyParameter.getEntropy(), dictionary);
+        }
+
+        @Nonnull
+        @Override
+        public MnemonicUnit generateMnemonicUnit(@Nonnull MnemonicUnit.Builder builder) {
+            byte[] entropy = entropyParameter.getEntropy();
+            return unitSpi.build(builder, generateMnemonicSequence(entropy, dictionary), entropy);
+        }
+
+        /**
+         * Generate multiple mnemonic sequences.
+         * Entropy for all sequences is drawn at once and sentences are encoded through a shared buffer.
+         *
+         * @param count
+         *         number of sequences to generate.
+         *
+         * @return list of generated mnemonic sequences.
+         */
+        @Nonnull
+        @Override
+        public List<String> generateMnemonics(int count) {
+            checkArgument(count >= 0, "count must not be negative");
+            int entropyLength = entropyParameter.getEntropyLength();
+            byte[] entropyBlock = entropyParameter.getEntropyBlock(count);
+            byte[] entropy = new byte[entropyLength];
+            StringBuilder mnemonicSentence = new StringBuilder();
+            List<String> result = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                System.arraycopy(entropyBlock, i * entropyLength, entropy, 0, entropyLength);
+                mnemonicSentence.setLength(0);
+                appendMnemonicSequence(mnemonicSentence, entropy, dictionary);
+                result.add(mnemonicSentence.toString());
+            }
+            Arrays.fill(entropyBlock, (byte) 0);
+            Arrays.fill(entropy, (byte) 0);
+            return result;
+        }
+
+        /**
+         * Generate a stream of wrapped mnemonic units.
+         * Entropy for all units is drawn at once, each unit's slice is wiped from the block once consumed
+         * and whatever remains is wiped when the stream is closed.
+         *
+         * @param builder
+         *         instance to construct MnemonicUnit with.
+         * @param count
+         *         number of units to generate.
+         *
+         * @return stream of MnemonicUnit instances wrapping build results.
+         */
+        @Nonnull
+        @Override
+        public Stream<MnemonicUnit> generateMnemonicUnits(@Nonnull final MnemonicUnit.Builder builder, int count) {
+            checkArgument(count >= 0, "count must not be negative");
+            final int entropyLength = entropyParameter.getEntropyLength();
+            final byte[] entropyBlock = entropyParameter.getEntropyBlock(count);
+            return IntStream.range(0, count).mapToObj(new IntFunction<MnemonicUnit>() {
+                @Override
+                public MnemonicUnit apply(int index) {
+                    int offset = index * entropyLength;
+                    byte[] entropy = Arrays.copyOfRange(entropyBlock, offset, offset + entropyLength);
+                    Arrays.fill(entropyBlock, offset, offset + entropyLength, (byte) 0);
+                    return unitSpi.build(builder, generateMnemonicSequence(entropy, dictionary), entropy);
+                }
+            }).onClose(new Runnable() {
+                @Override
+                public void run() {
+                    /* Units left unconsumed by a short-circuiting or failed pipeline */
+                    Arrays.fill(entropyBlock, (byte) 0);
+                }
+            });
+        }
+    }
 }
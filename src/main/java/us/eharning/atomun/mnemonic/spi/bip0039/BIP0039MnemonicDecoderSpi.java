@@ -16,9 +16,14 @@
 
 package us.eharning.atomun.mnemonic.spi.bip0039;
 
-import com.google.common.base.Converter;
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.collect.ImmutableList;
+import us.eharning.atomun.mnemonic.MnemonicDecodeResult;
 import us.eharning.atomun.mnemonic.MnemonicUnit;
 import us.eharning.atomun.mnemonic.spi.MnemonicDecoderSpi;
+import us.eharning.atomun.mnemonic.spi.MnemonicIndexValidator;
+import us.eharning.atomun.mnemonic.spi.TokenizedMnemonic;
 import us.eharning.atomun.mnemonic.utility.dictionary.Dictionary;
 import us.eharning.atomun.mnemonic.utility.dictionary.DictionaryIdentifier;
 import us.eharning.atomun.mnemonic.utility.dictionary.DictionarySource;
@@ -26,6 +31,8 @@ import us.eharning.atomun.mnemonic.utility.dictionary.DictionarySource;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import javax.annotation.CheckForNull;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -59,52 +66,182 @@ class BIP0039MnemonicDecoderSpi extends MnemonicDecoderSpi {
     }
 
     /**
-     * Detect the appropriate word list for the given mnemonic sequence.
+     * Decodes a given mnemonic into a unit.
+     * The word list is to be automatically detected and it is expected that only one matches.
+     *
+     * @param builder
+     *         instance maker.
+     * @param mnemonicSequence
+     *         space-delimited sequence of mnemonic words.
+     * @param wordListIdentifier
+     *         optional word list identifier
      *
-     * @param mnemonicWordList
-     *         sequence of mnemonic words to match up against a dictionary.
+     * @return mnemonic unit
      *
-     * @return a dictionary instance if found, else null.
+     * @throws IllegalArgumentException
+     *         the sequence cannot match
      */
-    @CheckForNull
-    private static Dictionary detectWordList(@Nonnull List<String> mnemonicWordList) {
-        /* Need to autodetect the word list from the sequence. */
-        for (DictionaryIdentifier identifier : BIP0039MnemonicUtility.getDictionaries()) {
-            Dictionary availableDictionary = DictionarySource.getDictionary(identifier);
+    @Nonnull
+    @Override
+    public MnemonicUnit decode(@Nonnull MnemonicUnit.Builder builder, @Nonnull CharSequence mnemonicSequence, @Nullable String wordListIdentifier) {
+        return tryDecode(builder, mnemonicSequence, wordListIdentifier).getUnitOrThrow();
+    }
 
-            /* Check that all the words are in the dictionary and if so, found */
-            if (verifyDictionary(availableDictionary, mnemonicWordList)) {
-                return availableDictionary;
-            }
+    /**
+     * Decodes a mnemonic given as the dictionary indices of its words.
+     *
+     * @param builder
+     *         instance maker.
+     * @param dictionaryIdentifier
+     *         identifier for the dictionary the indices refer to.
+     * @param mnemonicIndices
+     *         dictionary indices of the mnemonic words, owned by the decoder.
+     *
+     * @return mnemonic unit.
+     *
+     * @throws IllegalArgumentException
+     *         the indices cannot match
+     */
+    @Nonnull
+    @Override
+    public MnemonicUnit decode(@Nonnull MnemonicUnit.Builder builder, @Nonnull DictionaryIdentifier dictionaryIdentifier, @Nonnull int[] mnemonicIndices) {
+        checkArgument(mnemonicIndices.length != 0 && mnemonicIndices.length % 3 == 0, "Mnemonic word count must be a non-zero multiple of 3");
+        Dictionary dictionary = DictionarySource.getDictionary(dictionaryIdentifier);
+        checkArgument(dictionary.indexOfFirstInvalid(mnemonicIndices) < 0, "Word index out of dictionary range");
+        byte[] entropy = BIP0039MnemonicUnitSpi.getCheckedEntropy(mnemonicIndices);
+        checkArgument(null != entropy, "Checksum does not match");
+        return getMnemonicUnitSpi(dictionaryIdentifier).build(builder, mnemonicIndices, entropy);
+    }
+
+    /**
+     * Enumerate the valid mnemonics matching a sentence with unknown words.
+     * The stream is parallel, splitting the candidate space across the common fork/join pool.
+     *
+     * @param builder
+     *         instance maker.
+     * @param dictionaryIdentifier
+     *         identifier for the dictionary the indices refer to.
+     * @param mnemonicIndices
+     *         dictionary indices of the mnemonic words with negative values for unknown words.
+     *
+     * @return lazily evaluated stream of matching units in candidate order.
+     *
+     * @throws IllegalArgumentException
+     *         if the known indices cannot match or too many words are unknown
+     */
+    @Nonnull
+    @Override
+    public Stream<MnemonicUnit> recoverMissingWords(@Nonnull MnemonicUnit.Builder builder, @Nonnull DictionaryIdentifier dictionaryIdentifier, @Nonnull int[] mnemonicIndices) {
+        Dictionary dictionary = DictionarySource.getDictionary(dictionaryIdentifier);
+        for (int index : mnemonicIndices) {
+            checkArgument(index < dictionary.getSize(), "Word index out of dictionary range");
         }
-        return null;
+        BIP0039MissingWordSpliterator spliterator = new BIP0039MissingWordSpliterator(builder, getMnemonicUnitSpi(dictionaryIdentifier), mnemonicIndices);
+        return StreamSupport.stream(spliterator, true);
     }
 
     /**
-     * Verify that the dictionary contains all of the words in the given mnemonic sequence.
+     * Enumerate the valid mnemonics reordering the words at uncertain positions of a sentence.
+     * The stream is parallel, splitting the orderings across the common fork/join pool.
      *
-     * @param dictionary
-     *         instance to check for the presence of all words.
-     * @param mnemonicWordList
-     *         sequence of mnemonic words to match up against a dictionary.
+     * @param builder
+     *         instance maker.
+     * @param dictionaryIdentifier
+     *         identifier for the dictionary the indices refer to.
+     * @param mnemonicIndices
+     *         dictionary indices of the mnemonic words as recorded.
+     * @param uncertainPositions
+     *         word positions whose words may be in the wrong order.
      *
-     * @return true if dictionary contains all words in mnemonicWordList.
+     * @return lazily evaluated stream of matching units in ordering order.
+     *
+     * @throws IllegalArgumentException
+     *         if the indices cannot match or the positions are invalid
      */
-    private static boolean verifyDictionary(@Nonnull Dictionary dictionary, @Nonnull List<String> mnemonicWordList) {
-        Converter<String, Integer> reverseDictionary = dictionary.reverse();
-        /* Due to inability for converters to return null as a valid response, need to catch thrown exception */
-        try {
-            for (String word : mnemonicWordList) {
-                reverseDictionary.convert(word);
-            }
-        } catch (IllegalArgumentException ignored) {
-            return false;
+    @Nonnull
+    @Override
+    public Stream<MnemonicUnit> recoverWordOrder(@Nonnull MnemonicUnit.Builder builder, @Nonnull DictionaryIdentifier dictionaryIdentifier, @Nonnull int[] mnemonicIndices, @Nonnull int[] uncertainPositions) {
+        Dictionary dictionary = DictionarySource.getDictionary(dictionaryIdentifier);
+        checkArgument(dictionary.indexOfFirstInvalid(mnemonicIndices) < 0, "Word index out of dictionary range");
+        BIP0039WordOrderSpliterator spliterator = new BIP0039WordOrderSpliterator(builder, getMnemonicUnitSpi(dictionaryIdentifier), mnemonicIndices, uncertainPositions);
+        return StreamSupport.stream(spliterator, true);
+    }
+
+    /**
+     * Compute every valid last word completing the given words.
+     *
+     * @param dictionaryIdentifier
+     *         identifier for the dictionary the indices refer to.
+     * @param prefixIndices
+     *         dictionary indices of all but the last word.
+     *
+     * @return valid last word indices in increasing order.
+     *
+     * @throws IllegalArgumentException
+     *         if an index is out of range or the completed word count is invalid
+     */
+    @Nonnull
+    @Override
+    public int[] getValidLastWords(@Nonnull DictionaryIdentifier dictionaryIdentifier, @Nonnull int[] prefixIndices) {
+        Dictionary dictionary = DictionarySource.getDictionary(dictionaryIdentifier);
+        checkArgument(dictionary.indexOfFirstInvalid(prefixIndices) < 0, "Word index out of dictionary range");
+        return BIP0039MnemonicUtility.getValidLastWords(prefixIndices);
+    }
+
+    /**
+     * Look up the identifier of one of the BIP0039 dictionaries by its word list name.
+     *
+     * @param wordListIdentifier
+     *         name of the word list.
+     *
+     * @return dictionary identifier.
+     *
+     * @throws IllegalArgumentException
+     *         if the word list cannot be found
+     */
+    @Nonnull
+    @Override
+    public DictionaryIdentifier getDictionaryIdentifier(@Nonnull String wordListIdentifier) {
+        return BIP0039MnemonicUtility.getDictionary(wordListIdentifier).getIdentifier();
+    }
+
+    /**
+     * Obtain the BIP0039 dictionaries a sentence is matched against, in the order the word list is detected.
+     *
+     * @param wordListIdentifier
+     *         optional word list identifier, detecting among all word lists if null.
+     *
+     * @return dictionary identifiers in detection order.
+     *
+     * @throws IllegalArgumentException
+     *         if the word list cannot be found
+     */
+    @Nonnull
+    @Override
+    public List<DictionaryIdentifier> getDictionaryIdentifiers(@Nullable String wordListIdentifier) {
+        if (null == wordListIdentifier) {
+            return ImmutableList.copyOf(BIP0039MnemonicUtility.getDictionaries());
         }
-        return true;
+        return ImmutableList.of(BIP0039MnemonicUtility.getDictionary(wordListIdentifier).getIdentifier());
     }
 
     /**
-     * Decodes a given mnemonic into a unit.
+     * Construct a reusable validator checking the checksum of dictionary indices.
+     *
+     * @param dictionaryIdentifier
+     *         identifier for the dictionary the indices refer to.
+     *
+     * @return validator instance for use by a single thread.
+     */
+    @Nonnull
+    @Override
+    public MnemonicIndexValidator newIndexValidator(@Nonnull DictionaryIdentifier dictionaryIdentifier) {
+        /* The checksum does not depend on the dictionary */
+        return new BIP0039MnemonicIndexValidator();
+    }
+
+    /**
+     * Attempts to decode a given mnemonic into a unit, reporting failure through the result.
      * The word list is to be automatically detected and it is expected that only one matches.
      *
      * @param builder
@@ -114,35 +251,130 @@ class BIP0039MnemonicDecoderSpi extends MnemonicDecoderSpi {
      * @param wordListIdentifier
      *         optional word list identifier
      *
-     * @return mnemonic unit
+     * @return result holding the mnemonic unit or the failure details.
+     */
+    @Nonnull
+    @Override
+    public MnemonicDecodeResult tryDecode(@Nonnull MnemonicUnit.Builder builder, @Nonnull CharSequence mnemonicSequence, @Nullable String wordListIdentifier) {
+        return tryDecode(builder, TokenizedMnemonic.tokenize(mnemonicSequence), wordListIdentifier);
+    }
+
+    /**
+     * Attempts to decode an already tokenized mnemonic into a unit, reporting failure through the result.
+     * The word list is to be automatically detected and it is expected that only one matches.
      *
-     * @throws IllegalArgumentException
-     *         the sequence cannot match
+     * @param builder
+     *         instance maker.
+     * @param tokenizedMnemonic
+     *         tokenized sequence of mnemonic words.
+     * @param wordListIdentifier
+     *         optional word list identifier
+     *
+     * @return result holding the mnemonic unit or the failure details.
      */
     @Nonnull
     @Override
-    public MnemonicUnit decode(@Nonnull MnemonicUnit.Builder builder, @Nonnull CharSequence mnemonicSequence, @Nullable String wordListIdentifier) {
-        List<String> mnemonicWordList = BIP0039MnemonicUtility.getNormalizedWordList(mnemonicSequence);
+    public MnemonicDecodeResult tryDecode(@Nonnull MnemonicUnit.Builder builder, @Nonnull TokenizedMnemonic tokenizedMnemonic, @Nullable String wordListIdentifier) {
+        MnemonicDecodeResult failure = checkWords(tokenizedMnemonic, wordListIdentifier);
+        if (null != failure) {
+            return failure;
+        }
+        Dictionary dictionary = findDictionary(tokenizedMnemonic, wordListIdentifier);
+        int[] mnemonicIndices = tokenizedMnemonic.getIndices(dictionary);
+        byte[] entropy = BIP0039MnemonicUnitSpi.getCheckedEntropy(mnemonicIndices);
+        if (null == entropy) {
+            return MnemonicDecodeResult.failure(MnemonicDecodeResult.FailureReason.CHECKSUM_MISMATCH);
+        }
+        BIP0039MnemonicUnitSpi unit = getMnemonicUnitSpi(dictionary.getIdentifier());
+        if (tokenizedMnemonic.isCanonical(dictionary)) {
+            /* Keep only the indices, the sentence renders back identically on demand */
+            return MnemonicDecodeResult.success(unit.build(builder, mnemonicIndices, entropy));
+        }
+        return MnemonicDecodeResult.success(unit.build(builder, tokenizedMnemonic.getMnemonicSequence(), entropy));
+    }
+
+    /**
+     * Cheaply checks whether a tokenized mnemonic could possibly decode as BIP0039.
+     * Only the word count and dictionary membership are checked, the checksum is left to decoding
+     * so that it is hashed once.
+     *
+     * @param tokenizedMnemonic
+     *         tokenized sequence of mnemonic words.
+     * @param wordListIdentifier
+     *         optional word list identifier
+     *
+     * @return failed result describing why the input cannot decode, or null if it may decode.
+     */
+    @CheckForNull
+    @Override
+    public MnemonicDecodeResult precheck(@Nonnull TokenizedMnemonic tokenizedMnemonic, @Nullable String wordListIdentifier) {
+        return checkWords(tokenizedMnemonic, wordListIdentifier);
+    }
+
+    /**
+     * Verify that the word count is valid and that every word belongs to a usable dictionary.
+     *
+     * @param tokenizedMnemonic
+     *         tokenized sequence of mnemonic words.
+     * @param wordListIdentifier
+     *         optional word list identifier
+     *
+     * @return failed result describing the problem, or null if the words are acceptable.
+     */
+    @CheckForNull
+    private static MnemonicDecodeResult checkWords(@Nonnull TokenizedMnemonic tokenizedMnemonic, @Nullable String wordListIdentifier) {
         /* Verify word list has an appropriate length */
-        if (mnemonicWordList.size() % 3 != 0) {
-            throw new IllegalArgumentException("Word list of the wrong length");
+        if (tokenizedMnemonic.getWordCount() % 3 != 0) {
+            return MnemonicDecodeResult.failure(MnemonicDecodeResult.FailureReason.INVALID_WORD_COUNT);
         }
-        Dictionary dictionary;
         if (null == wordListIdentifier) {
-            dictionary = detectWordList(mnemonicWordList);
-            if (null == dictionary) {
-                throw new IllegalArgumentException("Could not detect dictionary for words");
+            /* Need to autodetect the word list from the sequence, tracking the furthest match for reporting. */
+            int unknownWordIndex = -1;
+            for (DictionaryIdentifier identifier : BIP0039MnemonicUtility.getDictionaries()) {
+                int index = tokenizedMnemonic.indexOfFirstUnknown(DictionarySource.getDictionary(identifier));
+                if (index < 0) {
+                    return null;
+                }
+                unknownWordIndex = Math.max(unknownWordIndex, index);
             }
-        } else {
+            return MnemonicDecodeResult.failure(MnemonicDecodeResult.FailureReason.UNKNOWN_WORD, unknownWordIndex);
+        }
+        Dictionary dictionary;
+        try {
             dictionary = BIP0039MnemonicUtility.getDictionary(wordListIdentifier);
-            if (!verifyDictionary(dictionary, mnemonicWordList)) {
-                throw new IllegalArgumentException("Words not in dictionary");
-            }
+        } catch (IllegalArgumentException ignored) {
+            /* Caller-supplied identifier, not part of the invalid-input path */
+            return MnemonicDecodeResult.failure(MnemonicDecodeResult.FailureReason.UNSUPPORTED_WORD_LIST);
         }
+        int unknownWordIndex = tokenizedMnemonic.indexOfFirstUnknown(dictionary);
+        if (unknownWordIndex >= 0) {
+            return MnemonicDecodeResult.failure(MnemonicDecodeResult.FailureReason.UNKNOWN_WORD, unknownWordIndex);
+        }
+        return null;
+    }
 
-        BIP0039MnemonicUnitSpi unit = getMnemonicUnitSpi(dictionary.getIdentifier());
-
-        byte[] entropy = unit.getEntropy(mnemonicSequence);
-        return unit.build(builder, mnemonicSequence, entropy);
+    /**
+     * Find the dictionary containing every word of a mnemonic already accepted by #checkWords.
+     * Dictionary lookups are cached by the tokenized mnemonic, so repeating them is cheap.
+     *
+     * @param tokenizedMnemonic
+     *         tokenized sequence of mnemonic words.
+     * @param wordListIdentifier
+     *         optional word list identifier
+     *
+     * @return matching dictionary.
+     */
+    @Nonnull
+    private static Dictionary findDictionary(@Nonnull TokenizedMnemonic tokenizedMnemonic, @Nullable String wordListIdentifier) {
+        if (null != wordListIdentifier) {
+            return BIP0039MnemonicUtility.getDictionary(wordListIdentifier);
+        }
+        for (DictionaryIdentifier identifier : BIP0039MnemonicUtility.getDictionaries()) {
+            Dictionary dictionary = DictionarySource.getDictionary(identifier);
+            if (tokenizedMnemonic.indexOfFirstUnknown(dictionary) < 0) {
+                return dictionary;
+            }
+        }
+        throw new IllegalStateException("Mnemonic words were not checked against the dictionaries");
     }
 }
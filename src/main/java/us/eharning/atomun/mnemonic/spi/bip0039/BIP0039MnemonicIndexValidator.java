@@ -0,0 +1,95 @@
+/*
+ * Copyright 2014, 2015, 2016 Thomas Harning Jr. <harningt@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package us.eharning.atomun.mnemonic.spi.bip0039;
+
+import com.google.common.base.Throwables;
+import us.eharning.atomun.mnemonic.spi.MnemonicIndexValidator;
+
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Reusable BIP0039 checksum validation of dictionary indices.
+ * <p>
+ * The 11-bit indices of the standard sentence lengths are packed into a reused buffer and the checksum bits,
+ * which fit into the byte following the entropy, are compared against the first byte of a single SHA-256.
+ * </p>
+ */
+@NotThreadSafe
+final class BIP0039MnemonicIndexValidator extends MnemonicIndexValidator {
+    /**
+     * Longest standard sentence, checked with the reused buffers.
+     */
+    private static final int MAX_PACKED_WORD_COUNT = 24;
+
+    private final MessageDigest digest;
+    private final byte[] sentenceBytes = new byte[(MAX_PACKED_WORD_COUNT * 11 + 7) / 8];
+    private final byte[] hash = new byte[256 / 8];
+
+    /**
+     * Construct the validator.
+     */
+    BIP0039MnemonicIndexValidator() {
+        try {
+            this.digest = MessageDigest.getInstance("SHA-256");
+        } catch (GeneralSecurityException e) {
+            /* Rethrow this (generally) impossible case */
+            throw Throwables.propagate(e);
+        }
+    }
+
+    @Override
+    public boolean isValid(@Nonnull int[] mnemonicIndices, int wordCount) {
+        if (wordCount == 0 || wordCount % 3 != 0) {
+            return false;
+        }
+        if (wordCount > MAX_PACKED_WORD_COUNT) {
+            /* Non-standard lengths go through the general checksum calculation */
+            return null != BIP0039MnemonicUnitSpi.getCheckedEntropy(Arrays.copyOf(mnemonicIndices, wordCount));
+        }
+        long bits = 0;
+        int bitCount = 0;
+        int byteCount = 0;
+        for (int i = 0; i < wordCount; i++) {
+            bits = (bits << 11) | mnemonicIndices[i];
+            bitCount += 11;
+            while (bitCount >= 8) {
+                bitCount -= 8;
+                sentenceBytes[byteCount++] = (byte) (bits >>> bitCount);
+            }
+        }
+        if (bitCount > 0) {
+            sentenceBytes[byteCount] = (byte) (bits << (8 - bitCount));
+        }
+        /* Each 3 words carry 32 bits of entropy and 1 checksum bit */
+        int entropyLength = wordCount / 3 * 4;
+        int checksumMask = (0xFF << (8 - wordCount / 3)) & 0xFF;
+        try {
+            digest.update(sentenceBytes, 0, entropyLength);
+            digest.digest(hash, 0, hash.length);
+        } catch (GeneralSecurityException e) {
+            /* Rethrow this (generally) impossible case */
+            throw Throwables.propagate(e);
+        }
+        boolean valid = ((sentenceBytes[entropyLength] ^ hash[0]) & checksumMask) == 0;
+        Arrays.fill(sentenceBytes, (byte) 0);
+        return valid;
+    }
+}
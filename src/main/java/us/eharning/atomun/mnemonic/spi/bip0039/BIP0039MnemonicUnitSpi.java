@@ -17,9 +17,9 @@
 package us.eharning.atomun.mnemonic.spi.bip0039;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkPositionIndexes;
 
 import com.google.common.base.Charsets;
-import com.google.common.base.Converter;
 import com.google.common.collect.ImmutableMap;
 import com.tomgibara.bits.BitWriter;
 import com.tomgibara.bits.ByteArrayBitWriter;
@@ -27,12 +27,15 @@ import us.eharning.atomun.mnemonic.BIPMnemonicAlgorithm;
 import us.eharning.atomun.mnemonic.MnemonicExtensionIdentifier;
 import us.eharning.atomun.mnemonic.MnemonicUnit;
 import us.eharning.atomun.mnemonic.spi.MnemonicUnitSpi;
+import us.eharning.atomun.mnemonic.spi.SeedDerivation;
+import us.eharning.atomun.mnemonic.spi.TokenizedMnemonic;
 import us.eharning.atomun.mnemonic.utility.dictionary.Dictionary;
 import us.eharning.atomun.mnemonic.utility.dictionary.DictionaryIdentifier;
 import us.eharning.atomun.mnemonic.utility.dictionary.DictionarySource;
 
 import java.text.Normalizer;
-import java.util.List;
+import java.util.Arrays;
+import javax.annotation.CheckForNull;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
@@ -42,6 +45,7 @@ import javax.annotation.concurrent.Immutable;
  */
 @Immutable
 class BIP0039MnemonicUnitSpi extends MnemonicUnitSpi {
+    private static final String SALT_PREFIX = "mnemonic";
     @Nonnull
     private final DictionaryIdentifier dictionaryIdentifier;
 
@@ -57,30 +61,22 @@ class BIP0039MnemonicUnitSpi extends MnemonicUnitSpi {
     }
 
     /**
-     * Convert a sequence of mnemonic word into a bit array for validation and usage.
+     * Convert a sequence of mnemonic word indices into a bit array for validation and usage.
      *
-     * @param dictionary
-     *         instance to check for the presence of all words.
-     * @param mnemonicWordList
-     *         sequence of mnemonic words to map against a dictionary for bit values.
+     * @param mnemonicIndices
+     *         dictionary indices of the mnemonic words.
      *
      * @return sequence of bytes based on word list.
      */
     @Nonnull
-    private static byte[] mnemonicToBytes(@Nonnull Dictionary dictionary, @Nonnull List<String> mnemonicWordList) {
+    private static byte[] mnemonicToBytes(@Nonnull int[] mnemonicIndices) {
         /* Each word represents 11 bits of entropy (2^11 => 2048 words) */
-        int mnemonicSentenceBitCount = mnemonicWordList.size() * 11;
+        int mnemonicSentenceBitCount = mnemonicIndices.length * 11;
         int mnemonicSentenceByteCount = (mnemonicSentenceBitCount + 7) / 8;
 
         byte[] mnemonicSentenceBytes = new byte[mnemonicSentenceByteCount];
         BitWriter bitWriter = new ByteArrayBitWriter(mnemonicSentenceBytes);
-        Converter<String, Integer> reverseConverter = dictionary.reverse();
-        for (String word : mnemonicWordList) {
-            /* Find the word index in the wordList. */
-            /* Warning suppressed due to word guaranteed non-null */
-            //noinspection ConstantConditions
-            int index = reverseConverter.convert(word);
-
+        for (int index : mnemonicIndices) {
             bitWriter.write(index, 11);
         }
         bitWriter.flush();
@@ -148,8 +144,36 @@ class BIP0039MnemonicUnitSpi extends MnemonicUnitSpi {
      */
     @Nonnull
     public MnemonicUnit build(@Nonnull MnemonicUnit.Builder builder, @Nonnull CharSequence mnemonicSequence, @Nonnull byte[] entropy) {
-        return super.build(builder, mnemonicSequence, entropy, entropy, ImmutableMap.<MnemonicExtensionIdentifier, Object>of());
+        return super.build(builder, mnemonicSequence, entropy, null, ImmutableMap.<MnemonicExtensionIdentifier, Object>of());
+
+    }
+
+    /**
+     * Utility method to generate a MnemonicUnit wrapping the given word indices and entropy.
+     *
+     * @param builder
+     *         instance maker.
+     * @param mnemonicIndices
+     *         dictionary indices of the words, owned by the new instance.
+     * @param entropy
+     *         derived copy of entropy.
+     *
+     * @return wrapped instance.
+     */
+    @Nonnull
+    public MnemonicUnit build(@Nonnull MnemonicUnit.Builder builder, @Nonnull int[] mnemonicIndices, @Nonnull byte[] entropy) {
+        return super.build(builder, mnemonicIndices, entropy, null, ImmutableMap.<MnemonicExtensionIdentifier, Object>of());
+    }
 
+    /**
+     * Get the identifier of the dictionary the mnemonic words are drawn from.
+     *
+     * @return dictionary identifier.
+     */
+    @Nonnull
+    @Override
+    public DictionaryIdentifier getDictionaryIdentifier() {
+        return dictionaryIdentifier;
     }
 
     /**
@@ -165,16 +189,50 @@ class BIP0039MnemonicUnitSpi extends MnemonicUnitSpi {
     public byte[] getEntropy(@Nonnull CharSequence mnemonicSequence) {
         Dictionary dictionary = DictionarySource.getDictionary(dictionaryIdentifier);
 
-        List<String> mnemonicWordList = BIP0039MnemonicUtility.getNormalizedWordList(mnemonicSequence);
-        int mnemonicSentenceBitCount = mnemonicWordList.size() * 11;
-        byte[] mnemonicSentenceBytes = mnemonicToBytes(dictionary, mnemonicWordList);
+        TokenizedMnemonic tokenizedMnemonic = TokenizedMnemonic.tokenize(mnemonicSequence);
+        if (tokenizedMnemonic.indexOfFirstUnknown(dictionary) >= 0) {
+            throw new IllegalArgumentException("Unknown dictionary word");
+        }
+        return getEntropy(tokenizedMnemonic.getIndices(dictionary));
+    }
+
+    /**
+     * Get the entropy from the dictionary indices of the mnemonic words.
+     *
+     * @param mnemonicIndices
+     *         dictionary indices of the mnemonic words, all valid.
+     *
+     * @return a derived copy of the entropy byte array.
+     */
+    @Nonnull
+    @Override
+    public byte[] getEntropy(@Nonnull int[] mnemonicIndices) {
+        byte[] entropy = getCheckedEntropy(mnemonicIndices);
+        if (null == entropy) {
+            throw new IllegalArgumentException("Checksum does not match");
+        }
+        return entropy;
+    }
+
+    /**
+     * Get the entropy from the dictionary indices of the mnemonic words.
+     *
+     * @param mnemonicIndices
+     *         dictionary indices of the mnemonic words, all valid.
+     *
+     * @return a derived copy of the entropy byte array or null if the checksum does not match.
+     */
+    @CheckForNull
+    static byte[] getCheckedEntropy(@Nonnull int[] mnemonicIndices) {
+        int mnemonicSentenceBitCount = mnemonicIndices.length * 11;
+        byte[] mnemonicSentenceBytes = mnemonicToBytes(mnemonicIndices);
 
         /* Extract from the bits the entropy prefix */
         byte[] entropy = extractEntropy(mnemonicSentenceBytes, mnemonicSentenceBitCount);
 
         /* Verify that the word list is valid using the checksum at the end of the data */
         if (!verifyEntropyMatch(entropy, mnemonicSentenceBytes, mnemonicSentenceBitCount)) {
-            throw new IllegalArgumentException("Checksum does not match");
+            return null;
         }
         return entropy;
     }
@@ -192,14 +250,123 @@ class BIP0039MnemonicUnitSpi extends MnemonicUnitSpi {
     @Nonnull
     @Override
     public byte[] getSeed(@Nonnull CharSequence mnemonicSequence, @Nullable CharSequence password) {
-        byte[] mnemonicSequenceBytes = Normalizer.normalize(mnemonicSequence, Normalizer.Form.NFKD).getBytes(Charsets.UTF_8);
+        return BIP0039MnemonicUtility.deriveSeed(getPasswordBytes(password), getMnemonicSequenceBytes(mnemonicSequence));
+    }
 
-        /* Normalize the password and get the UTF-8 bytes. */
-        String normalizedPassword = "mnemonic";
-        if (null != password && 0 != password.length()) {
-            normalizedPassword = normalizedPassword + Normalizer.normalize(password, Normalizer.Form.NFKD);
+    /**
+     * Write a seed from this mnemonic into the output array, derived in place.
+     *
+     * @param mnemonicSequence
+     *         sequence to derive the seed from.
+     * @param password
+     *         password to supply for decoding.
+     * @param output
+     *         array to write into.
+     * @param offset
+     *         index into output to begin writing.
+     *
+     * @return number of bytes written.
+     */
+    @Override
+    public int getSeed(@Nonnull CharSequence mnemonicSequence, @Nullable CharSequence password, @Nonnull byte[] output, int offset) {
+        checkPositionIndexes(offset, offset + SeedDerivation.SEED_LENGTH, output.length);
+        BIP0039MnemonicUtility.deriveSeed(getPasswordBytes(password), getMnemonicSequenceBytes(mnemonicSequence), output, offset);
+        return SeedDerivation.SEED_LENGTH;
+    }
+
+    /**
+     * Write the BIP0032 master key for the seed of this mnemonic into the output array.
+     * The seed is derived in place and replaced there by the master key.
+     *
+     * @param mnemonicSequence
+     *         sequence to derive the master key from.
+     * @param password
+     *         password to supply for decoding.
+     * @param output
+     *         array to write into.
+     * @param offset
+     *         index into output to begin writing.
+     *
+     * @return number of bytes written.
+     */
+    @Override
+    public int getMasterKey(@Nonnull CharSequence mnemonicSequence, @Nullable CharSequence password, @Nonnull byte[] output, int offset) {
+        checkPositionIndexes(offset, offset + SeedDerivation.MASTER_KEY_LENGTH, output.length);
+        BIP0039MnemonicUtility.deriveMasterKey(getPasswordBytes(password), getMnemonicSequenceBytes(mnemonicSequence), output, offset);
+        return SeedDerivation.MASTER_KEY_LENGTH;
+    }
+
+    /**
+     * Normalize the mnemonic sequence and get the UTF-8 bytes.
+     *
+     * @param mnemonicSequence
+     *         sequence to derive the seed from.
+     *
+     * @return PBKDF2 password bytes.
+     */
+    @Nonnull
+    private static byte[] getMnemonicSequenceBytes(@Nonnull CharSequence mnemonicSequence) {
+        return Normalizer.normalize(mnemonicSequence, Normalizer.Form.NFKD).getBytes(Charsets.UTF_8);
+    }
+
+    /**
+     * Obtain a seed derivation keyed by this mnemonic, for deriving the seeds of many passwords.
+     *
+     * @param mnemonicSequence
+     *         sequence to derive seeds from.
+     *
+     * @return derivation keyed by the mnemonic.
+     */
+    @Nonnull
+    @Override
+    public SeedDerivation.Keyed getKeyedSeedDerivation(@Nonnull CharSequence mnemonicSequence) {
+        byte[] mnemonicSequenceBytes = getMnemonicSequenceBytes(mnemonicSequence);
+        try {
+            return BIP0039MnemonicUtility.keyedSeedDerivation(mnemonicSequenceBytes);
+        } finally {
+            Arrays.fill(mnemonicSequenceBytes, (byte) 0);
+        }
+    }
+
+    /**
+     * Obtain the seed derivation salt for a password.
+     *
+     * @param password
+     *         password to supply for decoding.
+     *
+     * @return PBKDF2 salt bytes.
+     */
+    @Nonnull
+    @Override
+    public byte[] getSeedSalt(@Nullable CharSequence password) {
+        return getPasswordBytes(password);
+    }
+
+    /**
+     * Normalize the password and get the UTF-8 bytes.
+     * ASCII passwords are unchanged by NFKD and are encoded directly.
+     *
+     * @param password
+     *         password to supply for decoding.
+     *
+     * @return PBKDF2 salt bytes.
+     */
+    @Nonnull
+    private static byte[] getPasswordBytes(@Nullable CharSequence password) {
+        int length = null == password ? 0 : password.length();
+        for (int i = 0; i < length; i++) {
+            if (password.charAt(i) >= 0x80) {
+                String normalizedPassword = SALT_PREFIX + Normalizer.normalize(password, Normalizer.Form.NFKD);
+                return normalizedPassword.getBytes(Charsets.UTF_8);
+            }
+        }
+        byte[] passwordBytes = new byte[SALT_PREFIX.length() + length];
+        for (int i = 0; i < SALT_PREFIX.length(); i++) {
+            passwordBytes[i] = (byte) SALT_PREFIX.charAt(i);
+        }
+        for (int i = 0; i < length; i++) {
+            passwordBytes[SALT_PREFIX.length() + i] = (byte) password.charAt(i);
         }
-        byte[] passwordBytes = normalizedPassword.getBytes(Charsets.UTF_8);
-        return BIP0039MnemonicUtility.deriveSeed(passwordBytes, mnemonicSequenceBytes);
+        return passwordBytes;
     }
 }
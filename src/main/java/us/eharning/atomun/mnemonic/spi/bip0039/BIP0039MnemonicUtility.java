@@ -16,17 +16,16 @@
 
 package us.eharning.atomun.mnemonic.spi.bip0039;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import com.google.common.base.Function;
 import com.google.common.base.Predicates;
-import com.google.common.base.Splitter;
 import com.google.common.base.Throwables;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Iterables;
-import com.google.common.collect.Lists;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
-import us.eharning.atomun.core.crypto.PBKDF2;
+import us.eharning.atomun.mnemonic.spi.SeedDerivation;
 import us.eharning.atomun.mnemonic.utility.dictionary.Dictionary;
 import us.eharning.atomun.mnemonic.utility.dictionary.DictionaryIdentifier;
 import us.eharning.atomun.mnemonic.utility.dictionary.DictionarySource;
@@ -34,7 +33,7 @@ import us.eharning.atomun.mnemonic.utility.dictionary.DictionarySource;
 import java.security.GeneralSecurityException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
-import java.text.Normalizer;
+import java.util.Arrays;
 import java.util.List;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -49,8 +48,6 @@ final class BIP0039MnemonicUtility {
             "japanese"
     );
     private static final int PBKDF_ROUNDS = 2048;
-    private static final String PBKDF_MAC = "HmacSHA512";
-    private static final int PBKDF_SEED_OUTPUT = 64;
 
     /**
      * Private unused constructor to mark as utility class.
@@ -127,6 +124,66 @@ final class BIP0039MnemonicUtility {
         }
     }
 
+    /**
+     * Utility method to compute every valid last word index completing the given words.
+     * <p>
+     * The last word holds the final entropy bits and the checksum, so each setting of the free entropy bits
+     * yields exactly one valid word. Only those 2^(11-CS) completions are hashed, reusing one digest.
+     * </p>
+     *
+     * @param prefixIndices
+     *         dictionary indices of all but the last word.
+     *
+     * @return valid last word indices in increasing order.
+     *
+     * @throws java.lang.IllegalArgumentException
+     *         if the completed word count is not a valid mnemonic length.
+     */
+    @Nonnull
+    static int[] getValidLastWords(@Nonnull int[] prefixIndices) {
+        int wordCount = prefixIndices.length + 1;
+        checkArgument(wordCount % 3 == 0, "Mnemonic word count must be a non-zero multiple of 3");
+        int checksumBitCount = wordCount / 3;
+        checkArgument(checksumBitCount <= 11, "Mnemonic word count too large");
+        int freeBitCount = 11 - checksumBitCount;
+        byte[] entropy = new byte[wordCount * 4 / 3];
+        /* Pack the prefix with the free bits of the last word left zero */
+        long accumulator = 0;
+        int accumulatedBits = 0;
+        int offset = 0;
+        for (int i = 0; offset < entropy.length; i++) {
+            accumulator = (accumulator << 11) | (i < prefixIndices.length ? prefixIndices[i] : 0);
+            accumulatedBits += 11;
+            while (accumulatedBits >= 8 && offset < entropy.length) {
+                accumulatedBits -= 8;
+                entropy[offset++] = (byte) (accumulator >>> accumulatedBits);
+            }
+        }
+        /* Entropy is a multiple of 32 bits and the free bits fit in the final 16 */
+        int tailOffset = entropy.length - 2;
+        int tail = ((entropy[tailOffset] & 0xFF) << 8) | (entropy[tailOffset + 1] & 0xFF);
+        int[] lastWords = new int[1 << freeBitCount];
+        byte[] hash = new byte[32];
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (int value = 0; value < lastWords.length; value++) {
+                entropy[tailOffset] = (byte) ((tail | value) >>> 8);
+                entropy[tailOffset + 1] = (byte) (tail | value);
+                digest.update(entropy);
+                digest.digest(hash, 0, hash.length);
+                int checksum = (((hash[0] & 0xFF) << 8) | (hash[1] & 0xFF)) >>> (16 - checksumBitCount);
+                lastWords[value] = (value << checksumBitCount) | checksum;
+            }
+        } catch (GeneralSecurityException e) {
+            /* Rethrow this (generally) impossible case */
+            throw Throwables.propagate(e);
+        } finally {
+            Arrays.fill(entropy, (byte) 0);
+            Arrays.fill(hash, (byte) 0);
+        }
+        return lastWords;
+    }
+
     /**
      * Utility method to derive a seed given the password and processed mnemonic sequence.
      *
@@ -142,12 +199,60 @@ final class BIP0039MnemonicUtility {
      */
     @Nonnull
     static byte[] deriveSeed(@Nonnull byte[] passwordBytes, @Nonnull byte[] mnemonicSequenceBytes) {
-        try {
-            return PBKDF2.pbkdf2(PBKDF_MAC, mnemonicSequenceBytes, passwordBytes, PBKDF_ROUNDS, PBKDF_SEED_OUTPUT);
-        } catch (GeneralSecurityException e) {
-            /* Rethrow this (generally) impossible case */
-            throw Throwables.propagate(e);
-        }
+        byte[] seed = new byte[SeedDerivation.SEED_LENGTH];
+        deriveSeed(passwordBytes, mnemonicSequenceBytes, seed, 0);
+        return seed;
+    }
+
+    /**
+     * Utility method to derive a seed given the password and processed mnemonic sequence into the output.
+     *
+     * @param passwordBytes
+     *         UTF-8 byte sequence representing the password to use.
+     * @param mnemonicSequenceBytes
+     *         UTF-8 byte sequence representing the mnemonic sequence.
+     * @param output
+     *         array to write the 64-byte seed into.
+     * @param offset
+     *         index into output to begin writing.
+     *
+     * @throws java.lang.IndexOutOfBoundsException
+     *         if the output cannot hold the seed at offset.
+     */
+    static void deriveSeed(@Nonnull byte[] passwordBytes, @Nonnull byte[] mnemonicSequenceBytes, @Nonnull byte[] output, int offset) {
+        SeedDerivation.deriveSeed(mnemonicSequenceBytes, passwordBytes, PBKDF_ROUNDS, output, offset);
+    }
+
+    /**
+     * Utility method to derive the BIP0032 master key of the seed given the password and processed mnemonic sequence into the output.
+     *
+     * @param passwordBytes
+     *         UTF-8 byte sequence representing the password to use.
+     * @param mnemonicSequenceBytes
+     *         UTF-8 byte sequence representing the mnemonic sequence.
+     * @param output
+     *         array to write the 64-byte master key into.
+     * @param offset
+     *         index into output to begin writing.
+     *
+     * @throws java.lang.IndexOutOfBoundsException
+     *         if the output cannot hold the master key at offset.
+     */
+    static void deriveMasterKey(@Nonnull byte[] passwordBytes, @Nonnull byte[] mnemonicSequenceBytes, @Nonnull byte[] output, int offset) {
+        SeedDerivation.deriveMasterKey(mnemonicSequenceBytes, passwordBytes, PBKDF_ROUNDS, output, offset);
+    }
+
+    /**
+     * Utility method to prepare a seed derivation keyed by the processed mnemonic sequence.
+     *
+     * @param mnemonicSequenceBytes
+     *         UTF-8 byte sequence representing the mnemonic sequence.
+     *
+     * @return keyed derivation for password salts.
+     */
+    @Nonnull
+    static SeedDerivation.Keyed keyedSeedDerivation(@Nonnull byte[] mnemonicSequenceBytes) {
+        return SeedDerivation.keyed(mnemonicSequenceBytes, PBKDF_ROUNDS);
     }
 
     /**
@@ -173,26 +278,4 @@ final class BIP0039MnemonicUtility {
         return dictionaryIterable;
     }
 
-    /**
-     * Get normalized list of split words.
-     *
-     * @param mnemonicSequence space-separated list of words to split/normalize.
-     *
-     * @return list of normalized words.
-     */
-    @Nonnull
-    public static List<String> getNormalizedWordList(@Nonnull CharSequence mnemonicSequence) {
-        /* Normalize after splitting due to wide spaces getting normalized into space+widener */
-        List<String> mnemonicWordList = Splitter.onPattern(" |\u3000").splitToList(mnemonicSequence);
-        return Lists.transform(mnemonicWordList, new Function<String, String>() {
-            @SuppressFBWarnings("NP_PARAMETER_MUST_BE_NONNULL_BUT_MARKED_AS_NULLABLE")
-            @Nullable
-            @Override
-            public String apply(@Nullable String input) {
-                /* splitters do not return null elements */
-                checkNotNull(input);
-                return Normalizer.normalize(input, Normalizer.Form.NFKD);
-            }
-        });
-    }
 }
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2026 Thomas Harning Jr. <harningt@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package us.eharning.atomun.mnemonic.spi.bip0039;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.base.Throwables;
+import us.eharning.atomun.mnemonic.MnemonicUnit;
+import us.eharning.atomun.mnemonic.spi.WordOrderSpliterator;
+
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+
+/**
+ * Splittable enumeration of the BIP0039 sentences reordering words at uncertain positions.
+ * <p>
+ * Only the entropy bytes from the first changed word on are repacked for each ordering.
+ * The entropy is at most 32 bytes, within the first SHA-256 block, so there is no compression work
+ * shared between orderings and each costs exactly one block.
+ * </p>
+ */
+final class BIP0039WordOrderSpliterator extends WordOrderSpliterator {
+    private static final int BITS_PER_WORD = 11;
+
+    private final MnemonicUnit.Builder builder;
+    private final BIP0039MnemonicUnitSpi unitSpi;
+    private final int checksumBitCount;
+    private final byte[] entropy;
+    private final byte[] hash = new byte[32];
+    private final MessageDigest digest;
+    private boolean packed;
+
+    /**
+     * Construct the enumeration over all reorderings of a sentence.
+     *
+     * @param builder
+     *         instance maker.
+     * @param unitSpi
+     *         unit implementation for the dictionary.
+     * @param mnemonicIndices
+     *         dictionary indices of the words as recorded.
+     * @param uncertainPositions
+     *         word positions whose words may be in the wrong order.
+     */
+    BIP0039WordOrderSpliterator(@Nonnull MnemonicUnit.Builder builder, @Nonnull BIP0039MnemonicUnitSpi unitSpi, @Nonnull int[] mnemonicIndices, @Nonnull int[] uncertainPositions) {
+        super(mnemonicIndices, uncertainPositions);
+        int wordCount = mnemonicIndices.length;
+        checkArgument(wordCount != 0 && wordCount % 3 == 0, "Mnemonic word count must be a non-zero multiple of 3");
+        this.checksumBitCount = wordCount / 3;
+        checkArgument(checksumBitCount <= BITS_PER_WORD, "Mnemonic word count too large");
+        this.builder = builder;
+        this.unitSpi = unitSpi;
+        this.entropy = new byte[wordCount * 4 / 3];
+        this.digest = newDigest();
+    }
+
+    /**
+     * Construct a split-off portion of another enumeration.
+     *
+     * @param parent
+     *         enumeration being split.
+     * @param origin
+     *         first ordering number, inclusive.
+     * @param fence
+     *         last ordering number, exclusive.
+     */
+    private BIP0039WordOrderSpliterator(@Nonnull BIP0039WordOrderSpliterator parent, long origin, long fence) {
+        super(parent, origin, fence);
+        this.builder = parent.builder;
+        this.unitSpi = parent.unitSpi;
+        this.checksumBitCount = parent.checksumBitCount;
+        this.entropy = new byte[parent.entropy.length];
+        this.digest = newDigest();
+    }
+
+    /**
+     * Obtain a SHA-256 digest instance.
+     *
+     * @return new digest instance.
+     */
+    @Nonnull
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            /* Rethrow this (generally) impossible case */
+            throw Throwables.propagate(e);
+        }
+    }
+
+    @CheckForNull
+    @Override
+    protected MnemonicUnit checkCandidate(@Nonnull int[] mnemonicIndices, @Nonnull int[] sourcePositions, int firstChangedSlot) {
+        /* The leading fixed words are packed once per instance */
+        packEntropy(mnemonicIndices, packed ? getUncertainPosition(firstChangedSlot) : 0);
+        packed = true;
+        digest.update(entropy);
+        try {
+            digest.digest(hash, 0, hash.length);
+        } catch (DigestException e) {
+            /* Rethrow this (generally) impossible case */
+            throw Throwables.propagate(e);
+        }
+        int checksum = (((hash[0] & 0xFF) << 8) | (hash[1] & 0xFF)) >>> (16 - checksumBitCount);
+        if ((mnemonicIndices[mnemonicIndices.length - 1] & ((1 << checksumBitCount) - 1)) != checksum) {
+            return null;
+        }
+        return unitSpi.build(builder, Arrays.copyOf(mnemonicIndices, mnemonicIndices.length), Arrays.copyOf(entropy, entropy.length));
+    }
+
+    /**
+     * Repack the entropy bytes holding bits of the given word or any later word.
+     *
+     * @param mnemonicIndices
+     *         dictionary indices of the words.
+     * @param firstChangedPosition
+     *         first word position that changed since the last packing.
+     */
+    private void packEntropy(@Nonnull int[] mnemonicIndices, int firstChangedPosition) {
+        int offset = firstChangedPosition * BITS_PER_WORD / 8;
+        /* Start with the tail of the word holding the first bit of the byte */
+        int word = offset * 8 / BITS_PER_WORD;
+        int accumulatedBits = (word + 1) * BITS_PER_WORD - offset * 8;
+        long accumulator = mnemonicIndices[word] & ((1 << accumulatedBits) - 1);
+        while (true) {
+            while (accumulatedBits >= 8 && offset < entropy.length) {
+                accumulatedBits -= 8;
+                entropy[offset++] = (byte) (accumulator >>> accumulatedBits);
+            }
+            if (offset == entropy.length) {
+                return;
+            }
+            word++;
+            accumulator = (accumulator << BITS_PER_WORD) | mnemonicIndices[word];
+            accumulatedBits += BITS_PER_WORD;
+        }
+    }
+
+    @Nonnull
+    @Override
+    protected WordOrderSpliterator split(long origin, long fence) {
+        return new BIP0039WordOrderSpliterator(this, origin, fence);
+    }
+}
@@ -16,12 +16,22 @@
 
 package us.eharning.atomun.mnemonic.spi.electrum.legacy;
 
+import static com.google.common.base.Preconditions.checkArgument;
+
 import us.eharning.atomun.mnemonic.ElectrumMnemonicAlgorithm;
 import us.eharning.atomun.mnemonic.MnemonicUnit;
 import us.eharning.atomun.mnemonic.spi.BuilderParameter;
 import us.eharning.atomun.mnemonic.spi.EntropyBuilderParameter;
 import us.eharning.atomun.mnemonic.spi.MnemonicBuilderSpi;
+import us.eharning.atomun.mnemonic.spi.MnemonicGeneratorSpi;
+import us.eharning.atomun.mnemonic.utility.dictionary.Dictionary;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import javax.annotation.Nonnull;
 import javax.annotation.concurrent.Immutable;
 
@@ -60,26 +70,39 @@ final class LegacyElectrumMnemonicBuilderSpi extends MnemonicBuilderSpi {
      * @param parameters
      *         builder parameters to drive the process.
      *
-     * @return entropy
+     * @return entropy parameter.
      */
     @Nonnull
-    private static byte[] getParameterEntropy(BuilderParameter... parameters) {
-        byte[] entropy = null;
+    private static EntropyBuilderParameter getEntropyParameter(BuilderParameter... parameters) {
+        EntropyBuilderParameter entropyParameter = null;
         for (BuilderParameter parameter : parameters) {
             if (null == parameter) {
                 continue;
             }
             if (parameter instanceof EntropyBuilderParameter) {
-                entropy = ((EntropyBuilderParameter) parameter).getEntropy();
+                entropyParameter = (EntropyBuilderParameter) parameter;
             } else {
                 throw new IllegalArgumentException("Unsupported parameter type: " + parameter);
             }
         }
-        if (null == entropy) {
+        if (null == entropyParameter) {
             /* Use default */
-            entropy = DEFAULT_ENTROPY_PARAMETER.getEntropy();
+            entropyParameter = DEFAULT_ENTROPY_PARAMETER;
         }
-        return entropy;
+        return entropyParameter;
+    }
+
+    /**
+     * Extracts the entropy parameter from parameters, else a default.
+     *
+     * @param parameters
+     *         builder parameters to drive the process.
+     *
+     * @return entropy
+     */
+    @Nonnull
+    private static byte[] getParameterEntropy(BuilderParameter... parameters) {
+        return getEntropyParameter(parameters).getEntropy();
     }
 
     /**
@@ -95,8 +118,7 @@ final class LegacyElectrumMnemonicBuilderSpi extends MnemonicBuilderSpi {
     @Nonnull
     @Override
     public String generateMnemonic(BuilderParameter... parameters) {
-        byte[] entropy = getParameterEntropy(parameters);
-        return LegacyElectrumMnemonicUtility.toMnemonic(entropy);
+        return compile(parameters).generateMnemonic();
     }
 
     /**
@@ -115,9 +137,23 @@ final class LegacyElectrumMnemonicBuilderSpi extends MnemonicBuilderSpi {
     @Nonnull
     @Override
     public MnemonicUnit generateMnemonicUnit(@Nonnull MnemonicUnit.Builder builder, BuilderParameter... parameters) {
-        byte[] entropy = getParameterEntropy(parameters);
-        String mnemonicSequence = LegacyElectrumMnemonicUtility.toMnemonic(entropy);
-        return LegacyElectrumMnemonicDecoderSpi.SPI.build(builder, mnemonicSequence, entropy);
+        return compile(parameters).generateMnemonicUnit(builder);
+    }
+
+    /**
+     * Bind the builder parameters to a reusable, thread-safe generator.
+     *
+     * @param parameters
+     *         builder parameters to drive the process.
+     *
+     * @return generator with the entropy parameter and dictionary resolved.
+     *
+     * @since 0.8.0
+     */
+    @Nonnull
+    @Override
+    public MnemonicGeneratorSpi compile(BuilderParameter... parameters) {
+        return new GeneratorSpi(getEntropyParameter(parameters), LegacyElectrumMnemonicUtility.getDictionary());
     }
 
     /**
@@ -143,4 +179,118 @@ final class LegacyElectrumMnemonicBuilderSpi extends MnemonicBuilderSpi {
             throw new IllegalArgumentException("Unsupported parameter type: " + parameter);
         }
     }
+
+    /**
+     * Generator bound to a resolved entropy parameter and dictionary.
+     */
+    @Immutable
+    private static final class GeneratorSpi extends MnemonicGeneratorSpi {
+        private final EntropyBuilderParameter entropyParameter;
+        private final Dictionary dictionary;
+
+        /**
+         * Construct the generator.
+         *
+         * @param entropyParameter
+         *         source of the entropy to encode.
+         * @param dictionary
+         *         dictionary to encode entropy with.
+         */
+        GeneratorSpi(@Nonnull EntropyBuilderParameter entropyParameter, @Nonnull Dictionary dictionary) {
+            this.entropyParameter = entropyParameter;
+            this.dictionary = dictionary;
+        }
+
+        /**
+         * Encode the entropy to a mnemonic sequence.
+         *
+         * @param entropy
+         *         value to encode.
+         *
+         * @return space-delimited sequence of mnemonic words.
+         */
+        @Nonnull
+        private String toMnemonic(@Nonnull byte[] entropy) {
+            StringBuilder mnemonicSentence = new StringBuilder();
+            LegacyElectrumMnemonicUtility.appendMnemonic(mnemonicSentence, dictionary, entropy);
+            return mnemonicSentence.toString();
+        }
+
+        @Nonnull
+        @Override
+        public String generateMnemonic() {
+            return toMnemonic(entropyParameter.getEntropy());
+        }
+
+        @Nonnull
+        @Override
+        public MnemonicUnit generateMnemonicUnit(@Nonnull MnemonicUnit.Builder builder) {
+            byte[] entropy = entropyParameter.getEntropy();
+            return LegacyElectrumMnemonicDecoderSpi.SPI.build(builder, toMnemonic(entropy), entropy);
+        }
+
+        /**
+         * Generate multiple mnemonic sequences.
+         * Entropy for all sequences is drawn at once and sentences are encoded through a shared buffer.
+         *
+         * @param count
+         *         number of sequences to generate.
+         *
+         * @return list of generated mnemonic sequences.
+         */
+        @Nonnull
+        @Override
+        public List<String> generateMnemonics(int count) {
+            checkArgument(count >= 0, "count must not be negative");
+            int entropyLength = entropyParameter.getEntropyLength();
+            byte[] entropyBlock = entropyParameter.getEntropyBlock(count);
+            byte[] entropy = new byte[entropyLength];
+            StringBuilder mnemonicSentence = new StringBuilder();
+            List<String> result = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                System.arraycopy(entropyBlock, i * entropyLength, entropy, 0, entropyLength);
+                mnemonicSentence.setLength(0);
+                LegacyElectrumMnemonicUtility.appendMnemonic(mnemonicSentence, dictionary, entropy);
+                result.add(mnemonicSentence.toString());
+            }
+            Arrays.fill(entropyBlock, (byte) 0);
+            Arrays.fill(entropy, (byte) 0);
+            return result;
+        }
+
+        /**
+         * Generate a stream of wrapped mnemonic units.
+         * Entropy for all units is drawn at once, each unit's slice is wiped from the block once consumed
+         * and whatever remains is wiped when the stream is closed.
+         *
+         * @param builder
+         *         instance to construct MnemonicUnit with.
+         * @param count
+         *         number of units to generate.
+         *
+         * @return stream of MnemonicUnit instances wrapping build results.
+         */
+        @Nonnull
+        @Override
+        public Stream<MnemonicUnit> generateMnemonicUnits(@Nonnull final MnemonicUnit.Builder builder, int count) {
+            checkArgument(count >= 0, "count must not be negative");
+            final int entropyLength = entropyParameter.getEntropyLength();
+            final byte[] entropyBlock = entropyParameter.getEntropyBlock(count);
+            return IntStream.range(0, count).mapToObj(new IntFunction<MnemonicUnit>() {
+                @Override
+                public MnemonicUnit apply(int index) {
+                    int offset = index * entropyLength;
+                    byte[] entropy = Arrays.copyOfRange(entropyBlock, offset, offset + entropyLength);
+                    Arrays.fill(entropyBlock, offset, offset + entropyLength, (byte) 0);
+                    return LegacyElectrumMnemonicDecoderSpi.SPI.build(builder, toMnemonic(entropy), entropy);
+                }
+            }).onClose(new Runnable() {
+                @Override
+                public void run() {
+                    /* Units left unconsumed by a short-circuiting or failed pipeline */
+                    Arrays.fill(entropyBlock, (byte) 0);
+                }
+            });
+        }
+    }
 }
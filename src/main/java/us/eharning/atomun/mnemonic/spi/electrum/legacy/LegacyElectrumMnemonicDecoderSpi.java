@@ -16,9 +16,17 @@
 
 package us.eharning.atomun.mnemonic.spi.electrum.legacy;
 
+import static com.google.common.base.Preconditions.checkArgument;
+
+import us.eharning.atomun.mnemonic.MnemonicDecodeResult;
 import us.eharning.atomun.mnemonic.MnemonicUnit;
 import us.eharning.atomun.mnemonic.spi.MnemonicDecoderSpi;
+import us.eharning.atomun.mnemonic.spi.TokenizedMnemonic;
+import us.eharning.atomun.mnemonic.utility.dictionary.Dictionary;
+import us.eharning.atomun.mnemonic.utility.dictionary.DictionaryIdentifier;
 
+import java.util.List;
+import javax.annotation.CheckForNull;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
@@ -53,8 +61,124 @@ class LegacyElectrumMnemonicDecoderSpi extends MnemonicDecoderSpi {
             /* There are no custom word lists for legacy Electrum mnemonic system. */
             throw new UnsupportedOperationException("No custom wordListIdentifiers allowed");
         }
-        byte[] entropy = LegacyElectrumMnemonicUtility.toEntropy(mnemonicSequence);
-        return SPI.build(builder, mnemonicSequence, entropy);
+        return tryDecode(builder, mnemonicSequence, null).getUnitOrThrow();
+    }
+
+    /**
+     * Decodes a mnemonic given as the dictionary indices of its words.
+     *
+     * @param builder
+     *         instance maker.
+     * @param dictionaryIdentifier
+     *         identifier for the dictionary the indices refer to, must be the legacy dictionary.
+     * @param mnemonicIndices
+     *         dictionary indices of the mnemonic words, owned by the decoder.
+     *
+     * @return mnemonic unit.
+     *
+     * @throws IllegalArgumentException
+     *         the indices cannot match
+     */
+    @Nonnull
+    @Override
+    public MnemonicUnit decode(@Nonnull MnemonicUnit.Builder builder, @Nonnull DictionaryIdentifier dictionaryIdentifier, @Nonnull int[] mnemonicIndices) {
+        Dictionary dictionary = LegacyElectrumMnemonicUtility.getDictionary();
+        if (!dictionary.getIdentifier().equals(dictionaryIdentifier)) {
+            /* There are no custom word lists for legacy Electrum mnemonic system. */
+            throw new UnsupportedOperationException("Unsupported dictionary: " + dictionaryIdentifier);
+        }
+        checkArgument(mnemonicIndices.length != 0 && mnemonicIndices.length % 3 == 0, "Mnemonic word count must be a non-zero multiple of 3");
+        checkArgument(dictionary.indexOfFirstInvalid(mnemonicIndices) < 0, "Word index out of dictionary range");
+        byte[] entropy = LegacyElectrumMnemonicUtility.toEntropy(dictionary.getSize(), mnemonicIndices);
+        return SPI.build(builder, mnemonicIndices, entropy);
+    }
+
+    /**
+     * Look up the identifier of the legacy dictionary by its word list name.
+     *
+     * @param wordListIdentifier
+     *         name of the word list.
+     *
+     * @return dictionary identifier.
+     *
+     * @throws IllegalArgumentException
+     *         if the name is not that of the legacy dictionary
+     */
+    @Nonnull
+    @Override
+    public DictionaryIdentifier getDictionaryIdentifier(@Nonnull String wordListIdentifier) {
+        DictionaryIdentifier dictionaryIdentifier = LegacyElectrumMnemonicUtility.getDictionary().getIdentifier();
+        checkArgument(dictionaryIdentifier.getName().equals(wordListIdentifier), "Unknown word list: %s", wordListIdentifier);
+        return dictionaryIdentifier;
     }
 
+    /**
+     * Attempts to decode a given mnemonic into a unit, reporting failure through the result.
+     *
+     * @param builder
+     *         instance maker.
+     * @param mnemonicSequence
+     *         space-delimited sequence of mnemonic words.
+     * @param wordListIdentifier
+     *         optional word list identifier, must be null
+     *
+     * @return result holding the mnemonic unit or the failure details.
+     */
+    @Nonnull
+    @Override
+    public MnemonicDecodeResult tryDecode(@Nonnull MnemonicUnit.Builder builder, @Nonnull CharSequence mnemonicSequence, @Nullable String wordListIdentifier) {
+        return tryDecode(builder, TokenizedMnemonic.tokenize(mnemonicSequence), wordListIdentifier);
+    }
+
+    /**
+     * Attempts to decode an already tokenized mnemonic into a unit, reporting failure through the result.
+     *
+     * @param builder
+     *         instance maker.
+     * @param tokenizedMnemonic
+     *         tokenized sequence of mnemonic words.
+     * @param wordListIdentifier
+     *         optional word list identifier, must be null
+     *
+     * @return result holding the mnemonic unit or the failure details.
+     */
+    @Nonnull
+    @Override
+    public MnemonicDecodeResult tryDecode(@Nonnull MnemonicUnit.Builder builder, @Nonnull TokenizedMnemonic tokenizedMnemonic, @Nullable String wordListIdentifier) {
+        MnemonicDecodeResult failure = precheck(tokenizedMnemonic, wordListIdentifier);
+        if (null != failure) {
+            return failure;
+        }
+        byte[] entropy = LegacyElectrumMnemonicUtility.toEntropy(LegacyElectrumMnemonicUtility.getDictionary(), tokenizedMnemonic.getLooseWords());
+        return MnemonicDecodeResult.success(SPI.build(builder, tokenizedMnemonic.getMnemonicSequence(), entropy));
+    }
+
+    /**
+     * Cheaply checks whether a tokenized mnemonic could possibly decode as a legacy electrum mnemonic.
+     *
+     * @param tokenizedMnemonic
+     *         tokenized sequence of mnemonic words.
+     * @param wordListIdentifier
+     *         optional word list identifier.
+     *
+     * @return failed result describing why the input cannot decode, or null if it may decode.
+     */
+    @CheckForNull
+    @Override
+    public MnemonicDecodeResult precheck(@Nonnull TokenizedMnemonic tokenizedMnemonic, @Nullable String wordListIdentifier) {
+        if (null != wordListIdentifier) {
+            /* There are no custom word lists for legacy Electrum mnemonic system. */
+            return MnemonicDecodeResult.failure(MnemonicDecodeResult.FailureReason.UNSUPPORTED_WORD_LIST);
+        }
+        /* Legacy mnemonics are split on any whitespace and are case-insensitive */
+        List<String> mnemonicWords = tokenizedMnemonic.getLooseWords();
+        if (mnemonicWords.size() % 3 != 0) {
+            return MnemonicDecodeResult.failure(MnemonicDecodeResult.FailureReason.INVALID_WORD_COUNT);
+        }
+        int unknownWordIndex = LegacyElectrumMnemonicUtility.getDictionary().indexOfFirstUnknown(mnemonicWords);
+        if (unknownWordIndex >= 0) {
+            return MnemonicDecodeResult.failure(MnemonicDecodeResult.FailureReason.UNKNOWN_WORD, unknownWordIndex);
+        }
+        return null;
+    }
 }
@@ -21,7 +21,11 @@ import us.eharning.atomun.mnemonic.ElectrumMnemonicAlgorithm;
 import us.eharning.atomun.mnemonic.MnemonicExtensionIdentifier;
 import us.eharning.atomun.mnemonic.MnemonicUnit;
 import us.eharning.atomun.mnemonic.spi.MnemonicUnitSpi;
+import us.eharning.atomun.mnemonic.spi.TokenizedMnemonic;
+import us.eharning.atomun.mnemonic.utility.dictionary.Dictionary;
+import us.eharning.atomun.mnemonic.utility.dictionary.DictionaryIdentifier;
 
+import java.util.List;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
@@ -57,6 +61,58 @@ class LegacyElectrumMnemonicUnitSpi extends MnemonicUnitSpi {
         return super.build(builder, mnemonicSequence, entropy, entropy, ImmutableMap.<MnemonicExtensionIdentifier, Object>of());
     }
 
+    /**
+     * Utility method to generate a MnemonicUnit wrapping the given word indices and entropy.
+     *
+     * @param builder
+     *         instance maker.
+     * @param mnemonicIndices
+     *         dictionary indices of the words, owned by the new instance.
+     * @param entropy
+     *         derived copy of entropy.
+     *
+     * @return wrapped instance.
+     */
+    public MnemonicUnit build(MnemonicUnit.Builder builder, int[] mnemonicIndices, byte[] entropy) {
+        /* Entropy is the seed for this */
+        return super.build(builder, mnemonicIndices, entropy, entropy, ImmutableMap.<MnemonicExtensionIdentifier, Object>of());
+    }
+
+    /**
+     * Get the identifier of the dictionary the mnemonic words are drawn from.
+     *
+     * @return dictionary identifier.
+     */
+    @Nonnull
+    @Override
+    public DictionaryIdentifier getDictionaryIdentifier() {
+        return LegacyElectrumMnemonicUtility.getDictionary().getIdentifier();
+    }
+
+    /**
+     * Get the dictionary indices of the mnemonic words.
+     * Words are split on any whitespace and are case-insensitive.
+     *
+     * @param mnemonicSequence
+     *         sequence to look up the words of.
+     *
+     * @return array of dictionary indices.
+     */
+    @Nonnull
+    @Override
+    public int[] getIndices(@Nonnull CharSequence mnemonicSequence) {
+        Dictionary dictionary = LegacyElectrumMnemonicUtility.getDictionary();
+        List<String> mnemonicWords = TokenizedMnemonic.tokenize(mnemonicSequence).getLooseWords();
+        int[] mnemonicIndices = new int[mnemonicWords.size()];
+        for (int i = 0; i < mnemonicIndices.length; i++) {
+            mnemonicIndices[i] = dictionary.indexOf(mnemonicWords.get(i));
+            if (mnemonicIndices[i] < 0) {
+                throw new IllegalArgumentException("Unknown dictionary word");
+            }
+        }
+        return mnemonicIndices;
+    }
+
     /**
      * Get the entropy if possible.
      *
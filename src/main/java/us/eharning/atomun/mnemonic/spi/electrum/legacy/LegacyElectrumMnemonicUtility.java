@@ -16,17 +16,12 @@
 
 package us.eharning.atomun.mnemonic.spi.electrum.legacy;
 
-import com.google.common.base.CharMatcher;
-import com.google.common.base.Converter;
-import com.google.common.base.Joiner;
-import com.google.common.base.Splitter;
-import com.google.common.collect.Iterables;
-import com.google.common.collect.Lists;
+import us.eharning.atomun.mnemonic.spi.TokenizedMnemonic;
 import us.eharning.atomun.mnemonic.utility.dictionary.Dictionary;
 import us.eharning.atomun.mnemonic.utility.dictionary.DictionaryIdentifier;
 import us.eharning.atomun.mnemonic.utility.dictionary.DictionarySource;
 
-import java.util.ArrayList;
+import java.util.List;
 import javax.annotation.Nonnull;
 
 /**
@@ -34,7 +29,6 @@ import javax.annotation.Nonnull;
  */
 @Nonnull
 final class LegacyElectrumMnemonicUtility {
-    private static final Splitter WORD_SPLITTER = Splitter.on(CharMatcher.whitespace()).trimResults().omitEmptyStrings();
     private static final DictionaryIdentifier DICTIONARY_IDENTIFIER = DictionaryIdentifier.getIdentifier("english", "us/eharning/atomun/mnemonic/spi/electrum/legacy/dictionary.txt");
 
     /**
@@ -91,6 +85,16 @@ final class LegacyElectrumMnemonicUtility {
                 | buffer[currentIndex + 3] & 0xFF;
     }
 
+    /**
+     * Obtain the dictionary used by the legacy Electrum mnemonic system.
+     *
+     * @return dictionary instance.
+     */
+    @Nonnull
+    static Dictionary getDictionary() {
+        return DictionarySource.getDictionary(DICTIONARY_IDENTIFIER);
+    }
+
     /**
      * Encode a sequence of bytes to a space-delimited series of mnemonic words.
      *
@@ -101,22 +105,37 @@ final class LegacyElectrumMnemonicUtility {
      */
     @Nonnull
     static String toMnemonic(@Nonnull byte[] entropy) {
-        final Dictionary dictionary = DictionarySource.getDictionary(DICTIONARY_IDENTIFIER);
+        StringBuilder mnemonicSentence = new StringBuilder();
+        appendMnemonic(mnemonicSentence, getDictionary(), entropy);
+        return mnemonicSentence.toString();
+    }
+
+    /**
+     * Encode a sequence of bytes to a space-delimited series of mnemonic words, appending to a buffer.
+     *
+     * @param mnemonicSentence
+     *         buffer to append the space-delimited sequence of mnemonic words to.
+     * @param dictionary
+     *         legacy dictionary to encode with.
+     * @param entropy
+     *         value to encode.
+     */
+    static void appendMnemonic(@Nonnull StringBuilder mnemonicSentence, @Nonnull Dictionary dictionary, @Nonnull byte[] entropy) {
         final int N = dictionary.getSize();
         int entropyIndex = 0;
-        ArrayList<String> encoded = Lists.newArrayList();
-        encoded.ensureCapacity(entropy.length / 8 * 3);
         while (entropyIndex < entropy.length) {
             long subValue = getInteger(entropy, entropyIndex) & 0xFFFFFFFFL;
-            entropyIndex += 4;
             int w1 = (int) (subValue % N);
             int w2 = (int) (subValue / N + w1) % N;
             int w3 = (int) (subValue / N / N + w2) % N;
-            encoded.add(dictionary.convert(w1));
-            encoded.add(dictionary.convert(w2));
-            encoded.add(dictionary.convert(w3));
+            if (entropyIndex != 0) {
+                mnemonicSentence.append(' ');
+            }
+            entropyIndex += 4;
+            mnemonicSentence.append(dictionary.convert(w1)).append(' ');
+            mnemonicSentence.append(dictionary.convert(w2)).append(' ');
+            mnemonicSentence.append(dictionary.convert(w3));
         }
-        return Joiner.on(' ').join(encoded);
     }
 
     /**
@@ -129,26 +148,57 @@ final class LegacyElectrumMnemonicUtility {
      */
     @Nonnull
     static byte[] toEntropy(@Nonnull CharSequence mnemonicSequence) {
-        final Dictionary dictionary = DictionarySource.getDictionary(DICTIONARY_IDENTIFIER);
-        final int N = dictionary.getSize();
-
-        String[] mnemonicWords = Iterables.toArray(WORD_SPLITTER.split(mnemonicSequence), String.class);
-        byte[] entropy = new byte[mnemonicWords.length * 4 / 3];
-        int entropyIndex = 0;
-        Converter<String, Integer> reverseDictionary = dictionary.reverse();
-        if (mnemonicWords.length % 3 != 0) {
+        final Dictionary dictionary = getDictionary();
+        List<String> mnemonicWords = TokenizedMnemonic.tokenize(mnemonicSequence).getLooseWords();
+        if (mnemonicWords.size() % 3 != 0) {
             throw new IllegalArgumentException("Mnemonic sequence is not a multiple of 3");
         }
-        for (int i = 0; i < mnemonicWords.length; i += 3) {
-            String word1 = mnemonicWords[i].toLowerCase();
-            String word2 = mnemonicWords[i + 1].toLowerCase();
-            String word3 = mnemonicWords[i + 2].toLowerCase();
-            Integer w1 = reverseDictionary.convert(word1);
-            Integer w2 = reverseDictionary.convert(word2);
-            Integer w3 = reverseDictionary.convert(word3);
-            /* NOTE: Impossible scenario as covert only returns null IFF null is passed in */
-
-            //noinspection ConstantConditions
+        if (dictionary.indexOfFirstUnknown(mnemonicWords) >= 0) {
+            throw new IllegalArgumentException("Unknown dictionary word");
+        }
+        return toEntropy(dictionary, mnemonicWords);
+    }
+
+    /**
+     * Decode a list of lower-cased mnemonic words that are all present in the dictionary.
+     *
+     * @param dictionary
+     *         dictionary to map words to values with.
+     * @param mnemonicWords
+     *         list of words, a multiple of 3 in length.
+     *
+     * @return encoded value.
+     */
+    @Nonnull
+    static byte[] toEntropy(@Nonnull Dictionary dictionary, @Nonnull List<String> mnemonicWords) {
+        int[] mnemonicIndices = new int[mnemonicWords.size()];
+        for (int i = 0; i < mnemonicIndices.length; i++) {
+            mnemonicIndices[i] = dictionary.indexOf(mnemonicWords.get(i));
+        }
+        return toEntropy(dictionary.getSize(), mnemonicIndices);
+    }
+
+    /**
+     * Convert the dictionary indices of a mnemonic into entropy.
+     *
+     * @param dictionarySize
+     *         number of words in the dictionary.
+     * @param mnemonicIndices
+     *         dictionary indices of the words, a multiple of 3 and all valid.
+     *
+     * @return entropy represented by the indices.
+     */
+    @Nonnull
+    static byte[] toEntropy(int dictionarySize, @Nonnull int[] mnemonicIndices) {
+        final int N = dictionarySize;
+
+        byte[] entropy = new byte[mnemonicIndices.length * 4 / 3];
+        int entropyIndex = 0;
+        for (int i = 0; i < mnemonicIndices.length; i += 3) {
+            int w1 = mnemonicIndices[i];
+            int w2 = mnemonicIndices[i + 1];
+            int w3 = mnemonicIndices[i + 2];
+
             int subValue = w1 + N * mn_mod(w2 - w1, N) + N * N * mn_mod(w3 - w2, N);
             /* Convert to 4 bytes */
             putInteger(entropy, entropyIndex, subValue);
@@ -98,7 +98,7 @@ class CJKCleanupUtility {
         return cleanBuilder.toString();
     }
 
-    private boolean hasSpaceBetween(String previousWord, String nextWord) {
+    boolean hasSpaceBetween(String previousWord, String nextWord) {
         int previousCodepoint = previousWord.codePointBefore(previousWord.length());
         if (!CJK_RANGES.contains(previousCodepoint)) {
             return true;
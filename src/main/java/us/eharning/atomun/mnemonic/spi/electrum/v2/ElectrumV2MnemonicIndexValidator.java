@@ -0,0 +1,114 @@
+/*
+ * Copyright 2014, 2015, 2016 Thomas Harning Jr. <harningt@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package us.eharning.atomun.mnemonic.spi.electrum.v2;
+
+import com.google.common.base.Charsets;
+import com.google.common.base.Throwables;
+import us.eharning.atomun.mnemonic.api.electrum.v2.VersionPrefix;
+import us.eharning.atomun.mnemonic.spi.MnemonicIndexValidator;
+import us.eharning.atomun.mnemonic.utility.dictionary.Dictionary;
+
+import java.security.GeneralSecurityException;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.NotThreadSafe;
+import javax.crypto.Mac;
+
+/**
+ * Reusable electrum v2 seed version validation of dictionary indices.
+ * <p>
+ * The normalized bytes of every dictionary word and whether it belongs to the legacy dictionary are prepared
+ * up front, so each check only feeds the word bytes to a reused seed version HMAC.
+ * </p>
+ */
+@NotThreadSafe
+final class ElectrumV2MnemonicIndexValidator extends MnemonicIndexValidator {
+    private static final byte[] SPACE = { ' ' };
+
+    private final String[] normalizedWords;
+    private final byte[][] wordBytes;
+    private final boolean[] legacyWords;
+    private final Mac mac = MnemonicUtility.newSeedVersionMac();
+    private final byte[] seedVersionBytes = new byte[64];
+
+    /**
+     * Construct the validator.
+     *
+     * @param dictionary
+     *         dictionary the indices refer to.
+     */
+    ElectrumV2MnemonicIndexValidator(@Nonnull Dictionary dictionary) {
+        Dictionary legacyDictionary = MnemonicUtility.getLegacyDictionary();
+        int size = dictionary.getSize();
+        this.normalizedWords = new String[size];
+        this.wordBytes = new byte[size][];
+        this.legacyWords = new boolean[size];
+        for (int i = 0; i < size; i++) {
+            String word = dictionary.convert(i);
+            normalizedWords[i] = MnemonicUtility.normalizeSeed(word);
+            wordBytes[i] = normalizedWords[i].getBytes(Charsets.UTF_8);
+            legacyWords[i] = legacyDictionary.indexOf(word.toLowerCase()) >= 0;
+        }
+    }
+
+    @Override
+    public boolean isValid(@Nonnull int[] mnemonicIndices, int wordCount) {
+        if (isOldSeed(mnemonicIndices, wordCount)) {
+            return false;
+        }
+        for (int i = 0; i < wordCount; i++) {
+            /* Normalization drops the space between CJK words, which depends on the neighboring word */
+            if (i > 0 && MnemonicUtility.hasSpaceBetween(normalizedWords[mnemonicIndices[i - 1]], normalizedWords[mnemonicIndices[i]])) {
+                mac.update(SPACE);
+            }
+            mac.update(wordBytes[mnemonicIndices[i]]);
+        }
+        try {
+            mac.doFinal(seedVersionBytes, 0);
+        } catch (GeneralSecurityException e) {
+            /* Rethrow this (generally) impossible case */
+            throw Throwables.propagate(e);
+        }
+        for (VersionPrefix versionPrefix : VersionPrefix.values()) {
+            if (versionPrefix.matches(seedVersionBytes)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Check whether the words could be interpreted as the legacy format.
+     *
+     * @param mnemonicIndices
+     *         dictionary indices of the mnemonic words.
+     * @param wordCount
+     *         number of leading indices making up the mnemonic.
+     *
+     * @return true if a multiple of 3 words all belong to the legacy dictionary.
+     */
+    private boolean isOldSeed(@Nonnull int[] mnemonicIndices, int wordCount) {
+        if (wordCount % 3 != 0) {
+            return false;
+        }
+        for (int i = 0; i < wordCount; i++) {
+            if (!legacyWords[mnemonicIndices[i]]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
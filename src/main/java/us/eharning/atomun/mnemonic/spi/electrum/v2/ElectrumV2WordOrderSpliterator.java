@@ -0,0 +1,163 @@
+/*
+ * Copyright 2026 Thomas Harning Jr. <harningt@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package us.eharning.atomun.mnemonic.spi.electrum.v2;
+
+import com.google.common.base.Charsets;
+import com.google.common.base.Throwables;
+import us.eharning.atomun.mnemonic.MnemonicUnit;
+import us.eharning.atomun.mnemonic.api.electrum.v2.VersionPrefix;
+import us.eharning.atomun.mnemonic.spi.WordOrderSpliterator;
+import us.eharning.atomun.mnemonic.utility.dictionary.Dictionary;
+
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+import javax.crypto.Mac;
+
+/**
+ * Splittable enumeration of the electrum v2 sentences reordering words at uncertain positions.
+ * <p>
+ * Orderings are pruned on the seed version HMAC prefix. The normalized bytes of each word are prepared
+ * up front and the HMAC state after the words leading up to each uncertain slot is kept, so only
+ * the words from the first changed slot on are hashed for each ordering.
+ * </p>
+ */
+final class ElectrumV2WordOrderSpliterator extends WordOrderSpliterator {
+    private static final byte[] SPACE = { ' ' };
+
+    private final MnemonicUnit.Builder builder;
+    private final Dictionary dictionary;
+    private final byte[][] wordBytes;
+    private final boolean[][] spaceBetween;
+    private final Mac[] slotStates;
+    private final byte[] seedVersionBytes = new byte[64];
+
+    /**
+     * Construct the enumeration over all reorderings of a sentence.
+     *
+     * @param builder
+     *         instance maker.
+     * @param dictionary
+     *         dictionary the indices refer to.
+     * @param mnemonicIndices
+     *         dictionary indices of the words as recorded.
+     * @param uncertainPositions
+     *         word positions whose words may be in the wrong order.
+     */
+    ElectrumV2WordOrderSpliterator(@Nonnull MnemonicUnit.Builder builder, @Nonnull Dictionary dictionary, @Nonnull int[] mnemonicIndices, @Nonnull int[] uncertainPositions) {
+        super(mnemonicIndices, uncertainPositions);
+        int wordCount = mnemonicIndices.length;
+        String[] normalizedWords = new String[wordCount];
+        this.wordBytes = new byte[wordCount][];
+        for (int i = 0; i < wordCount; i++) {
+            normalizedWords[i] = MnemonicUtility.normalizeSeed(dictionary.convert(mnemonicIndices[i]));
+            wordBytes[i] = normalizedWords[i].getBytes(Charsets.UTF_8);
+        }
+        /* Normalization drops the space between CJK words, which depends on the neighboring word */
+        this.spaceBetween = new boolean[wordCount][wordCount];
+        for (int i = 0; i < wordCount; i++) {
+            for (int j = 0; j < wordCount; j++) {
+                spaceBetween[i][j] = MnemonicUtility.hasSpaceBetween(normalizedWords[i], normalizedWords[j]);
+            }
+        }
+        this.builder = builder;
+        this.dictionary = dictionary;
+        this.slotStates = new Mac[getUncertainSlotCount()];
+        Mac mac = MnemonicUtility.newSeedVersionMac();
+        for (int i = 0; i < getUncertainPosition(0); i++) {
+            if (i > 0 && spaceBetween[i - 1][i]) {
+                mac.update(SPACE);
+            }
+            mac.update(wordBytes[i]);
+        }
+        slotStates[0] = mac;
+    }
+
+    /**
+     * Construct a split-off portion of another enumeration.
+     *
+     * @param parent
+     *         enumeration being split.
+     * @param origin
+     *         first ordering number, inclusive.
+     * @param fence
+     *         last ordering number, exclusive.
+     */
+    private ElectrumV2WordOrderSpliterator(@Nonnull ElectrumV2WordOrderSpliterator parent, long origin, long fence) {
+        super(parent, origin, fence);
+        this.builder = parent.builder;
+        this.dictionary = parent.dictionary;
+        this.wordBytes = parent.wordBytes;
+        this.spaceBetween = parent.spaceBetween;
+        this.slotStates = new Mac[parent.slotStates.length];
+        /* The leading fixed words are never hashed further, later slot states are rebuilt on first use */
+        this.slotStates[0] = cloneMac(parent.slotStates[0]);
+    }
+
+    /**
+     * Copy the state of a Mac.
+     *
+     * @param mac
+     *         instance to copy.
+     *
+     * @return independent copy.
+     */
+    @Nonnull
+    private static Mac cloneMac(@Nonnull Mac mac) {
+        try {
+            return (Mac) mac.clone();
+        } catch (CloneNotSupportedException e) {
+            /* Rethrow this (generally) impossible case */
+            throw Throwables.propagate(e);
+        }
+    }
+
+    @CheckForNull
+    @Override
+    protected MnemonicUnit checkCandidate(@Nonnull int[] mnemonicIndices, @Nonnull int[] sourcePositions, int firstChangedSlot) {
+        Mac mac = cloneMac(slotStates[firstChangedSlot]);
+        int nextSlot = firstChangedSlot + 1;
+        for (int i = getUncertainPosition(firstChangedSlot); i < sourcePositions.length; i++) {
+            if (nextSlot < slotStates.length && i == getUncertainPosition(nextSlot)) {
+                slotStates[nextSlot++] = cloneMac(mac);
+            }
+            if (i > 0 && spaceBetween[sourcePositions[i - 1]][sourcePositions[i]]) {
+                mac.update(SPACE);
+            }
+            mac.update(wordBytes[sourcePositions[i]]);
+        }
+        try {
+            mac.doFinal(seedVersionBytes, 0);
+        } catch (GeneralSecurityException e) {
+            /* Rethrow this (generally) impossible case */
+            throw Throwables.propagate(e);
+        }
+        for (VersionPrefix versionPrefix : VersionPrefix.values()) {
+            if (versionPrefix.matches(seedVersionBytes)) {
+                return MnemonicDecoderSpiImpl.getMnemonicUnit(builder, Arrays.copyOf(mnemonicIndices, mnemonicIndices.length), dictionary, versionPrefix);
+            }
+        }
+        return null;
+    }
+
+    @Nonnull
+    @Override
+    protected WordOrderSpliterator split(long origin, long fence) {
+        return new ElectrumV2WordOrderSpliterator(this, origin, fence);
+    }
+}
@@ -16,10 +16,15 @@
 
 package us.eharning.atomun.mnemonic.spi.electrum.v2;
 
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.base.Function;
 import com.google.common.base.Predicates;
+import com.google.common.base.Throwables;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
 import com.google.common.math.BigIntegerMath;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import us.eharning.atomun.mnemonic.ElectrumMnemonicAlgorithm;
 import us.eharning.atomun.mnemonic.MnemonicExtensionIdentifier;
 import us.eharning.atomun.mnemonic.MnemonicUnit;
@@ -27,18 +32,34 @@ import us.eharning.atomun.mnemonic.api.electrum.v2.ElectrumV2ExtensionIdentifier
 import us.eharning.atomun.mnemonic.api.electrum.v2.VersionPrefix;
 import us.eharning.atomun.mnemonic.spi.BuilderParameter;
 import us.eharning.atomun.mnemonic.spi.EntropyBuilderParameter;
+import us.eharning.atomun.mnemonic.spi.EntropySource;
 import us.eharning.atomun.mnemonic.spi.ExtensionBuilderParameter;
+import us.eharning.atomun.mnemonic.spi.MnemonicGeneratorSpi;
 import us.eharning.atomun.mnemonic.spi.WordListBuilderParameter;
 import us.eharning.atomun.mnemonic.utility.dictionary.Dictionary;
 
 import java.math.BigInteger;
 import java.math.RoundingMode;
-import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.EnumSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 
 /**
@@ -98,6 +119,19 @@ class MnemonicBuilderSpiImpl extends us.eharning.atomun.mnemonic.spi.MnemonicBui
                     throw new IllegalArgumentException("Found illegal value for extension: " + entry.getKey());
                 }
                 break;
+            case SEARCH_PARALLELISM:
+                if (!(entry.getValue() instanceof Integer)) {
+                    throw new IllegalArgumentException("Found unexpected value type for extension: " + entry.getKey() + " " + entry.getValue().getClass());
+                }
+                if ((Integer) entry.getValue() <= 0) {
+                    throw new IllegalArgumentException("Found illegal value for extension: " + entry.getKey());
+                }
+                break;
+            case DETERMINISTIC_SEARCH:
+                if (!(entry.getValue() instanceof Boolean)) {
+                    throw new IllegalArgumentException("Found unexpected value type for extension: " + entry.getKey() + " " + entry.getValue().getClass());
+                }
+                break;
             default:
                 /* Never reached */
                 break;
@@ -138,6 +172,22 @@ class MnemonicBuilderSpiImpl extends us.eharning.atomun.mnemonic.spi.MnemonicBui
         return new BuilderInstance(parameters).generateMnemonicUnit(builder);
     }
 
+    /**
+     * Bind the builder parameters to a reusable, thread-safe generator.
+     *
+     * @param parameters
+     *         builder parameters to drive the process.
+     *
+     * @return generator with the dictionary, version prefix and search settings resolved.
+     *
+     * @since 0.8.0
+     */
+    @Nonnull
+    @Override
+    public MnemonicGeneratorSpi compile(BuilderParameter... parameters) {
+        return new BuilderInstance(parameters);
+    }
+
     /**
      * Validate the builder parameters.
      *
@@ -169,19 +219,30 @@ class MnemonicBuilderSpiImpl extends us.eharning.atomun.mnemonic.spi.MnemonicBui
         }
     }
 
-    private static class BuilderInstance {
+    /**
+     * Generator bound to resolved builder parameters.
+     */
+    @Immutable
+    private static class BuilderInstance extends MnemonicGeneratorSpi {
         private static final VersionPrefix DEFAULT_VERSION_PREFIX = VersionPrefix.STANDARD;
+        private static final ThreadFactory SEARCH_THREAD_FACTORY = new ThreadFactoryBuilder()
+                .setNameFormat("electrum-v2-nonce-search-%d")
+                .setDaemon(true)
+                .build();
 
-        private int entropyLengthBytes = -1;
-        private String wordListIdentifier = null;
-        private Dictionary dictionary;
-        private VersionPrefix versionPrefix = null;
+        private final EntropySource entropySource;
+        private final Dictionary dictionary;
+        private final VersionPrefix versionPrefix;
+        private final int searchParallelism;
+        private final boolean deterministicSearch;
 
-        private BigInteger customEntropy = BigInteger.ONE;
-        private BigInteger nonce;
-        private BigInteger customGeneratedEntropy;
+        private final BigInteger customEntropy;
+        private final int generatedEntropyBits;
 
         BuilderInstance(BuilderParameter[] parameters) {
+            int entropyLengthBytes = -1;
+            EntropySource entropySource = null;
+            String wordListIdentifier = null;
             Map<MnemonicExtensionIdentifier, Object> extensions = null;
             for (BuilderParameter parameter : parameters) {
                 if (null == parameter) {
@@ -190,6 +251,7 @@ class MnemonicBuilderSpiImpl extends us.eharning.atomun.mnemonic.spi.MnemonicBui
                 if (parameter instanceof EntropyBuilderParameter) {
                     EntropyBuilderParameter entropyBuilder = (EntropyBuilderParameter) parameter;
                     entropyLengthBytes = entropyBuilder.getEntropyLength();
+                    entropySource = entropyBuilder.getEntropySource();
                 } else if (parameter instanceof WordListBuilderParameter) {
                     wordListIdentifier = ((WordListBuilderParameter) parameter).getWordListIdentifier();
                 } else if (parameter instanceof ExtensionBuilderParameter) {
@@ -201,68 +263,100 @@ class MnemonicBuilderSpiImpl extends us.eharning.atomun.mnemonic.spi.MnemonicBui
             if (entropyLengthBytes < 0) {
                 entropyLengthBytes = DEFAULT_ENTROPY_PARAMETER.getEntropyLength();
             }
+            if (null == entropySource) {
+                entropySource = DEFAULT_ENTROPY_PARAMETER.getEntropySource();
+            }
             if (null == wordListIdentifier) {
                 wordListIdentifier = DEFAULT_WORDLIST_PARAMETER.getWordListIdentifier();
             }
             if (null == extensions) {
                 extensions = Collections.emptyMap();
             }
-            versionPrefix = (VersionPrefix) extensions.get(ElectrumV2ExtensionIdentifier.VERSION_PREFIX);
+            VersionPrefix versionPrefix = (VersionPrefix) extensions.get(ElectrumV2ExtensionIdentifier.VERSION_PREFIX);
             if (null == versionPrefix) {
                 versionPrefix = DEFAULT_VERSION_PREFIX;
             }
+            BigInteger customEntropy = BigInteger.ONE;
             if (extensions.containsKey(ElectrumV2ExtensionIdentifier.CUSTOM_ENTROPY))  {
                 customEntropy = (BigInteger) extensions.get(ElectrumV2ExtensionIdentifier.CUSTOM_ENTROPY);
             }
-            dictionary = MnemonicUtility.getDictionary(wordListIdentifier);
-        }
+            int searchParallelism = 1;
+            if (extensions.containsKey(ElectrumV2ExtensionIdentifier.SEARCH_PARALLELISM)) {
+                searchParallelism = (Integer) extensions.get(ElectrumV2ExtensionIdentifier.SEARCH_PARALLELISM);
+            }
+            boolean deterministicSearch = false;
+            if (extensions.containsKey(ElectrumV2ExtensionIdentifier.DETERMINISTIC_SEARCH)) {
+                deterministicSearch = (Boolean) extensions.get(ElectrumV2ExtensionIdentifier.DETERMINISTIC_SEARCH);
+            }
+            this.entropySource = entropySource;
+            this.dictionary = MnemonicUtility.getDictionary(wordListIdentifier);
+            this.versionPrefix = versionPrefix;
+            this.customEntropy = customEntropy;
+            this.searchParallelism = searchParallelism;
+            this.deterministicSearch = deterministicSearch;
 
-        private void prepareRandomData() {
             /* Based on make_seed algorithm */
             int customEntropyBits = BigIntegerMath.log2(customEntropy, RoundingMode.CEILING);
-
             int prefixLength = versionPrefix.getValueBitLength();
             int entropyLengthBits = entropyLengthBytes * 8;
-            int randomEntropy = Math.max(16, prefixLength + entropyLengthBits - customEntropyBits);
-            BigInteger generatedEntropy = new BigInteger(randomEntropy, new SecureRandom());
-            /* Algorithm:
-             * {
-             *      nonce = 1
-             *      i = custom_entropy * (generated entropy + nonce)
-             *      if (not valid) nonce += 1; retry
-             * }
-             * {
-             *      nonce = 1
-             *      i = custom_entropy * generated entropy + custom_entropy * nonce
-             *      if (not valid) nonce += 1; retry
-             * }
-             * {
-             *      nonce = custom_entropy
-             *      i = custom_entropy * generated entropy + nonce
-             *      if (not valid) nonce += custom_entropy; retry
-             * }
-             * {
-             *      customGeneratedEntropy = custom_entropy * generated_entropy
-             *      nonce = custom_entropy
-             *      i = customGeneratedEntropy + nonce
-             *      if (not valid) nonce += custom_entropy; retry
-             * }
-             */
-            /* Start this off with nonce=1 and post-increment */
-            nonce = customEntropy;
-            customGeneratedEntropy = customEntropy.multiply(generatedEntropy);
+            generatedEntropyBits = Math.max(16, prefixLength + entropyLengthBits - customEntropyBits);
         }
 
-        String generateMnemonic() {
-            prepareRandomData();
-            while (true) {
-                BigInteger value = customGeneratedEntropy.add(nonce);
-                String seed = encodeSeed(dictionary, value);
-                if (MnemonicUtility.isValidGeneratedSeed(seed, versionPrefix)) {
-                    return seed;
-                }
-                nonce = nonce.add(customEntropy);
+        /**
+         * Generate the random portion of the seed value.
+         *
+         * @return random value of the configured bit length.
+         */
+        BigInteger nextGeneratedEntropy() {
+            return entropySource.nextBigInteger(generatedEntropyBits);
+        }
+
+        /**
+         * Generate the random portion of the seed value for multiple seeds at once.
+         *
+         * @param count
+         *         number of values to generate.
+         *
+         * @return random values of the configured bit length.
+         */
+        BigInteger[] nextGeneratedEntropy(int count) {
+            return entropySource.nextBigIntegers(count, generatedEntropyBits);
+        }
+
+        @Nonnull
+        @Override
+        public String generateMnemonic() {
+            return generateMnemonic(nextGeneratedEntropy());
+        }
+
+        /**
+         * Generate multiple mnemonic sequences.
+         * The random portion of every seed is drawn at once.
+         *
+         * @param count
+         *         number of sequences to generate.
+         *
+         * @return list of generated mnemonic sequences.
+         */
+        @Nonnull
+        @Override
+        public List<String> generateMnemonics(int count) {
+            checkArgument(count >= 0, "count must not be negative");
+            List<String> result = new ArrayList<>(count);
+            for (BigInteger generatedEntropy : nextGeneratedEntropy(count)) {
+                result.add(generateMnemonic(generatedEntropy));
             }
+            return result;
+        }
+
+        String generateMnemonic(BigInteger generatedEntropy) {
+            return search(generatedEntropy, new Function<String, String>() {
+                @Nullable
+                @Override
+                public String apply(@Nullable String seed) {
+                    return MnemonicUtility.isValidGeneratedSeed(seed, versionPrefix) ? seed : null;
+                }
+            });
         }
 
         private MnemonicUnit deriveMnemonicUnit(MnemonicUnit.Builder builder, String mnemonicSequence) {
@@ -279,19 +373,180 @@ class MnemonicBuilderSpiImpl extends us.eharning.atomun.mnemonic.spi.MnemonicBui
             return MnemonicDecoderSpiImpl.getMnemonicUnit(builder, mnemonicSequence, dictionary, versionPrefix);
         }
 
-        MnemonicUnit generateMnemonicUnit(MnemonicUnit.Builder builder) {
-            prepareRandomData();
+        @Nonnull
+        @Override
+        public MnemonicUnit generateMnemonicUnit(@Nonnull MnemonicUnit.Builder builder) {
+            return generateMnemonicUnit(builder, nextGeneratedEntropy());
+        }
+
+        /**
+         * Generate a stream of wrapped mnemonic units.
+         * The random portion of every seed is drawn at once. Being immutable BigInteger values they cannot be
+         * wiped, so the references are dropped once consumed and the rest when the stream is closed.
+         * Each unit needs its own nonce search, so making the stream parallel spreads the searches across cores.
+         *
+         * @param builder
+         *         instance to construct MnemonicUnit with.
+         * @param count
+         *         number of units to generate.
+         *
+         * @return stream of MnemonicUnit instances wrapping build results.
+         */
+        @Nonnull
+        @Override
+        public Stream<MnemonicUnit> generateMnemonicUnits(@Nonnull final MnemonicUnit.Builder builder, int count) {
+            checkArgument(count >= 0, "count must not be negative");
+            final BigInteger[] generatedEntropy = nextGeneratedEntropy(count);
+            return IntStream.range(0, count).mapToObj(new IntFunction<MnemonicUnit>() {
+                @Override
+                public MnemonicUnit apply(int index) {
+                    BigInteger entropy = generatedEntropy[index];
+                    generatedEntropy[index] = null;
+                    return generateMnemonicUnit(builder, entropy);
+                }
+            }).onClose(new Runnable() {
+                @Override
+                public void run() {
+                    Arrays.fill(generatedEntropy, null);
+                }
+            });
+        }
+
+        MnemonicUnit generateMnemonicUnit(final MnemonicUnit.Builder builder, BigInteger generatedEntropy) {
+            return search(generatedEntropy, new Function<String, MnemonicUnit>() {
+                @Nullable
+                @Override
+                public MnemonicUnit apply(@Nullable String seed) {
+                    return deriveMnemonicUnit(builder, seed);
+                }
+            });
+        }
+
+        /**
+         * Walk the nonce sequence until the candidate check accepts an encoded seed.
+         * <p>
+         * Algorithm:
+         * {
+         *      nonce = 1
+         *      i = custom_entropy * (generated entropy + nonce)
+         *      if (not valid) nonce += 1; retry
+         * }
+         * {
+         *      nonce = 1
+         *      i = custom_entropy * generated entropy + custom_entropy * nonce
+         *      if (not valid) nonce += 1; retry
+         * }
+         * {
+         *      nonce = custom_entropy
+         *      i = custom_entropy * generated entropy + nonce
+         *      if (not valid) nonce += custom_entropy; retry
+         * }
+         * {
+         *      customGeneratedEntropy = custom_entropy * generated_entropy
+         *      nonce = custom_entropy
+         *      i = customGeneratedEntropy + nonce
+         *      if (not valid) nonce += custom_entropy; retry
+         * }
+         * </p>
+         *
+         * @param generatedEntropy
+         *         random portion of the seed value.
+         * @param candidateCheck
+         *         function returning a non-null result for an acceptable seed.
+         * @param <T>
+         *         type of result produced by the check.
+         *
+         * @return result of the first accepted seed.
+         */
+        @Nonnull
+        private <T> T search(@Nonnull BigInteger generatedEntropy, @Nonnull Function<String, T> candidateCheck) {
+            BigInteger customGeneratedEntropy = customEntropy.multiply(generatedEntropy);
+            if (searchParallelism > 1) {
+                return parallelSearch(customGeneratedEntropy, candidateCheck);
+            }
+            /* Start this off with nonce=1 and post-increment */
+            BigInteger nonce = customEntropy;
             while (true) {
                 BigInteger value = customGeneratedEntropy.add(nonce);
-                String seed = encodeSeed(dictionary, value);
-                MnemonicUnit unit = deriveMnemonicUnit(builder, seed);
-                if (null != unit) {
-                    return unit;
+                T result = candidateCheck.apply(encodeSeed(dictionary, value));
+                if (null != result) {
+                    return result;
                 }
                 nonce = nonce.add(customEntropy);
             }
         }
 
+        /**
+         * Walk the nonce sequence across multiple threads until the candidate check accepts an encoded seed.
+         * <p>
+         * Worker w of N takes the nonce steps w, w + N, w + 2N, ... so that no candidate is checked twice.
+         * In deterministic mode workers keep going until they pass the lowest step found so far,
+         * otherwise all workers stop as soon as any candidate is accepted.
+         * </p>
+         *
+         * @param customGeneratedEntropy
+         *         product of the custom entropy and the random portion of the seed value.
+         * @param candidateCheck
+         *         function returning a non-null result for an acceptable seed.
+         * @param <T>
+         *         type of result produced by the check.
+         *
+         * @return result of the accepted seed, the one with the lowest nonce if deterministic.
+         */
+        @Nonnull
+        private <T> T parallelSearch(@Nonnull BigInteger customGeneratedEntropy, @Nonnull final Function<String, T> candidateCheck) {
+            final int workerCount = searchParallelism;
+            final BigInteger stride = customEntropy.multiply(BigInteger.valueOf(workerCount));
+            final AtomicLong lowestFoundStep = new AtomicLong(Long.MAX_VALUE);
+            final ConcurrentSkipListMap<Long, T> results = new ConcurrentSkipListMap<>();
+
+            List<Callable<Void>> workers = new ArrayList<>(workerCount);
+            for (int i = 0; i < workerCount; i++) {
+                final long firstStep = i;
+                final BigInteger firstValue = customGeneratedEntropy.add(customEntropy.multiply(BigInteger.valueOf(i + 1)));
+                workers.add(new Callable<Void>() {
+                    @Override
+                    public Void call() {
+                        long step = firstStep;
+                        BigInteger value = firstValue;
+                        while (!Thread.currentThread().isInterrupted()) {
+                            long lowestFound = lowestFoundStep.get();
+                            if (deterministicSearch ? step > lowestFound : lowestFound != Long.MAX_VALUE) {
+                                return null;
+                            }
+                            T result = candidateCheck.apply(encodeSeed(dictionary, value));
+                            if (null != result) {
+                                results.put(step, result);
+                                /* Lower the found step, retrying if another worker raced in */
+                                while (step < lowestFound && !lowestFoundStep.compareAndSet(lowestFound, step)) {
+                                    lowestFound = lowestFoundStep.get();
+                                }
+                                return null;
+                            }
+                            step += workerCount;
+                            value = value.add(stride);
+                        }
+                        return null;
+                    }
+                });
+            }
+
+            ExecutorService executor = Executors.newFixedThreadPool(workerCount, SEARCH_THREAD_FACTORY);
+            try {
+                for (Future<Void> future : executor.invokeAll(workers)) {
+                    future.get();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted during nonce search", e);
+            } catch (ExecutionException e) {
+                throw Throwables.propagate(e.getCause());
+            } finally {
+                executor.shutdownNow();
+            }
+            return results.firstEntry().getValue();
+        }
+
         private String encodeSeed(Dictionary dictionary, BigInteger value) {
             int[] indexArray = MnemonicIndexGenerator.generateIndices(value, dictionary);
             StringBuilder mnemonicSentence = new StringBuilder();
@@ -16,19 +16,29 @@
 
 package us.eharning.atomun.mnemonic.spi.electrum.v2;
 
-import com.google.common.base.Converter;
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.collect.ImmutableList;
+import us.eharning.atomun.mnemonic.MnemonicDecodeResult;
 import us.eharning.atomun.mnemonic.MnemonicExtensionIdentifier;
 import us.eharning.atomun.mnemonic.MnemonicUnit;
 import us.eharning.atomun.mnemonic.MoreMnemonicExtensionIdentifiers;
 import us.eharning.atomun.mnemonic.api.electrum.v2.ElectrumV2ExtensionIdentifier;
 import us.eharning.atomun.mnemonic.api.electrum.v2.VersionPrefix;
 import us.eharning.atomun.mnemonic.spi.MnemonicDecoderSpi;
+import us.eharning.atomun.mnemonic.spi.MnemonicIndexValidator;
+import us.eharning.atomun.mnemonic.spi.TokenizedMnemonic;
 import us.eharning.atomun.mnemonic.utility.dictionary.Dictionary;
+import us.eharning.atomun.mnemonic.utility.dictionary.DictionaryIdentifier;
+import us.eharning.atomun.mnemonic.utility.dictionary.DictionarySource;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import javax.annotation.CheckForNull;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -48,73 +58,233 @@ class MnemonicDecoderSpiImpl extends MnemonicDecoderSpi {
     }
 
     /**
-     * Detect the appropriate word list for the given mnemonic sequence.
+     * Decodes a given mnemonic into a unit.
+     * The word list is to be automatically detected and it is expected that only one matches.
+     *
+     * @param builder
+     *         instance maker.
+     * @param mnemonicSequence
+     *         space-delimited sequence of mnemonic words.
+     * @param wordListIdentifier
+     *         optional word list identifier.
      *
-     * @param mnemonicWordList
-     *         sequence of mnemonic words to match up against a dictionary.
+     * @return mnemonic unit.
      *
-     * @return a dictionary instance if found, else null.
+     * @throws IllegalArgumentException
+     *         the sequence cannot match
      */
-    @CheckForNull
-    private static Dictionary detectWordList(@Nonnull List<String> mnemonicWordList) {
-        /* Need to autodetect the word list from the sequence. */
-        for (Dictionary availableDictionary : MnemonicUtility.getDictionaries()) {
-            /* Check that all the words are in the dictionary and if so, found */
-            if (verifyDictionary(availableDictionary, mnemonicWordList)) {
-                return availableDictionary;
-            }
-        }
-        return null;
+    @Nonnull
+    @Override
+    public MnemonicUnit decode(@Nonnull MnemonicUnit.Builder builder, @Nonnull CharSequence mnemonicSequence, @Nullable String wordListIdentifier) {
+        return tryDecode(builder, mnemonicSequence, wordListIdentifier).getUnitOrThrow();
     }
 
     /**
-     * Verify that the dictionary contains all of the words in the given mnemonic sequence.
+     * Attempts to decode a given mnemonic into a unit, reporting failure through the result.
+     * The word list is to be automatically detected and it is expected that only one matches.
      *
-     * @param dictionary
-     *         instance to check for the presence of all words.
-     * @param mnemonicWordList
-     *         sequence of mnemonic words to match up against a dictionary.
+     * @param builder
+     *         instance maker.
+     * @param mnemonicSequence
+     *         space-delimited sequence of mnemonic words.
+     * @param wordListIdentifier
+     *         optional word list identifier.
      *
-     * @return true if dictionary contains all words in mnemonicWordList.
+     * @return result holding the mnemonic unit or the failure details.
      */
-    private static boolean verifyDictionary(@Nonnull Dictionary dictionary, @Nonnull List<String> mnemonicWordList) {
-        Converter<String, Integer> reverseDictionary = dictionary.reverse();
-        /* Due to inability for converters to return null as a valid response, need to catch thrown exception */
-        try {
-            for (String word : mnemonicWordList) {
-                reverseDictionary.convert(word);
-            }
-        } catch (IllegalArgumentException ignored) {
-            return false;
-        }
-        return true;
+    @Nonnull
+    @Override
+    public MnemonicDecodeResult tryDecode(@Nonnull MnemonicUnit.Builder builder, @Nonnull CharSequence mnemonicSequence, @Nullable String wordListIdentifier) {
+        return tryDecode(builder, TokenizedMnemonic.tokenize(mnemonicSequence), wordListIdentifier);
     }
 
     /**
-     * Decodes a given mnemonic into a unit.
+     * Attempts to decode an already tokenized mnemonic into a unit, reporting failure through the result.
      * The word list is to be automatically detected and it is expected that only one matches.
      *
      * @param builder
      *         instance maker.
-     * @param mnemonicSequence
-     *         space-delimited sequence of mnemonic words.
+     * @param tokenizedMnemonic
+     *         tokenized sequence of mnemonic words.
      * @param wordListIdentifier
      *         optional word list identifier.
      *
+     * @return result holding the mnemonic unit or the failure details.
+     */
+    @Nonnull
+    @Override
+    public MnemonicDecodeResult tryDecode(@Nonnull MnemonicUnit.Builder builder, @Nonnull TokenizedMnemonic tokenizedMnemonic, @Nullable String wordListIdentifier) {
+        MnemonicDecodeResult failure = precheck(tokenizedMnemonic, wordListIdentifier);
+        if (null != failure) {
+            return failure;
+        }
+        return decodeVersioned(builder, tokenizedMnemonic, findDictionary(tokenizedMnemonic, wordListIdentifier));
+    }
+
+    /**
+     * Decodes a mnemonic given as the dictionary indices of its words.
+     * The seed version is an HMAC over the sentence, so the sentence is rendered to validate it.
+     *
+     * @param builder
+     *         instance maker.
+     * @param dictionaryIdentifier
+     *         identifier for the dictionary the indices refer to.
+     * @param mnemonicIndices
+     *         dictionary indices of the mnemonic words, owned by the decoder.
+     *
      * @return mnemonic unit.
      *
      * @throws IllegalArgumentException
-     *         the sequence cannot match
+     *         the indices cannot match
      */
     @Nonnull
     @Override
-    public MnemonicUnit decode(@Nonnull MnemonicUnit.Builder builder, @Nonnull CharSequence mnemonicSequence, @Nullable String wordListIdentifier) {
-        /* Known prefixes => 1 */
-        /* Verify that the seed is normal */
-        /* Perform each step independently to permit re-use of pieces */
-        if (MnemonicUtility.isOldSeed(mnemonicSequence)) {
-            throw new IllegalArgumentException("Mnemonic does not have the expected seed version");
+    public MnemonicUnit decode(@Nonnull MnemonicUnit.Builder builder, @Nonnull DictionaryIdentifier dictionaryIdentifier, @Nonnull int[] mnemonicIndices) {
+        Dictionary dictionary = DictionarySource.getDictionary(dictionaryIdentifier);
+        checkArgument(dictionary.indexOfFirstInvalid(mnemonicIndices) < 0, "Word index out of dictionary range");
+        TokenizedMnemonic tokenizedMnemonic = TokenizedMnemonic.tokenize(getMnemonicUnitSpi(dictionary).getMnemonic(mnemonicIndices));
+        checkArgument(!MnemonicUtility.isOldSeed(tokenizedMnemonic), "Mnemonic is in the legacy format");
+        return decodeVersioned(builder, tokenizedMnemonic, dictionary).getUnitOrThrow();
+    }
+
+    /**
+     * Decodes dictionary indices that were recorded from a previously decoded unit, such as from storage.
+     * A recorded version prefix is confirmed against the single seed version HMAC of the sentence,
+     * and the unit keeps the indices rather than the rendered sentence.
+     *
+     * @param builder
+     *         instance maker.
+     * @param dictionaryIdentifier
+     *         identifier for the dictionary the indices refer to.
+     * @param mnemonicIndices
+     *         dictionary indices of the mnemonic words, owned by the decoder.
+     * @param extensionValues
+     *         readable extension values recorded from the original unit.
+     *
+     * @return mnemonic unit.
+     *
+     * @throws IllegalArgumentException
+     *         the indices cannot match or do not carry the recorded version prefix
+     */
+    @Nonnull
+    @Override
+    public MnemonicUnit decode(@Nonnull MnemonicUnit.Builder builder, @Nonnull DictionaryIdentifier dictionaryIdentifier, @Nonnull int[] mnemonicIndices, @Nonnull Map<MnemonicExtensionIdentifier, Object> extensionValues) {
+        Object versionPrefix = extensionValues.get(ElectrumV2ExtensionIdentifier.VERSION_PREFIX);
+        if (!(versionPrefix instanceof VersionPrefix)) {
+            return decode(builder, dictionaryIdentifier, mnemonicIndices);
         }
+        Dictionary dictionary = DictionarySource.getDictionary(dictionaryIdentifier);
+        checkArgument(dictionary.indexOfFirstInvalid(mnemonicIndices) < 0, "Word index out of dictionary range");
+        MnemonicUnitSpiImpl unit = getMnemonicUnitSpi(dictionary);
+        TokenizedMnemonic tokenizedMnemonic = TokenizedMnemonic.tokenize(unit.getMnemonic(mnemonicIndices));
+        checkArgument(!MnemonicUtility.isOldSeed(tokenizedMnemonic), "Mnemonic is in the legacy format");
+        byte[] seedVersionData = MnemonicUtility.getSeedVersionBytes(tokenizedMnemonic.getMnemonicSequence());
+        checkArgument(((VersionPrefix) versionPrefix).matches(seedVersionData), "Mnemonic does not match the recorded version prefix");
+        /* Entropy is derived on first use */
+        return unit.build(builder, mnemonicIndices, null, SUPPORTED_READABLE_EXTENSIONS, new ElectrumV2ExtensionLoader((VersionPrefix) versionPrefix));
+    }
+
+    /**
+     * Enumerate the valid mnemonics reordering the words at uncertain positions of a sentence.
+     * The stream is parallel, splitting the orderings across the common fork/join pool.
+     *
+     * @param builder
+     *         instance maker.
+     * @param dictionaryIdentifier
+     *         identifier for the dictionary the indices refer to.
+     * @param mnemonicIndices
+     *         dictionary indices of the mnemonic words as recorded.
+     * @param uncertainPositions
+     *         word positions whose words may be in the wrong order.
+     *
+     * @return lazily evaluated stream of matching units in ordering order.
+     *
+     * @throws IllegalArgumentException
+     *         if the indices cannot match or the positions are invalid
+     */
+    @Nonnull
+    @Override
+    public Stream<MnemonicUnit> recoverWordOrder(@Nonnull MnemonicUnit.Builder builder, @Nonnull DictionaryIdentifier dictionaryIdentifier, @Nonnull int[] mnemonicIndices, @Nonnull int[] uncertainPositions) {
+        Dictionary dictionary = DictionarySource.getDictionary(dictionaryIdentifier);
+        checkArgument(dictionary.indexOfFirstInvalid(mnemonicIndices) < 0, "Word index out of dictionary range");
+        /* The legacy check only depends on which words are present, so it holds for every ordering */
+        TokenizedMnemonic tokenizedMnemonic = TokenizedMnemonic.tokenize(getMnemonicUnitSpi(dictionary).getMnemonic(mnemonicIndices));
+        checkArgument(!MnemonicUtility.isOldSeed(tokenizedMnemonic), "Mnemonic is in the legacy format");
+        ElectrumV2WordOrderSpliterator spliterator = new ElectrumV2WordOrderSpliterator(builder, dictionary, mnemonicIndices, uncertainPositions);
+        return StreamSupport.stream(spliterator, true);
+    }
+
+    /**
+     * Look up the identifier of one of the electrum v2 dictionaries by its word list name.
+     *
+     * @param wordListIdentifier
+     *         name of the word list.
+     *
+     * @return dictionary identifier.
+     *
+     * @throws IllegalArgumentException
+     *         if the word list cannot be found
+     */
+    @Nonnull
+    @Override
+    public DictionaryIdentifier getDictionaryIdentifier(@Nonnull String wordListIdentifier) {
+        return MnemonicUtility.getDictionary(wordListIdentifier).getIdentifier();
+    }
+
+    /**
+     * Obtain the electrum v2 dictionaries a sentence is matched against, in the order the word list is detected.
+     *
+     * @param wordListIdentifier
+     *         optional word list identifier, detecting among all word lists if null.
+     *
+     * @return dictionary identifiers in detection order.
+     *
+     * @throws IllegalArgumentException
+     *         if the word list cannot be found.
+     */
+    @Nonnull
+    @Override
+    public List<DictionaryIdentifier> getDictionaryIdentifiers(@Nullable String wordListIdentifier) {
+        if (null != wordListIdentifier) {
+            return ImmutableList.of(MnemonicUtility.getDictionary(wordListIdentifier).getIdentifier());
+        }
+        ImmutableList.Builder<DictionaryIdentifier> identifiers = ImmutableList.builder();
+        for (Dictionary dictionary : MnemonicUtility.getDictionaries()) {
+            identifiers.add(dictionary.getIdentifier());
+        }
+        return identifiers.build();
+    }
+
+    /**
+     * Construct a reusable validator checking the legacy format and seed version of dictionary indices.
+     *
+     * @param dictionaryIdentifier
+     *         identifier for the dictionary the indices refer to.
+     *
+     * @return validator instance for use by a single thread.
+     */
+    @Nonnull
+    @Override
+    public MnemonicIndexValidator newIndexValidator(@Nonnull DictionaryIdentifier dictionaryIdentifier) {
+        return new ElectrumV2MnemonicIndexValidator(DictionarySource.getDictionary(dictionaryIdentifier));
+    }
+
+    /**
+     * Checks the seed version of a mnemonic whose words all belong to the dictionary and wraps it up.
+     *
+     * @param builder
+     *         instance maker.
+     * @param tokenizedMnemonic
+     *         tokenized sequence of mnemonic words.
+     * @param dictionary
+     *         dictionary containing every word.
+     *
+     * @return result holding the mnemonic unit or the failure details.
+     */
+    @Nonnull
+    private static MnemonicDecodeResult decodeVersioned(@Nonnull MnemonicUnit.Builder builder, @Nonnull TokenizedMnemonic tokenizedMnemonic, @Nonnull Dictionary dictionary) {
+        /* Known prefixes => 1 */
+        CharSequence mnemonicSequence = tokenizedMnemonic.getMnemonicSequence();
         byte[] seedVersionData = MnemonicUtility.getSeedVersionBytes(mnemonicSequence);
         VersionPrefix versionPrefix = null;
         for (VersionPrefix testVersionPrefix: VersionPrefix.values()) {
@@ -124,23 +294,84 @@ class MnemonicDecoderSpiImpl extends MnemonicDecoderSpi {
             }
         }
         if (null == versionPrefix) {
-            throw new IllegalArgumentException("Mnemonic does not have the expected seed version");
+            return MnemonicDecodeResult.failure(MnemonicDecodeResult.FailureReason.VERSION_MISMATCH);
+        }
+
+        MnemonicUnitSpiImpl unit = getMnemonicUnitSpi(dictionary);
+        /* Entropy is derived on first use */
+        if (tokenizedMnemonic.isCanonical(dictionary)) {
+            /* Keep only the indices, the sentence renders back identically on demand */
+            return MnemonicDecodeResult.success(unit.build(builder, tokenizedMnemonic.getIndices(dictionary), null, SUPPORTED_READABLE_EXTENSIONS, new ElectrumV2ExtensionLoader(versionPrefix)));
+        }
+        return MnemonicDecodeResult.success(unit.build(builder, mnemonicSequence, null, SUPPORTED_READABLE_EXTENSIONS, new ElectrumV2ExtensionLoader(versionPrefix)));
+    }
+
+    /**
+     * Cheaply checks whether a tokenized mnemonic could possibly decode as an electrum v2 mnemonic.
+     * The legacy format and dictionary membership are checked, leaving the seed version HMAC to decoding.
+     *
+     * @param tokenizedMnemonic
+     *         tokenized sequence of mnemonic words.
+     * @param wordListIdentifier
+     *         optional word list identifier.
+     *
+     * @return failed result describing why the input cannot decode, or null if it may decode.
+     */
+    @CheckForNull
+    @Override
+    public MnemonicDecodeResult precheck(@Nonnull TokenizedMnemonic tokenizedMnemonic, @Nullable String wordListIdentifier) {
+        /* Verify that the seed is normal */
+        if (MnemonicUtility.isOldSeed(tokenizedMnemonic)) {
+            return MnemonicDecodeResult.failure(MnemonicDecodeResult.FailureReason.LEGACY_FORMAT);
         }
-        List<String> mnemonicWordList = MnemonicUtility.getNormalizedWordList(mnemonicSequence);
-        Dictionary dictionary;
         if (null == wordListIdentifier) {
-            dictionary = detectWordList(mnemonicWordList);
-            if (null == dictionary) {
-                throw new IllegalArgumentException("Could not detect dictionary for words");
+            /* Need to autodetect the word list from the sequence, tracking the furthest match for reporting. */
+            int unknownWordIndex = -1;
+            for (Dictionary availableDictionary : MnemonicUtility.getDictionaries()) {
+                int index = tokenizedMnemonic.indexOfFirstUnknown(availableDictionary);
+                if (index < 0) {
+                    return null;
+                }
+                unknownWordIndex = Math.max(unknownWordIndex, index);
             }
-        } else {
+            return MnemonicDecodeResult.failure(MnemonicDecodeResult.FailureReason.UNKNOWN_WORD, unknownWordIndex);
+        }
+        Dictionary dictionary;
+        try {
             dictionary = MnemonicUtility.getDictionary(wordListIdentifier);
-            if (!verifyDictionary(dictionary, mnemonicWordList)) {
-                throw new IllegalArgumentException("Words not in dictionary");
-            }
+        } catch (IllegalArgumentException ignored) {
+            /* Caller-supplied identifier, not part of the invalid-input path */
+            return MnemonicDecodeResult.failure(MnemonicDecodeResult.FailureReason.UNSUPPORTED_WORD_LIST);
+        }
+        int unknownWordIndex = tokenizedMnemonic.indexOfFirstUnknown(dictionary);
+        if (unknownWordIndex >= 0) {
+            return MnemonicDecodeResult.failure(MnemonicDecodeResult.FailureReason.UNKNOWN_WORD, unknownWordIndex);
         }
+        return null;
+    }
 
-        return getMnemonicUnit(builder, mnemonicSequence, dictionary, versionPrefix);
+    /**
+     * Find the dictionary containing every word of a mnemonic already accepted by #precheck.
+     * Dictionary lookups are cached by the tokenized mnemonic, so repeating them is cheap.
+     *
+     * @param tokenizedMnemonic
+     *         tokenized sequence of mnemonic words.
+     * @param wordListIdentifier
+     *         optional word list identifier.
+     *
+     * @return matching dictionary.
+     */
+    @Nonnull
+    private static Dictionary findDictionary(@Nonnull TokenizedMnemonic tokenizedMnemonic, @Nullable String wordListIdentifier) {
+        if (null != wordListIdentifier) {
+            return MnemonicUtility.getDictionary(wordListIdentifier);
+        }
+        for (Dictionary dictionary : MnemonicUtility.getDictionaries()) {
+            if (tokenizedMnemonic.indexOfFirstUnknown(dictionary) < 0) {
+                return dictionary;
+            }
+        }
+        throw new IllegalStateException("Mnemonic words were not checked against the dictionaries");
     }
 
     /**
@@ -159,14 +390,50 @@ class MnemonicDecoderSpiImpl extends MnemonicDecoderSpi {
      */
     @Nonnull
     static MnemonicUnit getMnemonicUnit(@Nonnull MnemonicUnit.Builder builder, @Nonnull CharSequence mnemonicSequence, @Nonnull Dictionary dictionary, @Nonnull VersionPrefix versionPrefix) {
+        MnemonicUnitSpiImpl unit = getMnemonicUnitSpi(dictionary);
+
+        /* Entropy is derived on first use */
+        return unit.build(builder, mnemonicSequence, null, SUPPORTED_READABLE_EXTENSIONS, new ElectrumV2ExtensionLoader(versionPrefix));
+    }
+
+    /**
+     * Static utility method to factor value construction from dictionary indices.
+     *
+     * @param builder
+     *         instance maker.
+     * @param mnemonicIndices
+     *         dictionary indices of the mnemonic words, owned by the unit.
+     * @param dictionary
+     *         word list dictionary.
+     * @param versionPrefix
+     *         detected sequence version.
+     *
+     * @return mnemonic unit.
+     */
+    @Nonnull
+    static MnemonicUnit getMnemonicUnit(@Nonnull MnemonicUnit.Builder builder, @Nonnull int[] mnemonicIndices, @Nonnull Dictionary dictionary, @Nonnull VersionPrefix versionPrefix) {
+        MnemonicUnitSpiImpl unit = getMnemonicUnitSpi(dictionary);
+
+        /* Entropy is derived on first use */
+        return unit.build(builder, mnemonicIndices, null, SUPPORTED_READABLE_EXTENSIONS, new ElectrumV2ExtensionLoader(versionPrefix));
+    }
+
+    /**
+     * Obtain the mnemonic unit SPI for the given dictionary.
+     *
+     * @param dictionary
+     *         word list dictionary.
+     *
+     * @return provider instance.
+     */
+    @Nonnull
+    private static MnemonicUnitSpiImpl getMnemonicUnitSpi(@Nonnull Dictionary dictionary) {
         String wordListIdentifier = dictionary.getWordListIdentifier();
         MnemonicUnitSpiImpl unit = WORD_LIST_SPI.get(wordListIdentifier);
         if (null == unit) {
             unit = new MnemonicUnitSpiImpl(dictionary);
             WORD_LIST_SPI.putIfAbsent(wordListIdentifier, unit);
         }
-
-        byte[] entropy = unit.getEntropy(mnemonicSequence);
-        return unit.build(builder, mnemonicSequence, entropy, SUPPORTED_READABLE_EXTENSIONS, new ElectrumV2ExtensionLoader(versionPrefix));
+        return unit;
     }
 }
@@ -16,22 +16,24 @@
 
 package us.eharning.atomun.mnemonic.spi.electrum.v2;
 
+import static com.google.common.base.Preconditions.checkPositionIndexes;
+
 import com.google.common.base.Charsets;
-import com.google.common.base.Converter;
 import com.google.common.base.Function;
 import com.google.common.collect.ImmutableSet;
-import com.google.common.collect.Lists;
 import com.tomgibara.bits.BitWriter;
 import com.tomgibara.bits.ByteArrayBitWriter;
 import us.eharning.atomun.mnemonic.ElectrumMnemonicAlgorithm;
 import us.eharning.atomun.mnemonic.MnemonicExtensionIdentifier;
 import us.eharning.atomun.mnemonic.MnemonicUnit;
 import us.eharning.atomun.mnemonic.spi.MnemonicUnitSpi;
+import us.eharning.atomun.mnemonic.spi.SeedDerivation;
+import us.eharning.atomun.mnemonic.spi.TokenizedMnemonic;
 import us.eharning.atomun.mnemonic.utility.dictionary.Dictionary;
+import us.eharning.atomun.mnemonic.utility.dictionary.DictionaryIdentifier;
 
 import java.math.BigInteger;
 import java.text.Normalizer;
-import java.util.List;
 import java.util.Set;
 import javax.annotation.CheckForNull;
 import javax.annotation.Nonnull;
@@ -59,49 +61,46 @@ class MnemonicUnitSpiImpl extends MnemonicUnitSpi {
     /**
      * Convert a sequence of mnemonic word into a byte array for validation and usage.
      *
-     * @param dictionary
-     *         instance to check for the presence of all words.
-     * @param mnemonicWordList
-     *         sequence of mnemonic words to map against a dictionary for bit values.
+     * @param dictionarySize
+     *         number of words in the dictionary.
+     * @param mnemonicIndices
+     *         dictionary indices of the mnemonic words.
      *
      * @return sequence of bytes based on word list.
      */
     @Nonnull
-    private static byte[] mnemonicToBytes(@Nonnull Dictionary dictionary, @Nonnull List<String> mnemonicWordList) {
-        if (fast_is_pow2(dictionary.getSize())) {
+    private static byte[] mnemonicToBytes(int dictionarySize, @Nonnull int[] mnemonicIndices) {
+        if (fast_is_pow2(dictionarySize)) {
             //noinspection UnnecessaryLocalVariable
-            byte[] result = mnemonicToBytesWithBitshift(dictionary, mnemonicWordList);
+            byte[] result = mnemonicToBytesWithBitshift(dictionarySize, mnemonicIndices);
             /* If needing to check again, uncomment this and replace */
             /*
-            byte[] checkResult = mnemonicToBytesWithMultiplication(dictionary, mnemonicWordList);
+            byte[] checkResult = mnemonicToBytesWithMultiplication(dictionarySize, mnemonicIndices);
             if (!Arrays.equals(result, checkResult)) {
                 throw new Error("Mismatched results!" + Arrays.toString(result) + " != " + Arrays.toString(checkResult));
             }
             */
             return result;
         } else {
-            return mnemonicToBytesWithMultiplication(dictionary, mnemonicWordList);
+            return mnemonicToBytesWithMultiplication(dictionarySize, mnemonicIndices);
         }
     }
 
     /**
      * Convert a sequence of mnemonic word into a byte array for validation and usage.
      *
-     * @param dictionary
-     *         instance to check for the presence of all words.
-     * @param mnemonicWordList
-     *         sequence of mnemonic words to map against a dictionary for bit values.
+     * @param dictionarySize
+     *         number of words in the dictionary.
+     * @param mnemonicIndices
+     *         dictionary indices of the mnemonic words.
      *
      * @return sequence of bytes based on word list.
      */
     @Nonnull
-    private static byte[] mnemonicToBytesWithBitshift(@Nonnull Dictionary dictionary, @Nonnull List<String> mnemonicWordList) {
-        Converter<String, Integer> reverseConverter = dictionary.reverse();
+    private static byte[] mnemonicToBytesWithBitshift(int dictionarySize, @Nonnull int[] mnemonicIndices) {
+        final int unitSize = fast_log2(dictionarySize);
 
-        final int wordListSize = dictionary.getSize();
-        final int unitSize = fast_log2(wordListSize);
-
-        final int totalBits = mnemonicWordList.size() * unitSize;
+        final int totalBits = mnemonicIndices.length * unitSize;
         final int totalBytes = totalBits >> 3;
         int firstBits = (totalBytes << 3) % unitSize;
         if (firstBits == 0) {
@@ -113,12 +112,8 @@ class MnemonicUnitSpiImpl extends MnemonicUnitSpi {
 
         boolean modified = false;
         int bitsToWrite = firstBits;
-        for (int i = mnemonicWordList.size() - 1; i >= 0; i--) {
-            String word = mnemonicWordList.get(i);
-            /* Find the word index in the wordList. */
-            /* Warning suppressed due to word guaranteed non-null */
-            //noinspection ConstantConditions
-            int index = reverseConverter.convert(word);
+        for (int i = mnemonicIndices.length - 1; i >= 0; i--) {
+            int index = mnemonicIndices[i];
 
             if (index > (1 << bitsToWrite)) {
                 bitsToWrite += 8;
@@ -150,24 +145,19 @@ class MnemonicUnitSpiImpl extends MnemonicUnitSpi {
     /**
      * Convert a sequence of mnemonic word into a byte array for validation and usage.
      *
-     * @param dictionary
-     *         instance to check for the presence of all words.
-     * @param mnemonicWordList
-     *         sequence of mnemonic words to map against a dictionary for bit values.
+     * @param dictionarySize
+     *         number of words in the dictionary.
+     * @param mnemonicIndices
+     *         dictionary indices of the mnemonic words.
      *
      * @return sequence of bytes based on word list.
      */
     @Nonnull
-    private static byte[] mnemonicToBytesWithMultiplication(@Nonnull Dictionary dictionary, @Nonnull List<String> mnemonicWordList) {
-        Converter<String, Integer> reverseConverter = dictionary.reverse();
-
+    private static byte[] mnemonicToBytesWithMultiplication(int dictionarySize, @Nonnull int[] mnemonicIndices) {
         BigInteger total = BigInteger.ZERO;
-        BigInteger multiplier = BigInteger.valueOf(dictionary.getSize());
-        for (String word : Lists.reverse(mnemonicWordList)) {
-            /* Find the word index in the wordList. */
-            /* Warning suppressed due to word guaranteed non-null */
-            //noinspection ConstantConditions
-            int index = reverseConverter.convert(word);
+        BigInteger multiplier = BigInteger.valueOf(dictionarySize);
+        for (int i = mnemonicIndices.length - 1; i >= 0; i--) {
+            int index = mnemonicIndices[i];
 
             total = total.multiply(multiplier).add(BigInteger.valueOf(index));
         }
@@ -220,7 +210,7 @@ class MnemonicUnitSpiImpl extends MnemonicUnitSpi {
      * @param mnemonicSequence
      *         sequence.
      * @param entropy
-     *         derived copy of entropy.
+     *         derived copy of entropy or null if on-demand.
      * @param supportedExtensions
      *         set of supported extensions dependent on algorithm.
      * @param extensionLoader
@@ -229,10 +219,42 @@ class MnemonicUnitSpiImpl extends MnemonicUnitSpi {
      * @return wrapped instance.
      */
     @Nonnull
-    public MnemonicUnit build(MnemonicUnit.Builder builder, CharSequence mnemonicSequence, byte[] entropy, Set<MnemonicExtensionIdentifier> supportedExtensions, Function<MnemonicExtensionIdentifier, Object> extensionLoader) {
+    public MnemonicUnit build(MnemonicUnit.Builder builder, CharSequence mnemonicSequence, @Nullable byte[] entropy, Set<MnemonicExtensionIdentifier> supportedExtensions, Function<MnemonicExtensionIdentifier, Object> extensionLoader) {
         return super.build(builder, mnemonicSequence, entropy, null, ImmutableSet.copyOf(supportedExtensions), extensionLoader);
     }
 
+    /**
+     * Utility method to generate a MnemonicUnit wrapping the given word indices and entropy.
+     *
+     * @param builder
+     *         instance maker.
+     * @param mnemonicIndices
+     *         dictionary indices of the words, owned by the new instance.
+     * @param entropy
+     *         derived copy of entropy or null if on-demand.
+     * @param supportedExtensions
+     *         set of supported extensions dependent on algorithm.
+     * @param extensionLoader
+     *         method to calculate a given extension's value.
+     *
+     * @return wrapped instance.
+     */
+    @Nonnull
+    public MnemonicUnit build(MnemonicUnit.Builder builder, int[] mnemonicIndices, @Nullable byte[] entropy, Set<MnemonicExtensionIdentifier> supportedExtensions, Function<MnemonicExtensionIdentifier, Object> extensionLoader) {
+        return super.build(builder, mnemonicIndices, entropy, null, ImmutableSet.copyOf(supportedExtensions), extensionLoader);
+    }
+
+    /**
+     * Get the identifier of the dictionary the mnemonic words are drawn from.
+     *
+     * @return dictionary identifier.
+     */
+    @Nonnull
+    @Override
+    public DictionaryIdentifier getDictionaryIdentifier() {
+        return dictionary.getIdentifier();
+    }
+
     /**
      * Get the entropy if possible.
      *
@@ -244,10 +266,26 @@ class MnemonicUnitSpiImpl extends MnemonicUnitSpi {
     @CheckForNull
     @Override
     public byte[] getEntropy(@Nonnull CharSequence mnemonicSequence) {
-        List<String> mnemonicWordList = MnemonicUtility.getNormalizedWordList(mnemonicSequence);
+        TokenizedMnemonic tokenizedMnemonic = TokenizedMnemonic.tokenize(mnemonicSequence);
+        if (tokenizedMnemonic.indexOfFirstUnknown(dictionary) >= 0) {
+            throw new IllegalArgumentException("Unknown dictionary word");
+        }
+        return getEntropy(tokenizedMnemonic.getIndices(dictionary));
+    }
 
-        /* Convert the word list into a sequence of booleans representing its bits. */
-        return mnemonicToBytes(dictionary, mnemonicWordList);
+    /**
+     * Get the entropy from the dictionary indices of the mnemonic words.
+     *
+     * @param mnemonicIndices
+     *         dictionary indices of the mnemonic words, all valid.
+     *
+     * @return a derived copy of the entropy byte array.
+     */
+    @Nonnull
+    @Override
+    public byte[] getEntropy(@Nonnull int[] mnemonicIndices) {
+        /* Convert the word indices into a sequence of bits. */
+        return mnemonicToBytes(dictionary.getSize(), mnemonicIndices);
     }
 
     /**
@@ -263,14 +301,79 @@ class MnemonicUnitSpiImpl extends MnemonicUnitSpi {
     @Nonnull
     @Override
     public byte[] getSeed(@Nonnull CharSequence mnemonicSequence, @Nullable CharSequence password) {
-        byte[] mnemonicSequenceBytes = Normalizer.normalize(mnemonicSequence, Normalizer.Form.NFKD).getBytes(Charsets.UTF_8);
+        return MnemonicUtility.deriveSeed(getPasswordBytes(password), getMnemonicSequenceBytes(mnemonicSequence));
+    }
 
-        /* Normalize the password and get the UTF-8 bytes. */
+    /**
+     * Write a seed from this mnemonic into the output array, derived in place.
+     *
+     * @param mnemonicSequence
+     *         sequence to derive the seed from.
+     * @param password
+     *         password to supply for decoding.
+     * @param output
+     *         array to write into.
+     * @param offset
+     *         index into output to begin writing.
+     *
+     * @return number of bytes written.
+     */
+    @Override
+    public int getSeed(@Nonnull CharSequence mnemonicSequence, @Nullable CharSequence password, @Nonnull byte[] output, int offset) {
+        checkPositionIndexes(offset, offset + SeedDerivation.SEED_LENGTH, output.length);
+        MnemonicUtility.deriveSeed(getPasswordBytes(password), getMnemonicSequenceBytes(mnemonicSequence), output, offset);
+        return SeedDerivation.SEED_LENGTH;
+    }
+
+    /**
+     * Write the BIP0032 master key for the seed of this mnemonic into the output array.
+     * The seed is derived in place and replaced there by the master key.
+     *
+     * @param mnemonicSequence
+     *         sequence to derive the master key from.
+     * @param password
+     *         password to supply for decoding.
+     * @param output
+     *         array to write into.
+     * @param offset
+     *         index into output to begin writing.
+     *
+     * @return number of bytes written.
+     */
+    @Override
+    public int getMasterKey(@Nonnull CharSequence mnemonicSequence, @Nullable CharSequence password, @Nonnull byte[] output, int offset) {
+        checkPositionIndexes(offset, offset + SeedDerivation.MASTER_KEY_LENGTH, output.length);
+        MnemonicUtility.deriveMasterKey(getPasswordBytes(password), getMnemonicSequenceBytes(mnemonicSequence), output, offset);
+        return SeedDerivation.MASTER_KEY_LENGTH;
+    }
+
+    /**
+     * Normalize the mnemonic sequence and get the UTF-8 bytes.
+     *
+     * @param mnemonicSequence
+     *         sequence to derive the seed from.
+     *
+     * @return PBKDF2 password bytes.
+     */
+    @Nonnull
+    private static byte[] getMnemonicSequenceBytes(@Nonnull CharSequence mnemonicSequence) {
+        return Normalizer.normalize(mnemonicSequence, Normalizer.Form.NFKD).getBytes(Charsets.UTF_8);
+    }
+
+    /**
+     * Normalize the password and get the UTF-8 bytes.
+     *
+     * @param password
+     *         password to supply for decoding.
+     *
+     * @return PBKDF2 salt bytes.
+     */
+    @Nonnull
+    private static byte[] getPasswordBytes(@Nullable CharSequence password) {
         String normalizedPassword = "mnemonic";
         if (null != password && 0 != password.length()) {
             normalizedPassword = normalizedPassword + Normalizer.normalize(password, Normalizer.Form.NFKD);
         }
-        byte[] passwordBytes = normalizedPassword.getBytes(Charsets.UTF_8);
-        return MnemonicUtility.deriveSeed(passwordBytes, mnemonicSequenceBytes);
+        return normalizedPassword.getBytes(Charsets.UTF_8);
     }
 }
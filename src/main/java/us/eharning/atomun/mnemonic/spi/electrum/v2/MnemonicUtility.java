@@ -16,21 +16,18 @@
 
 package us.eharning.atomun.mnemonic.spi.electrum.v2;
 
-import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Verify.verifyNotNull;
 
 import com.google.common.base.Charsets;
-import com.google.common.base.Converter;
 import com.google.common.base.Function;
 import com.google.common.base.Predicates;
-import com.google.common.base.Splitter;
 import com.google.common.base.Throwables;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Iterables;
-import com.google.common.collect.Lists;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
-import us.eharning.atomun.core.crypto.PBKDF2;
 import us.eharning.atomun.mnemonic.api.electrum.v2.VersionPrefix;
+import us.eharning.atomun.mnemonic.spi.SeedDerivation;
+import us.eharning.atomun.mnemonic.spi.TokenizedMnemonic;
 import us.eharning.atomun.mnemonic.utility.dictionary.Dictionary;
 import us.eharning.atomun.mnemonic.utility.dictionary.DictionaryIdentifier;
 import us.eharning.atomun.mnemonic.utility.dictionary.DictionarySource;
@@ -58,8 +55,6 @@ final class MnemonicUtility {
     private static final DictionaryIdentifier LEGACY_DICTIONARY_IDENTIFIER
             = DictionaryIdentifier.getIdentifier("english", "us/eharning/atomun/mnemonic/spi/electrum/legacy/dictionary.txt");
     private static final int PBKDF_ROUNDS = 2048;
-    private static final String PBKDF_MAC = "HmacSHA512";
-    private static final int PBKDF_SEED_OUTPUT = 64;
     private static final Pattern DIACRITICAL_MATCH = Pattern.compile("[\\p{M}]+");
     private static final Pattern WHITESPACE_MATCH = Pattern.compile("[\\p{Space}\u3000]");
     private static final CJKCleanupUtility cleanupUtility = new CJKCleanupUtility();
@@ -88,50 +83,61 @@ final class MnemonicUtility {
     }
 
     /**
-     * Get normalized list of split words.
+     * Utility method to derive a seed given the password and processed mnemonic sequence.
+     *
+     * @param passwordBytes
+     *         UTF-8 byte sequence representing the password to use.
+     * @param mnemonicSequenceBytes
+     *         UTF-8 byte sequence representing the mnemonic sequence.
      *
-     * @param mnemonicSequence
-     *         space-separated list of words to split/normalize.
+     * @return 64-byte seed value
      *
-     * @return list of normalized words.
+     * @throws Error
+     *         if the Mac cannot be found (should not happen).
      */
     @Nonnull
-    static List<String> getNormalizedWordList(@Nonnull CharSequence mnemonicSequence) {
-        /* Normalize after splitting due to wide spaces getting normalized into space+widener */
-        List<String> mnemonicWordList = Splitter.onPattern(" |\u3000").splitToList(mnemonicSequence);
-        return Lists.transform(mnemonicWordList, new Function<String, String>() {
-            @SuppressFBWarnings("NP_PARAMETER_MUST_BE_NONNULL_BUT_MARKED_AS_NULLABLE")
-            @Nullable
-            @Override
-            public String apply(@Nullable String input) {
-                /* splitters do not return null elements */
-                checkNotNull(input);
-                return Normalizer.normalize(input, Normalizer.Form.NFKD);
-            }
-        });
+    static byte[] deriveSeed(@Nonnull byte[] passwordBytes, @Nonnull byte[] mnemonicSequenceBytes) {
+        byte[] seed = new byte[SeedDerivation.SEED_LENGTH];
+        deriveSeed(passwordBytes, mnemonicSequenceBytes, seed, 0);
+        return seed;
     }
 
     /**
-     * Utility method to derive a seed given the password and processed mnemonic sequence.
+     * Utility method to derive a seed given the password and processed mnemonic sequence into the output.
      *
      * @param passwordBytes
      *         UTF-8 byte sequence representing the password to use.
      * @param mnemonicSequenceBytes
      *         UTF-8 byte sequence representing the mnemonic sequence.
+     * @param output
+     *         array to write the 64-byte seed into.
+     * @param offset
+     *         index into output to begin writing.
      *
-     * @return 64-byte seed value
+     * @throws java.lang.IndexOutOfBoundsException
+     *         if the output cannot hold the seed at offset.
+     */
+    static void deriveSeed(@Nonnull byte[] passwordBytes, @Nonnull byte[] mnemonicSequenceBytes, @Nonnull byte[] output, int offset) {
+        SeedDerivation.deriveSeed(mnemonicSequenceBytes, passwordBytes, PBKDF_ROUNDS, output, offset);
+    }
+
+    /**
+     * Utility method to derive the BIP0032 master key of the seed given the password and processed mnemonic sequence into the output.
      *
-     * @throws Error
-     *         if the Mac cannot be found (should not happen).
+     * @param passwordBytes
+     *         UTF-8 byte sequence representing the password to use.
+     * @param mnemonicSequenceBytes
+     *         UTF-8 byte sequence representing the mnemonic sequence.
+     * @param output
+     *         array to write the 64-byte master key into.
+     * @param offset
+     *         index into output to begin writing.
+     *
+     * @throws java.lang.IndexOutOfBoundsException
+     *         if the output cannot hold the master key at offset.
      */
-    @Nonnull
-    static byte[] deriveSeed(@Nonnull byte[] passwordBytes, @Nonnull byte[] mnemonicSequenceBytes) {
-        try {
-            return PBKDF2.pbkdf2(PBKDF_MAC, mnemonicSequenceBytes, passwordBytes, PBKDF_ROUNDS, PBKDF_SEED_OUTPUT);
-        } catch (GeneralSecurityException e) {
-            /* Rethrow this (generally) impossible case */
-            throw Throwables.propagate(e);
-        }
+    static void deriveMasterKey(@Nonnull byte[] passwordBytes, @Nonnull byte[] mnemonicSequenceBytes, @Nonnull byte[] output, int offset) {
+        SeedDerivation.deriveMasterKey(mnemonicSequenceBytes, passwordBytes, PBKDF_ROUNDS, output, offset);
     }
 
     /**
@@ -203,16 +209,39 @@ final class MnemonicUtility {
     static byte[] getSeedVersionBytes(CharSequence seed) {
         String normalizedSeed = MnemonicUtility.normalizeSeed(seed);
         byte[] seedBytes = normalizedSeed.getBytes(Charsets.UTF_8);
+        return newSeedVersionMac().doFinal(seedBytes);
+    }
+
+    /**
+     * Utility method to obtain a Mac keyed to compute the seed version bytes of normalized seed data.
+     *
+     * @return keyed Mac instance.
+     */
+    static Mac newSeedVersionMac() {
         try {
             Mac mac = Mac.getInstance("HmacSHA512");
             mac.init(new SecretKeySpec("Seed version".getBytes(Charsets.US_ASCII), "HmacSHA512"));
-            return mac.doFinal(seedBytes);
+            return mac;
         } catch (GeneralSecurityException e) {
             /* Rethrow this (generally) impossible case */
             throw Throwables.propagate(e);
         }
     }
 
+    /**
+     * Utility method to determine if normalization keeps the space between two adjacent normalized words.
+     *
+     * @param previousWord
+     *         normalized word before the space.
+     * @param nextWord
+     *         normalized word after the space.
+     *
+     * @return true if the space is kept.
+     */
+    static boolean hasSpaceBetween(String previousWord, String nextWord) {
+        return cleanupUtility.hasSpaceBetween(previousWord, nextWord);
+    }
+
     /**
      * Utility method to determine if a given seed is of the "new" format.
      *
@@ -238,22 +267,34 @@ final class MnemonicUtility {
      * @return true if the seed can be interpreted as a legacy format.
      */
     static boolean isOldSeed(CharSequence seed) {
-        List<String> words = Splitter.on(WHITESPACE_MATCH).splitToList(seed);
+        return isOldSeed(TokenizedMnemonic.tokenize(seed));
+    }
+
+    /**
+     * Utility method to determine if a given tokenized seed is of the "old" format.
+     *
+     * @param seed
+     *         tokenized list of words to validate.
+     *
+     * @return true if the seed can be interpreted as a legacy format.
+     */
+    static boolean isOldSeed(TokenizedMnemonic seed) {
+        List<String> words = seed.getLooseWords();
         if (words.size() % 3 != 0) {
             /* Not a multiple of 3 words, not an old seed */
             return false;
         }
-        Dictionary legacyDictionary = DictionarySource.getDictionary(LEGACY_DICTIONARY_IDENTIFIER);
-        Converter<String, Integer> reverse = legacyDictionary.reverse();
-        try {
-            for (String word : words) {
-                reverse.convert(word);
-            }
-        } catch (IllegalArgumentException ignored) {
-            return false;
-        }
-        /* All words were found and there were a multiple of 3 */
-        return true;
+        /* Old seed if all words were found and there were a multiple of 3 */
+        return getLegacyDictionary().indexOfFirstUnknown(words) < 0;
     }
 
+    /**
+     * Utility method to obtain the dictionary of the legacy format, used to recognize old seeds.
+     *
+     * @return legacy format dictionary.
+     */
+    @Nonnull
+    static Dictionary getLegacyDictionary() {
+        return DictionarySource.getDictionary(LEGACY_DICTIONARY_IDENTIFIER);
+    }
 }
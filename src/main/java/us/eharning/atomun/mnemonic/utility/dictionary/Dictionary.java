@@ -187,6 +187,60 @@ public class Dictionary extends Converter<Integer, String> {
         return result;
     }
 
+    /**
+     * Look up the index of a word without throwing for unknown words.
+     *
+     * @param word
+     *         word to look up.
+     *
+     * @return index of the word or -1 if it is not in the dictionary.
+     *
+     * @since 0.8.0
+     */
+    public int indexOf(@Nonnull String word) {
+        Integer result = wordToIndexMap.get(word);
+        return null == result ? -1 : result;
+    }
+
+    /**
+     * Find the first word of a sequence that is not in the dictionary.
+     *
+     * @param words
+     *         sequence of words to check.
+     *
+     * @return index into words of the first unknown word or -1 if all words are present.
+     *
+     * @since 0.8.0
+     */
+    public int indexOfFirstUnknown(@Nonnull List<String> words) {
+        for (int i = 0; i < words.size(); i++) {
+            if (!wordToIndexMap.containsKey(words.get(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Find the first index of a sequence that does not refer to a word in the dictionary.
+     *
+     * @param indices
+     *         sequence of word indices to check.
+     *
+     * @return position in indices of the first invalid index or -1 if all are valid.
+     *
+     * @since 0.8.0
+     */
+    public int indexOfFirstInvalid(@Nonnull int[] indices) {
+        int size = getSize();
+        for (int i = 0; i < indices.length; i++) {
+            if (indices[i] < 0 || indices[i] >= size) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
     /**
      * Obtain the identifier of this dictionary.
      *
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2016 Thomas Harning Jr. <harningt@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package us.eharning.atomun.mnemonic.utility.dictionary;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.annotations.Beta;
+import com.google.common.collect.ImmutableList;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Prefix index over the words of one or more dictionaries, used for autocompletion.
+ * <p>
+ * Words of all indexed dictionaries are kept in a single array sorted by their NFKD-normalized form, so the
+ * words sharing a prefix form a contiguous range located by two binary searches. Looking up a prefix
+ * returns a view of that range, so no hits are created per lookup.
+ * </p>
+ * <p>
+ * Instances are obtained from {@link DictionarySource}, which builds them on first use.
+ * </p>
+ *
+ * @since 0.8.0
+ */
+@Beta
+@Immutable
+public final class DictionaryIndex {
+    private final String[] sortedWords;
+    private final ImmutableList<DictionaryWord> sortedEntries;
+
+    /**
+     * Construct the index over the given dictionaries.
+     *
+     * @param dictionaries
+     *         dictionaries to index, in order of preference for identical words.
+     */
+    DictionaryIndex(@Nonnull Iterable<Dictionary> dictionaries) {
+        List<DictionaryWord> entries = new ArrayList<>();
+        for (Dictionary dictionary : dictionaries) {
+            DictionaryIdentifier identifier = dictionary.getIdentifier();
+            for (int i = 0; i < dictionary.getSize(); i++) {
+                /* Dictionary words are already NFKD-normalized on load */
+                entries.add(new DictionaryWord(identifier, i, dictionary.convert(i)));
+            }
+        }
+        /* Stable sort keeps dictionary and index order for identical words */
+        Collections.sort(entries, new Comparator<DictionaryWord>() {
+            @Override
+            public int compare(DictionaryWord left, DictionaryWord right) {
+                return left.getWord().compareTo(right.getWord());
+            }
+        });
+        this.sortedEntries = ImmutableList.copyOf(entries);
+        this.sortedWords = new String[entries.size()];
+        for (int i = 0; i < sortedWords.length; i++) {
+            sortedWords[i] = entries.get(i).getWord();
+        }
+    }
+
+    /**
+     * Find the words starting with the given prefix.
+     *
+     * @param prefix
+     *         start of the word, normalized to NFKD if it is not already.
+     *
+     * @return view of the matching words sorted by word, empty if none match.
+     */
+    @Nonnull
+    public List<DictionaryWord> findPrefix(@Nonnull CharSequence prefix) {
+        String normalizedPrefix = normalize(prefix);
+        int first = lowerBound(normalizedPrefix);
+        return sortedEntries.subList(first, upperBound(normalizedPrefix, first));
+    }
+
+    /**
+     * Count the words starting with the given prefix.
+     *
+     * @param prefix
+     *         start of the word, normalized to NFKD if it is not already.
+     *
+     * @return number of matching words.
+     */
+    public int countPrefix(@Nonnull CharSequence prefix) {
+        String normalizedPrefix = normalize(prefix);
+        int first = lowerBound(normalizedPrefix);
+        return upperBound(normalizedPrefix, first) - first;
+    }
+
+    /**
+     * Get the number of indexed words.
+     *
+     * @return number of words across all indexed dictionaries.
+     */
+    public int getSize() {
+        return sortedWords.length;
+    }
+
+    /**
+     * Normalize the prefix to the form dictionary words are stored in.
+     *
+     * @param prefix
+     *         prefix to normalize.
+     *
+     * @return NFKD-normalized prefix.
+     */
+    @Nonnull
+    private static String normalize(@Nonnull CharSequence prefix) {
+        checkNotNull(prefix);
+        if (Normalizer.isNormalized(prefix, Normalizer.Form.NFKD)) {
+            return prefix.toString();
+        }
+        return Normalizer.normalize(prefix, Normalizer.Form.NFKD);
+    }
+
+    /**
+     * Find the position of the first word not sorting before the prefix.
+     *
+     * @param prefix
+     *         normalized prefix.
+     *
+     * @return position of the first candidate word.
+     */
+    private int lowerBound(@Nonnull String prefix) {
+        int low = 0;
+        int high = sortedWords.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sortedWords[middle].compareTo(prefix) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Find the position after the last word starting with the prefix.
+     *
+     * @param prefix
+     *         normalized prefix.
+     * @param first
+     *         position of the first candidate word.
+     *
+     * @return position after the last matching word.
+     */
+    private int upperBound(@Nonnull String prefix, int first) {
+        int low = first;
+        int high = sortedWords.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sortedWords[middle].startsWith(prefix)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
@@ -18,16 +18,24 @@ package us.eharning.atomun.mnemonic.utility.dictionary;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import com.google.common.annotations.Beta;
 import com.google.common.base.Function;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
 import com.google.common.base.Throwables;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Iterables;
 import com.google.common.io.ByteSource;
 import com.google.common.io.Resources;
 import com.google.common.util.concurrent.UncheckedExecutionException;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 import java.net.URL;
+import java.util.List;
+import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 /**
@@ -39,6 +47,39 @@ public final class DictionarySource {
      */
     private static Function<DictionaryIdentifier, Dictionary> loader = getCachingLoader();
 
+    /**
+     * Dictionaries shipped as resources with the mnemonic implementations.
+     */
+    private static final List<DictionaryIdentifier> BUNDLED_DICTIONARIES = ImmutableList.of(
+            DictionaryIdentifier.getIdentifier("english", "us/eharning/atomun/mnemonic/spi/bip0039/english.txt"),
+            DictionaryIdentifier.getIdentifier("japanese", "us/eharning/atomun/mnemonic/spi/bip0039/japanese.txt"),
+            DictionaryIdentifier.getIdentifier("english", "us/eharning/atomun/mnemonic/spi/electrum/v2/english.txt"),
+            DictionaryIdentifier.getIdentifier("japanese", "us/eharning/atomun/mnemonic/spi/electrum/v2/japanese.txt"),
+            DictionaryIdentifier.getIdentifier("portuguese", "us/eharning/atomun/mnemonic/spi/electrum/v2/portuguese.txt"),
+            DictionaryIdentifier.getIdentifier("spanish", "us/eharning/atomun/mnemonic/spi/electrum/v2/spanish.txt"),
+            DictionaryIdentifier.getIdentifier("english", "us/eharning/atomun/mnemonic/spi/electrum/legacy/dictionary.txt")
+    );
+
+    private static final LoadingCache<DictionaryIdentifier, DictionaryIndex> indexCache = CacheBuilder.newBuilder()
+            .build(new CacheLoader<DictionaryIdentifier, DictionaryIndex>() {
+                @Override
+                public DictionaryIndex load(DictionaryIdentifier key) throws Exception {
+                    return new DictionaryIndex(ImmutableList.of(getDictionary(key)));
+                }
+            });
+
+    private static final Supplier<DictionaryIndex> bundledIndex = Suppliers.memoize(new Supplier<DictionaryIndex>() {
+        @Override
+        public DictionaryIndex get() {
+            return new DictionaryIndex(Iterables.transform(BUNDLED_DICTIONARIES, new Function<DictionaryIdentifier, Dictionary>() {
+                @Override
+                public Dictionary apply(DictionaryIdentifier input) {
+                    return getDictionary(input);
+                }
+            }));
+        }
+    });
+
     /**
      * Mark constructor as private due to it being a singleton.
      */
@@ -64,6 +105,54 @@ public final class DictionarySource {
         }
     }
 
+    /**
+     * Get the identifiers of the dictionaries shipped with the library.
+     *
+     * @return BIP0039, Electrum v2 and legacy Electrum dictionary identifiers.
+     *
+     * @since 0.8.0
+     */
+    @Beta
+    @Nonnull
+    public static List<DictionaryIdentifier> getBundledDictionaries() {
+        return BUNDLED_DICTIONARIES;
+    }
+
+    /**
+     * Get the prefix index of a dictionary, building it on first use.
+     *
+     * @param identifier
+     *          identifier of the dictionary to index.
+     *
+     * @return cached dictionary index.
+     *
+     * @since 0.8.0
+     */
+    @Beta
+    @Nonnull
+    public static DictionaryIndex getIndex(@Nonnull DictionaryIdentifier identifier) {
+        checkNotNull(identifier);
+        try {
+            return indexCache.getUnchecked(identifier);
+        } catch (UncheckedExecutionException e) {
+            /* Rethrow the cause as with dictionary loading */
+            throw Throwables.propagate(e.getCause());
+        }
+    }
+
+    /**
+     * Get the prefix index across all bundled dictionaries, building it on first use.
+     *
+     * @return cached dictionary index.
+     *
+     * @since 0.8.0
+     */
+    @Beta
+    @Nonnull
+    public static DictionaryIndex getBundledIndex() {
+        return bundledIndex.get();
+    }
+
     /**
      * Get an fresh instance of a dictionary with no caching.
      *
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2016 Thomas Harning Jr. <harningt@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package us.eharning.atomun.mnemonic.utility.dictionary;
+
+import com.google.common.annotations.Beta;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Objects;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Word of a dictionary together with where it came from, as found by a {@link DictionaryIndex}.
+ *
+ * @since 0.8.0
+ */
+@Beta
+@Immutable
+public final class DictionaryWord {
+    private final DictionaryIdentifier dictionaryIdentifier;
+    private final int index;
+    private final String word;
+
+    /**
+     * Construct the dictionary word.
+     *
+     * @param dictionaryIdentifier
+     *         identifier of the dictionary containing the word.
+     * @param index
+     *         index of the word in the dictionary.
+     * @param word
+     *         normalized word.
+     */
+    DictionaryWord(@Nonnull DictionaryIdentifier dictionaryIdentifier, int index, @Nonnull String word) {
+        this.dictionaryIdentifier = dictionaryIdentifier;
+        this.index = index;
+        this.word = word;
+    }
+
+    /**
+     * Get the identifier of the dictionary containing the word.
+     *
+     * @return dictionary identifier.
+     */
+    @Nonnull
+    public DictionaryIdentifier getDictionaryIdentifier() {
+        return dictionaryIdentifier;
+    }
+
+    /**
+     * Get the index of the word in its dictionary.
+     *
+     * @return dictionary index.
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Get the NFKD-normalized word.
+     *
+     * @return word.
+     */
+    @Nonnull
+    public String getWord() {
+        return word;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other == null || getClass() != other.getClass()) {
+            return false;
+        }
+        DictionaryWord that = (DictionaryWord) other;
+        return index == that.index
+                && Objects.equal(dictionaryIdentifier, that.dictionaryIdentifier)
+                && Objects.equal(word, that.word);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(dictionaryIdentifier, index, word);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("dictionary", dictionaryIdentifier.getResourceName())
+                .add("index", index)
+                .add("word", word)
+                .toString();
+    }
+}
@@ -17,8 +17,11 @@
 package us.eharning.atomun.mnemonic
 
 import spock.lang.Specification
+import us.eharning.atomun.mnemonic.spi.EntropySource
 
-import java.lang.reflect.Field
+import java.util.concurrent.Callable
+import java.util.concurrent.Executors
+import java.util.stream.Collectors
 
 /**
  * Generic building test.
@@ -39,24 +42,145 @@ class MnemonicBuilderGenericSpock extends Specification {
         thrown(NullPointerException)
     }
 
-    static Object getFinalStatic(Class<?> clazz, String fieldName) throws Exception {
-        Field field = clazz.getDeclaredField(fieldName)
-        field.setAccessible(true);
-
-        return field.get(null);
-    }
-
     def "requesting an algorithm not known by any providers results in failure"() {
-        /* Requires reflection hack due to all known algorithms having a provider */
         setup:
-        def providerSet = getFinalStatic(MnemonicServices, "SERVICE_PROVIDERS_MUTABLE")
-        def backup = providerSet.toArray()
-        providerSet.clear()
+        def backup = MnemonicServices.serviceProviders.toList()
+        backup.each { MnemonicServices.unregisterServiceProvider(it) }
         when:
         MnemonicBuilder.newBuilder(BIPMnemonicAlgorithm.BIP0039)
         then:
         thrown(UnsupportedOperationException)
         cleanup:
-        providerSet.addAll(backup)
+        backup.each { MnemonicServices.registerServiceProvider(it) }
+    }
+
+    def "bulk building matches repeated building from the same entropy source"(MnemonicAlgorithm algorithm) {
+        given:
+        byte[] seed = "bulk seed".bytes
+        def bulkBuilder = MnemonicBuilder.newBuilder(algorithm).setEntropyLength(16, EntropySource.getDeterministic(seed))
+        def singleBuilder = MnemonicBuilder.newBuilder(algorithm).setEntropyLength(16, EntropySource.getDeterministic(seed))
+        when:
+        def mnemonics = bulkBuilder.buildMany(5)
+        then:
+        mnemonics.size() == 5
+        mnemonics == (1..5).collect { singleBuilder.build() }
+        where:
+        algorithm << MnemonicServices.registeredAlgorithms
+    }
+
+    def "bulk unit streams match repeated unit building from the same entropy source"(MnemonicAlgorithm algorithm) {
+        given:
+        byte[] seed = "bulk seed".bytes
+        def bulkBuilder = MnemonicBuilder.newBuilder(algorithm).setEntropyLength(16, EntropySource.getDeterministic(seed))
+        def singleBuilder = MnemonicBuilder.newBuilder(algorithm).setEntropyLength(16, EntropySource.getDeterministic(seed))
+        when:
+        def units = bulkBuilder.buildUnitStream(5).parallel().collect(Collectors.toList())
+        then:
+        units*.mnemonic == (1..5).collect { singleBuilder.buildUnit().mnemonic }
+        units.every { MnemonicUnit.decodeMnemonic(algorithm, it.mnemonic).entropy == it.entropy }
+        where:
+        algorithm << MnemonicServices.registeredAlgorithms
+    }
+
+    def "closing a partly consumed unit stream wipes the remaining entropy"(MnemonicAlgorithm algorithm) {
+        given:
+        def blocks = []
+        def source = new EntropySource() {
+            @Override
+            void nextBytes(byte[] output, int offset, int length) {
+                blocks.add(output)
+                Arrays.fill(output, offset, offset + length, (byte) 0x5A)
+            }
+        }
+        def stream = MnemonicBuilder.newBuilder(algorithm).setEntropyLength(16, source).buildUnitStream(5)
+        when:
+        def first = stream.findFirst()
+        then:
+        first.present
+        blocks.size() == 1
+        blocks[0].any { it != 0 }
+        when:
+        stream.close()
+        then:
+        blocks[0].every { it == 0 }
+        where:
+        algorithm << [BIPMnemonicAlgorithm.BIP0039, ElectrumMnemonicAlgorithm.LegacyElectrum]
+    }
+
+    def "bulk building with no requested mnemonics is empty"(MnemonicAlgorithm algorithm) {
+        given:
+        def builder = MnemonicBuilder.newBuilder(algorithm)
+        expect:
+        builder.buildMany(0).empty
+        builder.buildUnitStream(0).count() == 0
+        where:
+        algorithm << MnemonicServices.registeredAlgorithms
+    }
+
+    def "bulk building rejects negative counts"() {
+        given:
+        def builder = MnemonicBuilder.newBuilder(BIPMnemonicAlgorithm.BIP0039)
+        when:
+        builder.buildMany(-1)
+        then:
+        thrown(IllegalArgumentException)
+        when:
+        builder.buildUnitStream(-1)
+        then:
+        thrown(IllegalArgumentException)
+    }
+
+    def "compiled generators match the builder they were compiled from"(MnemonicAlgorithm algorithm) {
+        given:
+        byte[] seed = "compiled seed".bytes
+        def generator = MnemonicBuilder.newBuilder(algorithm).setEntropyLength(16, EntropySource.getDeterministic(seed)).compile()
+        def builder = MnemonicBuilder.newBuilder(algorithm).setEntropyLength(16, EntropySource.getDeterministic(seed))
+        expect:
+        generator.algorithm == algorithm
+        generator.generate() == builder.build()
+        generator.generateUnit().mnemonic == builder.buildUnit().mnemonic
+        generator.generateMany(3) == builder.buildMany(3)
+        generator.generateUnitStream(3).collect(Collectors.toList())*.mnemonic == builder.buildUnitStream(3).collect(Collectors.toList())*.mnemonic
+        where:
+        algorithm << MnemonicServices.registeredAlgorithms
+    }
+
+    def "compiled generators are not affected by later builder changes"(MnemonicAlgorithm algorithm) {
+        given:
+        def builder = MnemonicBuilder.newBuilder(algorithm).setEntropyLength(16)
+        def generator = builder.compile()
+        when:
+        builder.setEntropyLength(32)
+        then:
+        generator.generate().split(" ").length in wordCountRange(16)
+        builder.build().split(" ").length in wordCountRange(32)
+        where:
+        algorithm << MnemonicServices.registeredAlgorithms
+    }
+
+    def "compiled generators may be shared across threads"(MnemonicAlgorithm algorithm) {
+        given:
+        def generator = MnemonicBuilder.newBuilder(algorithm).compile()
+        def executor = Executors.newFixedThreadPool(4)
+        when:
+        def futures = (1..16).collect { executor.submit({ generator.generateUnit() } as Callable<MnemonicUnit>) }
+        def units = futures*.get()
+        then:
+        units.every { MnemonicUnit.decodeMnemonic(algorithm, it.mnemonic).entropy == it.entropy }
+        units*.mnemonic.toSet().size() == 16
+        cleanup:
+        executor.shutdown()
+        where:
+        algorithm << MnemonicServices.registeredAlgorithms
+    }
+
+    /**
+     * Range of word counts a mnemonic of the given entropy length may have.
+     * Checksums and version prefixes add at most 16 bits and versioned seeds
+     * may drop a leading word.
+     */
+    private static IntRange wordCountRange(int entropyLength) {
+        int entropyBits = entropyLength * 8
+        return (entropyBits.intdiv(11) - 1)..((entropyBits + 16 + 10).intdiv(11))
     }
 }
@@ -18,8 +18,12 @@ package us.eharning.atomun.mnemonic
 
 import com.google.common.collect.Iterables
 import spock.lang.Specification
+import us.eharning.atomun.mnemonic.spi.SeedDerivation
 
-import java.lang.reflect.Field
+import java.nio.BufferOverflowException
+import java.nio.ByteBuffer
+import javax.crypto.Mac
+import javax.crypto.spec.SecretKeySpec
 
 /**
  * Generic decoding handler test.
@@ -50,24 +54,389 @@ class MnemonicDecoderGenericSpock extends Specification {
         _ | "123 Fake Foux"
     }
 
-    static Object getFinalStatic(Class<?> clazz, String fieldName) throws Exception {
-        Field field = clazz.getDeclaredField(fieldName)
-        field.setAccessible(true);
-
-        return field.get(null);
-    }
-
     def "requesting an algorithm not known by any providers results in failure"() {
-        /* Requires reflection hack due to all known algorithms having a provider */
         setup:
-        def providerSet = getFinalStatic(MnemonicServices, "SERVICE_PROVIDERS_MUTABLE")
-        def backup = providerSet.toArray()
-        providerSet.clear()
+        def backup = MnemonicServices.serviceProviders.toList()
+        backup.each { MnemonicServices.unregisterServiceProvider(it) }
         when:
         MnemonicUnit.decodeMnemonic(BIPMnemonicAlgorithm.BIP0039, "")
         then:
         thrown(UnsupportedOperationException)
         cleanup:
-        providerSet.addAll(backup)
+        backup.each { MnemonicServices.registerServiceProvider(it) }
+    }
+
+    def "tryDecode reports a result for every registered algorithm"(String mnemonic) {
+        given:
+        Map<MnemonicAlgorithm, MnemonicDecodeResult> results = MnemonicUnit.tryDecode(mnemonic)
+        expect:
+        results.keySet() == MnemonicServices.registeredAlgorithms
+        results.values().findAll { it.success }*.unit*.algorithm as Set == Iterables.toArray(MnemonicUnit.decodeMnemonic(mnemonic), MnemonicUnit)*.algorithm as Set
+        where:
+        _ | mnemonic
+        _ | "123FAKE"
+        _ | "pleasure patience practice"
+        _ | "abandon abandon abandon abandon abandon abandon abandon abandon abandon abandon abandon about"
+    }
+
+    def "tryDecode of an unlisted algorithm results in failure"() {
+        when:
+        MnemonicUnit.tryDecode(new MnemonicAlgorithm() {}, "TEST")
+        then:
+        thrown(UnsupportedOperationException)
+    }
+
+    def "words outside every dictionary are pruned for every algorithm"() {
+        given:
+        def statistics = MnemonicDecodeStatistics.enable()
+        when:
+        def results = MnemonicUnit.tryDecode("123 Fake Foux")
+        then:
+        statistics.attemptCount == 0
+        statistics.prunedCount == MnemonicServices.registeredAlgorithms.size()
+        results.values().every { !it.success }
+        cleanup:
+        MnemonicDecodeStatistics.disable()
+    }
+
+    def "a BIP0039 checksum mismatch is found by the decoder, not the precheck"() {
+        given:
+        def statistics = MnemonicDecodeStatistics.enable()
+        when:
+        def result = MnemonicUnit.tryDecode("abandon abandon abandon abandon abandon abandon abandon abandon abandon abandon abandon abandon")[BIPMnemonicAlgorithm.BIP0039]
+        then:
+        result.failureReason == MnemonicDecodeResult.FailureReason.CHECKSUM_MISMATCH
+        statistics.getAttemptCount(BIPMnemonicAlgorithm.BIP0039) == 1
+        statistics.getPrunedCount(BIPMnemonicAlgorithm.BIP0039) == 0
+        cleanup:
+        MnemonicDecodeStatistics.disable()
+    }
+
+    def "statistics are only collected while enabled"() {
+        given:
+        def previous = MnemonicDecodeStatistics.enable()
+        def statistics = MnemonicDecodeStatistics.enable()
+        when:
+        MnemonicUnit.tryDecode("123 Fake Foux")
+        MnemonicDecodeStatistics.disable()
+        MnemonicUnit.tryDecode("123 Fake Foux")
+        then:
+        MnemonicDecodeStatistics.active == null
+        previous.prunedCount == 0
+        statistics.prunedCount == MnemonicServices.registeredAlgorithms.size()
+        cleanup:
+        MnemonicDecodeStatistics.disable()
+    }
+
+    def "pruning does not change the decoding results"(String mnemonic) {
+        given:
+        Map<MnemonicAlgorithm, MnemonicDecodeResult> results = MnemonicUnit.tryDecode(mnemonic)
+        expect:
+        MnemonicServices.registeredAlgorithms.each { algorithm ->
+            def direct = MnemonicUnit.tryDecode(algorithm, mnemonic)
+            assert results[algorithm].success == direct.success
+            assert results[algorithm].failureReason == direct.failureReason
+        }
+        where:
+        _ | mnemonic
+        _ | "123FAKE"
+        _ | "pleasure patience practice"
+        _ | "abandon abandon abandon abandon abandon abandon abandon abandon abandon abandon abandon about"
+        _ | "abandon abandon abandon abandon abandon abandon abandon abandon abandon abandon abandon abandon"
+        _ | "abandon bogus abandon"
+    }
+
+    def "units round-trip through their dictionary indices"(MnemonicAlgorithm algorithm) {
+        given:
+        def unit = MnemonicUnit.decodeMnemonic(algorithm, MnemonicBuilder.newBuilder(algorithm).setEntropyLength(16).build())
+        def indices = unit.indices
+        when:
+        def fromIndices = MnemonicUnit.fromIndices(algorithm, unit.dictionaryIdentifier, indices)
+        def fromShortIndices = MnemonicUnit.fromIndices(algorithm, unit.dictionaryIdentifier, indices as short[])
+        then:
+        fromIndices.indices == indices
+        fromIndices.dictionaryIdentifier == unit.dictionaryIdentifier
+        fromIndices.entropy == unit.entropy
+        fromIndices.mnemonic.toString() == unit.mnemonic.toString()
+        fromIndices.seed == unit.seed
+        fromShortIndices.mnemonic.toString() == unit.mnemonic.toString()
+        where:
+        algorithm << MnemonicServices.registeredAlgorithms
+    }
+
+    def "units from indices own a copy of the indices"() {
+        given:
+        def unit = MnemonicUnit.decodeMnemonic(BIPMnemonicAlgorithm.BIP0039, "abandon abandon abandon abandon abandon abandon abandon abandon abandon abandon abandon about")
+        int[] indices = unit.indices
+        def fromIndices = MnemonicUnit.fromIndices(BIPMnemonicAlgorithm.BIP0039, unit.dictionaryIdentifier, indices)
+        when:
+        indices[0] = 5
+        fromIndices.indices[1] = 5
+        then:
+        fromIndices.indices == [0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 3] as int[]
+    }
+
+    def "invalid indices are rejected"(MnemonicAlgorithm algorithm, int[] badIndices) {
+        given:
+        def unit = MnemonicUnit.decodeMnemonic(algorithm, MnemonicBuilder.newBuilder(algorithm).build())
+        when:
+        MnemonicUnit.fromIndices(algorithm, unit.dictionaryIdentifier, badIndices)
+        then:
+        thrown(IllegalArgumentException)
+        where:
+        algorithm                                | badIndices
+        BIPMnemonicAlgorithm.BIP0039             | [0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0] as int[]
+        BIPMnemonicAlgorithm.BIP0039             | [0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 2048] as int[]
+        ElectrumMnemonicAlgorithm.ElectrumV2     | [0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, -1] as int[]
+        ElectrumMnemonicAlgorithm.LegacyElectrum | [0, 0] as int[]
+        ElectrumMnemonicAlgorithm.LegacyElectrum | [0, 0, 1626] as int[]
+    }
+
+    def "legacy units cannot be built from another dictionary"() {
+        given:
+        def bip0039Unit = MnemonicUnit.decodeMnemonic(BIPMnemonicAlgorithm.BIP0039, "abandon abandon abandon abandon abandon abandon abandon abandon abandon abandon abandon about")
+        when:
+        MnemonicUnit.fromIndices(ElectrumMnemonicAlgorithm.LegacyElectrum, bip0039Unit.dictionaryIdentifier, [0, 0, 0] as int[])
+        then:
+        thrown(UnsupportedOperationException)
+    }
+
+    def "caller-supplied buffers receive the same entropy and seed"(MnemonicAlgorithm algorithm) {
+        given:
+        def unit = MnemonicUnit.decodeMnemonic(algorithm, MnemonicBuilder.newBuilder(algorithm).setEntropyLength(16).build())
+        def seed = unit.seed
+        def entropy = unit.entropy
+        def seedOutput = new byte[seed.length + 3]
+        def entropyOutput = ByteBuffer.allocateDirect(entropy.length + 3)
+        when:
+        def seedLength = unit.getSeed(seedOutput, 3)
+        def entropyLength = unit.getEntropy(entropyOutput)
+        then:
+        seedLength == seed.length
+        Arrays.copyOfRange(seedOutput, 3, seedOutput.length) == seed
+        entropyLength == entropy.length
+        entropyOutput.position() == entropy.length
+        def written = new byte[entropy.length]
+        entropyOutput.flip()
+        entropyOutput.get(written)
+        written == entropy
+        where:
+        algorithm << MnemonicServices.registeredAlgorithms
+    }
+
+    def "caller-supplied seed buffers honor the password"() {
+        given:
+        def unit = MnemonicUnit.decodeMnemonic(BIPMnemonicAlgorithm.BIP0039, "abandon abandon abandon abandon abandon abandon abandon abandon abandon abandon abandon about")
+        def output = new byte[64]
+        when:
+        unit.getSeed("TREZOR", output, 0)
+        then:
+        output == unit.getSeed("TREZOR")
+        output != unit.seed
+    }
+
+    def "BIP0039 seeds without a password follow the test vector"(String password) {
+        given:
+        def unit = MnemonicUnit.decodeMnemonic(BIPMnemonicAlgorithm.BIP0039, "abandon abandon abandon abandon abandon abandon abandon abandon abandon abandon abandon about")
+        def expected = "5eb00bbddcf069084889a8ab9155568165f5c453ccb85e70811aaed6f6da5fc19a5ac40b389cd370d086206dec8aa6c43daea6690f20ad3d8d48b2d2ce9e38e4".decodeHex()
+        def output = new byte[66]
+        expect:
+        unit.getSeed(password) == expected
+        unit.getSeed(password, output, 2) == 64
+        output[2..<66] as byte[] == expected
+        where:
+        password << [null, ""]
+    }
+
+    static byte[] bitcoinSeedHmac(byte[] seed) {
+        def mac = Mac.getInstance("HmacSHA512")
+        mac.init(new SecretKeySpec("Bitcoin seed".getBytes("US-ASCII"), "HmacSHA512"))
+        return mac.doFinal(seed)
+    }
+
+    def "master keys follow the BIP0032 test vector"() {
+        given:
+        def seed = "000102030405060708090a0b0c0d0e0f".decodeHex()
+        def output = new byte[66]
+        when:
+        SeedDerivation.deriveMasterKey(seed, 0, seed.length, output, 2)
+        then:
+        output[2..<34] as byte[] == "e8f32e723decf4051aefac8e2c93c9c5b214313817cdb01a1494b917c8436b35".decodeHex()
+        output[34..<66] as byte[] == "873dff81c02f525623fd1fe5167eac3a55a049de3d314bb42ee227ffed37d508".decodeHex()
+    }
+
+    def "master keys are the HMAC of the password-derived seed"(MnemonicAlgorithm algorithm, String password) {
+        given:
+        def unit = MnemonicUnit.decodeMnemonic(algorithm, MnemonicBuilder.newBuilder(algorithm).setEntropyLength(16).build())
+        def output = new byte[67]
+        expect:
+        unit.getMasterKey(password) == bitcoinSeedHmac(unit.getSeed(password))
+        unit.getMasterKey(password, output, 3) == 64
+        output[3..<67] as byte[] == unit.getMasterKey(password)
+        where:
+        algorithm                                | password
+        BIPMnemonicAlgorithm.BIP0039             | "TREZOR"
+        BIPMnemonicAlgorithm.BIP0039             | ""
+        BIPMnemonicAlgorithm.BIP0039             | null
+        ElectrumMnemonicAlgorithm.ElectrumV2     | "TREZOR"
+        ElectrumMnemonicAlgorithm.ElectrumV2     | null
+        ElectrumMnemonicAlgorithm.LegacyElectrum | null
+    }
+
+    def "BIP0039 master keys without a password follow the test vector"(String password) {
+        given:
+        def unit = MnemonicUnit.decodeMnemonic(BIPMnemonicAlgorithm.BIP0039, "abandon abandon abandon abandon abandon abandon abandon abandon abandon abandon abandon about")
+        def expected = "1837c1be8e2995ec11cda2b066151be2cfb48adf9e47b151d46adab3a21cdf677923408dadd3c7b56eed15567707ae5e5dca089de972e07f3b860450e2a3b70e".decodeHex()
+        expect:
+        unit.getMasterKey(password) == expected
+        bitcoinSeedHmac(unit.seed) == expected
+        where:
+        password << [null, ""]
+    }
+
+    def "undersized master key buffers are rejected untouched"(MnemonicAlgorithm algorithm) {
+        given:
+        def unit = MnemonicUnit.decodeMnemonic(algorithm, MnemonicBuilder.newBuilder(algorithm).setEntropyLength(16).build())
+        def output = new byte[64]
+        when:
+        unit.getMasterKey(null, output, 1)
+        then:
+        thrown(IndexOutOfBoundsException)
+        output.every { it == 0 }
+        where:
+        algorithm << MnemonicServices.registeredAlgorithms
+    }
+
+    def "undersized caller-supplied buffers are rejected untouched"(MnemonicAlgorithm algorithm) {
+        given:
+        def unit = MnemonicUnit.decodeMnemonic(algorithm, MnemonicBuilder.newBuilder(algorithm).setEntropyLength(16).build())
+        def seedOutput = new byte[unit.seed.length]
+        def entropyOutput = ByteBuffer.allocate(unit.entropy.length - 1)
+        when:
+        unit.getSeed(seedOutput, 1)
+        then:
+        thrown(IndexOutOfBoundsException)
+        seedOutput.every { it == 0 }
+        when:
+        unit.getEntropy(entropyOutput)
+        then:
+        thrown(BufferOverflowException)
+        entropyOutput.position() == 0
+        where:
+        algorithm << MnemonicServices.registeredAlgorithms
+    }
+
+    def "decoded units render back the exact input sentence"(MnemonicAlgorithm algorithm, String wordList) {
+        given:
+        def canonical = MnemonicBuilder.newBuilder(algorithm).setWordList(wordList).setEntropyLength(16).build()
+        def ideographic = canonical.replace(' ', '\u3000')
+        expect:
+        MnemonicUnit.decodeMnemonic(algorithm, canonical, wordList).mnemonic.toString() == canonical
+        MnemonicUnit.decodeMnemonic(algorithm, ideographic, wordList).mnemonic.toString() == ideographic
+        MnemonicUnit.decodeMnemonic(algorithm, canonical, wordList).seed == MnemonicUnit.decodeMnemonic(algorithm, ideographic, wordList).seed
+        where:
+        algorithm                            | wordList
+        BIPMnemonicAlgorithm.BIP0039         | "english"
+        BIPMnemonicAlgorithm.BIP0039         | "japanese"
+        ElectrumMnemonicAlgorithm.ElectrumV2 | "english"
+        ElectrumMnemonicAlgorithm.ElectrumV2 | "japanese"
+    }
+
+    def "lazily derived entropy is handed out as independent copies"(MnemonicAlgorithm algorithm) {
+        given:
+        def expected = MnemonicUnit.decodeMnemonic(algorithm, MnemonicBuilder.newBuilder(algorithm).setEntropyLength(16).build())
+        def unit = MnemonicUnit.fromIndices(algorithm, expected.dictionaryIdentifier, expected.indices)
+        when:
+        def first = unit.entropy
+        first[0] = (byte) (first[0] ^ 0xFF)
+        then:
+        unit.entropy == expected.entropy
+        unit.entropy != first
+        where:
+        algorithm << MnemonicServices.registeredAlgorithms
+    }
+
+    static List<String> decodeAllInputs(MnemonicAlgorithm algorithm) {
+        def inputs = []
+        MnemonicBuilder.newBuilder(algorithm).setEntropyLength(16).buildMany(150).eachWithIndex { String mnemonic, int i ->
+            def words = mnemonic.split(" ").toList()
+            if (i % 3 == 1) {
+                words[0] = words[1]
+            } else if (i % 3 == 2) {
+                words = words.subList(1, words.size())
+            }
+            inputs << words.join(" ")
+        }
+        return inputs
+    }
+
+    static String describe(MnemonicDecodeResult result) {
+        return result.success ? result.unit.mnemonic.toString() : result.failureReason.name() + "@" + result.wordIndex
+    }
+
+    def "decoding a stream agrees with decoding each mnemonic in order"(MnemonicAlgorithm algorithm, boolean parallel, boolean sized) {
+        given:
+        def inputs = decodeAllInputs(algorithm)
+        def expected = inputs.collect({ describe(MnemonicUnit.tryDecode(algorithm, it, null)) })
+        def source = sized ? inputs.stream() : new BufferedReader(new StringReader(inputs.join("\n"))).lines()
+        if (parallel) {
+            source = source.parallel()
+        }
+        when:
+        def results = MnemonicUnit.decodeAll(source, algorithm, null)
+        then:
+        results.isParallel() == parallel
+        results.collect({ describe(it) }) == expected
+        expected.any({ !it.contains("@") })
+        where:
+        [algorithm, parallel, sized] << [MnemonicServices.registeredAlgorithms, [false, true], [false, true]].combinations()
+    }
+
+    def "unordered stream decoding yields the same results"(MnemonicAlgorithm algorithm) {
+        given:
+        def inputs = decodeAllInputs(algorithm)
+        def expected = inputs.collect({ describe(MnemonicUnit.tryDecode(algorithm, it, null)) })
+        def source = new BufferedReader(new StringReader(inputs.join("\n"))).lines().parallel()
+        when:
+        def results = MnemonicUnit.decodeAll(source, algorithm, null, false)
+        then:
+        !results.spliterator().hasCharacteristics(Spliterator.ORDERED)
+        MnemonicUnit.decodeAll(inputs.stream().parallel(), algorithm, null, false).collect({ describe(it) }).sort() == expected.toList().sort()
+        where:
+        algorithm << MnemonicServices.registeredAlgorithms
+    }
+
+    def "unsized mnemonic streams are split into batches"() {
+        given:
+        def inputs = decodeAllInputs(BIPMnemonicAlgorithm.BIP0039)
+        def source = new BufferedReader(new StringReader(inputs.join("\n"))).lines()
+        when:
+        def spliterator = MnemonicUnit.decodeAll(source, BIPMnemonicAlgorithm.BIP0039, null).spliterator()
+        def prefix = spliterator.trySplit()
+        then:
+        prefix != null
+        prefix.estimateSize() < inputs.size()
+        prefix.hasCharacteristics(Spliterator.SIZED)
+        def count = 0
+        prefix.forEachRemaining({ count++ })
+        spliterator.forEachRemaining({ count++ })
+        count == inputs.size()
+    }
+
+    def "closing the decoded stream closes the source"() {
+        given:
+        def closed = false
+        def source = ["abandon"].stream().onClose({ closed = true })
+        when:
+        MnemonicUnit.decodeAll(source, BIPMnemonicAlgorithm.BIP0039, "english").close()
+        then:
+        closed
+    }
+
+    def "stream decoding of an unlisted algorithm results in failure"() {
+        when:
+        MnemonicUnit.decodeAll(["TEST"].stream(), new MnemonicAlgorithm() {}, null)
+        then:
+        thrown(UnsupportedOperationException)
     }
 }
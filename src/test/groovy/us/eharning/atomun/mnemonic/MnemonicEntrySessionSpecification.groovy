@@ -0,0 +1,205 @@
+/*
+ * Copyright 2026 Thomas Harning Jr. <harningt@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package us.eharning.atomun.mnemonic
+
+import spock.lang.Specification
+import us.eharning.atomun.mnemonic.utility.dictionary.DictionarySource
+
+import java.text.Normalizer
+
+/**
+ * Tests covering incremental mnemonic entry.
+ */
+class MnemonicEntrySessionSpecification extends Specification {
+    static final String MNEMONIC = "legal winner thank year wave sausage worth useful legal winner thank yellow"
+
+    static List<Integer> referenceIndices(MnemonicEntrySession session, String wordList) {
+        def dictionary = DictionarySource.getDictionary(MnemonicUnit.decodeMnemonic(BIPMnemonicAlgorithm.BIP0039, MNEMONIC, wordList).dictionaryIdentifier)
+        return session.text.split("[ \u3000]").findAll({ !it.isEmpty() }).collect({ dictionary.indexOf(Normalizer.normalize(it, Normalizer.Form.NFKD)) })
+    }
+
+    static List<Integer> sessionIndices(MnemonicEntrySession session) {
+        return (0..<session.wordCount).collect({ session.getWordIndex(it) })
+    }
+
+    def "typing a mnemonic becomes valid the moment the last word completes"() {
+        given:
+        def session = MnemonicEntrySession.newSession(BIPMnemonicAlgorithm.BIP0039, "english")
+        def validities = []
+        when:
+        MNEMONIC.each {
+            session.append(it)
+            validities.add(session.isValid())
+        }
+        then:
+        validities[-1]
+        !validities[-2]
+        session.wordCount == 12
+        session.indexOfFirstUnknown() == -1
+        session.unit.mnemonic.toString() == MNEMONIC
+        session.unit.entropy == MnemonicUnit.decodeMnemonic(BIPMnemonicAlgorithm.BIP0039, MNEMONIC, "english").entropy
+    }
+
+    def "validity matches decoding after each keystroke"(String wordList) {
+        given:
+        def unit = MnemonicBuilder.newBuilder(BIPMnemonicAlgorithm.BIP0039).setWordList(wordList).setEntropyLength(16).buildUnit()
+        def mnemonic = unit.mnemonic.toString()
+        def session = MnemonicEntrySession.newSession(BIPMnemonicAlgorithm.BIP0039, wordList)
+        when:
+        def mismatches = []
+        mnemonic.each {
+            session.append(it)
+            def words = session.text.split("[ \u3000]").findAll({ !it.isEmpty() }).join(" ")
+            if (session.isValid() != MnemonicUnit.tryDecode(BIPMnemonicAlgorithm.BIP0039, words, wordList).isSuccess()) {
+                mismatches.add(session.text)
+            }
+        }
+        then:
+        mismatches.isEmpty()
+        session.isValid()
+        session.unit.entropy == unit.entropy
+        where:
+        wordList << ["english", "japanese"]
+    }
+
+    def "backspace and retyping the last character toggle validity"() {
+        given:
+        def session = MnemonicEntrySession.newSession(BIPMnemonicAlgorithm.BIP0039, "english")
+        session.append(MNEMONIC)
+        when:
+        session.delete(1)
+        then:
+        !session.isValid()
+        session.indexOfFirstUnknown() == 11
+        session.unit == null
+        when:
+        session.append("w")
+        then:
+        session.isValid()
+    }
+
+    def "replacing a word in the middle is checked against the checksum"() {
+        given:
+        def session = MnemonicEntrySession.newSession(BIPMnemonicAlgorithm.BIP0039, "english")
+        session.append(MNEMONIC)
+        def start = MNEMONIC.indexOf("winner")
+        when:
+        session.replace(start, start + "winner".length(), "wave")
+        then:
+        session.wordCount == 12
+        session.indexOfFirstUnknown() == -1
+        !session.isValid()
+        when:
+        session.replace(start, start + "wave".length(), "winner")
+        then:
+        session.isValid()
+    }
+
+    def "completions list the dictionary words starting with the word being typed"() {
+        given:
+        def session = MnemonicEntrySession.newSession(BIPMnemonicAlgorithm.BIP0039, "english")
+        when:
+        session.append("legal yel")
+        then:
+        session.completions == ["yellow"]
+        when:
+        session.delete(1)
+        then:
+        session.completions == ["year", "yellow"]
+        when:
+        session.append("q")
+        then:
+        session.completions.isEmpty()
+        when:
+        session.delete(1)
+        session.append(" ")
+        then:
+        session.completions.isEmpty()
+    }
+
+    def "random edits keep the words in sync with the text"() {
+        given:
+        def random = new Random(42)
+        def session = MnemonicEntrySession.newSession(BIPMnemonicAlgorithm.BIP0039, "english")
+        def pieces = ["legal", "winner", " ", "  ", "thank", "ye", "ar", "\u3000", "wave", "x", ""]
+        when:
+        def failures = []
+        500.times {
+            int length = session.text.length()
+            int start = random.nextInt(length + 1)
+            int end = start + random.nextInt(length - start + 1)
+            if (length > 60) {
+                start = 0
+                end = length.intdiv(2)
+            }
+            session.replace(start, end, pieces[random.nextInt(pieces.size())])
+            if (sessionIndices(session) != referenceIndices(session, "english")) {
+                failures.add(session.text)
+            }
+            def words = session.text.split("[ \u3000]").findAll({ !it.isEmpty() }).join(" ")
+            if (session.isValid() != (!words.isEmpty() && MnemonicUnit.tryDecode(BIPMnemonicAlgorithm.BIP0039, words, "english").isSuccess())) {
+                failures.add(session.text)
+            }
+        }
+        session.replace(0, session.text.length(), " " + MNEMONIC.replace(" ", "  ") + " ")
+        then:
+        failures.isEmpty()
+        session.isValid()
+        session.unit.mnemonic.toString() == MNEMONIC
+    }
+
+    def "other algorithms are validated by decoding once every word is known"() {
+        given:
+        def unit = MnemonicBuilder.newBuilder(ElectrumMnemonicAlgorithm.ElectrumV2).setEntropyLength(16).buildUnit()
+        def words = unit.mnemonic.toString().split(" ")
+        def session = MnemonicEntrySession.newSession(ElectrumMnemonicAlgorithm.ElectrumV2, "english")
+        when:
+        session.append(words[0..-2].join(" "))
+        then:
+        !session.isValid()
+        when:
+        session.append(" " + words[-1])
+        then:
+        session.isValid()
+        session.unit.entropy == unit.entropy
+    }
+
+    def "edits outside the text are rejected"() {
+        given:
+        def session = MnemonicEntrySession.newSession(BIPMnemonicAlgorithm.BIP0039, "english")
+        session.append("legal")
+        when:
+        session.delete(6)
+        then:
+        thrown(IndexOutOfBoundsException)
+        when:
+        session.replace(3, 2, "x")
+        then:
+        thrown(IndexOutOfBoundsException)
+        when:
+        session.getWordIndex(1)
+        then:
+        thrown(IndexOutOfBoundsException)
+    }
+
+    def "unknown word lists are rejected"() {
+        when:
+        MnemonicEntrySession.newSession(BIPMnemonicAlgorithm.BIP0039, "klingon")
+        then:
+        thrown(IllegalArgumentException)
+    }
+}
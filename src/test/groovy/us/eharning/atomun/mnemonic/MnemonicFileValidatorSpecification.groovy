@@ -0,0 +1,165 @@
+/*
+ * Copyright 2026 Thomas Harning Jr. <harningt@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package us.eharning.atomun.mnemonic
+
+import spock.lang.Specification
+
+import java.nio.file.Files
+import java.nio.file.Path
+import java.text.Normalizer
+
+/**
+ * Tests covering the bulk mnemonic file validator.
+ */
+class MnemonicFileValidatorSpecification extends Specification {
+    static Path writeLines(List<String> lines, boolean crlf) {
+        def path = Files.createTempFile("mnemonics", ".txt")
+        path.toFile().deleteOnExit()
+        def text = new StringBuilder()
+        lines.eachWithIndex { String line, int i ->
+            text.append(line).append(crlf && i % 2 == 0 ? "\r\n" : "\n")
+        }
+        Files.write(path, text.toString().getBytes("UTF-8"))
+        return path
+    }
+
+    static List<String> corpus(MnemonicAlgorithm algorithm, List<String> wordLists) {
+        def random = new Random(42)
+        def lines = []
+        wordLists.each { String wordList ->
+            def builder = MnemonicBuilder.newBuilder(algorithm)
+            if (null != wordList) {
+                builder.setWordList(wordList)
+            }
+            def valid = builder.setEntropyLength(16).buildMany(6)
+            valid += builder.setEntropyLength(32).buildMany(2)
+            valid.each { String mnemonic ->
+                def words = mnemonic.split("[ 　]").toList()
+                lines << mnemonic
+                lines << words.join(" ")
+                lines << words.join("　")
+                lines << Normalizer.normalize(mnemonic, Normalizer.Form.NFC)
+                lines << mnemonic.toUpperCase()
+                lines << mnemonic + " "
+                lines << " " + mnemonic
+                lines << words.join("  ")
+                lines << words.subList(0, words.size() - 1).join(" ")
+                lines << (words + words + words + words).join(" ")
+                def swapped = words.toList()
+                def i = random.nextInt(swapped.size() - 1)
+                def word = swapped[i]
+                swapped[i] = swapped[i + 1]
+                swapped[i + 1] = word
+                lines << swapped.join(" ")
+                def replaced = words.toList()
+                replaced[replaced.size() - 1] = words[random.nextInt(words.size())]
+                lines << replaced.join(" ")
+                replaced[0] = "zzz"
+                lines << replaced.join(" ")
+            }
+        }
+        lines << ""
+        lines << " "
+        lines << "　"
+        lines << "abandon abandon abandon abandon abandon abandon abandon abandon abandon abandon abandon about"
+        lines << "like like like"
+        lines << "ábaco abdomen abeja"
+        return lines
+    }
+
+    def "every line agrees with decoding the line"(MnemonicAlgorithm algorithm, String wordList, List<String> buildWordLists) {
+        given:
+        def lines = corpus(algorithm, buildWordLists)
+        def path = writeLines(lines, true)
+        def expected = lines.collect({ MnemonicUnit.tryDecode(algorithm, it, wordList).isSuccess() })
+        when:
+        def reports = [
+                MnemonicFileValidator.newValidator(algorithm, wordList).validate(path),
+                MnemonicFileValidator.newValidator(algorithm, wordList, 3, 64).validate(path)
+        ]
+        then:
+        expected.contains(true)
+        expected.contains(false)
+        reports.each { report ->
+            assert report.lineCount == lines.size()
+            assert (0..<lines.size()).collect({ report.isValid(it) }) == expected
+            assert report.validCount == expected.count(true)
+        }
+        where:
+        algorithm                                 | wordList   | buildWordLists
+        BIPMnemonicAlgorithm.BIP0039              | null       | ["english", "japanese"]
+        BIPMnemonicAlgorithm.BIP0039              | "japanese" | ["english", "japanese"]
+        ElectrumMnemonicAlgorithm.ElectrumV2      | null       | ["english", "japanese", "spanish"]
+        ElectrumMnemonicAlgorithm.ElectrumV2      | "spanish"  | ["english", "spanish"]
+        ElectrumMnemonicAlgorithm.LegacyElectrum  | null       | [null]
+    }
+
+    def "line breaks delimit lines without adding a final empty line"(String text, int lineCount) {
+        given:
+        def path = Files.createTempFile("mnemonics", ".txt")
+        path.toFile().deleteOnExit()
+        Files.write(path, text.getBytes("UTF-8"))
+        when:
+        def report = MnemonicFileValidator.newValidator(BIPMnemonicAlgorithm.BIP0039, null, 2, 16).validate(path)
+        then:
+        report.lineCount == lineCount
+        where:
+        text                            | lineCount
+        ""                              | 0
+        "\n"                            | 1
+        "a\nb"                          | 2
+        "a\nb\n"                        | 2
+        "a\r\n\r\nb\r\n"                | 3
+    }
+
+    def "the report exposes the valid lines"() {
+        given:
+        def valid = "legal winner thank year wave sausage worth useful legal winner thank yellow"
+        def invalid = "legal winner thank year wave sausage worth useful legal winner thank year"
+        def path = writeLines([invalid, valid, valid, invalid, valid, invalid, invalid, invalid, invalid, valid], false)
+        when:
+        def report = MnemonicFileValidator.newValidator(BIPMnemonicAlgorithm.BIP0039, "english").validate(path)
+        then:
+        report.lineCount == 10
+        report.validCount == 4
+        report.nextInvalidLine(0) == 0
+        report.nextInvalidLine(1) == 3
+        report.nextInvalidLine(9) == -1
+        report.validLines == BitSet.valueOf([0x16, 0x02] as byte[])
+        report.toBitmap() == [0x16, 0x02] as byte[]
+        report.toString().contains("validCount=4")
+        when:
+        report.isValid(10)
+        then:
+        thrown(IndexOutOfBoundsException)
+    }
+
+    def "unknown word lists and invalid sizes are rejected"() {
+        when:
+        MnemonicFileValidator.newValidator(BIPMnemonicAlgorithm.BIP0039, "klingon")
+        then:
+        thrown(IllegalArgumentException)
+        when:
+        MnemonicFileValidator.newValidator(BIPMnemonicAlgorithm.BIP0039, null, 0, 1024)
+        then:
+        thrown(IllegalArgumentException)
+        when:
+        MnemonicFileValidator.newValidator(BIPMnemonicAlgorithm.BIP0039, null, 1, 0)
+        then:
+        thrown(IllegalArgumentException)
+    }
+}
@@ -0,0 +1,314 @@
+/*
+ * Copyright 2026 Thomas Harning Jr. <harningt@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package us.eharning.atomun.mnemonic
+
+import net.trajano.commons.testing.UtilityClassTestUtil
+import us.eharning.atomun.mnemonic.api.electrum.v2.ElectrumV2ExtensionIdentifier
+import us.eharning.atomun.mnemonic.api.electrum.v2.VersionPrefix
+import us.eharning.atomun.mnemonic.utility.dictionary.DictionarySource
+import spock.lang.Specification
+
+import java.util.stream.Collectors
+
+/**
+ * Tests covering mnemonic recovery.
+ */
+class MnemonicRecoverySpecification extends Specification {
+    static final String MNEMONIC = "legal winner thank year wave sausage worth useful legal winner thank yellow"
+
+    static String withUnknown(String mnemonic, int... positions) {
+        def words = mnemonic.split(" ")
+        positions.each { words[it] = MnemonicRecovery.UNKNOWN_WORD }
+        return words.join(" ")
+    }
+
+    def "MnemonicRecovery is a utility class"() {
+        when:
+        UtilityClassTestUtil.assertUtilityClassWellDefined(MnemonicRecovery.class)
+        then:
+        noExceptionThrown()
+    }
+
+    def "a missing word is recovered among checksum-valid candidates"(int position) {
+        when:
+        def candidates = MnemonicRecovery.recoverMissingWords(BIPMnemonicAlgorithm.BIP0039, withUnknown(MNEMONIC, position), "english")
+                .map({ it.mnemonic.toString() })
+                .collect(Collectors.toList())
+        then:
+        candidates.contains(MNEMONIC)
+        candidates.size() < 2048 / 4
+        candidates.toSet().size() == candidates.size()
+        candidates.every { MnemonicUnit.decodeMnemonic(BIPMnemonicAlgorithm.BIP0039, it, "english").mnemonic.toString() == it }
+        where:
+        position << [0, 5, 10]
+    }
+
+    def "a missing last word yields exactly one candidate per entropy value"() {
+        when:
+        def units = MnemonicRecovery.recoverMissingWords(BIPMnemonicAlgorithm.BIP0039, withUnknown(MNEMONIC, 11), "english")
+                .collect(Collectors.toList())
+        then:
+        units.size() == 1 << (11 - 4)
+        units*.mnemonic*.toString().contains(MNEMONIC)
+        units.every { it.entropy == MnemonicUnit.decodeMnemonic(BIPMnemonicAlgorithm.BIP0039, it.mnemonic, "english").entropy }
+    }
+
+    def "candidates are in the same order sequentially and in parallel"() {
+        given:
+        def pattern = withUnknown(MNEMONIC, 3)
+        when:
+        def parallel = MnemonicRecovery.recoverMissingWords(BIPMnemonicAlgorithm.BIP0039, pattern, "english")
+                .map({ it.indices as List }).collect(Collectors.toList())
+        def sequential = MnemonicRecovery.recoverMissingWords(BIPMnemonicAlgorithm.BIP0039, pattern, "english")
+                .sequential().map({ it.indices as List }).collect(Collectors.toList())
+        then:
+        parallel == sequential
+        sequential == sequential.sort(false) { it[3] }
+    }
+
+    def "two missing words are found by short-circuiting the stream"() {
+        when:
+        def found = MnemonicRecovery.recoverMissingWords(BIPMnemonicAlgorithm.BIP0039, withUnknown(MNEMONIC, 2, 11), "english")
+                .filter({ it.mnemonic.toString() == MNEMONIC })
+                .findAny()
+        then:
+        found.isPresent()
+    }
+
+    def "indices with unknown words are recovered"() {
+        given:
+        def unit = MnemonicUnit.decodeMnemonic(BIPMnemonicAlgorithm.BIP0039, MNEMONIC, "english")
+        def indices = unit.indices
+        indices[7] = -1
+        expect:
+        MnemonicRecovery.recoverMissingWords(BIPMnemonicAlgorithm.BIP0039, unit.dictionaryIdentifier, indices)
+                .anyMatch({ it.indices == unit.indices })
+    }
+
+    def "invalid patterns are rejected"(String pattern) {
+        when:
+        MnemonicRecovery.recoverMissingWords(BIPMnemonicAlgorithm.BIP0039, pattern, "english")
+        then:
+        thrown(IllegalArgumentException)
+        where:
+        pattern << [
+                withUnknown(MNEMONIC, 0).replace("winner", "bogus"),
+                withUnknown(MNEMONIC, 0, 1, 2, 3, 4, 5),
+                "legal ? thank year"
+        ]
+    }
+
+    def "algorithms without recovery support are rejected"() {
+        when:
+        MnemonicRecovery.recoverMissingWords(ElectrumMnemonicAlgorithm.ElectrumV2, withUnknown(MNEMONIC, 0), "english")
+        then:
+        thrown(UnsupportedOperationException)
+    }
+
+    static String withSwapped(String mnemonic, int first, int second) {
+        def words = mnemonic.split(" ")
+        def word = words[first]
+        words[first] = words[second]
+        words[second] = word
+        return words.join(" ")
+    }
+
+    static List<String> validOrderings(MnemonicAlgorithm algorithm, String mnemonic, String wordList, List<Integer> positions) {
+        def words = mnemonic.split(" ")
+        def result = new LinkedHashSet<String>()
+        positions.collect({ words[it] }).permutations().each { List<String> ordering ->
+            def candidate = words.toList()
+            positions.eachWithIndex { int position, int i -> candidate[position] = ordering[i] }
+            def sentence = candidate.join(" ")
+            if (MnemonicUnit.tryDecode(algorithm, sentence, wordList).isSuccess()) {
+                result.add(sentence)
+            }
+        }
+        return result as List
+    }
+
+    def "a scrambled BIP0039 sentence is recovered among checksum-valid orderings"() {
+        given:
+        def scrambled = withSwapped(MNEMONIC, 3, 6)
+        when:
+        def candidates = MnemonicRecovery.recoverWordOrder(BIPMnemonicAlgorithm.BIP0039, scrambled, "english", 3, 4, 5, 6, 11)
+                .map({ it.mnemonic.toString() })
+                .collect(Collectors.toList())
+        then:
+        candidates.contains(MNEMONIC)
+        candidates.toSet() == validOrderings(BIPMnemonicAlgorithm.BIP0039, scrambled, "english", [3, 4, 5, 6, 11]).toSet()
+        candidates.toSet().size() == candidates.size()
+    }
+
+    def "reorderings of repeated words are produced once"() {
+        when:
+        def candidates = MnemonicRecovery.recoverWordOrder(BIPMnemonicAlgorithm.BIP0039, MNEMONIC, "english", 0, 1, 8, 9)
+                .map({ it.mnemonic.toString() })
+                .collect(Collectors.toList())
+        then:
+        candidates.contains(MNEMONIC)
+        candidates.toSet().size() == candidates.size()
+        candidates.toSet() == validOrderings(BIPMnemonicAlgorithm.BIP0039, MNEMONIC, "english", [0, 1, 8, 9]).toSet()
+    }
+
+    def "orderings are in the same order sequentially and in parallel"() {
+        given:
+        def unit = MnemonicUnit.decodeMnemonic(BIPMnemonicAlgorithm.BIP0039, MNEMONIC, "english")
+        int[] positions = [11, 0, 2, 4, 6, 7, 3]
+        when:
+        def parallel = MnemonicRecovery.recoverWordOrder(BIPMnemonicAlgorithm.BIP0039, unit.dictionaryIdentifier, unit.indices, positions)
+                .map({ it.indices as List }).collect(Collectors.toList())
+        def sequential = MnemonicRecovery.recoverWordOrder(BIPMnemonicAlgorithm.BIP0039, unit.dictionaryIdentifier, unit.indices, positions)
+                .sequential().map({ it.indices as List }).collect(Collectors.toList())
+        then:
+        parallel == sequential
+        sequential.contains(unit.indices as List)
+        sequential.toSet().size() == sequential.size()
+    }
+
+    def "a scrambled Electrum v2 sentence is recovered by the seed version"(String wordList) {
+        given:
+        def unit = MnemonicBuilder.newBuilder(ElectrumMnemonicAlgorithm.ElectrumV2).setWordList(wordList).setEntropyLength(16).buildUnit()
+        def mnemonic = unit.mnemonic.toString()
+        def scrambled = withSwapped(mnemonic, 1, 4)
+        when:
+        def units = MnemonicRecovery.recoverWordOrder(ElectrumMnemonicAlgorithm.ElectrumV2, scrambled, wordList, 0, 1, 2, 3, 4, 10)
+                .collect(Collectors.toList())
+        def candidates = units*.mnemonic*.toString()
+        then:
+        candidates.contains(mnemonic)
+        candidates.toSet() == validOrderings(ElectrumMnemonicAlgorithm.ElectrumV2, scrambled, wordList, [0, 1, 2, 3, 4, 10]).toSet()
+        units.every { it.getExtensionValue(ElectrumV2ExtensionIdentifier.VERSION_PREFIX) == VersionPrefix.STANDARD }
+        where:
+        wordList << ["english", "japanese", "spanish"]
+    }
+
+    def "invalid word order positions are rejected"(List<Integer> positions) {
+        when:
+        MnemonicRecovery.recoverWordOrder(BIPMnemonicAlgorithm.BIP0039, MNEMONIC, "english", positions as int[])
+        then:
+        thrown(IllegalArgumentException)
+        where:
+        positions << [[], [3], [3, 3], [3, 12], [-1, 3], (0..20).toList()]
+    }
+
+    def "algorithms without word order recovery are rejected"() {
+        when:
+        MnemonicRecovery.recoverWordOrder(ElectrumMnemonicAlgorithm.LegacyElectrum, "like like like like like like like like like like like like", "english", 0, 1)
+        then:
+        thrown(UnsupportedOperationException)
+    }
+
+    def "valid last words match a brute force decode of every dictionary word"(int wordCount) {
+        given:
+        def unit = MnemonicBuilder.newBuilder(BIPMnemonicAlgorithm.BIP0039).setEntropyLength(wordCount * 4 / 3 as int).buildUnit()
+        def dictionary = DictionarySource.getDictionary(unit.dictionaryIdentifier)
+        def words = unit.mnemonic.toString().split(" ").toList()
+        def prefix = words.subList(0, wordCount - 1).join(" ")
+        def expected = (0..<dictionary.size).collect({ dictionary.convert(it) }).findAll({
+            MnemonicUnit.tryDecode(BIPMnemonicAlgorithm.BIP0039, prefix + " " + it, "english").isSuccess()
+        })
+        when:
+        def lastWords = MnemonicRecovery.validLastWords(BIPMnemonicAlgorithm.BIP0039, prefix, "english")
+        def lastIndices = MnemonicRecovery.validLastWords(BIPMnemonicAlgorithm.BIP0039, unit.dictionaryIdentifier, Arrays.copyOf(unit.indices, wordCount - 1))
+        then:
+        lastWords == expected
+        lastWords.size() == 1 << (11 - wordCount.intdiv(3))
+        lastWords.contains(words.last())
+        lastIndices as List == lastWords.collect({ dictionary.indexOf(it) })
+        where:
+        wordCount << [3, 12, 24]
+    }
+
+    def "valid last words reject invalid prefixes"() {
+        when:
+        MnemonicRecovery.validLastWords(BIPMnemonicAlgorithm.BIP0039, prefix, "english")
+        then:
+        thrown(IllegalArgumentException)
+        where:
+        prefix << ["", "legal winner thank", "legal winner bogus"]
+    }
+
+    def "valid last words are not computed for Electrum v2"() {
+        when:
+        MnemonicRecovery.validLastWords(ElectrumMnemonicAlgorithm.ElectrumV2, "legal winner", "english")
+        then:
+        thrown(UnsupportedOperationException)
+    }
+
+    def "a recovered BIP0039 candidate is confirmed by a seed prefix"() {
+        given:
+        def target = MnemonicUnit.decodeMnemonic(BIPMnemonicAlgorithm.BIP0039, MNEMONIC, "english").getSeed("TREZOR")
+        def candidates = MnemonicRecovery.recoverMissingWords(BIPMnemonicAlgorithm.BIP0039, withUnknown(MNEMONIC, 5), "english")
+        when:
+        def found = MnemonicRecovery.findBySeed(candidates, "TREZOR", MnemonicRecovery.seedPrefix(Arrays.copyOf(target, 4)))
+        then:
+        found.mnemonic.toString() == MNEMONIC
+    }
+
+    def "a recovered BIP0039 candidate is confirmed by the seed of an empty passphrase"(String password) {
+        given:
+        def mnemonic = "abandon abandon abandon abandon abandon abandon abandon abandon abandon abandon abandon about"
+        def candidates = MnemonicRecovery.recoverMissingWords(BIPMnemonicAlgorithm.BIP0039, withUnknown(mnemonic, 3), "english")
+        when:
+        def found = MnemonicRecovery.findBySeed(candidates, password, MnemonicRecovery.seedPrefix("5eb00bbd".decodeHex()))
+        then:
+        found.mnemonic.toString() == mnemonic
+        where:
+        password << [null, ""]
+    }
+
+    def "an Electrum v2 candidate is confirmed by a seed predicate"() {
+        given:
+        def units = MnemonicBuilder.newBuilder(ElectrumMnemonicAlgorithm.ElectrumV2).setEntropyLength(16).buildUnitStream(20).collect(Collectors.toList())
+        def target = units[13].seed
+        when:
+        def found = MnemonicRecovery.findBySeed(units.stream(), null, { byte[] seed -> Arrays.equals(seed, target) } as com.google.common.base.Predicate<byte[]>, 3)
+        then:
+        found.is(units[13])
+    }
+
+    def "a recovered BIP0039 candidate is confirmed by a master key chain code"() {
+        given:
+        def masterKey = MnemonicUnit.decodeMnemonic(BIPMnemonicAlgorithm.BIP0039, MNEMONIC, "english").getMasterKey("TREZOR")
+        def chainCode = Arrays.copyOfRange(masterKey, 32, 64)
+        def candidates = MnemonicRecovery.recoverMissingWords(BIPMnemonicAlgorithm.BIP0039, withUnknown(MNEMONIC, 5), "english")
+        when:
+        def found = MnemonicRecovery.findByMasterKey(candidates, "TREZOR", { byte[] key -> Arrays.equals(Arrays.copyOfRange(key, 32, 64), chainCode) } as com.google.common.base.Predicate<byte[]>)
+        then:
+        found.mnemonic.toString() == MNEMONIC
+    }
+
+    def "no match yields null"() {
+        given:
+        def units = MnemonicBuilder.newBuilder(ElectrumMnemonicAlgorithm.ElectrumV2).setEntropyLength(16).buildUnitStream(5).collect(Collectors.toList())
+        expect:
+        MnemonicRecovery.findBySeed(units.stream(), null, MnemonicRecovery.seedPrefix(new byte[64])) == null
+    }
+
+    def "the search stops pulling candidates once a batch matches"() {
+        given:
+        def units = MnemonicBuilder.newBuilder(BIPMnemonicAlgorithm.BIP0039).setEntropyLength(16).buildUnitStream(40).collect(Collectors.toList())
+        def target = units[5].getSeed("password")
+        def pulled = new java.util.concurrent.atomic.AtomicInteger()
+        when:
+        def found = MnemonicRecovery.findBySeed(units.stream().peek({ pulled.incrementAndGet() }), "password", MnemonicRecovery.seedPrefix(target), 4)
+        then:
+        found.is(units[5])
+        pulled.get() == 8
+    }
+}
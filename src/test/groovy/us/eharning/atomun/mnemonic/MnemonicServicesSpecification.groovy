@@ -21,6 +21,8 @@ import com.google.common.collect.Iterables
 import net.trajano.commons.testing.UtilityClassTestUtil
 import spock.lang.IgnoreIf
 import spock.lang.Specification
+import us.eharning.atomun.mnemonic.spi.MnemonicBuilderSpi
+import us.eharning.atomun.mnemonic.spi.MnemonicDecoderSpi
 import us.eharning.atomun.mnemonic.spi.MnemonicServiceProvider
 
 /**
@@ -79,4 +81,86 @@ public class MnemonicServicesSpecification extends Specification {
         then:
         thrown(UnsupportedOperationException)
     }
+
+    static class OverridingServiceProvider extends MnemonicServiceProvider {
+        final MnemonicAlgorithm algorithm
+        final MnemonicDecoderSpi decoder
+
+        OverridingServiceProvider(MnemonicAlgorithm algorithm, MnemonicDecoderSpi decoder) {
+            this.algorithm = algorithm
+            this.decoder = decoder
+        }
+
+        @Override
+        MnemonicBuilderSpi getMnemonicBuilder(MnemonicAlgorithm algorithm) {
+            return null
+        }
+
+        @Override
+        MnemonicDecoderSpi getMnemonicDecoder(MnemonicAlgorithm algorithm) {
+            return algorithm == this.algorithm ? decoder : null
+        }
+
+        @Override
+        Set<MnemonicAlgorithm> getSupportedAlgorithms() {
+            return [algorithm] as Set
+        }
+    }
+
+    static class FailingDecoderSpi extends MnemonicDecoderSpi {
+        @Override
+        MnemonicUnit decode(MnemonicUnit.Builder builder, CharSequence mnemonicSequence, String wordListIdentifier) {
+            throw new IllegalArgumentException("Always fails")
+        }
+    }
+
+    def "registering a provider adds its algorithms and its decoder"() {
+        given:
+        def algorithm = new MnemonicAlgorithm() {}
+        def provider = new OverridingServiceProvider(algorithm, new FailingDecoderSpi())
+        when:
+        def registered = MnemonicServices.registerServiceProvider(provider)
+        then:
+        registered
+        !MnemonicServices.registerServiceProvider(provider)
+        MnemonicServices.registeredAlgorithms.contains(algorithm)
+        Iterables.contains(MnemonicServices.serviceProviders, provider)
+        MnemonicUnit.tryDecode(algorithm, "abandon").failureReason == MnemonicDecodeResult.FailureReason.UNSPECIFIED
+        MnemonicUnit.tryDecode("abandon").containsKey(algorithm)
+        when:
+        MnemonicBuilder.newBuilder(algorithm)
+        then:
+        thrown(UnsupportedOperationException)
+        when:
+        def unregistered = MnemonicServices.unregisterServiceProvider(provider)
+        then:
+        unregistered
+        !MnemonicServices.unregisterServiceProvider(provider)
+        !Iterables.contains(MnemonicServices.serviceProviders, provider)
+        when:
+        MnemonicUnit.tryDecode(algorithm, "abandon")
+        then:
+        thrown(UnsupportedOperationException)
+        cleanup:
+        MnemonicServices.unregisterServiceProvider(provider)
+    }
+
+    def "earlier providers take precedence for an algorithm"() {
+        given:
+        def provider = new OverridingServiceProvider(BIPMnemonicAlgorithm.BIP0039, new FailingDecoderSpi())
+        def mnemonic = "abandon abandon abandon abandon abandon abandon abandon abandon abandon abandon abandon about"
+        when:
+        MnemonicServices.registerServiceProvider(provider)
+        then:
+        MnemonicUnit.tryDecode(BIPMnemonicAlgorithm.BIP0039, mnemonic).success
+        cleanup:
+        MnemonicServices.unregisterServiceProvider(provider)
+    }
+
+    def "registered algorithms are an immutable snapshot"() {
+        when:
+        MnemonicServices.registeredAlgorithms.clear()
+        then:
+        thrown(UnsupportedOperationException)
+    }
 }
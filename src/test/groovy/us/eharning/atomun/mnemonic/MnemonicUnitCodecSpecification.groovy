@@ -0,0 +1,170 @@
+/*
+ * Copyright 2026 Thomas Harning Jr. <harningt@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package us.eharning.atomun.mnemonic
+
+import net.trajano.commons.testing.UtilityClassTestUtil
+import spock.lang.Specification
+import spock.lang.Unroll
+import us.eharning.atomun.mnemonic.api.electrum.v2.ElectrumV2ExtensionIdentifier
+import us.eharning.atomun.mnemonic.api.electrum.v2.VersionPrefix
+import us.eharning.atomun.mnemonic.spi.EntropySource
+
+import java.nio.ByteBuffer
+import java.nio.channels.FileChannel
+import java.nio.file.Files
+import java.nio.file.StandardOpenOption
+
+/**
+ * Tests covering the binary mnemonic unit encoding.
+ */
+class MnemonicUnitCodecSpecification extends Specification {
+    static def ALGORITHMS = [
+            ElectrumMnemonicAlgorithm.LegacyElectrum,
+            BIPMnemonicAlgorithm.BIP0039,
+            ElectrumMnemonicAlgorithm.ElectrumV2
+    ]
+
+    def "MnemonicUnitCodec is a utility class"() {
+        when:
+        UtilityClassTestUtil.assertUtilityClassWellDefined(MnemonicUnitCodec.class)
+        then:
+        noExceptionThrown()
+    }
+
+    @Unroll
+    def "#algorithm units round-trip through the binary encoding"() {
+        given:
+        def unit = MnemonicBuilder.newBuilder(algorithm).setEntropyLength(16).buildUnit()
+        when:
+        def encoded = MnemonicUnitCodec.encode(unit)
+        def decoded = MnemonicUnitCodec.decode(encoded)
+        then:
+        encoded.length == MnemonicUnitCodec.getEncodedLength(unit)
+        decoded.algorithm == algorithm
+        decoded.dictionaryIdentifier == unit.dictionaryIdentifier
+        decoded.indices == unit.indices
+        decoded.mnemonic.toString() == unit.mnemonic.toString()
+        decoded.entropy == unit.entropy
+        decoded.seed == unit.seed
+        decoded.supportedExtensions == unit.supportedExtensions
+        where:
+        algorithm << ALGORITHMS
+    }
+
+    def "Electrum v2 records carry the version prefix"() {
+        given:
+        def unit = MnemonicBuilder.newBuilder(ElectrumMnemonicAlgorithm.ElectrumV2).setEntropyLength(16).buildUnit()
+        when:
+        def decoded = MnemonicUnitCodec.decode(MnemonicUnitCodec.encode(unit))
+        then:
+        decoded.getExtensionValue(ElectrumV2ExtensionIdentifier.VERSION_PREFIX) == unit.getExtensionValue(ElectrumV2ExtensionIdentifier.VERSION_PREFIX)
+        decoded.getExtensionValue(ElectrumV2ExtensionIdentifier.VERSION_PREFIX) != null
+    }
+
+    @Unroll
+    def "records claiming a version prefix the sentence lacks are rejected: #description"() {
+        given:
+        def electrumV2Record = MnemonicUnitCodec.encode(MnemonicBuilder.newBuilder(ElectrumMnemonicAlgorithm.ElectrumV2).setEntropyLength(16, EntropySource.getDeterministic("codec".bytes)).buildUnit())
+        def bip0039Record = MnemonicUnitCodec.encode(MnemonicBuilder.newBuilder(BIPMnemonicAlgorithm.BIP0039).setEntropyLength(16, EntropySource.getDeterministic("codec".bytes)).buildUnit())
+        when:
+        MnemonicUnitCodec.decode(mutate(electrumV2Record, bip0039Record))
+        then:
+        thrown(IllegalArgumentException)
+        where:
+        description                | mutate
+        /* The prefix code follows the version, algorithm and length-prefixed word list name */
+        "prefix added to BIP0039"  | { byte[] v2, byte[] bip -> bip[1] = v2[1]; bip[3 + bip[2]] = (byte) (VersionPrefix.STANDARD.ordinal() + 1); bip }
+        "words altered"            | { byte[] v2, byte[] bip -> v2[v2.length - 1] ^= 0x10; v2 }
+    }
+
+    def "a 12 word BIP0039 unit packs its indices at 11 bits each"() {
+        given:
+        def unit = MnemonicBuilder.newBuilder(BIPMnemonicAlgorithm.BIP0039).setEntropyLength(16).buildUnit()
+        expect:
+        /* header + "english" + ceil(12 * 11 / 8) */
+        MnemonicUnitCodec.getEncodedLength(unit) == 5 + 7 + 17
+    }
+
+    def "encoding into a short buffer writes nothing"() {
+        given:
+        def unit = MnemonicBuilder.newBuilder(BIPMnemonicAlgorithm.BIP0039).setEntropyLength(16).buildUnit()
+        def buffer = ByteBuffer.allocate(MnemonicUnitCodec.getEncodedLength(unit) - 1)
+        when:
+        MnemonicUnitCodec.encode(unit, buffer)
+        then:
+        thrown(java.nio.BufferOverflowException)
+        buffer.position() == 0
+    }
+
+    @Unroll
+    def "malformed record #description is rejected"() {
+        given:
+        def unit = MnemonicBuilder.newBuilder(BIPMnemonicAlgorithm.BIP0039).setEntropyLength(16).buildUnit()
+        def encoded = MnemonicUnitCodec.encode(unit)
+        when:
+        MnemonicUnitCodec.decode(mutate(encoded))
+        then:
+        thrown(IllegalArgumentException)
+        where:
+        description         | mutate
+        "truncated"         | { byte[] data -> Arrays.copyOf(data, data.length - 1) }
+        "with trailing data" | { byte[] data -> Arrays.copyOf(data, data.length + 1) }
+        "with bad version"  | { byte[] data -> data[0] = 9; data }
+        "with bad algorithm" | { byte[] data -> data[1] = 0; data }
+        "with bad checksum" | { byte[] data -> data[data.length - 1] ^= 0x10; data }
+    }
+
+    def "records round-trip through a file channel"() {
+        given:
+        def units = ALGORITHMS.collectMany { algorithm ->
+            MnemonicBuilder.newBuilder(algorithm).setEntropyLength(16).buildUnitStream(50).collect()
+        }
+        def file = Files.createTempFile("mnemonic", ".bin")
+        when:
+        FileChannel.open(file, StandardOpenOption.WRITE).withCloseable { channel ->
+            MnemonicUnitCodec.newWriter(channel).withCloseable { writer ->
+                writer.writeAll(units)
+            }
+        }
+        def decoded = []
+        FileChannel.open(file, StandardOpenOption.READ).withCloseable { channel ->
+            MnemonicUnitCodec.newReader(channel).withCloseable { reader ->
+                reader.read(decoded, Integer.MAX_VALUE)
+            }
+        }
+        then:
+        decoded*.mnemonic*.toString() == units*.mnemonic*.toString()
+        decoded*.seed == units*.seed
+        cleanup:
+        Files.deleteIfExists(file)
+    }
+
+    def "a stream ending inside a record fails"() {
+        given:
+        def unit = MnemonicBuilder.newBuilder(BIPMnemonicAlgorithm.BIP0039).setEntropyLength(16).buildUnit()
+        def output = new ByteArrayOutputStream()
+        MnemonicUnitCodec.newWriter(java.nio.channels.Channels.newChannel(output)).withCloseable { writer ->
+            writer.write(unit)
+        }
+        def data = Arrays.copyOf(output.toByteArray(), output.size() - 2)
+        def reader = MnemonicUnitCodec.newReader(java.nio.channels.Channels.newChannel(new ByteArrayInputStream(data)))
+        when:
+        reader.read()
+        then:
+        thrown(EOFException)
+    }
+}
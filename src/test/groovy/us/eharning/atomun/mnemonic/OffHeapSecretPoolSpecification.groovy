@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026 Thomas Harning Jr. <harningt@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package us.eharning.atomun.mnemonic
+
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import java.nio.ByteBuffer
+
+/**
+ * Tests covering off-heap storage of mnemonic unit secrets.
+ */
+class OffHeapSecretPoolSpecification extends Specification {
+    def "off-heap units serve the same entropy and seed"(MnemonicAlgorithm algorithm) {
+        given:
+        def pool = OffHeapSecretPool.create(OffHeapSecretPool.BLOCK_SIZE * 4)
+        def unit = MnemonicUnit.decodeMnemonic(algorithm, MnemonicBuilder.newBuilder(algorithm).setEntropyLength(16).build())
+        when:
+        def offHeap = unit.toOffHeap(pool)
+        def seedOutput = new byte[offHeap.seed.length]
+        def entropyOutput = ByteBuffer.allocate(offHeap.entropy.length)
+        then:
+        offHeap.offHeap
+        !unit.offHeap
+        offHeap.entropy == unit.entropy
+        offHeap.seed == unit.seed
+        offHeap.getSeed(seedOutput, 0) == seedOutput.length
+        seedOutput == unit.seed
+        offHeap.getEntropy(entropyOutput) == entropyOutput.capacity()
+        entropyOutput.array() == unit.entropy
+        offHeap.mnemonic.toString() == unit.mnemonic.toString()
+        pool.leasedBlockCount == 2
+        cleanup:
+        offHeap?.close()
+        where:
+        algorithm << [BIPMnemonicAlgorithm.BIP0039, ElectrumMnemonicAlgorithm.ElectrumV2, ElectrumMnemonicAlgorithm.LegacyElectrum]
+    }
+
+    def "off-heap BIP0039 units hold the PBKDF2 seed"() {
+        given:
+        def pool = OffHeapSecretPool.create(OffHeapSecretPool.BLOCK_SIZE * 2)
+        def unit = MnemonicUnit.decodeMnemonic(BIPMnemonicAlgorithm.BIP0039, "abandon abandon abandon abandon abandon abandon abandon abandon abandon abandon abandon about")
+        when:
+        def offHeap = unit.toOffHeap(pool)
+        then:
+        offHeap.seed == "5eb00bbddcf069084889a8ab9155568165f5c453ccb85e70811aaed6f6da5fc19a5ac40b389cd370d086206dec8aa6c43daea6690f20ad3d8d48b2d2ce9e38e4".decodeHex()
+        offHeap.getSeed("") == offHeap.seed
+        cleanup:
+        offHeap?.close()
+    }
+
+    def "closing wipes the storage and returns it to the pool"() {
+        given:
+        def pool = OffHeapSecretPool.create(OffHeapSecretPool.BLOCK_SIZE * 2)
+        def unit = MnemonicBuilder.newBuilder(BIPMnemonicAlgorithm.BIP0039).buildUnit().toOffHeap(pool)
+        when:
+        unit.close()
+        unit.close()
+        then:
+        pool.leasedBlockCount == 0
+        when:
+        unit.seed
+        then:
+        thrown(IllegalStateException)
+        when:
+        unit.entropy
+        then:
+        thrown(IllegalStateException)
+        when: "the blocks are reused"
+        def other = MnemonicBuilder.newBuilder(BIPMnemonicAlgorithm.BIP0039).buildUnit().toOffHeap(pool)
+        then:
+        pool.slabCount == 1
+        pool.leasedBlockCount == 2
+        cleanup:
+        other?.close()
+    }
+
+    def "closing an on-heap unit has no effect"() {
+        given:
+        def unit = MnemonicBuilder.newBuilder(BIPMnemonicAlgorithm.BIP0039).buildUnit()
+        def seed = unit.seed
+        when:
+        unit.close()
+        then:
+        unit.seed == seed
+    }
+
+    def "unreachable off-heap units are released"() {
+        given:
+        def pool = OffHeapSecretPool.create(OffHeapSecretPool.BLOCK_SIZE * 2)
+        def conditions = new PollingConditions(timeout: 30)
+        when:
+        MnemonicBuilder.newBuilder(BIPMnemonicAlgorithm.BIP0039).buildUnit().toOffHeap(pool)
+        then:
+        conditions.eventually {
+            System.gc()
+            assert pool.leasedBlockCount == 0
+        }
+    }
+
+    def "pools require whole blocks"(int slabSize) {
+        when:
+        OffHeapSecretPool.create(slabSize)
+        then:
+        thrown(IllegalArgumentException)
+        where:
+        slabSize << [0, -OffHeapSecretPool.BLOCK_SIZE, OffHeapSecretPool.BLOCK_SIZE + 1]
+    }
+
+    def "the default pool is shared"() {
+        expect:
+        OffHeapSecretPool.default.is(OffHeapSecretPool.default)
+    }
+}
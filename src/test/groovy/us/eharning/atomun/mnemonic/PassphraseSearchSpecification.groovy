@@ -0,0 +1,155 @@
+/*
+ * Copyright 2026 Thomas Harning Jr. <harningt@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package us.eharning.atomun.mnemonic
+
+import com.google.common.base.Predicate
+import spock.lang.Specification
+
+import java.nio.file.Files
+
+/**
+ * Tests covering the passphrase search engine.
+ */
+class PassphraseSearchSpecification extends Specification {
+    static final String MNEMONIC = "legal winner thank year wave sausage worth useful legal winner thank yellow"
+    static final MnemonicUnit UNIT = MnemonicUnit.decodeMnemonic(BIPMnemonicAlgorithm.BIP0039, MNEMONIC, "english")
+
+    static List<String> candidates(int count, int matchIndex, String password) {
+        def result = (0..<count).collect({ "guess" + it })
+        if (matchIndex >= 0) {
+            result[matchIndex] = password
+        }
+        return result
+    }
+
+    static byte[] keyedSeed(String password) {
+        def salt = UNIT.getSeedSalt(password)
+        def seed = new byte[64]
+        UNIT.getKeyedSeedDerivation().deriveSeed(salt, 0, salt.length, seed, 0)
+        return seed
+    }
+
+    def "the matching password is found among candidates"(int threadCount, int queueCapacity) {
+        given:
+        def target = UNIT.getSeed("TREZOR")
+        def search = PassphraseSearch.newSearch(UNIT, MnemonicRecovery.seedPrefix(Arrays.copyOf(target, 8)), threadCount, queueCapacity)
+        when:
+        def found = search.search(candidates(24, 17, "TREZOR").iterator())
+        then:
+        found == "TREZOR"
+        search.candidateCount >= 1
+        search.candidateCount <= 24
+        search.candidatesPerSecond > 0
+        where:
+        threadCount | queueCapacity
+        1           | 1
+        3           | 4
+    }
+
+    def "the matching password is found by its master key"() {
+        given:
+        def target = UNIT.getMasterKey("TREZOR")
+        def search = PassphraseSearch.newMasterKeySearch(UNIT, MnemonicRecovery.seedPrefix(target), 2, 4)
+        expect:
+        search.search(candidates(24, 11, "TREZOR").iterator()) == "TREZOR"
+        PassphraseSearch.newSearch(UNIT, MnemonicRecovery.seedPrefix(target), 2, 4).search(candidates(24, 11, "TREZOR").iterator()) == null
+    }
+
+    def "no match yields null after trying every candidate"() {
+        given:
+        def search = PassphraseSearch.newSearch(UNIT, MnemonicRecovery.seedPrefix(new byte[8]), 2, 2)
+        when:
+        def found = search.search(candidates(10, -1, null).iterator())
+        then:
+        found == null
+        search.candidateCount == 10
+    }
+
+    def "a memory-mapped word list is searched with normalized non-ASCII candidates"() {
+        given:
+        def password = "Pässwort"
+        def target = UNIT.getSeed("Pässwort")
+        def wordList = Files.createTempFile("candidates", ".txt")
+        wordList.toFile().deleteOnExit()
+        Files.write(wordList, ("first\r\nsecond\n\n" + password + "\r\nlast").getBytes("UTF-8"))
+        def search = PassphraseSearch.newSearch(UNIT, MnemonicRecovery.seedPrefix(target), 2, 2)
+        when:
+        def found = search.search(wordList)
+        then:
+        found == password
+    }
+
+    def "every line of a memory-mapped word list is tried"() {
+        given:
+        def wordList = Files.createTempFile("candidates", ".txt")
+        wordList.toFile().deleteOnExit()
+        Files.write(wordList, "a\nb\r\n\nc\n".getBytes("UTF-8"))
+        def tried = Collections.synchronizedList([])
+        def matcher = { byte[] seed -> tried.add(seed.encodeHex().toString()); false } as Predicate<byte[]>
+        when:
+        def found = PassphraseSearch.newSearch(UNIT, matcher, 1, 1).search(wordList)
+        then:
+        found == null
+        tried.toSet() == ["a", "b", "", "c"].collect({ keyedSeed(it).encodeHex().toString() }).toSet()
+    }
+
+    def "keyed derivation matches the unit seed"(String password) {
+        expect:
+        keyedSeed(password) == UNIT.getSeed(password)
+        where:
+        password << ["TREZOR", "Pässwort", "パスワード", "", null]
+    }
+
+    def "an empty line of a word list matches the unit seed without a password"() {
+        given:
+        def wordList = Files.createTempFile("candidates", ".txt")
+        wordList.toFile().deleteOnExit()
+        Files.write(wordList, "a\nb\n\nc\n".getBytes("UTF-8"))
+        def search = PassphraseSearch.newSearch(UNIT, MnemonicRecovery.seedPrefix(UNIT.getSeed()), 1, 1)
+        expect:
+        search.search(wordList) == ""
+    }
+
+    def "matcher failures stop the search and are rethrown"() {
+        given:
+        def matcher = { byte[] seed -> throw new IllegalStateException("boom") } as Predicate<byte[]>
+        when:
+        PassphraseSearch.newSearch(UNIT, matcher, 2, 1).search(candidates(50, -1, null).iterator())
+        then:
+        thrown(IllegalStateException)
+    }
+
+    def "algorithms without keyed seed derivation are rejected"() {
+        given:
+        def unit = MnemonicBuilder.newBuilder(ElectrumMnemonicAlgorithm.ElectrumV2).setEntropyLength(16).buildUnit()
+        when:
+        PassphraseSearch.newSearch(unit, MnemonicRecovery.seedPrefix(new byte[8]))
+        then:
+        thrown(UnsupportedOperationException)
+    }
+
+    def "invalid pool sizes are rejected"() {
+        when:
+        PassphraseSearch.newSearch(UNIT, MnemonicRecovery.seedPrefix(new byte[8]), threadCount, queueCapacity)
+        then:
+        thrown(IllegalArgumentException)
+        where:
+        threadCount | queueCapacity
+        0           | 1
+        1           | 0
+    }
+}
@@ -0,0 +1,299 @@
+/*
+ * Copyright 2026 Thomas Harning Jr. <harningt@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package us.eharning.atomun.mnemonic
+
+import org.reactivestreams.Subscriber
+import org.reactivestreams.Subscription
+import spock.lang.Specification
+
+import javax.crypto.SecretKeyFactory
+import javax.crypto.spec.PBEKeySpec
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executor
+import java.util.concurrent.TimeUnit
+
+/**
+ * Tests covering the demand-driven seed derivation processor.
+ */
+class SeedDerivationProcessorSpecification extends Specification {
+    static final String MNEMONIC = "legal winner thank year wave sausage worth useful legal winner thank yellow"
+    static final MnemonicUnit UNIT = MnemonicUnit.decodeMnemonic(BIPMnemonicAlgorithm.BIP0039, MNEMONIC, "english")
+    static final String TREZOR_SEED = "2e8905819b8723fe2c1d161860e5ee1830318dbf49a83bd451cfb8440c28bd6fa457fe1296106559a3c80937a1c1069be3a3a5bd381ee6260e8d9739fce1f607"
+    static final String EMPTY_PASSWORD_MNEMONIC = "abandon abandon abandon abandon abandon abandon abandon abandon abandon abandon abandon about"
+    static final String EMPTY_PASSWORD_SEED = "5eb00bbddcf069084889a8ab9155568165f5c453ccb85e70811aaed6f6da5fc19a5ac40b389cd370d086206dec8aa6c43daea6690f20ad3d8d48b2d2ce9e38e4"
+
+    static class Upstream implements Subscription {
+        long requested
+        boolean cancelled
+
+        @Override
+        synchronized void request(long n) {
+            requested += n
+        }
+
+        @Override
+        void cancel() {
+            cancelled = true
+        }
+    }
+
+    static class Downstream implements Subscriber<SeedDerivationProcessor.Result> {
+        final List<SeedDerivationProcessor.Result> items = Collections.synchronizedList([])
+        final CountDownLatch done = new CountDownLatch(1)
+        Subscription subscription
+        Throwable error
+        boolean completed
+
+        @Override
+        void onSubscribe(Subscription subscription) {
+            this.subscription = subscription
+        }
+
+        @Override
+        void onNext(SeedDerivationProcessor.Result item) {
+            items.add(item)
+        }
+
+        @Override
+        void onError(Throwable throwable) {
+            error = throwable
+            done.countDown()
+        }
+
+        @Override
+        void onComplete() {
+            completed = true
+            done.countDown()
+        }
+    }
+
+    static class ManualExecutor implements Executor {
+        final List<Runnable> tasks = []
+
+        @Override
+        void execute(Runnable command) {
+            tasks.add(command)
+        }
+
+        void runAll(boolean reversed) {
+            def pending = reversed ? tasks.reverse() : tasks.toList()
+            tasks.clear()
+            pending.each { it.run() }
+        }
+    }
+
+    static List<String> passwords(int count) {
+        return (0..<count).collect({ "password" + it })
+    }
+
+    /* Derived through the JCE so the expectations do not depend on the code under test */
+    static String seedHex(String password) {
+        def spec = new PBEKeySpec(MNEMONIC.toCharArray(), ("mnemonic" + password).getBytes("UTF-8"), 2048, 512)
+        return SecretKeyFactory.getInstance("PBKDF2WithHmacSHA512").generateSecret(spec).encoded.encodeHex().toString()
+    }
+
+    def "seeds are derived on worker threads in arrival order"() {
+        given:
+        def processor = SeedDerivationProcessor.newProcessor(3, 4, SeedDerivationProcessor.Order.ARRIVAL)
+        def upstream = new Upstream()
+        def downstream = new Downstream()
+        processor.onSubscribe(upstream)
+        processor.subscribe(downstream)
+        when:
+        downstream.subscription.request(Long.MAX_VALUE)
+        passwords(8).each { processor.onNext(SeedDerivationProcessor.Request.derive(UNIT, it)) }
+        processor.onComplete()
+        then:
+        downstream.done.await(30, TimeUnit.SECONDS)
+        downstream.completed
+        downstream.items.collect({ it.seed.encodeHex().toString() }) == passwords(8).collect({ seedHex(it) })
+        upstream.requested == 4 + 8
+    }
+
+    def "results follow the configured order"(SeedDerivationProcessor.Order order, List<Integer> expected) {
+        given:
+        def executor = new ManualExecutor()
+        def processor = SeedDerivationProcessor.newProcessor(executor, 8, order)
+        def downstream = new Downstream()
+        processor.onSubscribe(new Upstream())
+        processor.subscribe(downstream)
+        downstream.subscription.request(10)
+        when:
+        passwords(4).each { processor.onNext(SeedDerivationProcessor.Request.derive(UNIT, it)) }
+        executor.runAll(true)
+        then:
+        downstream.items.collect({ it.seed.encodeHex().toString() }) == expected.collect({ seedHex("password" + it) })
+        where:
+        order                                    | expected
+        SeedDerivationProcessor.Order.ARRIVAL    | [0, 1, 2, 3]
+        SeedDerivationProcessor.Order.COMPLETION | [3, 2, 1, 0]
+    }
+
+    def "downstream demand bounds emission and upstream requests"() {
+        given:
+        def executor = new ManualExecutor()
+        def processor = SeedDerivationProcessor.newProcessor(executor, 3, SeedDerivationProcessor.Order.COMPLETION)
+        def upstream = new Upstream()
+        def downstream = new Downstream()
+        processor.onSubscribe(upstream)
+        processor.subscribe(downstream)
+        when:
+        passwords(3).each { processor.onNext(SeedDerivationProcessor.Request.derive(UNIT, it)) }
+        executor.runAll(false)
+        then:
+        downstream.items.isEmpty()
+        upstream.requested == 3
+        when:
+        downstream.subscription.request(2)
+        then:
+        downstream.items.size() == 2
+        upstream.requested == 5
+        when:
+        processor.onComplete()
+        then:
+        !downstream.completed
+        when:
+        downstream.subscription.request(1)
+        then:
+        downstream.items.size() == 3
+        downstream.completed
+    }
+
+    def "seeds without a password follow the BIP0039 test vector"(String password) {
+        given:
+        def executor = new ManualExecutor()
+        def processor = SeedDerivationProcessor.newProcessor(executor, 4, SeedDerivationProcessor.Order.ARRIVAL)
+        def downstream = new Downstream()
+        def unit = MnemonicUnit.decodeMnemonic(BIPMnemonicAlgorithm.BIP0039, EMPTY_PASSWORD_MNEMONIC, "english")
+        processor.onSubscribe(new Upstream())
+        processor.subscribe(downstream)
+        downstream.subscription.request(2)
+        when:
+        processor.onNext(SeedDerivationProcessor.Request.derive(unit, password))
+        processor.onNext(SeedDerivationProcessor.Request.decode(BIPMnemonicAlgorithm.BIP0039, EMPTY_PASSWORD_MNEMONIC, "english", password))
+        processor.onComplete()
+        executor.runAll(false)
+        then:
+        downstream.items*.seed == [EMPTY_PASSWORD_SEED.decodeHex(), EMPTY_PASSWORD_SEED.decodeHex()]
+        downstream.completed
+        where:
+        password << [null, ""]
+    }
+
+    def "failed requests are delivered without ending the stream"() {
+        given:
+        def executor = new ManualExecutor()
+        def processor = SeedDerivationProcessor.newProcessor(executor, 4, SeedDerivationProcessor.Order.ARRIVAL)
+        def downstream = new Downstream()
+        processor.onSubscribe(new Upstream())
+        processor.subscribe(downstream)
+        downstream.subscription.request(4)
+        when:
+        processor.onNext(SeedDerivationProcessor.Request.decode(BIPMnemonicAlgorithm.BIP0039, "legal winner zzz", "english", null))
+        processor.onNext(SeedDerivationProcessor.Request.decode(BIPMnemonicAlgorithm.BIP0039, MNEMONIC, "english", "TREZOR"))
+        processor.onComplete()
+        executor.runAll(false)
+        then:
+        downstream.items.size() == 2
+        !downstream.items[0].success
+        downstream.items[0].failure instanceof IllegalArgumentException
+        downstream.items[1].seed == TREZOR_SEED.decodeHex()
+        downstream.items[1].request.mnemonicSequence == MNEMONIC
+        !downstream.items[1].request.toString().contains("legal")
+        downstream.completed
+        when:
+        downstream.items[0].seed
+        then:
+        thrown(IllegalStateException)
+    }
+
+    def "upstream errors follow the pending results"() {
+        given:
+        def executor = new ManualExecutor()
+        def processor = SeedDerivationProcessor.newProcessor(executor, 4, SeedDerivationProcessor.Order.ARRIVAL)
+        def downstream = new Downstream()
+        def failure = new IOException("source failed")
+        processor.onSubscribe(new Upstream())
+        processor.subscribe(downstream)
+        downstream.subscription.request(4)
+        when:
+        processor.onNext(SeedDerivationProcessor.Request.derive(UNIT, null))
+        processor.onError(failure)
+        then:
+        null == downstream.error
+        when:
+        executor.runAll(false)
+        then:
+        downstream.items.size() == 1
+        downstream.error.is(failure)
+    }
+
+    def "cancelling stops emission and cancels upstream"() {
+        given:
+        def executor = new ManualExecutor()
+        def processor = SeedDerivationProcessor.newProcessor(executor, 4, SeedDerivationProcessor.Order.COMPLETION)
+        def upstream = new Upstream()
+        def downstream = new Downstream()
+        processor.onSubscribe(upstream)
+        processor.subscribe(downstream)
+        downstream.subscription.request(4)
+        when:
+        passwords(2).each { processor.onNext(SeedDerivationProcessor.Request.derive(UNIT, it)) }
+        downstream.subscription.cancel()
+        executor.runAll(false)
+        processor.onNext(SeedDerivationProcessor.Request.derive(UNIT, "late"))
+        processor.onComplete()
+        then:
+        upstream.cancelled
+        downstream.items.isEmpty()
+        executor.tasks.isEmpty()
+        !downstream.completed
+    }
+
+    def "protocol violations are rejected"() {
+        given:
+        def processor = SeedDerivationProcessor.newProcessor(new ManualExecutor(), 4, SeedDerivationProcessor.Order.ARRIVAL)
+        def upstream = new Upstream()
+        def secondUpstream = new Upstream()
+        def downstream = new Downstream()
+        def secondDownstream = new Downstream()
+        processor.onSubscribe(upstream)
+        processor.subscribe(downstream)
+        when:
+        processor.onSubscribe(secondUpstream)
+        processor.subscribe(secondDownstream)
+        then:
+        secondUpstream.cancelled
+        secondDownstream.error instanceof IllegalStateException
+        when:
+        downstream.subscription.request(0)
+        then:
+        upstream.cancelled
+        downstream.error instanceof IllegalArgumentException
+    }
+
+    def "invalid settings are rejected"() {
+        when:
+        SeedDerivationProcessor.newProcessor(threadCount, maxInFlight, SeedDerivationProcessor.Order.ARRIVAL)
+        then:
+        thrown(IllegalArgumentException)
+        where:
+        threadCount | maxInFlight
+        0           | 1
+        1           | 0
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2026 Thomas Harning Jr. <harningt@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package us.eharning.atomun.mnemonic.spi
+
+import spock.lang.Specification
+import us.eharning.atomun.mnemonic.MnemonicAlgorithm
+import us.eharning.atomun.mnemonic.MnemonicBuilder
+import us.eharning.atomun.mnemonic.MnemonicServices
+
+import java.security.SecureRandom
+
+/**
+ * Entropy source tests.
+ */
+class EntropySourceSpecification extends Specification {
+    static final byte[] SEED = "entropy source seed".bytes
+
+    def "deterministic sources generate the same sequence for the same seed"() {
+        given:
+        def first = EntropySource.getDeterministic(SEED)
+        def second = EntropySource.getDeterministic(SEED)
+        byte[] firstOutput = new byte[100]
+        byte[] secondOutput = new byte[100]
+        when:
+        first.nextBytes(firstOutput)
+        /* Read in uneven chunks to cross block boundaries */
+        second.nextBytes(secondOutput, 0, 7)
+        second.nextBytes(secondOutput, 7, 50)
+        second.nextBytes(secondOutput, 57, 43)
+        then:
+        firstOutput == secondOutput
+        firstOutput != new byte[100]
+    }
+
+    def "deterministic sources generate different sequences for different seeds"() {
+        given:
+        byte[] firstOutput = new byte[32]
+        byte[] secondOutput = new byte[32]
+        when:
+        EntropySource.getDeterministic(SEED).nextBytes(firstOutput)
+        EntropySource.getDeterministic(new byte[0]).nextBytes(secondOutput)
+        then:
+        firstOutput != secondOutput
+    }
+
+    def "buffered source hands out the prefetched block in order"() {
+        given:
+        def random = SecureRandom.getInstance("SHA1PRNG")
+        random.setSeed(SEED)
+        def expectedRandom = SecureRandom.getInstance("SHA1PRNG")
+        expectedRandom.setSeed(SEED)
+        byte[] expected = new byte[64]
+        expectedRandom.nextBytes(expected)
+        def source = EntropySource.getBuffered(random, 64)
+        byte[] output = new byte[64]
+        when:
+        source.nextBytes(output, 0, 20)
+        source.nextBytes(output, 20, 44)
+        then:
+        output == expected
+    }
+
+    def "buffered source refills when a request spans blocks"() {
+        given:
+        def source = EntropySource.getBuffered(new SecureRandom(), 16)
+        byte[] output = new byte[100]
+        when:
+        source.nextBytes(output)
+        then:
+        output != new byte[100]
+    }
+
+    def "buffered source rejects invalid block sizes"(int blockSize) {
+        when:
+        EntropySource.getBuffered(new SecureRandom(), blockSize)
+        then:
+        thrown(IllegalArgumentException)
+        where:
+        blockSize << [0, -1]
+    }
+
+    def "sources reject out of range writes"(EntropySource source) {
+        when:
+        source.nextBytes(new byte[4], 2, 4)
+        then:
+        thrown(IndexOutOfBoundsException)
+        where:
+        source << [EntropySource.default, EntropySource.getBuffered(new SecureRandom(), 16), EntropySource.getDeterministic(SEED)]
+    }
+
+    def "random integers stay within the requested bit length"(int bitLength) {
+        given:
+        def source = EntropySource.getDeterministic(SEED)
+        expect:
+        (1..50).every { source.nextBigInteger(bitLength).bitLength() <= bitLength }
+        where:
+        bitLength << [0, 1, 7, 8, 9, 16, 132]
+    }
+
+    def "builders generate the same mnemonic from the same deterministic source"(MnemonicAlgorithm algorithm) {
+        given:
+        def first = MnemonicBuilder.newBuilder(algorithm).setEntropyLength(16, EntropySource.getDeterministic(SEED))
+        def second = MnemonicBuilder.newBuilder(algorithm).setEntropyLength(16, EntropySource.getDeterministic(SEED))
+        expect:
+        first.build() == second.build()
+        first.buildUnit().mnemonic == second.buildUnit().mnemonic
+        where:
+        algorithm << MnemonicServices.registeredAlgorithms
+    }
+}
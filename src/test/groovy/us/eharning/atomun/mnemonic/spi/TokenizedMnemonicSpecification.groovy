@@ -0,0 +1,125 @@
+/*
+ * Copyright 2026 Thomas Harning Jr. <harningt@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package us.eharning.atomun.mnemonic.spi
+
+import spock.lang.Specification
+import us.eharning.atomun.mnemonic.MnemonicDecodeResult
+import us.eharning.atomun.mnemonic.MnemonicUnit
+import us.eharning.atomun.mnemonic.utility.dictionary.DictionaryIdentifier
+import us.eharning.atomun.mnemonic.utility.dictionary.DictionarySource
+
+/**
+ * Tokenized mnemonic tests.
+ */
+class TokenizedMnemonicSpecification extends Specification {
+    static final def ENGLISH = DictionarySource.getDictionary(DictionaryIdentifier.getIdentifier("english", "us/eharning/atomun/mnemonic/spi/bip0039/english.txt"))
+
+    def "word offsets are recorded for each word"() {
+        given:
+        def tokenized = TokenizedMnemonic.tokenize("abandon ability　zoo")
+        expect:
+        tokenized.wordCount == 3
+        tokenized.getWordStart(0) == 0
+        tokenized.getWordEnd(0) == 7
+        tokenized.getWordStart(1) == 8
+        tokenized.getWordEnd(1) == 15
+        tokenized.getWordStart(2) == 16
+        tokenized.getWordEnd(2) == 19
+        tokenized.normalizedWords == ["abandon", "ability", "zoo"]
+    }
+
+    def "repeated delimiters produce empty words"() {
+        given:
+        def tokenized = TokenizedMnemonic.tokenize(" abandon  zoo")
+        expect:
+        tokenized.wordCount == 4
+        tokenized.normalizedWords == ["", "abandon", "", "zoo"]
+        tokenized.looseWords == ["abandon", "zoo"]
+    }
+
+    def "loose words split on any whitespace and are lower-cased"() {
+        given:
+        def tokenized = TokenizedMnemonic.tokenize("Abandon\tABILITY\n zoo")
+        expect:
+        tokenized.looseWords == ["abandon", "ability", "zoo"]
+    }
+
+    def "out of range word offsets are rejected"() {
+        given:
+        def tokenized = TokenizedMnemonic.tokenize("abandon zoo")
+        when:
+        tokenized.getWordStart(2)
+        then:
+        thrown(IndexOutOfBoundsException)
+    }
+
+    def "dictionary indices mark unknown words"() {
+        given:
+        def tokenized = TokenizedMnemonic.tokenize("abandon bogus zoo")
+        expect:
+        tokenized.getIndices(ENGLISH) == [0, -1, 2047] as int[]
+        tokenized.indexOfFirstUnknown(ENGLISH) == 1
+        TokenizedMnemonic.tokenize("abandon ability zoo").indexOfFirstUnknown(ENGLISH) == -1
+    }
+
+    def "dictionary indices are returned as a copy"() {
+        given:
+        def tokenized = TokenizedMnemonic.tokenize("abandon zoo")
+        when:
+        def indices = tokenized.getIndices(ENGLISH)
+        indices[0] = 5
+        then:
+        tokenized.getIndices(ENGLISH) == [0, 2047] as int[]
+    }
+
+    def "canonical form requires exact dictionary words and single spaces"(String mnemonic, boolean canonical) {
+        expect:
+        TokenizedMnemonic.tokenize(mnemonic).isCanonical(ENGLISH) == canonical
+        where:
+        mnemonic               | canonical
+        "abandon ability zoo"  | true
+        "abandon"              | true
+        "abandon ability\u3000zoo" | false
+        "abandon  zoo"         | false
+        "abandon zoo "         | false
+        "Abandon zoo"          | false
+        "abandon bogus"        | false
+    }
+
+    def "default tokenized decode delegates to the sequence decode"() {
+        given:
+        def result = MnemonicDecodeResult.failure(MnemonicDecodeResult.FailureReason.UNSPECIFIED)
+        def decoded = []
+        def decoder = new MnemonicDecoderSpi() {
+            @Override
+            MnemonicUnit decode(MnemonicUnit.Builder builder, CharSequence mnemonicSequence, String wordListIdentifier) {
+                throw new UnsupportedOperationException()
+            }
+
+            @Override
+            MnemonicDecodeResult tryDecode(MnemonicUnit.Builder builder, CharSequence mnemonicSequence, String wordListIdentifier) {
+                decoded.add(mnemonicSequence)
+                return result
+            }
+        }
+        when:
+        def actual = decoder.tryDecode(null, TokenizedMnemonic.tokenize("abandon zoo"), null)
+        then:
+        decoded == ["abandon zoo"]
+        actual.is(result)
+    }
+}
@@ -22,6 +22,8 @@ import spock.lang.Specification
 import us.eharning.atomun.mnemonic.BIPMnemonicAlgorithm
 import us.eharning.atomun.mnemonic.MnemonicAlgorithm
 import us.eharning.atomun.mnemonic.MnemonicBuilder
+import us.eharning.atomun.mnemonic.MnemonicDecodeResult
+import us.eharning.atomun.mnemonic.MnemonicDecodeResult.FailureReason
 import us.eharning.atomun.mnemonic.MnemonicExtensionIdentifier
 import us.eharning.atomun.mnemonic.MnemonicUnit
 
@@ -165,4 +167,41 @@ class BIP0039MnemonicDecoderSpock extends Specification {
         expect:
         Iterables.isEmpty(MnemonicUnit.decodeMnemonic("practice practice FAILURE", "english"))
     }
+
+    def "tryDecode of #testCase.mnemonic succeeds with the decoded unit"() {
+        given:
+        MnemonicDecodeResult result = MnemonicUnit.tryDecode(ALG, testCase.mnemonic, testCase.wordList)
+        expect:
+        result.success
+        result.failureReason == null
+        result.wordIndex == MnemonicDecodeResult.NO_WORD_INDEX
+        result.unit.entropy == testCase.entropyBytes
+        where:
+        testCase << BIP0039TestData.TREZOR_OFFICIAL_VECTORS + BIP0039TestData.JP_VECTORS
+    }
+
+    def "tryDecode reports #reason at word #wordIndex for #mnemonic"() {
+        given:
+        MnemonicDecodeResult result = MnemonicUnit.tryDecode(ALG, mnemonic, wordList)
+        expect:
+        !result.success
+        result.unit == null
+        result.failureReason == reason
+        result.wordIndex == wordIndex
+        where:
+        mnemonic                       | wordList  | reason                           | wordIndex
+        "practice"                     | null      | FailureReason.INVALID_WORD_COUNT | -1
+        "practice practice FAILURE"    | null      | FailureReason.UNKNOWN_WORD       | 2
+        "practice FAILURE practice"    | "english" | FailureReason.UNKNOWN_WORD       | 1
+        (["abandon"] * 12).join(" ")   | null      | FailureReason.CHECKSUM_MISMATCH  | -1
+        "word face make"               | "CUSTOM"  | FailureReason.UNSUPPORTED_WORD_LIST | -1
+    }
+
+    def "decode failures surface the tryDecode failure"() {
+        when:
+        MnemonicUnit.decodeMnemonic(ALG, (["abandon"] * 12).join(" "))
+        then:
+        def e = thrown(IllegalArgumentException)
+        e.message.contains("CHECKSUM_MISMATCH")
+    }
 }
@@ -21,6 +21,8 @@ import com.google.common.collect.Iterables
 import spock.lang.Specification
 import us.eharning.atomun.mnemonic.ElectrumMnemonicAlgorithm
 import us.eharning.atomun.mnemonic.MnemonicAlgorithm
+import us.eharning.atomun.mnemonic.MnemonicDecodeResult
+import us.eharning.atomun.mnemonic.MnemonicDecodeResult.FailureReason
 import us.eharning.atomun.mnemonic.MnemonicExtensionIdentifier
 import us.eharning.atomun.mnemonic.MnemonicUnit
 
@@ -129,6 +131,17 @@ class LegacyElectrumMnemonicDecoderSpock extends Specification {
         Iterables.isEmpty(MnemonicUnit.decodeMnemonic("practice"))
     }
 
+    def "index decoding of invalid word counts throw"(int[] indices) {
+        given:
+        def dictionaryIdentifier = MnemonicUnit.decodeMnemonic(ALG, pairs[0][0]).dictionaryIdentifier
+        when:
+        MnemonicUnit.fromIndices(ALG, dictionaryIdentifier, indices)
+        then:
+        thrown IllegalArgumentException
+        where:
+        indices << [[] as int[], [0, 0] as int[], [0, 0, 0, 0] as int[]]
+    }
+
     def "mnemonic decoding with invalid dictionary words throw"() {
         when:
         MnemonicUnit.decodeMnemonic(ALG, "practice practice FAILURE")
@@ -140,4 +153,28 @@ class LegacyElectrumMnemonicDecoderSpock extends Specification {
         expect:
         Iterables.isEmpty(MnemonicUnit.decodeMnemonic("practice practice FAILURE"))
     }
+
+    def "tryDecode of #mnemonic succeeds with the decoded unit"(String mnemonic, String hex) {
+        given:
+        MnemonicDecodeResult result = MnemonicUnit.tryDecode(ALG, mnemonic)
+        expect:
+        result.success
+        result.unit.entropy == hex.decodeHex()
+        where:
+        [mnemonic, hex] << pairs
+    }
+
+    def "tryDecode reports #reason at word #wordIndex for #mnemonic"() {
+        given:
+        MnemonicDecodeResult result = MnemonicUnit.tryDecode(ALG, mnemonic, wordList)
+        expect:
+        !result.success
+        result.failureReason == reason
+        result.wordIndex == wordIndex
+        where:
+        mnemonic                        | wordList | reason                              | wordIndex
+        "pleasure patience practice"    | "CUSTOM" | FailureReason.UNSUPPORTED_WORD_LIST | -1
+        "pleasure patience"             | null     | FailureReason.INVALID_WORD_COUNT    | -1
+        "pleasure FAILURE practice"     | null     | FailureReason.UNKNOWN_WORD          | 1
+    }
 }
@@ -16,7 +16,9 @@
 
 package us.eharning.atomun.mnemonic.spi.electrum.v2
 
+import com.google.common.base.Function
 import com.google.common.base.Predicates
+import com.google.common.collect.ImmutableMap
 import com.google.common.collect.ImmutableSet
 import com.google.common.collect.Iterables
 import org.joor.Reflect
@@ -30,6 +32,7 @@ import us.eharning.atomun.mnemonic.MoreMnemonicExtensionIdentifiers
 import us.eharning.atomun.mnemonic.api.electrum.v2.ElectrumV2ExtensionIdentifier
 import us.eharning.atomun.mnemonic.api.electrum.v2.VersionPrefix
 import us.eharning.atomun.mnemonic.spi.BuilderParameter
+import us.eharning.atomun.mnemonic.spi.ExtensionBuilderParameter
 
 import java.security.SecureRandom
 
@@ -292,4 +295,64 @@ class ElectrumV2MnemonicBuilderSpock extends Specification {
         expect:
         builderInstance.call("deriveMnemonicUnit", null, mnemonicSequence).get() == null
     }
+
+    def "check encoding passes with parallel search"(boolean deterministic) {
+        given:
+        def builder = MnemonicBuilder.newBuilder(ALG)
+        BigInteger customEntropy = BigInteger.probablePrime(16, RNG)
+        builder.setExtensions([
+                (ElectrumV2ExtensionIdentifier.CUSTOM_ENTROPY): customEntropy,
+                (ElectrumV2ExtensionIdentifier.SEARCH_PARALLELISM): 4,
+                (ElectrumV2ExtensionIdentifier.DETERMINISTIC_SEARCH): deterministic
+        ])
+        when:
+        def unit = builder.buildUnit()
+        then:
+        new BigInteger(1, unit.entropy).remainder(customEntropy) == BigInteger.ZERO
+        unit.getExtensionValue(ElectrumV2ExtensionIdentifier.VERSION_PREFIX) == VersionPrefix.STANDARD
+        MnemonicUtility.isValidGeneratedSeed(builder.build(), VersionPrefix.STANDARD)
+        where:
+        deterministic << [true, false]
+    }
+
+    def "check encoding fails with illegal search parallelism"(Object parallelism) {
+        given:
+        def builder = MnemonicBuilder.newBuilder(ALG)
+        when:
+        builder.setExtensions([ (ElectrumV2ExtensionIdentifier.SEARCH_PARALLELISM): parallelism ])
+        then:
+        thrown(IllegalArgumentException)
+        where:
+        parallelism | _
+        0 | _
+        -1 | _
+        "4" | _
+    }
+
+    def "check encoding fails with illegal deterministic search flag"() {
+        given:
+        def builder = MnemonicBuilder.newBuilder(ALG)
+        when:
+        builder.setExtensions([ (ElectrumV2ExtensionIdentifier.DETERMINISTIC_SEARCH): "true" ])
+        then:
+        thrown(IllegalArgumentException)
+    }
+
+    def "deterministic parallel search finds the same seed as the sequential search"(int parallelism) {
+        given:
+        def builderClass = "us.eharning.atomun.mnemonic.spi.electrum.v2.MnemonicBuilderSpiImpl\$BuilderInstance"
+        def parallelParameters = [ExtensionBuilderParameter.getExtensionsParameter(ImmutableMap.of(
+                ElectrumV2ExtensionIdentifier.SEARCH_PARALLELISM, parallelism,
+                ElectrumV2ExtensionIdentifier.DETERMINISTIC_SEARCH, true))] as BuilderParameter[]
+        def sequential = Reflect.on(builderClass).create([[] as BuilderParameter[]] as Object[])
+        def parallel = Reflect.on(builderClass).create([parallelParameters] as Object[])
+        BigInteger generatedEntropy = sequential.call("nextGeneratedEntropy").get()
+        def candidateCheck = { String seed ->
+            MnemonicUtility.isValidGeneratedSeed(seed, VersionPrefix.STANDARD) ? seed : null
+        } as Function<String, String>
+        expect:
+        parallel.call("search", generatedEntropy, candidateCheck).get() == sequential.call("search", generatedEntropy, candidateCheck).get()
+        where:
+        parallelism << [2, 3, 8]
+    }
 }
@@ -21,6 +21,8 @@ import com.google.common.collect.Lists
 import spock.lang.Specification
 import us.eharning.atomun.mnemonic.ElectrumMnemonicAlgorithm
 import us.eharning.atomun.mnemonic.MnemonicAlgorithm
+import us.eharning.atomun.mnemonic.MnemonicDecodeResult
+import us.eharning.atomun.mnemonic.MnemonicDecodeResult.FailureReason
 import us.eharning.atomun.mnemonic.MnemonicExtensionIdentifier
 import us.eharning.atomun.mnemonic.MnemonicUnit
 import us.eharning.atomun.mnemonic.MoreMnemonicExtensionIdentifiers
@@ -165,4 +167,29 @@ class ElectrumV2MnemonicDecoderSpock extends Specification {
         mnemonicString << VALID_VERSION_INVALID_DICT
     }
 
+    def "tryDecode of #testCase.mnemonic succeeds with the decoded unit"() {
+        given:
+        MnemonicDecodeResult result = MnemonicUnit.tryDecode(ALG, testCase.mnemonic)
+        expect:
+        result.success
+        result.unit.mnemonic == testCase.mnemonic
+        where:
+        testCase << ElectrumV2TestData.ALL_VECTORS
+    }
+
+    def "tryDecode reports #reason at word #wordIndex for #mnemonic"() {
+        given:
+        MnemonicDecodeResult result = MnemonicUnit.tryDecode(ALG, mnemonic, wordList)
+        expect:
+        !result.success
+        result.failureReason == reason
+        result.wordIndex == wordIndex
+        where:
+        mnemonic                                     | wordList  | reason                              | wordIndex
+        "pleasure patience practice"                 | null      | FailureReason.LEGACY_FORMAT         | -1
+        "48"                                         | null      | FailureReason.UNKNOWN_WORD          | 0
+        "practice practice FAILURE"                  | "english" | FailureReason.UNKNOWN_WORD          | 2
+        "word face make"                             | "CUSTOM"  | FailureReason.UNSUPPORTED_WORD_LIST | -1
+        (["abandon"] * 13).join(" ")                 | null      | FailureReason.VERSION_MISMATCH      | -1
+    }
 }
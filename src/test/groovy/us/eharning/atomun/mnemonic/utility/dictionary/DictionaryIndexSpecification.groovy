@@ -0,0 +1,108 @@
+/*
+ * Copyright 2016 Thomas Harning Jr. <harningt@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package us.eharning.atomun.mnemonic.utility.dictionary
+
+import spock.lang.Specification
+
+import java.text.Normalizer
+
+/**
+ * Tests covering DictionaryIndex prefix lookups.
+ */
+class DictionaryIndexSpecification extends Specification {
+    static List<DictionaryWord> bruteForce(Iterable<DictionaryIdentifier> identifiers, String prefix) {
+        String normalized = Normalizer.normalize(prefix, Normalizer.Form.NFKD)
+        def result = []
+        identifiers.each { identifier ->
+            def dictionary = DictionarySource.getDictionary(identifier)
+            (0..<dictionary.size).each {
+                def word = dictionary.convert(it)
+                if (word.startsWith(normalized)) {
+                    result.add(new DictionaryWord(identifier, it, word))
+                }
+            }
+        }
+        return result.sort(false, { it.word })
+    }
+
+    def "the bundled index covers every word of every bundled dictionary"() {
+        given:
+        def index = DictionarySource.getBundledIndex()
+        expect:
+        DictionarySource.bundledDictionaries.size() == 7
+        index.size == DictionarySource.bundledDictionaries.sum({ DictionarySource.getDictionary(it).size })
+        index.findPrefix("").size() == index.size
+    }
+
+    def "bundled prefix lookups match a scan of the dictionaries"(String prefix) {
+        given:
+        def index = DictionarySource.getBundledIndex()
+        when:
+        def matches = index.findPrefix(prefix)
+        then:
+        matches == bruteForce(DictionarySource.bundledDictionaries, prefix)
+        index.countPrefix(prefix) == matches.size()
+        matches.every({ DictionarySource.getDictionary(it.dictionaryIdentifier).convert(it.index) == it.word })
+        where:
+        prefix << ["a", "ab", "yel", "zoo", "zzz", "\u3042", "\u304c", "\u00f1", "n\u0303", "acci\u00f3"]
+    }
+
+    def "words shared between dictionaries are returned for each dictionary"() {
+        when:
+        def matches = DictionarySource.getBundledIndex().findPrefix("abandon")
+        then:
+        matches*.word.every({ it.startsWith("abandon") })
+        matches.findAll({ it.word == "abandon" })*.dictionaryIdentifier*.resourceName == [
+                "us/eharning/atomun/mnemonic/spi/bip0039/english.txt",
+                "us/eharning/atomun/mnemonic/spi/electrum/v2/english.txt"
+        ]
+    }
+
+    def "single dictionary indices only return words of that dictionary"() {
+        given:
+        def identifier = DictionarySource.bundledDictionaries[1]
+        when:
+        def matches = DictionarySource.getIndex(identifier).findPrefix("\u3042")
+        then:
+        !matches.isEmpty()
+        matches == bruteForce([identifier], "\u3042")
+    }
+
+    def "indices are built once and cached"() {
+        given:
+        def identifier = DictionarySource.bundledDictionaries[0]
+        expect:
+        DictionarySource.getIndex(identifier).is(DictionarySource.getIndex(identifier))
+        DictionarySource.getBundledIndex().is(DictionarySource.getBundledIndex())
+    }
+
+    def "results are views that cannot be modified"() {
+        given:
+        def matches = DictionarySource.getBundledIndex().findPrefix("yel")
+        when:
+        matches.clear()
+        then:
+        thrown(UnsupportedOperationException)
+    }
+
+    def "indexing a missing dictionary fails"() {
+        when:
+        DictionarySource.getIndex(DictionaryIdentifier.getIdentifier("missing", "us/eharning/atomun/mnemonic/missing.txt"))
+        then:
+        thrown(IllegalArgumentException)
+    }
+}